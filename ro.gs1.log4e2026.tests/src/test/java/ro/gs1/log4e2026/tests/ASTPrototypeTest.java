@@ -0,0 +1,102 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.jdt.ASTPrototype;
+import ro.gs1.log4e2026.jdt.ASTPrototype.Kind;
+import ro.gs1.log4e2026.preferences.PreferenceKeys;
+import ro.gs1.log4e2026.templates.LoggerTemplates;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
+import ro.gs1.log4e2026.templates.TemplateValues;
+
+/**
+ * Unit tests for ASTPrototype class.
+ */
+public class ASTPrototypeTest {
+
+    private static String normalize(ASTNode node) {
+        return node.toString().replaceAll("\\s+", " ").trim();
+    }
+
+    @Test
+    public void testExpressionSlot() {
+        ASTPrototype prototype = ASTPrototype.compile("${logger}.isDebugEnabled()", Kind.EXPRESSION);
+        assertNotNull(prototype);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+        ASTNode node = prototype.instantiate(ast, new TemplateValues().set(PreferenceKeys.PROF_LOGGER, "log"));
+        assertSame(ast, node.getAST());
+        assertEquals("log.isDebugEnabled()", normalize(node));
+    }
+
+    @Test
+    public void testStringLiteralSlots() {
+        ASTPrototype prototype = ASTPrototype.compile(
+                "${logger}.debug(\"${enclosing_method}() - ${message}\")", Kind.STATEMENT);
+        assertNotNull(prototype);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+        Statement stmt = (Statement) prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, "logger")
+                .set(PreferenceKeys.PROF_SOURCEMETHOD, "run")
+                .set(PreferenceKeys.PROF_MESSAGE, "say \"hi\""));
+        assertEquals("logger.debug(\"run() - say \\\"hi\\\"\");", normalize(stmt));
+    }
+
+    @Test
+    public void testEmptyArgumentSlotIsRemoved() {
+        ASTPrototype prototype = ASTPrototype.compile(
+                "${logger}.error(\"${message}\", ${exception})", Kind.STATEMENT);
+        assertNotNull(prototype);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+        Statement stmt = (Statement) prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, "logger")
+                .set(PreferenceKeys.PROF_MESSAGE, "failed"));
+        assertEquals("logger.error(\"failed\");", normalize(stmt));
+    }
+
+    @Test
+    public void testPrototypeIsReusable() {
+        ASTPrototype prototype = ASTPrototype.compile("${logger}.info(\"${message}\")", Kind.STATEMENT);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+        ASTNode first = prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, "a")
+                .set(PreferenceKeys.PROF_MESSAGE, "one"));
+        ASTNode second = prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, "b")
+                .set(PreferenceKeys.PROF_MESSAGE, "two"));
+        assertEquals("a.info(\"one\");", normalize(first));
+        assertEquals("b.info(\"two\");", normalize(second));
+    }
+
+    @Test
+    public void testFieldDeclaration() {
+        ASTPrototype prototype = ASTPrototype.compile(
+                LoggerTemplates.getSLF4J().getDeclaration(), Kind.FIELD);
+        assertNotNull(prototype);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+        FieldDeclaration field = (FieldDeclaration) prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, "LOG")
+                .set(PreferenceKeys.PROF_SOURCECLASS, "MyClass"));
+        assertEquals("private static final Logger LOG=LoggerFactory.getLogger(MyClass.class);",
+                normalize(field));
+    }
+
+    @Test
+    public void testInvalidTemplate() {
+        assertNull(ASTPrototype.compile("", Kind.STATEMENT));
+        assertNull(ASTPrototype.compile("${logger}.debug(", Kind.STATEMENT));
+        assertNull(ASTPrototype.compile("int a; int b;", Kind.FIELD));
+    }
+
+    @Test
+    public void testUnknownPlaceholderIsRejected() {
+        assertNotNull(TemplatePrototypes.get("${logger}.debug(\"${message}\")", Kind.STATEMENT));
+        assertNull(TemplatePrototypes.get("${logger}.debug(\"${mesage}\")", Kind.STATEMENT));
+        assertNull(TemplatePrototypes.get("${logger}.${level}(${variabel})", Kind.STATEMENT));
+    }
+}
@@ -11,7 +11,23 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
     StringUtilTest.class,
     BeanUtilTest.class,
-    LoggerTemplatesTest.class
+    LoggerTemplatesTest.class,
+    ASTPrototypeTest.class,
+    TemplateEngineTest.class,
+    BatchSummaryTest.class,
+    ParseRequirementsTest.class,
+    TextDiffTest.class,
+    ProfilesTest.class,
+    ProfilePersistenceTest.class,
+    LogStatementTableTest.class,
+    LogStatementIndexTest.class,
+    LogCensusTest.class,
+    LoggingOperationTest.class,
+    FrameworkMigrationTest.class,
+    FrameworkDetectorTest.class,
+    SourceScannerTest.class,
+    UnitRewriteTest.class,
+    UnitRewriteProjectTest.class
 })
 public class AllTests {
 }
@@ -0,0 +1,43 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.handlers.BatchSummary;
+
+/**
+ * Unit tests for BatchSummary class.
+ */
+public class BatchSummaryTest {
+
+    @Test
+    public void testTotals() {
+        BatchSummary summary = new BatchSummary("logged", "skipped");
+        summary.add("com.example", 3, 1);
+        summary.add("com.example", 2, 0);
+        summary.add("com.other", 0, 4);
+        assertEquals(5, summary.getTotalDone());
+        assertEquals(5, summary.getTotalSkipped());
+    }
+
+    @Test
+    public void testFormatSortsPackages() {
+        BatchSummary summary = new BatchSummary("logged", "skipped");
+        summary.add("org.b", 1, 0);
+        summary.add("org.a", 2, 1);
+        summary.add("", 1, 1);
+        assertEquals("Log classes: 4 logged, 2 skipped"
+                + "\n  (default package): 1 logged, 1 skipped"
+                + "\n  org.a: 2 logged, 1 skipped"
+                + "\n  org.b: 1 logged, 0 skipped",
+                summary.format("Log classes"));
+    }
+
+    @Test
+    public void testEmptyCountsAreIgnored() {
+        BatchSummary summary = new BatchSummary("logged", "skipped");
+        summary.add("org.a", 0, 0);
+        assertEquals("Log classes: 0 logged, 0 skipped", summary.format("Log classes"));
+    }
+}
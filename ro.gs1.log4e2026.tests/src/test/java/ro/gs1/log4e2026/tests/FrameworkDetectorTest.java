@@ -0,0 +1,43 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.jdt.FrameworkDetector;
+import ro.gs1.log4e2026.templates.LoggerTemplates;
+
+/**
+ * Unit tests for FrameworkDetector class.
+ */
+public class FrameworkDetectorTest {
+
+    private static String detect(String source) {
+        return FrameworkDetector.detect(source.toCharArray());
+    }
+
+    @Test
+    public void testDetectsFrameworks() {
+        assertEquals(LoggerTemplates.SLF4J, detect("package a.b;\nimport java.util.List;\nimport org.slf4j.Logger;\nclass A {}"));
+        assertEquals(LoggerTemplates.LOG4J2, detect("import org.apache.logging.log4j.LogManager;\nclass A {}"));
+        assertEquals(LoggerTemplates.JUL, detect("/* header */ package a;\n// comment\nimport java.util.logging.*;\nclass A {}"));
+    }
+
+    @Test
+    public void testStaticImport() {
+        assertEquals(LoggerTemplates.JUL, detect("package a;\nimport static java.util.logging.Level.FINE;\nclass A {}"));
+    }
+
+    @Test
+    public void testUnknown() {
+        assertNull(detect("package a;\nimport java.util.List;\npublic class A {}"));
+        assertNull(detect(""));
+        assertNull(detect("package a;\nimport org.slf4jx.Logger;\nclass A {}"));
+    }
+
+    @Test
+    public void testStopsAtFirstTypeDeclaration() {
+        assertNull(detect("package a;\n@SuppressWarnings(\"x\")\nclass A {\n  String s = \"import org.slf4j.Logger;\";\n}\n"
+                + "import org.slf4j.Logger;\n"));
+    }
+}
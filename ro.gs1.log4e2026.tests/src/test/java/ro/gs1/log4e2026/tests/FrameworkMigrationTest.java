@@ -0,0 +1,245 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.Document;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+import ro.gs1.log4e2026.operations.FrameworkMigration;
+import ro.gs1.log4e2026.templates.LoggerTemplates;
+import ro.gs1.log4e2026.templates.Profile;
+
+/**
+ * Unit tests for FrameworkMigration class.
+ */
+public class FrameworkMigrationTest {
+
+    private static Profile slf4j() {
+        Profile profile = new Profile(Profile.ID_BUILTIN, "SLF4J");
+        profile.put("LOGGER_TYPE", "org.slf4j.Logger");
+        profile.put("LOGGER_IMPORTS", "org.slf4j.Logger\norg.slf4j.LoggerFactory");
+        for (LogLevel level : LogLevel.getStandardLevels()) {
+            if (level != LogLevel.FATAL) {
+                String method = level.getMethodName();
+                profile.put("LOG_METHOD_" + level.name(), method);
+                profile.put("LOGGER_IS_" + level.name() + "_ENABLED_STATEMENT",
+                        "${logger}.is" + Character.toUpperCase(method.charAt(0)) + method.substring(1) + "Enabled()");
+            }
+        }
+        return profile;
+    }
+
+    private static Profile jul() {
+        Profile profile = new Profile(Profile.ID_BUILTIN, "JDK Logging");
+        profile.put("LOGGER_TYPE", "java.util.logging.Logger");
+        profile.put("LOGGER_IMPORTS", "java.util.logging.Logger\njava.util.logging.Level");
+        String[][] levels = { { "FINEST", "finest" }, { "FINER", "finer" }, { "TRACE", "fine" },
+                { "DEBUG", "config" }, { "INFO", "info" }, { "WARN", "warning" }, { "ERROR", "severe" },
+                { "FATAL", "severe" } };
+        for (String[] level : levels) {
+            profile.put("LOG_METHOD_" + level[0], level[1]);
+            if (!"FATAL".equals(level[0])) {
+                profile.put("LOGGER_IS_" + level[0] + "_ENABLED_STATEMENT",
+                        "${logger}.isLoggable(Level." + level[1].toUpperCase() + ")");
+            }
+        }
+        return profile;
+    }
+
+    private static String migrate(FrameworkMigration migration, String source, Set<String> inherited,
+            List<String> unsupported) throws Exception {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+        CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
+        FrameworkMigration.Result result = migration.migrate(rewrite, inherited);
+        unsupported.addAll(result.getUnsupported());
+        Document document = new Document(source);
+        rewrite.createEdit(document).apply(document);
+        return document.get();
+    }
+
+    @Test
+    public void testJulToSlf4j() throws Exception {
+        FrameworkMigration migration = new FrameworkMigration(LoggerTemplates.getJUL(), jul(),
+                LoggerTemplates.getSLF4J(), slf4j());
+        String source = "package p;\n"
+                + "import java.util.logging.Level;\n"
+                + "import java.util.logging.Logger;\n"
+                + "public class A {\n"
+                + "    protected static final Logger log = Logger.getLogger(A.class.getName());\n"
+                + "    void run(Exception e) {\n"
+                + "        if (log.isLoggable(Level.FINE)) {\n"
+                + "            log.fine(\"start\");\n"
+                + "        }\n"
+                + "        log.config(\"config\");\n"
+                + "        log.log(Level.SEVERE, \"failed\", e);\n"
+                + "    }\n"
+                + "}\n";
+        List<String> unsupported = new ArrayList<>();
+        String result = migrate(migration, source, Collections.emptySet(), unsupported);
+
+        assertTrue(unsupported.toString(), unsupported.isEmpty());
+        assertTrue(result, result.contains("protected static final Logger log = LoggerFactory.getLogger(A.class);"));
+        assertTrue(result, result.contains("if (log.isTraceEnabled())"));
+        assertTrue(result, result.contains("log.trace(\"start\");"));
+        assertTrue(result, result.contains("log.debug(\"config\");"));
+        assertTrue(result, result.contains("log.error(\"failed\", e);"));
+        assertTrue(result, result.contains("import org.slf4j.Logger;"));
+        assertTrue(result, result.contains("import org.slf4j.LoggerFactory;"));
+        assertFalse(result, result.contains("java.util.logging"));
+    }
+
+    @Test
+    public void testSlf4jToJulUsesLevelArgumentForThrowable() throws Exception {
+        FrameworkMigration migration = new FrameworkMigration(LoggerTemplates.getSLF4J(), slf4j(),
+                LoggerTemplates.getJUL(), jul());
+        String source = "package p;\n"
+                + "import org.slf4j.Logger;\n"
+                + "import org.slf4j.LoggerFactory;\n"
+                + "public class A {\n"
+                + "    private static final Logger logger = LoggerFactory.getLogger(A.class);\n"
+                + "    void run(Exception e) {\n"
+                + "        logger.warn(\"careful\");\n"
+                + "        logger.error(\"failed\", e);\n"
+                + "    }\n"
+                + "}\n";
+        List<String> unsupported = new ArrayList<>();
+        String result = migrate(migration, source, Collections.emptySet(), unsupported);
+
+        assertTrue(unsupported.toString(), unsupported.isEmpty());
+        assertTrue(result, result.contains("logger.warning(\"careful\");"));
+        assertTrue(result, result.contains("logger.log(Level.SEVERE, \"failed\", e);"));
+        assertTrue(result, result.contains("import java.util.logging.Level;"));
+        assertTrue(result, result.contains("Logger.getLogger(A.class.getName())"));
+        assertFalse(result, result.contains("org.slf4j"));
+    }
+
+    @Test
+    public void testInheritedLoggerAndUnsupportedCalls() throws Exception {
+        FrameworkMigration migration = new FrameworkMigration(LoggerTemplates.getJUL(), jul(),
+                LoggerTemplates.getSLF4J(), slf4j());
+        String source = "package p;\n"
+                + "public class B extends A {\n"
+                + "    void run() {\n"
+                + "        log.info(\"run\");\n"
+                + "        log.warning(\"warn\");\n"
+                + "        log.entering(\"B\", \"run\");\n"
+                + "    }\n"
+                + "}\n";
+        List<String> unsupported = new ArrayList<>();
+        String result = migrate(migration, source, Set.of("log"), unsupported);
+
+        assertEquals(1, unsupported.size());
+        assertTrue(unsupported.get(0), unsupported.get(0).startsWith("line 6: log.entering"));
+        assertTrue(result, result.contains("log.info(\"run\");"));
+        assertTrue(result, result.contains("log.warn(\"warn\");"));
+        // No declaration and no guard was inserted, so no import is needed
+        assertFalse(result, result.contains("import"));
+    }
+
+    @Test
+    public void testMessageParameters() throws Exception {
+        FrameworkMigration toSlf4j = new FrameworkMigration(LoggerTemplates.getJUL(), jul(),
+                LoggerTemplates.getSLF4J(), slf4j());
+        String source = "package p;\n"
+                + "import java.util.logging.Level;\n"
+                + "import java.util.logging.Logger;\n"
+                + "public class A {\n"
+                + "    private static final Logger log = Logger.getLogger(A.class.getName());\n"
+                + "    void run(String v) {\n"
+                + "        log.log(Level.INFO, \"x={0}\", v);\n"
+                + "        log.log(Level.INFO, \"{1} {0}\", new Object[] { v, v });\n"
+                + "    }\n"
+                + "}\n";
+        List<String> unsupported = new ArrayList<>();
+        String result = migrate(toSlf4j, source, Collections.emptySet(), unsupported);
+
+        assertTrue(result, result.contains("log.info(\"x={}\", v);"));
+        assertEquals(1, unsupported.size());
+        assertTrue(unsupported.get(0), unsupported.get(0).startsWith("line 8:"));
+
+        FrameworkMigration toJul = new FrameworkMigration(LoggerTemplates.getSLF4J(), slf4j(),
+                LoggerTemplates.getJUL(), jul());
+        source = "package p;\n"
+                + "import org.slf4j.Logger;\n"
+                + "import org.slf4j.LoggerFactory;\n"
+                + "public class A {\n"
+                + "    private static final Logger logger = LoggerFactory.getLogger(A.class);\n"
+                + "    void run(String v) {\n"
+                + "        logger.info(\"it's {}\", v);\n"
+                + "    }\n"
+                + "}\n";
+        unsupported.clear();
+        result = migrate(toJul, source, Collections.emptySet(), unsupported);
+
+        assertTrue(unsupported.toString(), unsupported.isEmpty());
+        assertTrue(result, result.contains("logger.log(Level.INFO, \"it''s {0}\", v);"));
+    }
+
+    @Test
+    public void testComputedMessages() throws Exception {
+        FrameworkMigration toSlf4j = new FrameworkMigration(LoggerTemplates.getJUL(), jul(),
+                LoggerTemplates.getSLF4J(), slf4j());
+        String source = "package p;\n"
+                + "import java.util.logging.Level;\n"
+                + "import java.util.logging.Logger;\n"
+                + "public class A {\n"
+                + "    private static final Logger log = Logger.getLogger(A.class.getName());\n"
+                + "    void run(String id, Exception e) {\n"
+                + "        log.log(Level.SEVERE, \"Failed \" + id, e);\n"
+                + "        log.log(Level.INFO, \"id={0} \" + id, id);\n"
+                + "    }\n"
+                + "}\n";
+        List<String> unsupported = new ArrayList<>();
+        String result = migrate(toSlf4j, source, Collections.emptySet(), unsupported);
+
+        assertTrue(result, result.contains("log.error(\"Failed \" + id, e);"));
+        assertEquals(1, unsupported.size());
+        assertTrue(unsupported.get(0), unsupported.get(0).startsWith("line 8:"));
+
+        FrameworkMigration toJul = new FrameworkMigration(LoggerTemplates.getSLF4J(), slf4j(),
+                LoggerTemplates.getJUL(), jul());
+        source = "package p;\n"
+                + "import org.slf4j.Logger;\n"
+                + "import org.slf4j.LoggerFactory;\n"
+                + "public class A {\n"
+                + "    private static final Logger logger = LoggerFactory.getLogger(A.class);\n"
+                + "    void run(String id, Exception e) {\n"
+                + "        logger.error(\"Failed \" + id, e);\n"
+                + "    }\n"
+                + "}\n";
+        unsupported.clear();
+        result = migrate(toJul, source, Collections.emptySet(), unsupported);
+
+        assertTrue(unsupported.toString(), unsupported.isEmpty());
+        assertTrue(result, result.contains("logger.log(Level.SEVERE, \"Failed \" + id, e);"));
+    }
+
+    @Test
+    public void testNearestTargetLevel() {
+        FrameworkMigration migration = new FrameworkMigration(LoggerTemplates.getJUL(), jul(),
+                LoggerTemplates.getSLF4J(), slf4j());
+        assertEquals(LogLevel.TRACE, migration.getTargetLevel(LogLevel.FINEST));
+        assertEquals(LogLevel.ERROR, migration.getTargetLevel(LogLevel.FATAL));
+        assertEquals("trace", migration.getTargetMethod(LogLevel.FINER));
+        assertEquals("info", migration.getTargetMethod(LogLevel.INFO));
+
+        Profile current = slf4j();
+        assertSame(current, FrameworkMigration.findProfile(List.of(jul(), slf4j()), LoggerTemplates.getSLF4J(), current));
+        assertEquals("JDK Logging", FrameworkMigration.findProfile(List.of(slf4j(), jul()), LoggerTemplates.getJUL(),
+                current).getTitle());
+        assertNull(FrameworkMigration.findProfile(List.of(jul()), LoggerTemplates.getLog4j2(), null));
+    }
+}
@@ -0,0 +1,120 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.handlers.LogCensus;
+import ro.gs1.log4e2026.handlers.LogCensusHandler;
+import ro.gs1.log4e2026.jdt.LogStatementRecognizer;
+import ro.gs1.log4e2026.settings.OperationSettings;
+
+/**
+ * Unit tests for LogCensus class.
+ */
+public class LogCensusTest {
+
+    private static LogCensus createCensus() {
+        LogCensus census = new LogCensus("demo");
+        LogCensus.Counts a = new LogCensus.Counts();
+        a.addStatement(LogLevel.DEBUG, true);
+        a.addStatement(LogLevel.ERROR, false);
+        a.addCatchBlock(true);
+        a.addMethod(true, false);
+        census.add("com.example", a);
+
+        LogCensus.Counts b = new LogCensus.Counts();
+        b.addStatement(LogLevel.DEBUG, false);
+        b.addStatement(null, false);
+        b.addCatchBlock(false);
+        b.addMethod(false, true);
+        b.addMethod(false, false);
+        census.add("com.example", b);
+
+        LogCensus.Counts c = new LogCensus.Counts();
+        c.addStatement(LogLevel.INFO, false);
+        census.add("", c);
+
+        census.add("empty", new LogCensus.Counts());
+        return census;
+    }
+
+    @Test
+    public void testCountsPerPackage() {
+        Map<String, LogCensus.Counts> packages = createCensus().getPackages();
+
+        assertEquals(Arrays.asList("(default package)", "com.example"), Arrays.asList(packages.keySet().toArray()));
+        LogCensus.Counts counts = packages.get("com.example");
+        assertEquals(2, counts.getCount(LogLevel.DEBUG));
+        assertEquals(1, counts.getCount(LogLevel.ERROR));
+        assertEquals(1, counts.getCount(null));
+        assertEquals(4, counts.getStatements());
+        assertEquals(1, counts.getGuarded());
+        assertEquals(3, counts.getUnguarded());
+        assertEquals(2, counts.getCatchBlocks());
+        assertEquals(1, counts.getUnloggedCatchBlocks());
+        assertEquals(3, counts.getMethods());
+        assertEquals(1, counts.getEntryLogged());
+        assertEquals(1, counts.getExitLogged());
+    }
+
+    @Test
+    public void testTotal() {
+        LogCensus.Counts total = createCensus().getTotal();
+
+        assertEquals(5, total.getStatements());
+        assertEquals(1, total.getCount(LogLevel.INFO));
+        assertEquals(LogCensus.getColumnNames().length, LogCensus.getValues(total).length);
+    }
+
+    @Test
+    public void testToCsv() {
+        String[] lines = createCensus().toCsv().split("\n");
+
+        assertEquals(4, lines.length);
+        assertEquals("package,finest,finer,trace,debug,info,warn,error,fatal,other,statements,guarded,unguarded,"
+                + "catchBlocks,unloggedCatchBlocks,methods,entryLogged,exitLogged", lines[0]);
+        assertEquals("(default package),0,0,0,0,1,0,0,0,0,1,0,1,0,0,0,0,0", lines[1]);
+        assertEquals("com.example,0,0,0,2,0,0,1,0,1,4,1,3,2,1,3,1,1", lines[2]);
+        assertTrue(lines[3].startsWith("(total),0,0,0,2,1,0,1,0,1,5,"));
+    }
+
+    @Test
+    public void testToJson() {
+        LogCensus census = new LogCensus("a \"quoted\"\\scope");
+        LogCensus.Counts counts = new LogCensus.Counts();
+        counts.addStatement(LogLevel.WARN, true);
+        census.add("p", counts);
+
+        String json = census.toJson();
+
+        assertTrue(json.contains("\"scope\": \"a \\\"quoted\\\"\\\\scope\""));
+        assertTrue(json.contains("{\"package\": \"p\", \"finest\": 0"));
+        assertTrue(json.contains("\"warn\": 1"));
+        assertTrue(json.contains("\"total\": {\"package\": null"));
+        assertTrue(new LogCensus("none").toJson().contains("\"packages\": [],"));
+    }
+
+    @Test
+    public void testCountUnit() {
+        OperationSettings settings = OperationSettings.get(null);
+        String source = LogStatementIndexTest.createSource(settings);
+
+        LogCensus.Counts counts = LogCensusHandler.count(new LogStatementRecognizer(settings),
+                LogStatementIndexTest.parse(source));
+
+        assertEquals(3, counts.getStatements());
+        assertEquals(1, counts.getGuarded());
+        assertEquals(2, counts.getUnguarded());
+        assertEquals(1, counts.getCount(LogLevel.DEBUG));
+        assertEquals(1, counts.getCount(LogLevel.INFO));
+        assertEquals(1, counts.getCount(LogLevel.ERROR));
+        assertEquals(1, counts.getMethods());
+        assertEquals(1, counts.getEntryLogged());
+        assertEquals(0, counts.getExitLogged());
+    }
+}
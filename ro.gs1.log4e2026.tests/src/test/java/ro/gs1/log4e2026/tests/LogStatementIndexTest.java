@@ -0,0 +1,76 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.LogStatementIndex;
+import ro.gs1.log4e2026.jdt.LogStatementRecognizer;
+import ro.gs1.log4e2026.jdt.LogStatementTable;
+import ro.gs1.log4e2026.jdt.LogStatementTable.LogStatement;
+import ro.gs1.log4e2026.jdt.LogStatementTable.Query;
+import ro.gs1.log4e2026.settings.OperationSettings;
+
+/**
+ * Unit tests for the scan of LogStatementIndex.
+ */
+public class LogStatementIndexTest {
+
+    static CompilationUnit parse(String source) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    /**
+     * Returns a unit with a guarded statement, a plain one and one in a switch,
+     * calling the logger and log methods of the settings.
+     */
+    static String createSource(OperationSettings settings) {
+        String logger = settings.getLoggerName();
+        return "package p;\n"
+                + "public class A {\n"
+                + "    void run(int mode) {\n"
+                + "        if (" + logger + ".isDebugEnabled()) {\n"
+                + "            " + logger + "." + settings.getLogMethod(LogLevel.DEBUG) + "(\"guarded\");\n"
+                + "        }\n"
+                + "        " + logger + "." + settings.getLogMethod(LogLevel.INFO) + "(\"plain\");\n"
+                + "        switch (mode) {\n"
+                + "        case 1:\n"
+                + "            " + logger + "." + settings.getLogMethod(LogLevel.ERROR) + "(\"in switch\");\n"
+                + "            break;\n"
+                + "        default:\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    @Test
+    public void testGuardedStatementIndexedOnce() {
+        OperationSettings settings = OperationSettings.get(null);
+        CompilationUnit astRoot = parse(createSource(settings));
+        LogStatementTable table = new LogStatementTable();
+        table.replaceFile("/p/src/p/A.java", 1,
+                LogStatementIndex.scan(new LogStatementRecognizer(settings), astRoot));
+
+        assertEquals(3, table.size());
+        int[] guarded = table.find(new Query().guarded(true));
+        assertEquals(1, guarded.length);
+        LogStatement statement = table.get(guarded[0]);
+        assertEquals("guarded", statement.getMessage());
+        assertEquals(LogLevel.DEBUG, statement.getLevel());
+        assertEquals(4, statement.getLine());
+        assertEquals(2, table.find(new Query().guarded(false)).length);
+
+        int[] inSwitch = table.find(new Query().message("in switch"));
+        assertEquals(1, inSwitch.length);
+        assertEquals("p.A", table.get(inSwitch[0]).getType());
+        assertEquals("run", table.get(inSwitch[0]).getMethod());
+        assertEquals(LogLevel.ERROR, table.get(inSwitch[0]).getLevel());
+    }
+}
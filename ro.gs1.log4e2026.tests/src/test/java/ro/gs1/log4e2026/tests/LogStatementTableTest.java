@@ -0,0 +1,136 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.LogStatementTable;
+import ro.gs1.log4e2026.jdt.LogStatementTable.FileStatements;
+import ro.gs1.log4e2026.jdt.LogStatementTable.LogStatement;
+import ro.gs1.log4e2026.jdt.LogStatementTable.Query;
+
+/**
+ * Unit tests for LogStatementTable class.
+ */
+public class LogStatementTableTest {
+
+    private static LogStatementTable createTable() {
+        LogStatementTable table = new LogStatementTable();
+        table.replaceFile("/p/src/a/A.java", 1, new FileStatements()
+                .add("a.A", "run", LogLevel.DEBUG, true, "run() - start", 10, 2)
+                .add("a.A", "run", LogLevel.ERROR, false, "Failed to run", 50, 5));
+        table.replaceFile("/p/src/b/B.java", 7, new FileStatements()
+                .add("b.B", "", LogLevel.INFO, false, null, 20, 3)
+                .add("b.B.Inner", "call", null, false, "Level constant", 90, 9));
+        table.replaceFile("/p/src/b/Empty.java", 3, new FileStatements());
+        return table;
+    }
+
+    @Test
+    public void testQueries() {
+        LogStatementTable table = createTable();
+
+        assertEquals(4, table.size());
+        assertEquals(3, table.getFileCount());
+        assertEquals(2, table.find(new Query().file("/p/src/a/A.java")).length);
+        assertEquals(0, table.find(new Query().file("/p/src/missing/M.java")).length);
+        assertEquals(2, table.find(new Query().type("b.")).length);
+        assertEquals(1, table.find(new Query().type("b.B.Inner")).length);
+        assertEquals(1, table.find(new Query().guarded(true)).length);
+        assertEquals(1, table.find(new Query().levels(LogLevel.ERROR, LogLevel.WARN)).length);
+        assertEquals(1, table.find(new Query().levels((LogLevel) null)).length);
+        assertEquals(2, table.find(new Query().method("run")).length);
+        assertEquals(0, table.find(new Query().method("missing")).length);
+
+        int[] rows = table.find(new Query().message("FAILED"));
+        assertEquals(1, rows.length);
+        LogStatement statement = table.get(rows[0]);
+        assertEquals("/p/src/a/A.java", statement.getFile());
+        assertEquals("a.A", statement.getType());
+        assertEquals("run", statement.getMethod());
+        assertEquals(LogLevel.ERROR, statement.getLevel());
+        assertFalse(statement.isGuarded());
+        assertEquals("Failed to run", statement.getMessage());
+        assertEquals(50, statement.getOffset());
+        assertEquals(5, statement.getLine());
+
+        int[] counts = table.countByLevel(new Query());
+        assertEquals(1, counts[LogLevel.DEBUG.ordinal()]);
+        assertEquals(1, counts[LogLevel.INFO.ordinal()]);
+        assertEquals(1, counts[LogLevel.values().length]);
+    }
+
+    @Test
+    public void testReplaceAndRemoveFile() {
+        LogStatementTable table = createTable();
+
+        table.replaceFile("/p/src/a/A.java", 2, new FileStatements()
+                .add("a.A", "stop", LogLevel.WARN, false, "stopped", 30, 4));
+        assertEquals(2, table.getStamp("/p/src/a/A.java"));
+        assertEquals(3, table.size());
+        assertEquals(0, table.find(new Query().method("run")).length);
+        assertEquals(1, table.find(new Query().file("/p/src/a/A.java")).length);
+
+        table.removeFile("/p/src/b/B.java");
+        assertEquals(LogStatementTable.NO_STAMP, table.getStamp("/p/src/b/B.java"));
+        assertEquals(1, table.size());
+
+        table.compact();
+        assertEquals(1, table.size());
+        assertEquals("stopped", table.get(table.find(new Query())[0]).getMessage());
+        assertEquals(2, table.getFileCount());
+    }
+
+    @Test
+    public void testManyReplacementsCompact() {
+        LogStatementTable table = new LogStatementTable();
+        for (int i = 0; i < 5000; i++) {
+            table.replaceFile("/p/A.java", i, new FileStatements()
+                    .add("A", "m", LogLevel.INFO, false, "message " + i, i, 1));
+        }
+        int[] rows = table.find(new Query());
+        assertEquals(1, rows.length);
+        assertEquals("message 4999", table.get(rows[0]).getMessage());
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        LogStatementTable table = createTable();
+        table.removeFile("/p/src/b/Empty.java");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        table.write(new DataOutputStream(bytes));
+        LogStatementTable read = LogStatementTable.read(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(table.size(), read.size());
+        assertEquals(7, read.getStamp("/p/src/b/B.java"));
+        assertEquals(LogStatementTable.NO_STAMP, read.getStamp("/p/src/b/Empty.java"));
+        assertEquals(Arrays.toString(statements(table)), Arrays.toString(statements(read)));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadDamaged() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        createTable().write(new DataOutputStream(bytes));
+        byte[] data = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 5);
+        LogStatementTable.read(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    private static String[] statements(LogStatementTable table) {
+        int[] rows = table.find(new Query().file("/p/src/a/A.java"));
+        String[] result = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = table.get(rows[i]).toString();
+        }
+        return result;
+    }
+}
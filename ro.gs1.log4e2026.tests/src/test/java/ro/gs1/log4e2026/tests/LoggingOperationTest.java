@@ -0,0 +1,55 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.operations.LoggingOperation;
+import ro.gs1.log4e2026.operations.OperationContext;
+import ro.gs1.log4e2026.settings.OperationSettings;
+
+/**
+ * Unit tests for LoggingOperation class.
+ */
+public class LoggingOperationTest {
+
+    @Test
+    public void testReplaceSystemPrintln() {
+        CompilationUnit astRoot = LogStatementIndexTest.parse("package p;\n"
+                + "public class A {\n"
+                + "    void run(int count) {\n"
+                + "        System.out.println(\"Say \\\"hi\\\"\");\n"
+                + "        System.out.println(\"Count \" + count);\n"
+                + "        System.out.println(count);\n"
+                + "    }\n"
+                + "}\n");
+        List<MethodInvocation> printlns = new ArrayList<>();
+        astRoot.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(MethodInvocation node) {
+                printlns.add(node);
+                return false;
+            }
+        });
+        OperationContext context = new OperationContext();
+        context.setSettings(OperationSettings.get(null));
+        LoggingOperation operation = new LoggingOperation(context);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+
+        List<String> replacements = new ArrayList<>();
+        for (MethodInvocation println : printlns) {
+            replacements.add(operation.replaceSystemPrintln(ast, println, LogLevel.INFO).toString().trim());
+        }
+        assertEquals("logger.info(\"Say \\\"hi\\\"\");", replacements.get(0));
+        assertEquals("logger.info(\"Count \" + count);", replacements.get(1));
+        assertEquals("logger.info(String.valueOf(count));", replacements.get(2));
+    }
+}
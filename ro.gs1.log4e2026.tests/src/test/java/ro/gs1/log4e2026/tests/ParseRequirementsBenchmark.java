@@ -0,0 +1,72 @@
+package ro.gs1.log4e2026.tests;
+
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+
+/**
+ * Compares parse times of a large generated class for each parse requirement profile.
+ * Not part of the test suite; run the main method to print the timings.
+ */
+public class ParseRequirementsBenchmark {
+
+    private static final int METHODS = 2000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int RUNS = 20;
+
+    public static void main(String[] args) {
+        String source = createLargeClass(METHODS);
+        System.out.println("Parsing " + source.length() + " chars, " + METHODS + " methods, "
+                + RUNS + " runs each");
+
+        ParseRequirements[] profiles = {
+            ParseRequirements.BINDINGS_AND_SYNTAX,
+            ParseRequirements.SYNTAX.withDocComments(),
+            ParseRequirements.SYNTAX,
+            ParseRequirements.SYNTAX.withoutStatementsRecovery(),
+            ParseRequirements.DECLARATIONS
+        };
+        for (ParseRequirements profile : profiles) {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                ParseRequirementsTest.parse(source, profile);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < RUNS; i++) {
+                ParseRequirementsTest.parse(source, profile);
+            }
+            double average = (System.nanoTime() - start) / 1e6 / RUNS;
+            System.out.printf("%-60s %8.2f ms%n", profile, average);
+        }
+    }
+
+    /**
+     * Creates a class with fields, Javadoc and methods using JDK types,
+     * so binding resolution has to look up classes.
+     */
+    static String createLargeClass(int methods) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package p;\n\n");
+        sb.append("import java.util.ArrayList;\nimport java.util.List;\nimport java.util.Map;\n");
+        sb.append("import java.util.HashMap;\nimport java.io.IOException;\n\n");
+        sb.append("/**\n * Generated class.\n * @author benchmark\n */\n");
+        sb.append("public class A {\n");
+        sb.append("    private final Map<String, List<Integer>> values = new HashMap<>();\n\n");
+        for (int i = 0; i < methods; i++) {
+            sb.append("    /**\n     * Method ").append(i).append(".\n");
+            sb.append("     * @param key the key\n     * @return the sum\n     */\n");
+            sb.append("    public int method").append(i).append("(String key) throws IOException {\n");
+            sb.append("        List<Integer> list = values.getOrDefault(key, new ArrayList<>());\n");
+            sb.append("        int sum = 0;\n");
+            sb.append("        for (Integer value : list) {\n");
+            sb.append("            sum += value.intValue() * ").append(i).append(";\n");
+            sb.append("        }\n");
+            sb.append("        try {\n");
+            sb.append("            values.put(key.trim(), list);\n");
+            sb.append("        } catch (RuntimeException e) {\n");
+            sb.append("            throw new IOException(e.getMessage(), e);\n");
+            sb.append("        }\n");
+            sb.append("        return sum;\n");
+            sb.append("    }\n\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
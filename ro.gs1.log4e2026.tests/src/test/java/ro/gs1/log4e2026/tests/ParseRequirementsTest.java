@@ -0,0 +1,109 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+
+/**
+ * Unit tests for ParseRequirements class.
+ */
+public class ParseRequirementsTest {
+
+    private static final String SOURCE =
+            "package p;\n"
+            + "/** Doc. @author me */\n"
+            + "public class A {\n"
+            + "    private String name;\n"
+            + "    public String getName() {\n"
+            + "        return name;\n"
+            + "    }\n"
+            + "}\n";
+
+    /**
+     * Parses a source with the given requirements, the way the plugin does without a project.
+     */
+    static CompilationUnit parse(String source, ParseRequirements requirements) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+        if (requirements.needsBindings()) {
+            parser.setUnitName("/p/A.java");
+            parser.setEnvironment(null, null, null, true);
+        }
+        requirements.configure(parser, null);
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    private static MethodDeclaration getMethod(CompilationUnit cu) {
+        return ((TypeDeclaration) cu.types().get(0)).getMethods()[0];
+    }
+
+    @Test
+    public void testSatisfies() {
+        assertTrue(ParseRequirements.SYNTAX.satisfies(ParseRequirements.DECLARATIONS));
+        assertTrue(ParseRequirements.BINDINGS_AND_SYNTAX.satisfies(ParseRequirements.SYNTAX));
+        assertFalse(ParseRequirements.DECLARATIONS.satisfies(ParseRequirements.SYNTAX));
+        assertFalse(ParseRequirements.SYNTAX.satisfies(ParseRequirements.BINDINGS_AND_SYNTAX));
+        assertFalse(ParseRequirements.SYNTAX.satisfies(ParseRequirements.SYNTAX.withDocComments()));
+    }
+
+    @Test
+    public void testUnion() {
+        ParseRequirements union = ParseRequirements.DECLARATIONS.withDocComments()
+                .union(ParseRequirements.SYNTAX);
+        assertTrue(union.satisfies(ParseRequirements.SYNTAX));
+        assertTrue(union.needsDocComments());
+        assertFalse(union.needsBindings());
+        assertSame(ParseRequirements.SYNTAX, ParseRequirements.SYNTAX.union(ParseRequirements.DECLARATIONS));
+        assertEquals(ParseRequirements.BINDINGS_AND_SYNTAX, ParseRequirements.SYNTAX.withBindings());
+    }
+
+    @Test
+    public void testWithoutStatementsRecovery() {
+        ParseRequirements requirements = ParseRequirements.SYNTAX.withoutStatementsRecovery();
+        assertFalse(requirements.needsStatementsRecovery());
+        assertTrue(requirements.needsMethodBodies());
+        assertTrue(ParseRequirements.SYNTAX.satisfies(requirements));
+    }
+
+    @Test
+    public void testDeclarationsSkipMethodBodies() {
+        CompilationUnit cu = parse(SOURCE, ParseRequirements.DECLARATIONS);
+        MethodDeclaration method = getMethod(cu);
+        assertEquals("getName", method.getName().getIdentifier());
+        assertTrue(method.getBody() == null || method.getBody().statements().isEmpty());
+        // The source range still covers the skipped body
+        assertTrue(SOURCE.substring(method.getStartPosition(),
+                method.getStartPosition() + method.getLength()).endsWith("}"));
+    }
+
+    @Test
+    public void testSyntaxHasBodiesWithoutBindings() {
+        CompilationUnit cu = parse(SOURCE, ParseRequirements.SYNTAX);
+        MethodDeclaration method = getMethod(cu);
+        assertEquals(1, method.getBody().statements().size());
+        assertNull(method.resolveBinding());
+    }
+
+    @Test
+    public void testBindings() {
+        CompilationUnit cu = parse(SOURCE, ParseRequirements.BINDINGS_AND_SYNTAX);
+        assertNotNull(getMethod(cu).resolveBinding());
+    }
+
+    @Test
+    public void testDocComments() {
+        CompilationUnit withoutTags = parse(SOURCE, ParseRequirements.SYNTAX);
+        CompilationUnit withTags = parse(SOURCE, ParseRequirements.SYNTAX.withDocComments());
+        TypeDeclaration type = (TypeDeclaration) withTags.types().get(0);
+        assertFalse(type.getJavadoc().tags().isEmpty());
+        assertEquals(withTags.getCommentList().size(), withoutTags.getCommentList().size());
+    }
+}
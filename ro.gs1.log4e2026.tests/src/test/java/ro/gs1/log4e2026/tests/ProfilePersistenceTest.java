@@ -0,0 +1,150 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ro.gs1.log4e2026.templates.Profile;
+import ro.gs1.log4e2026.templates.ProfilePersistence;
+import ro.gs1.log4e2026.templates.Profiles;
+
+/**
+ * Unit tests for ProfilePersistence class.
+ */
+public class ProfilePersistenceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ProfilePersistence persistence = new ProfilePersistence();
+
+    @Test
+    public void testReadProfiles() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!-- comment -->\n"
+                + "<profiles version=\"1\">\n"
+                + "  <profile id=\"builtin\" title=\"SLF4J\" name=\"slf4j\" version=\"3\">\n"
+                + "    <setting id=\"LOGGER_IMPORTS\" type=\"String\">org.slf4j.Logger\n"
+                + "org.slf4j.LoggerFactory</setting>\n"
+                + "    <setting id=\"COUNT\" type=\"Integer\">7</setting>\n"
+                + "    <setting id=\"FLAG\" type=\"Boolean\">true</setting>\n"
+                + "    <unknown><setting id=\"IGNORED\" type=\"String\">x</setting></unknown>\n"
+                + "    <list id=\"LEVELS\">\n"
+                + "      <listsetting type=\"String\">debug</listsetting>\n"
+                + "      <listsetting type=\"String\">a &amp; b</listsetting>\n"
+                + "    </list>\n"
+                + "  </profile>\n"
+                + "</profiles>\n";
+
+        Profiles profiles = persistence.readProfiles(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, profiles.getSize());
+        Profile profile = profiles.getProfile("slf4j");
+        assertNotNull(profile);
+        assertEquals("SLF4J", profile.getTitle());
+        assertEquals(3, profile.getVersion());
+        assertEquals("org.slf4j.Logger\norg.slf4j.LoggerFactory", profile.getString("LOGGER_IMPORTS"));
+        assertEquals(Integer.valueOf(7), profile.getSettings().get("COUNT"));
+        assertEquals(Boolean.TRUE, profile.getSettings().get("FLAG"));
+        assertNull(profile.getSettings().get("IGNORED"));
+        assertEquals(Arrays.asList("debug", "a & b"), profile.getSettings().get("LEVELS"));
+    }
+
+    @Test
+    public void testWriteAndReadRoundTrip() throws Exception {
+        Profiles profiles = new Profiles();
+        profiles.addProfile(new Profile(Profile.ID_BUILTIN, "Built-in"));
+        Profile user = new Profile(Profile.ID_USER, "Mine <\"&\">");
+        user.setVersion(4);
+        user.put("LOGGER_DECLARATION", "private static final Logger ${logger} = get(\"x\");");
+        user.put("LOGGER_IMPORTS", "a.B\nc.D");
+        user.put("EMPTY", "");
+        user.put("COUNT", 2);
+        user.put("FLAG", Boolean.FALSE);
+        user.put("LIST", Arrays.asList("one", "two"));
+        user.put("EMPTY_LIST", Collections.emptyList());
+        profiles.addProfile(user);
+
+        File file = new File(folder.getRoot(), "state/profiles.xml");
+        persistence.writeProfiles(profiles, file);
+        Profiles read = persistence.readProfiles(file);
+
+        assertEquals(1, read.getSize());
+        Profile copy = read.getProfile(user.getName());
+        assertNotNull(copy);
+        assertEquals(user.getTitle(), copy.getTitle());
+        assertEquals(4, copy.getVersion());
+        assertEquals(user.getSettings(), copy.getSettings());
+    }
+
+    @Test
+    public void testWriteReplacesFileWithoutLeftovers() throws Exception {
+        File file = new File(folder.getRoot(), "profiles.xml");
+        Files.write(file.toPath(), "old content".getBytes(StandardCharsets.UTF_8));
+
+        Profiles profiles = new Profiles();
+        profiles.addProfile(new Profile(Profile.ID_USER, "First"));
+        persistence.writeProfiles(profiles, file);
+
+        assertEquals(1, persistence.readProfiles(file).getSize());
+        List<String> names = Arrays.asList(folder.getRoot().list());
+        assertEquals(Collections.singletonList("profiles.xml"), names);
+    }
+
+    @Test
+    public void testSnapshotRoundTrip() throws Exception {
+        Profiles profiles = new Profiles();
+        Profile builtIn = new Profile(Profile.ID_BUILTIN, "Built-in");
+        builtIn.setVersion(2);
+        builtIn.put("LOGGER_IMPORTS", "a.B\nc.D \u00e9");
+        builtIn.put("COUNT", 3);
+        builtIn.put("FLAG", Boolean.TRUE);
+        builtIn.put("NULL", null);
+        builtIn.put("LIST", Arrays.asList("one", "two"));
+        profiles.addProfile(builtIn);
+        profiles.addProfile(new Profile(Profile.ID_USER, "User"));
+
+        File file = new File(folder.getRoot(), "builtin.bin");
+        persistence.writeSnapshot(profiles, file, "1.0.0@42");
+        Profiles read = persistence.readSnapshot(file, "1.0.0@42");
+
+        assertNotNull(read);
+        assertEquals(2, read.getSize());
+        Profile copy = read.getProfile(builtIn.getName());
+        assertEquals(Profile.ID_BUILTIN, copy.getId());
+        assertEquals("Built-in", copy.getTitle());
+        assertEquals(2, copy.getVersion());
+        assertEquals(builtIn.getSettings(), copy.getSettings());
+    }
+
+    @Test
+    public void testSnapshotOfOtherKeyOrDamagedIsIgnored() throws Exception {
+        Profiles profiles = new Profiles();
+        profiles.addProfile(new Profile(Profile.ID_BUILTIN, "Built-in"));
+        File file = new File(folder.getRoot(), "builtin.bin");
+        persistence.writeSnapshot(profiles, file, "1.0.0@42");
+
+        assertNull(persistence.readSnapshot(file, "1.0.1@43"));
+        assertNull(persistence.readSnapshot(new File(folder.getRoot(), "missing.bin"), "1.0.0@42"));
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(persistence.readSnapshot(file, "1.0.0@42"));
+    }
+
+    @Test
+    public void testReadMissingFile() throws Exception {
+        assertEquals(0, persistence.readProfiles(new File(folder.getRoot(), "missing.xml")).getSize());
+    }
+}
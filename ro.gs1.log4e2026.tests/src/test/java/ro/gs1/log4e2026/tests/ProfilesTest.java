@@ -0,0 +1,113 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.templates.Profile;
+import ro.gs1.log4e2026.templates.Profiles;
+
+/**
+ * Unit tests for Profiles class.
+ */
+public class ProfilesTest {
+
+    @Test
+    public void testLookupIsCaseInsensitive() {
+        Profiles profiles = new Profiles();
+        Profile profile = new Profile(Profile.ID_USER, "My Profile");
+        profiles.addProfile(profile);
+        assertSame(profile, profiles.getProfile(profile.getName().toUpperCase()));
+        assertSame(profile, profiles.getProfileByTitle("my profile"));
+        assertTrue(profiles.existsProfileWithTitle("MY PROFILE"));
+        assertNull(profiles.getProfileByTitle("Other"));
+        assertNull(profiles.getProfile(null));
+    }
+
+    @Test
+    public void testDuplicateNameGetsUniqueTitle() {
+        Profiles profiles = new Profiles();
+        Profile first = new Profile(Profile.ID_USER, "Custom");
+        profiles.addProfile(first);
+        Profile second = first.copy();
+        assertTrue(profiles.addProfile(second));
+        assertEquals("Custom (1)", second.getTitle());
+        Profile third = first.copy();
+        profiles.addProfile(third);
+        assertEquals("Custom (2)", third.getTitle());
+        assertSame(first, profiles.getProfile(first.getName()));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        Profiles profiles = new Profiles();
+        Profile profile = new Profile(Profile.ID_USER, "A");
+        profiles.addProfile(profile);
+
+        Profiles copy = profiles.copy();
+        copy.addProfile(new Profile(Profile.ID_USER, "B"));
+        copy.remove(profile);
+
+        assertEquals(1, profiles.getSize());
+        assertSame(profile, profiles.getProfileByTitle("A"));
+        assertNull(profiles.getProfileByTitle("B"));
+        assertEquals(1, copy.getSize());
+        assertNull(copy.getProfileByTitle("A"));
+    }
+
+    @Test
+    public void testReplaceProfileReindexesTitle() {
+        Profiles profiles = new Profiles();
+        Profile profile = new Profile(Profile.ID_USER, "Old");
+        profile.put("LOG_METHOD_DEBUG", "debug");
+        profiles.addProfile(profile);
+
+        Profile renamed = profile.copy();
+        renamed.setTitle("New");
+        renamed.put("LOG_METHOD_DEBUG", "fine");
+        assertTrue(profiles.replaceProfile(renamed));
+
+        assertNull(profiles.getProfileByTitle("Old"));
+        assertSame(renamed, profiles.getProfileByTitle("new"));
+        assertSame(renamed, profiles.getProfile(profile.getName()));
+        // The replaced profile is unchanged
+        assertEquals("Old", profile.getTitle());
+        assertEquals("debug", profile.getString("LOG_METHOD_DEBUG"));
+    }
+
+    @Test
+    public void testProfileCopyCopiesLists() {
+        Profile profile = new Profile(Profile.ID_USER, "A");
+        profile.addToList("IMPORTS", "org.slf4j.Logger");
+        Profile copy = profile.copy();
+        copy.addToList("IMPORTS", "org.slf4j.LoggerFactory");
+        assertEquals(1, profile.getList("IMPORTS").size());
+        assertEquals(2, copy.getList("IMPORTS").size());
+        assertEquals(profile.getName(), copy.getName());
+    }
+
+    @Test
+    public void testDeserializedLookup() throws Exception {
+        Profiles profiles = new Profiles();
+        Profile profile = new Profile(Profile.ID_USER, "Serialized");
+        profiles.addProfile(profile);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(profiles);
+        }
+        Profiles read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (Profiles) in.readObject();
+        }
+
+        assertEquals(1, read.getSize());
+        assertEquals("Serialized", read.getProfile(profile.getName()).getTitle());
+        assertNotNull(read.getProfileByTitle("serialized"));
+    }
+}
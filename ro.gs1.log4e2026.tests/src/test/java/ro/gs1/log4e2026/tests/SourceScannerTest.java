@@ -0,0 +1,36 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.jdt.SourceScanner;
+
+/**
+ * Unit tests for SourceScanner class.
+ */
+public class SourceScannerTest {
+
+    private static boolean containsCatch(String source) {
+        return SourceScanner.containsToken(source.toCharArray(), ITerminalSymbols.TokenNamecatch);
+    }
+
+    @Test
+    public void testFindsCatchKeyword() {
+        assertTrue(containsCatch("class A {\n  void run() {\n    try { go(); } catch (Exception e) { }\n  }\n}"));
+        assertTrue(containsCatch("class A { void run() { try (R r = open()) {} catch (IOException | RuntimeException e) {} } }"));
+    }
+
+    @Test
+    public void testIgnoresCommentsLiteralsAndIdentifiers() {
+        assertFalse(containsCatch("// catch (Exception e)\nclass A {\n  /* catch */\n  String s = \"catch\";\n"
+                + "  String t = \"\"\"\n    catch\n    \"\"\";\n  void catchAll() { catcher.run(); }\n}"));
+        assertFalse(containsCatch(""));
+    }
+
+    @Test
+    public void testMalformedInputIsCandidate() {
+        assertTrue(containsCatch("class A { /* unterminated"));
+    }
+}
@@ -0,0 +1,98 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.preferences.PreferenceKeys;
+import ro.gs1.log4e2026.templates.CompiledTemplate;
+import ro.gs1.log4e2026.templates.Profile;
+import ro.gs1.log4e2026.templates.TemplateEngine;
+import ro.gs1.log4e2026.templates.TemplateValues;
+
+/**
+ * Unit tests for TemplateEngine class.
+ */
+public class TemplateEngineTest {
+
+    @Test
+    public void testRender() {
+        CompiledTemplate template = TemplateEngine.compile(
+                "${logger}.debug(\"${enclosing_method}${delimiter}${message}\")");
+        TemplateValues values = new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, "log")
+                .set(PreferenceKeys.PROF_SOURCEMETHOD, "run()")
+                .set(PreferenceKeys.PROF_DELIMITER, " - ")
+                .set(PreferenceKeys.PROF_MESSAGE, "start");
+        assertEquals("log.debug(\"run() - start\")", template.render(values));
+        assertFalse(template.hasUnknownPlaceholders());
+    }
+
+    @Test
+    public void testUnsetVariablesRenderEmpty() {
+        CompiledTemplate template = TemplateEngine.compile("a${message_user}b${return_value}c");
+        assertEquals("abc", template.render(new TemplateValues()));
+    }
+
+    @Test
+    public void testAllProfileVariablesAreKnown() throws Exception {
+        String profiles;
+        try (InputStream in = TemplateEngineTest.class.getResourceAsStream("/log4e-profiles.xml")) {
+            assertNotNull("log4e-profiles.xml not found", in);
+            profiles = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Matcher matcher = Pattern.compile("\\$\\{[^}]*\\}").matcher(profiles);
+        int count = 0;
+        while (matcher.find()) {
+            assertTrue(matcher.group(), TemplateEngine.isVariable(matcher.group()));
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void testUnknownPlaceholders() {
+        CompiledTemplate template = TemplateEngine.compile("${logger}.info(${varible})${foo}");
+        assertEquals(2, template.getUnknownPlaceholders().size());
+        assertEquals("${varible}", template.getUnknownPlaceholders().get(0));
+        String rendered = template.render(new TemplateValues().set(PreferenceKeys.PROF_LOGGER, "logger"));
+        assertEquals("logger.info()", rendered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownValue() {
+        new TemplateValues().set("${unknown}", "x");
+    }
+
+    @Test
+    public void testUnterminatedPlaceholderIsLiteral() {
+        CompiledTemplate template = TemplateEngine.compile("x ${logger");
+        assertEquals("x ${logger", template.render(new TemplateValues()));
+    }
+
+    @Test
+    public void testUsesVariable() {
+        CompiledTemplate template = TemplateEngine.compile("${logger}.error(\"\", ${exception})");
+        assertTrue(template.usesVariable(PreferenceKeys.PROF_EXCEPTION));
+        assertFalse(template.usesVariable(PreferenceKeys.PROF_MESSAGE));
+    }
+
+    @Test
+    public void testProfileCache() {
+        Profile profile = new Profile(Profile.ID_USER, "Test");
+        profile.put("LOGGER_DECLARATION", "Logger ${logger};");
+        CompiledTemplate first = TemplateEngine.getTemplate(profile, "LOGGER_DECLARATION");
+        assertSame(first, TemplateEngine.getTemplate(profile, "LOGGER_DECLARATION"));
+
+        profile.put("LOGGER_DECLARATION", "Logger ${logger} = null;");
+        CompiledTemplate edited = TemplateEngine.getTemplate(profile, "LOGGER_DECLARATION");
+        assertNotSame(first, edited);
+        assertEquals("Logger log = null;", edited.render(new TemplateValues().set(PreferenceKeys.PROF_LOGGER, "log")));
+        assertNull(TemplateEngine.getTemplate(profile, "MISSING"));
+    }
+}
@@ -0,0 +1,107 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import ro.gs1.log4e2026.wizard.TextDiff;
+
+/**
+ * Unit tests for TextDiff class.
+ */
+public class TextDiffTest {
+
+    private static String lines(int from, int to) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            sb.append("line").append(i).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testIdenticalTexts() {
+        assertTrue(TextDiff.compute("a\nb\n", "a\nb\n", 3).isEmpty());
+        assertTrue(TextDiff.compute("", "", 3).isEmpty());
+    }
+
+    @Test
+    public void testInsertion() {
+        String oldText = lines(0, 10);
+        String newText = lines(0, 5) + "logger.debug();\n" + lines(5, 10);
+        List<TextDiff.Hunk> hunks = TextDiff.compute(oldText, newText, 2);
+        assertEquals(1, hunks.size());
+        TextDiff.Hunk hunk = hunks.get(0);
+        assertEquals(1, hunk.getAdded());
+        assertEquals(0, hunk.getRemoved());
+        assertEquals("line3\nline4\nline5\nline6\n", hunk.getOldText());
+        assertEquals("line3\nline4\nlogger.debug();\nline5\nline6\n", hunk.getNewText());
+        assertEquals("Lines 4-8: +1 -0", hunk.toString());
+    }
+
+    @Test
+    public void testReplacement() {
+        String oldText = "a\nb\nc\n";
+        String newText = "a\nx\ny\nc\n";
+        List<TextDiff.Hunk> hunks = TextDiff.compute(oldText, newText, 0);
+        assertEquals(1, hunks.size());
+        assertEquals(2, hunks.get(0).getAdded());
+        assertEquals(1, hunks.get(0).getRemoved());
+        assertEquals("b\n", hunks.get(0).getOldText());
+        assertEquals("x\ny\n", hunks.get(0).getNewText());
+    }
+
+    @Test
+    public void testDistantChangesAreSeparateHunks() {
+        String oldText = lines(0, 30);
+        String newText = "first\n" + lines(0, 30).replace("line20\n", "") + "last\n";
+        List<TextDiff.Hunk> hunks = TextDiff.compute(oldText, newText, 3);
+        assertEquals(3, hunks.size());
+        assertEquals(1, hunks.get(0).getAdded());
+        assertEquals(1, hunks.get(1).getRemoved());
+        assertEquals(1, hunks.get(2).getAdded());
+    }
+
+    @Test
+    public void testCloseChangesAreMerged() {
+        String oldText = lines(0, 10);
+        String newText = oldText.replace("line3\n", "x\n").replace("line6\n", "y\n");
+        List<TextDiff.Hunk> hunks = TextDiff.compute(oldText, newText, 2);
+        assertEquals(1, hunks.size());
+        assertEquals(2, hunks.get(0).getAdded());
+        assertEquals(2, hunks.get(0).getRemoved());
+    }
+
+    @Test
+    public void testInterleavedChanges() {
+        String oldText = "a\nb\nc\na\nb\nb\na\n";
+        String newText = "c\nb\na\nb\na\nc\n";
+        List<TextDiff.Hunk> hunks = TextDiff.compute(oldText, newText, 0);
+        int added = 0;
+        int removed = 0;
+        for (TextDiff.Hunk hunk : hunks) {
+            added += hunk.getAdded();
+            removed += hunk.getRemoved();
+        }
+        // Shortest edit script has 5 edits
+        assertEquals(5, added + removed);
+    }
+
+    @Test
+    public void testLineDelimitersArePreserved() {
+        List<TextDiff.Hunk> hunks = TextDiff.compute("a\r\nb\r\n", "a\r\nc\r\nb\r\n", 1);
+        assertEquals(1, hunks.size());
+        assertEquals("a\r\nb\r\n", hunks.get(0).getOldText());
+        assertEquals("a\r\nc\r\nb\r\n", hunks.get(0).getNewText());
+    }
+
+    @Test
+    public void testMissingFinalNewline() {
+        List<TextDiff.Hunk> hunks = TextDiff.compute("a\nb", "a\nb\n", 0);
+        assertEquals(1, hunks.size());
+        assertEquals("b", hunks.get(0).getOldText());
+        assertEquals("b\n", hunks.get(0).getNewText());
+    }
+}
@@ -0,0 +1,116 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jface.text.Document;
+import org.eclipse.text.edits.TextEdit;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+
+/**
+ * Tests UnitRewrite on a compilation unit of a Java project, where the
+ * imports are placed by an ImportRewrite.
+ */
+public class UnitRewriteProjectTest {
+
+    private static final String PROJECT_NAME = "UnitRewriteTestProject";
+
+    private static IJavaProject javaProject;
+    private static IFolder sourceFolder;
+
+    @BeforeClass
+    public static void setUpClass() throws CoreException {
+        IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+        if (project.exists()) {
+            project.delete(true, true, null);
+        }
+        project.create(null);
+        project.open(null);
+        IProjectDescription description = project.getDescription();
+        description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+        project.setDescription(description, null);
+
+        sourceFolder = project.getFolder("src");
+        sourceFolder.create(true, true, null);
+        javaProject = JavaCore.create(project);
+        javaProject.setRawClasspath(new IClasspathEntry[] { JavaCore.newSourceEntry(sourceFolder.getFullPath()) },
+                project.getFullPath().append("bin"), null);
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws CoreException {
+        if (javaProject != null) {
+            javaProject.getProject().delete(true, true, null);
+        }
+    }
+
+    private static CompilationUnit parse(ICompilationUnit cu) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(cu);
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    @Test
+    public void testImportsInOrderMergedWithField() throws Exception {
+        String source = "package p;\n"
+                + "\n"
+                + "import java.util.List;\n"
+                + "\n"
+                + "public class A {\n"
+                + "    List<String> names;\n"
+                + "}\n";
+        IPackageFragment fragment = javaProject.getPackageFragmentRoot(sourceFolder)
+                .createPackageFragment("p", true, null);
+        ICompilationUnit cu = fragment.createCompilationUnit("A.java", source, true, null);
+        CompilationUnit astRoot = parse(cu);
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
+        // Added out of order; appending them would keep this order
+        rewrite.addImport("org.slf4j.Logger");
+        rewrite.addImport("java.util.Map");
+        rewrite.addImport("java.util.List");
+
+        AST ast = rewrite.getAST();
+        VariableDeclarationFragment variable = ast.newVariableDeclarationFragment();
+        variable.setName(ast.newSimpleName("logger"));
+        FieldDeclaration field = ast.newFieldDeclaration(variable);
+        field.setType(ast.newSimpleType(ast.newSimpleName("Logger")));
+        TypeDeclaration type = (TypeDeclaration) astRoot.types().get(0);
+        rewrite.getASTRewrite().getListRewrite(type, TypeDeclaration.BODY_DECLARATIONS_PROPERTY)
+                .insertFirst(field, null);
+
+        Document document = new Document(cu.getSource());
+        TextEdit edit = rewrite.createEdit(document);
+        // The import edit and the declaration edit, applied together
+        assertEquals(2, edit.getChildren().length);
+        edit.apply(document);
+
+        String result = document.get();
+        int list = result.indexOf("import java.util.List;");
+        int map = result.indexOf("import java.util.Map;");
+        int logger = result.indexOf("import org.slf4j.Logger;");
+        assertTrue(result, list >= 0 && list < map && map < logger);
+        assertEquals(result, list, result.lastIndexOf("import java.util.List;"));
+        assertTrue(result, logger < result.indexOf("public class A"));
+        assertTrue(result, result.contains("Logger logger;"));
+    }
+}
@@ -0,0 +1,85 @@
+package ro.gs1.log4e2026.tests;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jface.text.Document;
+import org.junit.Test;
+
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+
+/**
+ * Unit tests for UnitRewrite class.
+ */
+public class UnitRewriteTest {
+
+    private static CompilationUnit parse(String source) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    private static String apply(UnitRewrite rewrite, String source) throws Exception {
+        Document document = new Document(source);
+        rewrite.createEdit(document).apply(document);
+        return document.get();
+    }
+
+    @Test
+    public void testImportsAndFieldInOneEdit() throws Exception {
+        String source = "package p;\n"
+                + "import java.util.List;\n"
+                + "public class A {\n"
+                + "    List<String> names;\n"
+                + "}\n";
+        CompilationUnit astRoot = parse(source);
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
+        rewrite.addImport("java.util.List");
+        rewrite.addImport("org.slf4j.Logger");
+
+        AST ast = rewrite.getAST();
+        VariableDeclarationFragment fragment = ast.newVariableDeclarationFragment();
+        fragment.setName(ast.newSimpleName("logger"));
+        FieldDeclaration field = ast.newFieldDeclaration(fragment);
+        field.setType(ast.newSimpleType(ast.newSimpleName("Logger")));
+        TypeDeclaration type = (TypeDeclaration) astRoot.types().get(0);
+        rewrite.getASTRewrite().getListRewrite(type, TypeDeclaration.BODY_DECLARATIONS_PROPERTY)
+                .insertFirst(field, null);
+
+        String result = apply(rewrite, source);
+        assertEquals(result, 1, result.split("import java.util.List;", -1).length - 1);
+        assertTrue(result, result.contains("import org.slf4j.Logger;"));
+        assertTrue(result, result.contains("Logger logger;"));
+        assertTrue(result, result.indexOf("import org.slf4j.Logger;") < result.indexOf("public class A"));
+    }
+
+    @Test
+    public void testRemoveImport() throws Exception {
+        String source = "package p;\n"
+                + "import java.util.List;\n"
+                + "import java.util.logging.Logger;\n"
+                + "public class A {\n"
+                + "}\n";
+        CompilationUnit astRoot = parse(source);
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
+        rewrite.removeImport((ImportDeclaration) astRoot.imports().get(1));
+
+        String result = apply(rewrite, source);
+        assertTrue(result, result.contains("import java.util.List;"));
+        assertFalse(result, result.contains("java.util.logging"));
+    }
+
+    @Test
+    public void testNoChanges() throws Exception {
+        String source = "package p;\npublic class A {\n}\n";
+        UnitRewrite rewrite = new UnitRewrite(parse(source));
+        assertFalse(rewrite.createEdit(new Document(source)).hasChildren());
+    }
+}
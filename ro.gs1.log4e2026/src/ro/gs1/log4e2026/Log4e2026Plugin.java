@@ -1,24 +1,59 @@
 package ro.gs1.log4e2026;
 
+import java.util.Hashtable;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.osgi.service.debug.DebugOptions;
+import org.eclipse.osgi.service.debug.DebugOptionsListener;
+import org.eclipse.osgi.service.debug.DebugTrace;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
-
+import org.osgi.framework.ServiceRegistration;
+
+import ro.gs1.log4e2026.core.WarmupJob;
+import ro.gs1.log4e2026.handlers.CursorContextTracker;
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.FrameworkDetector;
+import ro.gs1.log4e2026.jdt.LogStatementIndex;
+import ro.gs1.log4e2026.jdt.LoggerUsageIndex;
+import ro.gs1.log4e2026.preferences.PreferenceConstants;
 import ro.gs1.log4e2026.preferences.ProjectPreferences;
+import ro.gs1.log4e2026.preferences.ProjectPreferencesCache;
+import ro.gs1.log4e2026.templates.ProfileManager;
 
 /**
  * The activator class controls the plug-in life cycle.
  * Ported from de.jayefem.log4e.LoggerPlugin
  */
-public class Log4e2026Plugin extends AbstractUIPlugin {
+public class Log4e2026Plugin extends AbstractUIPlugin implements DebugOptionsListener {
 
     public static final String PLUGIN_ID = "ro.gs1.log4e2026";
 
+    /** Tracing option of the preference snapshots, see the .options file. */
+    public static final String TRACE_PREFERENCES = "/debug/preferences";
+
+    /** Tracing option of the startup warm-up and first command duration. */
+    public static final String TRACE_STARTUP = "/debug/startup";
+
+    /** Tracing option of the log statement index updates. */
+    public static final String TRACE_INDEX = "/debug/index";
+
+    /** Tracing option of the duration and the builds of batch workspace operations. */
+    public static final String TRACE_BATCH = "/debug/batch";
+
+    /** Tracing option of the AST cache statistics, written on shutdown. */
+    public static final String TRACE_AST_CACHE = "/debug/astcache";
+
     private static Log4e2026Plugin plugin;
 
+    private static volatile DebugOptions debugOptions;
+    private static volatile DebugTrace debugTrace;
+
+    private ServiceRegistration<DebugOptionsListener> debugRegistration;
+
     public Log4e2026Plugin() {
         plugin = this;
     }
@@ -26,11 +61,36 @@ public class Log4e2026Plugin extends AbstractUIPlugin {
     @Override
     public void start(BundleContext context) throws Exception {
         super.start(context);
+        Hashtable<String, String> properties = new Hashtable<>();
+        properties.put(DebugOptions.LISTENER_SYMBOLICNAME, PLUGIN_ID);
+        debugRegistration = context.registerService(DebugOptionsListener.class, this, properties);
+        if (getPreferenceStore().getBoolean(PreferenceConstants.P_WARMUP_ON_STARTUP)) {
+            WarmupJob.start();
+        }
+        if (getPreferenceStore().getBoolean(PreferenceConstants.P_INDEX_LOG_STATEMENTS)) {
+            LogStatementIndex.start();
+        }
         log("Log4E 2026 plugin started");
     }
 
     @Override
     public void stop(BundleContext context) throws Exception {
+        // The warm-up would otherwise load the profiles again after they are dropped
+        WarmupJob.shutdown();
+        trace(TRACE_AST_CACHE, ASTCache.getInstance().toString());
+        ASTCache.getInstance().clear();
+        FrameworkDetector.clear();
+        CursorContextTracker.shutdown();
+        ProjectPreferencesCache.shutdown();
+        ProfileManager.shutdown();
+        LoggerUsageIndex.shutdown();
+        LogStatementIndex.shutdown();
+        if (debugRegistration != null) {
+            debugRegistration.unregister();
+            debugRegistration = null;
+        }
+        debugOptions = null;
+        debugTrace = null;
         plugin = null;
         super.stop(context);
     }
@@ -71,6 +131,32 @@ public class Log4e2026Plugin extends AbstractUIPlugin {
         }
     }
 
+    @Override
+    public void optionsChanged(DebugOptions options) {
+        debugOptions = options;
+        debugTrace = options.newDebugTrace(PLUGIN_ID);
+    }
+
+    /**
+     * Checks if a tracing option of the plugin is enabled, e.g. {@link #TRACE_PREFERENCES}.
+     */
+    public static boolean isTracing(String option) {
+        DebugOptions options = debugOptions;
+        return options != null && options.isDebugEnabled()
+                && options.getBooleanOption(PLUGIN_ID + "/debug", false)
+                && options.getBooleanOption(PLUGIN_ID + option, false);
+    }
+
+    /**
+     * Writes a trace message if the tracing option is enabled.
+     */
+    public static void trace(String option, String message) {
+        DebugTrace trace = debugTrace;
+        if (trace != null && isTracing(option)) {
+            trace.trace(option, message);
+        }
+    }
+
     public static IPreferenceStore getPreferences() {
         return getDefault().getPreferenceStore();
     }
@@ -79,11 +165,12 @@ public class Log4e2026Plugin extends AbstractUIPlugin {
      * Get project-aware preferences for a specific project.
      * If project-specific settings are enabled, project preferences take precedence.
      * Otherwise, workspace preferences are used.
+     * The returned snapshot is cached until the preferences change.
      *
      * @param project the project to get preferences for (may be null for workspace prefs)
      * @return ProjectPreferences instance
      */
     public static ProjectPreferences getProjectPreferences(IProject project) {
-        return new ProjectPreferences(project);
+        return ProjectPreferencesCache.getInstance().get(project);
     }
 }
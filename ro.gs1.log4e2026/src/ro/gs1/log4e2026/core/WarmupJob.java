@@ -0,0 +1,163 @@
+package ro.gs1.log4e2026.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.settings.OperationSettings;
+import ro.gs1.log4e2026.templates.ProfileManager;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
+
+/**
+ * Prepares the work of the first command in the background: loads the
+ * profiles, compiles the prototypes the commands use with the current profile
+ * and initializes the Java parser, so the first command does not pay for it on the UI thread.
+ * Also reports the duration of the first command, with or without warm-up,
+ * see {@link Log4e2026Plugin#TRACE_STARTUP}.
+ */
+public final class WarmupJob extends Job {
+
+    // A small unit that loads the common DOM node classes when parsed
+    private static final String PRIMER_SOURCE =
+            "import java.util.List;\n"
+            + "class Primer {\n"
+            + "    private static final Object logger = null;\n"
+            + "    int primer(List<String> values) {\n"
+            + "        try {\n"
+            + "            if (values != null) { return values.size(); }\n"
+            + "        } catch (RuntimeException e) {\n"
+            + "            System.out.println(\"primer: \" + e);\n"
+            + "        }\n"
+            + "        return 0;\n"
+            + "    }\n"
+            + "}\n";
+
+    /** Family of the warm-up job. */
+    public static final Object FAMILY = WarmupJob.class;
+
+    private static final long NOT_DONE = -1;
+
+    private static volatile long warmupMillis = NOT_DONE;
+    private static final AtomicBoolean firstCommandReported = new AtomicBoolean();
+
+    private WarmupJob() {
+        super("Preparing Log4E");
+        setSystem(true);
+        setPriority(Job.DECORATE);
+    }
+
+    /**
+     * Schedules the warm-up. Called when the plugin starts.
+     */
+    public static void start() {
+        new WarmupJob().schedule();
+    }
+
+    /**
+     * Cancels the warm-up and waits until it ended. Called when the plugin
+     * stops, before the profiles are dropped.
+     */
+    public static void shutdown() {
+        Job.getJobManager().cancel(FAMILY);
+        try {
+            Job.getJobManager().join(FAMILY, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean belongsTo(Object family) {
+        return family == FAMILY;
+    }
+
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+        long start = System.nanoTime();
+        try {
+            long phase = System.nanoTime();
+            ProfileManager.getInstance().getCurrentProfile();
+            long profilesMillis = millisSince(phase);
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+
+            phase = System.nanoTime();
+            compilePrototypes();
+            long templatesMillis = millisSince(phase);
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+
+            phase = System.nanoTime();
+            primeParser();
+            long parserMillis = millisSince(phase);
+
+            warmupMillis = millisSince(start);
+            Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_STARTUP, "Warm-up took " + warmupMillis
+                    + " ms (profiles " + profilesMillis + " ms, templates " + templatesMillis
+                    + " ms, parser " + parserMillis + " ms)");
+        } catch (RuntimeException e) {
+            // The first command then does the work itself
+            Log4e2026Plugin.logError("Warm-up failed", e);
+        }
+        return Status.OK_STATUS;
+    }
+
+    private void compilePrototypes() {
+        // Resolves the workspace settings and the prototypes the commands instantiate
+        OperationSettings settings = OperationSettings.get(null);
+        TemplatePrototypes.getDeclaration(settings.getTemplate());
+        for (LogLevel level : LogLevel.values()) {
+            TemplatePrototypes.getLogCall(settings.getLogMethod(level));
+            TemplatePrototypes.getIsEnabled(settings.getProfile(), level);
+        }
+    }
+
+    private void primeParser() {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(PRIMER_SOURCE.toCharArray());
+        parser.setResolveBindings(false);
+        CompilationUnit unit = (CompilationUnit) parser.createAST(null);
+        unit.accept(new ASTVisitor() {
+        });
+    }
+
+    /**
+     * Reports the duration of the first command once, together with the
+     * warm-up state: "warm" if the warm-up completed before the command started.
+     *
+     * @param command the command name
+     * @param startNanos the {@link System#nanoTime()} when the command started
+     * @param warm the result of {@link #isDone()} when the command started
+     */
+    public static void commandExecuted(String command, long startNanos, boolean warm) {
+        if (firstCommandReported.getAndSet(true)) {
+            return;
+        }
+        String state = warm ? "warm, warm-up took " + warmupMillis + " ms" : "cold";
+        Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_STARTUP, "First command " + command + " took "
+                + millisSince(startNanos) + " ms (" + state + ")");
+    }
+
+    /**
+     * Checks if the warm-up has completed.
+     */
+    public static boolean isDone() {
+        return warmupMillis != NOT_DONE;
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -37,6 +37,9 @@ public class ExchangeFrameworkDialog extends TitleAreaDialog {
         LoggerTemplates.JUL
     };
 
+    /**
+     * @param detectedFramework the framework of the file, or null for a selection of several files
+     */
     public ExchangeFrameworkDialog(Shell parentShell, String detectedFramework) {
         super(parentShell);
         this.sourceFramework = detectedFramework;
@@ -64,9 +67,15 @@ public class ExchangeFrameworkDialog extends TitleAreaDialog {
         sourceLabel.setText("Current Framework:");
 
         sourceFrameworkCombo = new Combo(container, SWT.DROP_DOWN | SWT.READ_ONLY);
-        sourceFrameworkCombo.setItems(FRAMEWORKS);
         sourceFrameworkCombo.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
-        selectFramework(sourceFrameworkCombo, sourceFramework);
+        if (sourceFramework != null) {
+            sourceFrameworkCombo.setItems(FRAMEWORKS);
+            selectFramework(sourceFrameworkCombo, sourceFramework);
+        } else {
+            // Several files, each is migrated from the framework it uses
+            sourceFrameworkCombo.setItems(new String[] { "(detected per file)" });
+            sourceFrameworkCombo.select(0);
+        }
         sourceFrameworkCombo.setEnabled(false); // Read-only, shows detected framework
 
         // Target framework
@@ -1,5 +1,8 @@
 package ro.gs1.log4e2026.dialogs;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.TitleAreaDialog;
 import org.eclipse.swt.SWT;
@@ -12,6 +15,8 @@ import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
 
+import ro.gs1.log4e2026.core.LogLevel;
+
 /**
  * Dialog for confirming removal of log statements.
  * Provides options for what to remove.
@@ -22,19 +27,32 @@ public class RemoveLoggerDialog extends TitleAreaDialog {
     private Button removeImportsCheck;
     private Button removeStatementsCheck;
     private Button removeCommentsCheck;
+    private Button[] levelChecks;
 
     private boolean removeDeclaration = true;
     private boolean removeImports = true;
     private boolean removeStatements = true;
     private boolean removeComments = false;
+    private final boolean levelFilter;
+    private final Set<LogLevel> levels = EnumSet.allOf(LogLevel.class);
 
     private int logStatementCount;
     private String scopeDescription;
 
     public RemoveLoggerDialog(Shell parentShell, int logStatementCount, String scopeDescription) {
+        this(parentShell, logStatementCount, scopeDescription, false);
+    }
+
+    /**
+     * @param logStatementCount the number of log statements, or -1 if not counted
+     * @param levelFilter whether to offer the selection of the levels to remove
+     */
+    public RemoveLoggerDialog(Shell parentShell, int logStatementCount, String scopeDescription,
+            boolean levelFilter) {
         super(parentShell);
         this.logStatementCount = logStatementCount;
         this.scopeDescription = scopeDescription;
+        this.levelFilter = levelFilter;
         setHelpAvailable(false);
     }
 
@@ -55,7 +73,9 @@ public class RemoveLoggerDialog extends TitleAreaDialog {
 
         // Summary
         Label summaryLabel = new Label(container, SWT.WRAP);
-        summaryLabel.setText("Found " + logStatementCount + " log statement(s) in " + scopeDescription + ".");
+        summaryLabel.setText(logStatementCount >= 0
+                ? "Found " + logStatementCount + " log statement(s) in " + scopeDescription + "."
+                : "Remove logging from " + scopeDescription + ".");
         summaryLabel.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 
         // Options group
@@ -84,6 +104,24 @@ public class RemoveLoggerDialog extends TitleAreaDialog {
         removeCommentsCheck.setSelection(removeComments);
         removeCommentsCheck.setToolTipText("Remove comments above the logger declaration");
 
+        if (levelFilter) {
+            Group levelsGroup = new Group(container, SWT.NONE);
+            levelsGroup.setText("Levels");
+            levelsGroup.setLayout(new GridLayout(4, true));
+            levelsGroup.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+            LogLevel[] allLevels = LogLevel.getAllLevelsByPriority();
+            levelChecks = new Button[allLevels.length];
+            for (int i = 0; i < allLevels.length; i++) {
+                levelChecks[i] = new Button(levelsGroup, SWT.CHECK);
+                levelChecks[i].setText(allLevels[i].getDisplayName());
+                levelChecks[i].setSelection(levels.contains(allLevels[i]));
+                levelChecks[i].setData(allLevels[i]);
+            }
+            levelsGroup.setToolTipText(
+                    "Statements of unknown level are only removed if all levels are selected");
+        }
+
         return area;
     }
 
@@ -99,6 +137,14 @@ public class RemoveLoggerDialog extends TitleAreaDialog {
         removeImports = removeImportsCheck.getSelection();
         removeStatements = removeStatementsCheck.getSelection();
         removeComments = removeCommentsCheck.getSelection();
+        if (levelChecks != null) {
+            levels.clear();
+            for (Button check : levelChecks) {
+                if (check.getSelection()) {
+                    levels.add((LogLevel) check.getData());
+                }
+            }
+        }
         super.okPressed();
     }
 
@@ -117,4 +163,12 @@ public class RemoveLoggerDialog extends TitleAreaDialog {
     public boolean isRemoveComments() {
         return removeComments;
     }
+
+    /**
+     * Returns the levels of the log statements to remove; all levels if the
+     * dialog offers no level selection.
+     */
+    public Set<LogLevel> getLevels() {
+        return EnumSet.copyOf(levels);
+    }
 }
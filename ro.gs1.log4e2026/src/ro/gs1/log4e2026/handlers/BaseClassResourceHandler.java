@@ -0,0 +1,223 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.jdt.BatchASTProcessor;
+import ro.gs1.log4e2026.jdt.BatchChange;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+import ro.gs1.log4e2026.operations.LoggingOperation;
+import ro.gs1.log4e2026.operations.OperationContext;
+import ro.gs1.log4e2026.preferences.PreferenceConstants;
+import ro.gs1.log4e2026.preferences.ProjectPreferences;
+
+/**
+ * Abstract base class for class-level operations on the compilation units of
+ * packages, source folders and projects selected in Package Explorer.
+ * Runs as a cancellable background job with batched parsing. The changes are
+ * collected into one change that is previewed if enabled and applied as one
+ * undoable step; one summary per package is logged when done.
+ */
+public abstract class BaseClassResourceHandler extends AbstractHandler {
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        ISelection selection = HandlerUtil.getCurrentSelection(event);
+
+        if (!(selection instanceof IStructuredSelection) || selection.isEmpty()) {
+            return null;
+        }
+
+        List<?> elements = ((IStructuredSelection) selection).toList();
+        String title = getTitle();
+        Shell shell = Log4e2026Plugin.getPreferences().getBoolean(PreferenceConstants.P_WIZARD_BATCH)
+                ? HandlerUtil.getActiveShell(event) : null;
+
+        Job job = new Job(title) {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                BatchSummary summary = new BatchSummary(getDoneLabel(), getSkippedLabel());
+                BatchChange change = new BatchChange(title);
+                ClassProcessor processor = new ClassProcessor(title, summary, change);
+                try {
+                    processor.run(getElements(elements, monitor), monitor);
+                    if (!change.perform(shell, monitor) && !change.isEmpty()) {
+                        Log4e2026Plugin.log(summary.format(title + " (canceled)") + "\n" + processor.getStatistics());
+                        return Status.CANCEL_STATUS;
+                    }
+                } catch (OperationCanceledException e) {
+                    Log4e2026Plugin.log(summary.format(title + " (canceled)") + "\n" + processor.getStatistics());
+                    return Status.CANCEL_STATUS;
+                } catch (CoreException e) {
+                    Log4e2026Plugin.logError(title + " failed", e);
+                    return e.getStatus();
+                }
+                Log4e2026Plugin.log(summary.format(title) + "\n" + processor.getStatistics());
+                return Status.OK_STATUS;
+            }
+        };
+        job.setUser(true);
+        job.schedule();
+
+        return null;
+    }
+
+    /**
+     * Returns the job title, e.g. "Log classes".
+     */
+    protected abstract String getTitle();
+
+    /**
+     * Returns the label of the done count in the summary, e.g. "methods logged".
+     */
+    protected abstract String getDoneLabel();
+
+    /**
+     * Returns the label of the skipped count in the summary, e.g. "methods skipped".
+     */
+    protected abstract String getSkippedLabel();
+
+    /**
+     * Returns the elements whose compilation units are processed, by default
+     * the selected elements. Subclasses may narrow the selection down to the
+     * units a search finds in it, so that only those are parsed.
+     */
+    protected List<?> getElements(List<?> selected, IProgressMonitor monitor) throws CoreException {
+        return selected;
+    }
+
+    /**
+     * Checks if a unit may need a change, before it is parsed. Called on the
+     * enumerating thread; by default every unit is parsed.
+     */
+    protected boolean isCandidate(ICompilationUnit cu) {
+        return true;
+    }
+
+    /**
+     * Adds the changes of one type to the rewrite. Called from worker threads,
+     * each with its own operation and rewrite.
+     * @return the number of elements changed and skipped in the type
+     */
+    protected abstract BatchSummary.Counts processType(LoggingOperation operation, ASTRewrite rewrite,
+            AST ast, TypeDeclaration typeDecl);
+
+    /**
+     * Changes of one compilation unit, counted once the edit is added to the change.
+     */
+    private static final class ClassChange {
+        final TextEdit edit;
+        final String packageName;
+        final int done;
+
+        ClassChange(TextEdit edit, String packageName, int done) {
+            this.edit = edit;
+            this.packageName = packageName;
+            this.done = done;
+        }
+    }
+
+    private class ClassProcessor extends BatchASTProcessor<ClassChange> {
+
+        private final BatchSummary summary;
+        private final BatchChange change;
+
+        ClassProcessor(String name, BatchSummary summary, BatchChange change) {
+            super(name);
+            this.summary = summary;
+            this.change = change;
+        }
+
+        @Override
+        protected boolean accept(ICompilationUnit cu, IProgressMonitor monitor) {
+            return isCandidate(cu);
+        }
+
+        @Override
+        protected ClassChange process(ICompilationUnit cu, CompilationUnit astRoot, String source) throws Exception {
+            if (astRoot.types().isEmpty() || !(astRoot.types().get(0) instanceof TypeDeclaration)) {
+                return null;
+            }
+            TypeDeclaration primaryType = (TypeDeclaration) astRoot.types().get(0);
+            if (primaryType.isInterface()) {
+                return null;
+            }
+
+            OperationContext context = new OperationContext();
+            context.setCompilationUnit(cu);
+            context.setAstRoot(astRoot);
+            context.setSettings(getSettings(cu.getJavaProject()));
+            LoggingOperation operation = new LoggingOperation(context);
+
+            AST ast = astRoot.getAST();
+            UnitRewrite unitRewrite = new UnitRewrite(astRoot);
+            ASTRewrite rewrite = unitRewrite.getASTRewrite();
+
+            // The primary type and its member types can all use the logger of the primary type
+            int done = 0;
+            int skipped = 0;
+            for (TypeDeclaration typeDecl : collectTypes(primaryType)) {
+                BatchSummary.Counts counts = processType(operation, rewrite, ast, typeDecl);
+                done += counts.getDone();
+                skipped += counts.getSkipped();
+            }
+
+            String packageName = astRoot.getPackage() != null
+                    ? astRoot.getPackage().getName().getFullyQualifiedName() : "";
+            summary.add(packageName, 0, skipped);
+            if (done == 0) {
+                return null;
+            }
+
+            ProjectPreferences prefs = context.getSettings().getProjectPreferences();
+            if (prefs.isAutomaticDeclareEnabled()) {
+                BaseLogHandler.declareLogger(unitRewrite, prefs, primaryType.getName().getIdentifier());
+            }
+
+            TextEdit edit = unitRewrite.createEdit(new Document(source));
+            return new ClassChange(edit, packageName, done);
+        }
+
+        @Override
+        protected boolean apply(ICompilationUnit cu, String source, ClassChange result) throws Exception {
+            if (!change.add(cu, source, result.edit, null)) {
+                return false;
+            }
+            summary.add(result.packageName, result.done, 0);
+            return true;
+        }
+    }
+
+    private static List<TypeDeclaration> collectTypes(TypeDeclaration type) {
+        List<TypeDeclaration> types = new ArrayList<>();
+        types.add(type);
+        for (Object decl : type.bodyDeclarations()) {
+            if (decl instanceof TypeDeclaration) {
+                types.addAll(collectTypes((TypeDeclaration) decl));
+            }
+        }
+        return types;
+    }
+}
@@ -9,10 +9,8 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.NodeFinder;
@@ -21,6 +19,7 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.jface.viewers.ISelection;
@@ -32,11 +31,16 @@ import org.eclipse.ui.handlers.HandlerUtil;
 import org.eclipse.ui.texteditor.ITextEditor;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.core.WarmupJob;
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
 import ro.gs1.log4e2026.operations.LoggingOperation;
 import ro.gs1.log4e2026.operations.OperationContext;
 import ro.gs1.log4e2026.preferences.ProjectPreferences;
 import ro.gs1.log4e2026.templates.LoggerTemplate;
 import ro.gs1.log4e2026.templates.LoggerTemplates;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
 import ro.gs1.log4e2026.wizard.ChangeElement;
 import ro.gs1.log4e2026.wizard.LoggerWizardDialog;
 
@@ -47,6 +51,8 @@ public abstract class BaseLogHandler extends AbstractHandler {
 
     @Override
     public Object execute(ExecutionEvent event) throws ExecutionException {
+        long startNanos = System.nanoTime();
+        boolean warm = WarmupJob.isDone();
         IEditorPart editor = HandlerUtil.getActiveEditor(event);
 
         if (!(editor instanceof ITextEditor)) {
@@ -108,6 +114,7 @@ public abstract class BaseLogHandler extends AbstractHandler {
             throw new ExecutionException("Failed to execute operation", e);
         }
 
+        WarmupJob.commandExecuted(getClass().getSimpleName(), startNanos, warm);
         return null;
     }
 
@@ -120,7 +127,9 @@ public abstract class BaseLogHandler extends AbstractHandler {
     }
 
     /**
-     * Execute the operation with wizard preview.
+     * Execute the operation with wizard preview. The operation runs once on a
+     * copy of the document; if approved, its recorded edits are replayed on the
+     * editor document without running the operation again.
      */
     private void executeWithWizardPreview(ICompilationUnit cu, IDocument document,
             int offset, int length, String selectedText) throws Exception {
@@ -128,15 +137,13 @@ public abstract class BaseLogHandler extends AbstractHandler {
         // Save old content
         String oldContent = document.get();
 
-        // Create context and execute to get preview
-        OperationContext context = createContext(cu, document, offset, length);
+        // Execute on a detached copy to get the preview
+        IDocument previewDocument = new Document(oldContent);
+        OperationContext context = createContext(cu, previewDocument, offset, length);
         executeOperation(context, selectedText);
 
         // Get preview content
-        String previewContent = document.get();
-
-        // Revert to old content
-        document.set(oldContent);
+        String previewContent = previewDocument.get();
 
         // Check if there are changes
         if (oldContent.equals(previewContent)) {
@@ -151,10 +158,16 @@ public abstract class BaseLogHandler extends AbstractHandler {
             return; // User cancelled
         }
 
-        // User approved - re-execute the operation
-        // Need to re-parse since document was reverted
-        context = createContext(cu, document, offset, length);
-        executeOperation(context, selectedText);
+        // The edits are only valid for the content they were computed on
+        if (!oldContent.equals(document.get())) {
+            logWarning("Document changed while the preview was open, no changes applied");
+            return;
+        }
+
+        // User approved - replay the recorded edits
+        for (TextEdit edit : context.getAppliedEdits()) {
+            edit.apply(document);
+        }
     }
 
     /**
@@ -167,15 +180,17 @@ public abstract class BaseLogHandler extends AbstractHandler {
         context.setSelectionOffset(offset);
         context.setSelectionLength(length);
 
-        // Sync working copy buffer with document to ensure AST reflects latest changes
-        cu.getBuffer().setContents(document.get());
+        // Sync working copy buffer with document to ensure AST reflects latest changes.
+        // Skip it when already in sync, so the cached AST stays valid.
+        String contents = document.get();
+        if (!contents.equals(cu.getBuffer().getContents())) {
+            cu.getBuffer().setContents(contents);
+        }
 
-        // Parse the compilation unit
-        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-        parser.setSource(cu);
-        parser.setResolveBindings(true);
-        CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
+        // Get the (cached) AST of the compilation unit
+        CompilationUnit astRoot = ASTCache.getInstance().getAST(cu, getParseRequirements());
         context.setAstRoot(astRoot);
+        context.setParseRequirements(getParseRequirements());
 
         context.setDocument(document);
 
@@ -187,6 +202,14 @@ public abstract class BaseLogHandler extends AbstractHandler {
         return context;
     }
 
+    /**
+     * Returns what the operation needs from the AST. Subclasses override this
+     * if they need more than the syntax tree, e.g. bindings.
+     */
+    protected ParseRequirements getParseRequirements() {
+        return ParseRequirements.SYNTAX;
+    }
+
     /**
      * Returns the preference key for the wizard, or null if no wizard.
      * Subclasses should override this to enable wizard support.
@@ -240,7 +263,7 @@ public abstract class BaseLogHandler extends AbstractHandler {
     protected void applyRewrite(OperationContext context, ASTRewrite rewrite) throws Exception {
         TextEdit edits = rewrite.rewriteAST(context.getDocument(),
                 context.getJavaProject().getOptions(true));
-        edits.apply(context.getDocument());
+        context.applyEdit(edits);
     }
 
     /**
@@ -283,12 +306,28 @@ public abstract class BaseLogHandler extends AbstractHandler {
             return false;
         }
 
-        // Parse the compilation unit
-        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-        parser.setSource(cu);
-        parser.setResolveBindings(true);
-        CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
+        // Parse with the operation's requirements, so the operation reuses the AST
+        CompilationUnit astRoot = ASTCache.getInstance().getAST(cu, getParseRequirements());
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
+
+        if (!declareLogger(rewrite, prefs, primaryType.getElementName())) {
+            return false;
+        }
+        Log4e2026Plugin.log("Auto-declaring logger '" + prefs.getLoggerName() + "'");
+
+        // Apply the changes
+        rewrite.createEdit(document).apply(document);
+        Log4e2026Plugin.log("Logger auto-declared successfully");
+        return true;
+    }
 
+    /**
+     * Adds the logger field, and its imports if enabled, to the rewrite when the
+     * first type of the compilation unit does not declare the logger yet.
+     * @return true if the declaration was added
+     */
+    static boolean declareLogger(UnitRewrite rewrite, ProjectPreferences prefs, String className) {
+        CompilationUnit astRoot = rewrite.getRoot();
         // Get preferences
         String framework = prefs.getLoggingFramework();
         String loggerName = prefs.getLoggerName();
@@ -300,7 +339,7 @@ public abstract class BaseLogHandler extends AbstractHandler {
         }
 
         // Find the type declaration
-        if (astRoot.types().isEmpty()) {
+        if (astRoot.types().isEmpty() || !(astRoot.types().get(0) instanceof TypeDeclaration)) {
             return false;
         }
         TypeDeclaration typeDecl = (TypeDeclaration) astRoot.types().get(0);
@@ -310,41 +349,32 @@ public abstract class BaseLogHandler extends AbstractHandler {
             return false;
         }
 
-        Log4e2026Plugin.log("Auto-declaring logger '" + loggerName + "'");
-
-        // Create AST rewrite
         AST ast = astRoot.getAST();
-        ASTRewrite rewrite = ASTRewrite.create(ast);
 
         // Add imports if enabled
         if (prefs.isAutomaticImportsEnabled()) {
-            addImportsIfNeeded(astRoot, ast, rewrite, template);
+            addImportsIfNeeded(rewrite, template);
         }
 
         // Create the logger field declaration
-        String className = primaryType.getElementName();
         FieldDeclaration loggerField = createLoggerField(ast, template, loggerName, className);
 
         // Add the field at the appropriate position
-        ListRewrite bodyRewrite = rewrite.getListRewrite(typeDecl, TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
+        ListRewrite bodyRewrite = rewrite.getASTRewrite().getListRewrite(typeDecl,
+                TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
         int insertIndex = findInsertPosition(typeDecl);
         if (insertIndex == 0) {
             bodyRewrite.insertFirst(loggerField, null);
         } else {
             bodyRewrite.insertAt(loggerField, insertIndex, null);
         }
-
-        // Apply the changes
-        TextEdit edits = rewrite.rewriteAST(document, cu.getJavaProject().getOptions(true));
-        edits.apply(document);
-        Log4e2026Plugin.log("Logger auto-declared successfully");
         return true;
     }
 
     /**
      * Check if logger is already declared in the type.
      */
-    private boolean isLoggerDeclared(TypeDeclaration typeDecl, String loggerName) {
+    private static boolean isLoggerDeclared(TypeDeclaration typeDecl, String loggerName) {
         for (FieldDeclaration field : typeDecl.getFields()) {
             for (Object fragment : field.fragments()) {
                 VariableDeclarationFragment vdf = (VariableDeclarationFragment) fragment;
@@ -359,75 +389,28 @@ public abstract class BaseLogHandler extends AbstractHandler {
     /**
      * Add import declarations if they don't already exist.
      */
-    @SuppressWarnings("unchecked")
-    private void addImportsIfNeeded(CompilationUnit astRoot, AST ast, ASTRewrite rewrite,
-            LoggerTemplate template) {
-
+    private static void addImportsIfNeeded(UnitRewrite rewrite, LoggerTemplate template) {
         String[] imports = template.getImports();
-        if (imports == null || imports.length == 0) {
+        if (imports == null) {
             return;
         }
-
-        ListRewrite importRewrite = rewrite.getListRewrite(astRoot, CompilationUnit.IMPORTS_PROPERTY);
-
         for (String importName : imports) {
-            if (!hasImport(astRoot, importName)) {
-                ImportDeclaration importDecl = ast.newImportDeclaration();
-                importDecl.setName(ast.newName(importName.split("\\.")));
-                importRewrite.insertLast(importDecl, null);
-            }
-        }
-    }
-
-    /**
-     * Check if an import already exists in the compilation unit.
-     */
-    private boolean hasImport(CompilationUnit astRoot, String importName) {
-        @SuppressWarnings("unchecked")
-        List<ImportDeclaration> imports = astRoot.imports();
-        for (ImportDeclaration imp : imports) {
-            String existingImport = imp.getName().getFullyQualifiedName();
-            if (existingImport.equals(importName)) {
-                return true;
-            }
-            // Check for wildcard imports
-            if (imp.isOnDemand()) {
-                String packageName = importName.substring(0, importName.lastIndexOf('.'));
-                if (existingImport.equals(packageName)) {
-                    return true;
-                }
-            }
+            rewrite.addImport(importName);
         }
-        return false;
     }
 
     /**
      * Create a logger field declaration.
      */
-    private FieldDeclaration createLoggerField(AST ast, LoggerTemplate template,
+    private static FieldDeclaration createLoggerField(AST ast, LoggerTemplate template,
             String loggerName, String className) {
-
-        // Get declaration template and substitute variables
-        String declaration = template.getDeclaration()
-                .replace("${enclosing_type}", className)
-                .replace("${logger}", loggerName);
-
-        // Parse the field declaration using a temporary class
-        ASTParser fieldParser = ASTParser.newParser(AST.getJLSLatest());
-        fieldParser.setSource(("class Temp { " + declaration + " }").toCharArray());
-        fieldParser.setKind(ASTParser.K_COMPILATION_UNIT);
-        CompilationUnit tempCu = (CompilationUnit) fieldParser.createAST(null);
-        TypeDeclaration tempType = (TypeDeclaration) tempCu.types().get(0);
-        FieldDeclaration tempField = tempType.getFields()[0];
-
-        // Copy the field to the target AST
-        return (FieldDeclaration) ASTNode.copySubtree(ast, tempField);
+        return TemplatePrototypes.createLoggerField(ast, template, loggerName, className);
     }
 
     /**
      * Find the best position to insert the logger field.
      */
-    private int findInsertPosition(TypeDeclaration typeDecl) {
+    private static int findInsertPosition(TypeDeclaration typeDecl) {
         FieldDeclaration[] fields = typeDecl.getFields();
 
         if (fields.length == 0) {
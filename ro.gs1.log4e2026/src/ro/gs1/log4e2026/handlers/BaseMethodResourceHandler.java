@@ -1,14 +1,25 @@
 package ro.gs1.log4e2026.handlers;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
-import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
@@ -18,12 +29,18 @@ import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.ui.handlers.HandlerUtil;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.BatchWorkingCopyOwner;
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+import ro.gs1.log4e2026.jdt.WorkspaceTransaction;
 import ro.gs1.log4e2026.operations.LoggingOperation;
 import ro.gs1.log4e2026.operations.OperationContext;
 
 /**
  * Abstract base class for method-level operations invoked from Package Explorer
- * when a method node is selected in an expanded .java file tree.
+ * when method nodes are selected in an expanded .java file tree. All selected
+ * methods are processed in one workspace operation; the methods of a unit are
+ * edited in one working copy, which is committed once.
  */
 public abstract class BaseMethodResourceHandler extends AbstractHandler {
 
@@ -35,29 +52,106 @@ public abstract class BaseMethodResourceHandler extends AbstractHandler {
             return null;
         }
 
-        IStructuredSelection structuredSelection = (IStructuredSelection) selection;
-        Object element = structuredSelection.getFirstElement();
+        List<?> elements = ((IStructuredSelection) selection).toList();
+        String title = getTitle();
+
+        Job job = new Job(title) {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                try {
+                    Map<ICompilationUnit, List<IMethod>> units = getUnits(elements);
+                    if (!units.isEmpty()) {
+                        WorkspaceTransaction.run(title, WorkspaceTransaction.getRule(units.keySet()),
+                                runMonitor -> processUnits(units, runMonitor), monitor);
+                    }
+                } catch (OperationCanceledException e) {
+                    Log4e2026Plugin.log(title + " canceled");
+                    return Status.CANCEL_STATUS;
+                } catch (CoreException e) {
+                    Log4e2026Plugin.logError(title + " failed", e);
+                    return e.getStatus();
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        job.setUser(true);
+        job.schedule();
 
-        if (!(element instanceof IMethod)) {
-            return null;
+        return null;
+    }
+
+    /**
+     * Groups the selected methods by compilation unit, each unit is committed
+     * once. Units the operation does not apply to are left out.
+     */
+    private Map<ICompilationUnit, List<IMethod>> getUnits(List<?> elements) {
+        Map<ICompilationUnit, List<IMethod>> units = new LinkedHashMap<>();
+        for (Object element : elements) {
+            if (element instanceof IMethod) {
+                ICompilationUnit cu = ((IMethod) element).getCompilationUnit();
+                if (cu != null) {
+                    units.computeIfAbsent(cu, c -> new ArrayList<>()).add((IMethod) element);
+                }
+            }
         }
+        units.keySet().removeIf(cu -> !isApplicable(cu));
+        return units;
+    }
 
-        IMethod iMethod = (IMethod) element;
-        ICompilationUnit cu = iMethod.getCompilationUnit();
-        if (cu == null) {
-            return null;
+    private void processUnits(Map<ICompilationUnit, List<IMethod>> units, IProgressMonitor monitor)
+            throws CoreException {
+        SubMonitor progress = SubMonitor.convert(monitor, getTitle(), units.size());
+        for (Map.Entry<ICompilationUnit, List<IMethod>> entry : units.entrySet()) {
+            if (progress.isCanceled()) {
+                throw new OperationCanceledException();
+            }
+            progress.subTask(entry.getKey().getElementName());
+            processUnit(entry.getKey(), entry.getValue(), progress.split(1));
         }
+    }
 
+    /**
+     * Processes the selected methods of a unit in a working copy of the
+     * {@link BatchWorkingCopyOwner}, and commits it once if changed.
+     */
+    private void processUnit(ICompilationUnit cu, List<IMethod> methods, IProgressMonitor monitor)
+            throws CoreException {
+        ICompilationUnit workingCopy = cu.getWorkingCopy(BatchWorkingCopyOwner.getInstance(), monitor);
+        try {
+            boolean changed = false;
+            for (IMethod method : methods) {
+                changed |= processMethod(workingCopy, method);
+            }
+            if (changed) {
+                workingCopy.commitWorkingCopy(false, monitor);
+            }
+        } finally {
+            workingCopy.discardWorkingCopy();
+            ASTCache.getInstance().invalidate(workingCopy);
+        }
+    }
+
+    /**
+     * Parses the current source of the working copy and processes one method.
+     * The working copy buffer is updated and reconciled, but not committed.
+     *
+     * @return true if the method was changed
+     */
+    private boolean processMethod(ICompilationUnit cu, IMethod selected) throws CoreException {
+        // The selected method of the original unit, with the source range of the working copy
+        IJavaElement[] found = cu.findElements(selected);
+        if (found == null || found.length == 0) {
+            Log4e2026Plugin.logWarning("Could not find method: " + selected.getElementName());
+            return false;
+        }
+        IMethod iMethod = (IMethod) found[0];
         try {
             // Get source and create document
             String source = cu.getSource();
             Document document = new Document(source);
 
             // Parse AST
-            ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-            parser.setSource(cu);
-            parser.setResolveBindings(true);
-            CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
+            CompilationUnit astRoot = ASTCache.getInstance().getAST(cu, getParseRequirements());
 
             // Find the MethodDeclaration using IMethod's source range
             ISourceRange sourceRange = iMethod.getSourceRange();
@@ -66,13 +160,14 @@ public abstract class BaseMethodResourceHandler extends AbstractHandler {
 
             if (methodDecl == null || methodDecl.getBody() == null) {
                 Log4e2026Plugin.logWarning("Could not find method declaration for: " + iMethod.getElementName());
-                return null;
+                return false;
             }
 
             // Build OperationContext
             OperationContext context = new OperationContext();
             context.setCompilationUnit(cu);
             context.setAstRoot(astRoot);
+            context.setParseRequirements(getParseRequirements());
             context.setDocument(document);
             context.setSelectedMethod(methodDecl);
             context.setSelectionOffset(sourceRange.getOffset());
@@ -81,16 +176,19 @@ public abstract class BaseMethodResourceHandler extends AbstractHandler {
             // Delegate to subclass
             processMethod(context);
 
-            // Save changes back to the compilation unit
+            if (document.get().equals(source)) {
+                return false;
+            }
+            // Update the buffer, and the source ranges of the next selected method
             cu.getBuffer().setContents(document.get());
-            cu.save(null, true);
-
+            cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+            return true;
+        } catch (CoreException e) {
+            throw e;
         } catch (Exception e) {
-            Log4e2026Plugin.logError("Failed to execute method resource operation", e);
-            throw new ExecutionException("Failed to execute method resource operation", e);
+            throw new CoreException(new Status(IStatus.ERROR, Log4e2026Plugin.PLUGIN_ID,
+                    "Failed to process method " + iMethod.getElementName(), e));
         }
-
-        return null;
     }
 
     /**
@@ -106,6 +204,27 @@ public abstract class BaseMethodResourceHandler extends AbstractHandler {
         return null;
     }
 
+    /**
+     * Returns the job title, e.g. "Log methods".
+     */
+    protected abstract String getTitle();
+
+    /**
+     * Checks if the operation can change the compilation unit, before it is parsed.
+     * Subclasses override this to skip units cheaply, e.g. by an index query.
+     */
+    protected boolean isApplicable(ICompilationUnit cu) {
+        return true;
+    }
+
+    /**
+     * Returns what the operation needs from the AST. Subclasses override this
+     * if they need more than the syntax tree, e.g. bindings.
+     */
+    protected ParseRequirements getParseRequirements() {
+        return ParseRequirements.SYNTAX;
+    }
+
     /**
      * Creates a new LoggingOperation for the given context.
      */
@@ -0,0 +1,76 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-package counts of a batch operation, reported as one summary when the batch finishes.
+ * Counts may be added from several threads.
+ */
+public class BatchSummary {
+
+    /**
+     * Number of elements done and skipped, e.g. methods logged and skipped.
+     */
+    public static final class Counts {
+        int done;
+        int skipped;
+
+        public int getDone() {
+            return done;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+    }
+
+    private static final String DEFAULT_PACKAGE = "(default package)";
+
+    private final String doneLabel;
+    private final String skippedLabel;
+    private final Map<String, Counts> packages = new TreeMap<>();
+
+    /**
+     * @param doneLabel label of the done count, e.g. "logged"
+     * @param skippedLabel label of the skipped count, e.g. "skipped"
+     */
+    public BatchSummary(String doneLabel, String skippedLabel) {
+        this.doneLabel = doneLabel;
+        this.skippedLabel = skippedLabel;
+    }
+
+    public synchronized void add(String packageName, int done, int skipped) {
+        if (done == 0 && skipped == 0) {
+            return;
+        }
+        String key = packageName == null || packageName.isEmpty() ? DEFAULT_PACKAGE : packageName;
+        Counts counts = packages.computeIfAbsent(key, k -> new Counts());
+        counts.done += done;
+        counts.skipped += skipped;
+    }
+
+    public synchronized int getTotalDone() {
+        return packages.values().stream().mapToInt(Counts::getDone).sum();
+    }
+
+    public synchronized int getTotalSkipped() {
+        return packages.values().stream().mapToInt(Counts::getSkipped).sum();
+    }
+
+    /**
+     * Formats the summary: a title line with the totals, then one line per package.
+     */
+    public synchronized String format(String title) {
+        StringBuilder sb = new StringBuilder(title);
+        sb.append(": ").append(getTotalDone()).append(' ').append(doneLabel)
+          .append(", ").append(getTotalSkipped()).append(' ').append(skippedLabel);
+        for (Map.Entry<String, Counts> entry : packages.entrySet()) {
+            Counts counts = entry.getValue();
+            sb.append("\n  ").append(entry.getKey()).append(": ")
+              .append(counts.done).append(' ').append(doneLabel)
+              .append(", ").append(counts.skipped).append(' ').append(skippedLabel);
+        }
+        return sb.toString();
+    }
+}
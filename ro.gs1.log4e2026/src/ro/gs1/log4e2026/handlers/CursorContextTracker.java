@@ -0,0 +1,421 @@
+package ro.gs1.log4e2026.handlers;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.ITextSelection;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.ISelectionChangedListener;
+import org.eclipse.jface.viewers.ISelectionProvider;
+import org.eclipse.jface.viewers.SelectionChangedEvent;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.IEditorInput;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IPartListener2;
+import org.eclipse.ui.IWindowListener;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPart;
+import org.eclipse.ui.IWorkbenchPartReference;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.services.IEvaluationService;
+import org.eclipse.ui.texteditor.IDocumentProvider;
+import org.eclipse.ui.texteditor.ITextEditor;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+
+/**
+ * Tracks the caret of the active Java editor and computes the cursor context
+ * (in method, on variable, valid insert position) in a debounced background job,
+ * using the editor's reconciled AST. {@link Log4ePropertyTester} only reads the
+ * computed state.
+ */
+public final class CursorContextTracker implements IWindowListener, IPartListener2, ISelectionChangedListener {
+
+    /** Delay after the last caret move before the context is computed, in milliseconds. */
+    static final long DEBOUNCE_DELAY = 150;
+
+    private static final String[] PROPERTIES = {
+        Log4e2026Plugin.PLUGIN_ID + "." + Log4ePropertyTester.PROP_IN_METHOD,
+        Log4e2026Plugin.PLUGIN_ID + "." + Log4ePropertyTester.PROP_ON_VARIABLE,
+        Log4e2026Plugin.PLUGIN_ID + "." + Log4ePropertyTester.PROP_VALID_INSERT
+    };
+
+    private static CursorContextTracker instance;
+
+    private final Job job;
+    private boolean installed;
+    private ITextEditor trackedEditor;
+    private volatile Request pending;
+    private volatile CursorContext context;
+
+    /**
+     * Immutable cursor context for one compilation unit, document state and selection.
+     */
+    public static final class CursorContext {
+        private final ICompilationUnit compilationUnit;
+        private final long stamp;
+        private final int offset;
+        private final int length;
+        private final boolean inMethod;
+        private final boolean onVariable;
+        private final boolean validInsertPosition;
+
+        CursorContext(ICompilationUnit compilationUnit, long stamp, int offset, int length,
+                boolean inMethod, boolean onVariable, boolean validInsertPosition) {
+            this.compilationUnit = compilationUnit;
+            this.stamp = stamp;
+            this.offset = offset;
+            this.length = length;
+            this.inMethod = inMethod;
+            this.onVariable = onVariable;
+            this.validInsertPosition = validInsertPosition;
+        }
+
+        /**
+         * Returns whether this context was computed for the given unit, document
+         * modification stamp and selection. An unknown stamp never matches, so
+         * edits that leave the caret in place are not answered from a stale context.
+         */
+        public boolean matches(ICompilationUnit cu, long documentStamp, int selectionOffset, int selectionLength) {
+            return stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && stamp == documentStamp
+                    && compilationUnit.equals(cu) && offset == selectionOffset && length == selectionLength;
+        }
+
+        public boolean isInMethod() {
+            return inMethod;
+        }
+
+        public boolean isOnVariable() {
+            return onVariable;
+        }
+
+        public boolean isValidInsertPosition() {
+            return validInsertPosition;
+        }
+    }
+
+    private static final class Request {
+        final ICompilationUnit compilationUnit;
+        final long stamp;
+        final int offset;
+        final int length;
+
+        Request(ICompilationUnit compilationUnit, long stamp, int offset, int length) {
+            this.compilationUnit = compilationUnit;
+            this.stamp = stamp;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private CursorContextTracker() {
+        job = new Job("Log4E cursor context") {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                return computePending(monitor);
+            }
+        };
+        job.setSystem(true);
+        job.setPriority(Job.SHORT);
+    }
+
+    public static synchronized CursorContextTracker getDefault() {
+        if (instance == null) {
+            instance = new CursorContextTracker();
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the tracker. Called when the plugin stops.
+     */
+    public static void shutdown() {
+        CursorContextTracker tracker;
+        synchronized (CursorContextTracker.class) {
+            tracker = instance;
+            instance = null;
+        }
+        if (tracker != null) {
+            tracker.job.cancel();
+            tracker.context = null;
+            tracker.uninstall();
+        }
+    }
+
+    /**
+     * Returns the cursor context for the given selection. If the tracked state
+     * does not match yet, the context is computed from the already reconciled
+     * AST without waiting; returns null if no such AST is available.
+     * Must be called from the UI thread.
+     */
+    public CursorContext getContext(ITextEditor editor, ICompilationUnit cu, int offset, int length) {
+        install(editor);
+        long stamp = getDocumentStamp(editor);
+        CursorContext current = context;
+        if (current != null && current.matches(cu, stamp, offset, length)) {
+            return current;
+        }
+        CompilationUnit astRoot = SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_NO, null);
+        if (astRoot == null) {
+            schedule(new Request(cu, stamp, offset, length));
+            return null;
+        }
+        current = compute(astRoot, cu, stamp, offset, length);
+        if (isReconciled(cu)) {
+            context = current;
+        } else {
+            // The shared AST misses edits not reconciled yet, so only the job caches a context
+            schedule(new Request(cu, stamp, offset, length));
+        }
+        return current;
+    }
+
+    /**
+     * Returns whether the working copy has no edits that the reconciler has not
+     * seen yet, so that its shared AST matches the document.
+     */
+    private static boolean isReconciled(ICompilationUnit cu) {
+        try {
+            return cu.isConsistent();
+        } catch (JavaModelException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the cursor context from an AST.
+     */
+    static CursorContext compute(CompilationUnit astRoot, ICompilationUnit cu, long stamp, int offset, int length) {
+        boolean inMethod = ASTUtil.isCursorInMethod(astRoot, offset);
+        boolean onVariable = inMethod && ASTUtil.isCursorOnVariable(astRoot, offset);
+        boolean validInsert = inMethod && ASTUtil.isValidInsertPosition(astRoot, offset, length);
+        return new CursorContext(cu, stamp, offset, length, inMethod, onVariable, validInsert);
+    }
+
+    /**
+     * Returns the modification stamp of the editor's document, or
+     * {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP} if it has none.
+     */
+    private static long getDocumentStamp(ITextEditor editor) {
+        IDocumentProvider provider = editor.getDocumentProvider();
+        IDocument document = provider != null ? provider.getDocument(editor.getEditorInput()) : null;
+        if (document instanceof IDocumentExtension4) {
+            return ((IDocumentExtension4) document).getModificationStamp();
+        }
+        return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+    }
+
+    private void install(ITextEditor activeEditor) {
+        if (!installed) {
+            IWorkbench workbench = PlatformUI.getWorkbench();
+            workbench.addWindowListener(this);
+            for (IWorkbenchWindow window : workbench.getWorkbenchWindows()) {
+                window.getPartService().addPartListener(this);
+            }
+            installed = true;
+        }
+        track(activeEditor);
+    }
+
+    /**
+     * Removes the listeners added by {@link #install(ITextEditor)}. The workbench
+     * listeners are removed in the UI thread; the class lock is not held here, so
+     * the UI thread cannot block on it.
+     */
+    private void uninstall() {
+        if (!installed || !PlatformUI.isWorkbenchRunning()) {
+            return;
+        }
+        Display display = PlatformUI.getWorkbench().getDisplay();
+        if (display.isDisposed()) {
+            return;
+        }
+        Runnable removeListeners = () -> {
+            if (!PlatformUI.isWorkbenchRunning()) {
+                return;
+            }
+            IWorkbench workbench = PlatformUI.getWorkbench();
+            workbench.removeWindowListener(this);
+            for (IWorkbenchWindow window : workbench.getWorkbenchWindows()) {
+                window.getPartService().removePartListener(this);
+            }
+            track(null);
+            installed = false;
+        };
+        if (Display.getCurrent() == display) {
+            removeListeners.run();
+        } else {
+            display.asyncExec(removeListeners);
+        }
+    }
+
+    private void track(IWorkbenchPart part) {
+        ITextEditor editor = getJavaEditor(part);
+        if (editor == trackedEditor) {
+            return;
+        }
+        if (trackedEditor != null) {
+            ISelectionProvider provider = trackedEditor.getSelectionProvider();
+            if (provider != null) {
+                provider.removeSelectionChangedListener(this);
+            }
+        }
+        trackedEditor = editor;
+        if (editor != null) {
+            editor.getSelectionProvider().addSelectionChangedListener(this);
+            selectionChanged(editor.getSelectionProvider().getSelection());
+        }
+    }
+
+    private static ITextEditor getJavaEditor(IWorkbenchPart part) {
+        if (!(part instanceof ITextEditor) || getCompilationUnit((IEditorPart) part) == null) {
+            return null;
+        }
+        return (ITextEditor) part;
+    }
+
+    private static ICompilationUnit getCompilationUnit(IEditorPart editor) {
+        IEditorInput input = editor.getEditorInput();
+        if (input == null) {
+            return null;
+        }
+        Object element = JavaUI.getEditorInputJavaElement(input);
+        return element instanceof ICompilationUnit ? (ICompilationUnit) element : null;
+    }
+
+    @Override
+    public void selectionChanged(SelectionChangedEvent event) {
+        selectionChanged(event.getSelection());
+    }
+
+    private void selectionChanged(ISelection selection) {
+        if (trackedEditor == null || !(selection instanceof ITextSelection)) {
+            return;
+        }
+        ICompilationUnit cu = getCompilationUnit(trackedEditor);
+        if (cu == null) {
+            return;
+        }
+        ITextSelection textSelection = (ITextSelection) selection;
+        schedule(new Request(cu, getDocumentStamp(trackedEditor), textSelection.getOffset(),
+                textSelection.getLength()));
+    }
+
+    private void schedule(Request request) {
+        pending = request;
+        // Re-scheduling while waiting restarts the delay, which debounces caret moves
+        job.cancel();
+        job.schedule(DEBOUNCE_DELAY);
+    }
+
+    private IStatus computePending(IProgressMonitor monitor) {
+        Request request = pending;
+        if (request == null) {
+            return Status.OK_STATUS;
+        }
+        CursorContext current = context;
+        if (current != null && current.matches(request.compilationUnit, request.stamp, request.offset, request.length)) {
+            return Status.OK_STATUS;
+        }
+
+        CompilationUnit astRoot = SharedASTProviderCore.getAST(request.compilationUnit,
+                SharedASTProviderCore.WAIT_ACTIVE_ONLY, monitor);
+        if (monitor.isCanceled()) {
+            return Status.CANCEL_STATUS;
+        }
+        if (astRoot == null) {
+            astRoot = ASTCache.getInstance().getAST(request.compilationUnit, ParseRequirements.SYNTAX);
+        }
+        if (request != pending) {
+            // A newer caret position is already scheduled
+            return Status.OK_STATUS;
+        }
+        context = compute(astRoot, request.compilationUnit, request.stamp, request.offset, request.length);
+        requestEvaluation();
+        return Status.OK_STATUS;
+    }
+
+    private void requestEvaluation() {
+        Display display = PlatformUI.isWorkbenchRunning() ? PlatformUI.getWorkbench().getDisplay() : null;
+        if (display == null || display.isDisposed()) {
+            return;
+        }
+        display.asyncExec(() -> {
+            if (!PlatformUI.isWorkbenchRunning()) {
+                return;
+            }
+            IEvaluationService service = PlatformUI.getWorkbench().getService(IEvaluationService.class);
+            if (service != null) {
+                for (String property : PROPERTIES) {
+                    service.requestEvaluation(property);
+                }
+            }
+        });
+    }
+
+    // IPartListener2
+
+    @Override
+    public void partActivated(IWorkbenchPartReference partRef) {
+        IWorkbenchPart part = partRef.getPart(false);
+        if (part instanceof IEditorPart) {
+            track(part);
+        }
+    }
+
+    @Override
+    public void partClosed(IWorkbenchPartReference partRef) {
+        if (trackedEditor != null && partRef.getPart(false) == trackedEditor) {
+            track(null);
+            context = null;
+        }
+    }
+
+    @Override
+    public void partInputChanged(IWorkbenchPartReference partRef) {
+        if (trackedEditor != null && partRef.getPart(false) == trackedEditor) {
+            IWorkbenchPart part = trackedEditor;
+            track(null);
+            context = null;
+            track(part);
+        }
+    }
+
+    // IWindowListener
+
+    @Override
+    public void windowOpened(IWorkbenchWindow window) {
+        window.getPartService().addPartListener(this);
+    }
+
+    @Override
+    public void windowClosed(IWorkbenchWindow window) {
+        window.getPartService().removePartListener(this);
+    }
+
+    @Override
+    public void windowActivated(IWorkbenchWindow window) {
+        IWorkbenchPage page = window.getActivePage();
+        if (page != null) {
+            track(page.getActiveEditor());
+        }
+    }
+
+    @Override
+    public void windowDeactivated(IWorkbenchWindow window) {
+        // Keep tracking, the editor is still the last active one
+    }
+}
@@ -8,15 +8,13 @@ import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
@@ -26,10 +24,15 @@ import org.eclipse.ui.handlers.HandlerUtil;
 import org.eclipse.ui.texteditor.ITextEditor;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.core.WarmupJob;
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
 import ro.gs1.log4e2026.preferences.PreferenceConstants;
 import ro.gs1.log4e2026.preferences.ProjectPreferences;
 import ro.gs1.log4e2026.templates.LoggerTemplate;
 import ro.gs1.log4e2026.templates.LoggerTemplates;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
 import ro.gs1.log4e2026.wizard.ChangeElement;
 import ro.gs1.log4e2026.wizard.LoggerWizardDialog;
 
@@ -41,6 +44,8 @@ public class DeclareLoggerHandler extends AbstractHandler {
 
     @Override
     public Object execute(ExecutionEvent event) throws ExecutionException {
+        long startNanos = System.nanoTime();
+        boolean warm = WarmupJob.isDone();
         IEditorPart editor = HandlerUtil.getActiveEditor(event);
 
         if (!(editor instanceof ITextEditor)) {
@@ -62,6 +67,7 @@ public class DeclareLoggerHandler extends AbstractHandler {
             throw new ExecutionException("Failed to declare logger", e);
         }
 
+        WarmupJob.commandExecuted(getClass().getSimpleName(), startNanos, warm);
         return null;
     }
 
@@ -72,10 +78,7 @@ public class DeclareLoggerHandler extends AbstractHandler {
         }
 
         // Parse the compilation unit
-        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-        parser.setSource(cu);
-        parser.setResolveBindings(true);
-        CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
+        CompilationUnit astRoot = ASTCache.getInstance().getAST(cu, ParseRequirements.DECLARATIONS);
 
         // Get project-aware preferences
         ProjectPreferences prefs = Log4e2026Plugin.getProjectPreferences(
@@ -110,19 +113,20 @@ public class DeclareLoggerHandler extends AbstractHandler {
         IDocument document = editor.getDocumentProvider().getDocument(editor.getEditorInput());
         String oldContent = document.get();
 
-        // Create AST rewrite
+        // Create the rewrite of the field and the imports
         AST ast = astRoot.getAST();
-        ASTRewrite rewrite = ASTRewrite.create(ast);
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
 
         // Add imports
-        addImportsIfNeeded(astRoot, ast, rewrite, template, framework);
+        addImportsIfNeeded(rewrite, template);
 
         // Create the logger field declaration
         String className = primaryType.getElementName();
         FieldDeclaration loggerField = createLoggerField(ast, template, loggerName, className);
 
         // Add the field at the beginning of the type body (after any existing fields of same type)
-        ListRewrite bodyRewrite = rewrite.getListRewrite(typeDecl, TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
+        ListRewrite bodyRewrite = rewrite.getASTRewrite().getListRewrite(typeDecl,
+                TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
 
         // Find position: insert after existing static fields, before other members
         int insertIndex = findInsertPosition(typeDecl);
@@ -132,48 +136,27 @@ public class DeclareLoggerHandler extends AbstractHandler {
             bodyRewrite.insertAt(loggerField, insertIndex, null);
         }
 
+        // Compute the edits once; the preview and the editor get the same change
+        TextEdit edits = rewrite.createEdit(document);
+
         // Check if wizard preview is enabled
         boolean showWizard = Log4e2026Plugin.getPreferences()
                 .getBoolean(PreferenceConstants.P_WIZARD_DECLARE_CLASS);
 
         if (showWizard) {
-            // Apply edits to get preview content
-            TextEdit edits = rewrite.rewriteAST(document, cu.getJavaProject().getOptions(true));
-            edits.apply(document);
-            String previewContent = document.get();
-
-            // Revert to old content
-            document.set(oldContent);
+            // Apply a copy of the edits to a detached document to get the preview content
+            Document previewDocument = new Document(oldContent);
+            edits.copy().apply(previewDocument);
 
             // Show wizard
-            ChangeElement change = new ChangeElement(cu, oldContent, previewContent);
+            ChangeElement change = new ChangeElement(cu, oldContent, previewDocument.get());
             Shell shell = Display.getCurrent().getActiveShell();
             if (!LoggerWizardDialog.openPreview(shell, change, "Declare Logger")) {
                 return; // User cancelled
             }
-
-            // User approved - need to re-parse and re-apply since document was reverted
-            parser = ASTParser.newParser(AST.getJLSLatest());
-            parser.setSource(cu);
-            parser.setResolveBindings(true);
-            astRoot = (CompilationUnit) parser.createAST(null);
-            typeDecl = (TypeDeclaration) astRoot.types().get(0);
-            ast = astRoot.getAST();
-            rewrite = ASTRewrite.create(ast);
-
-            addImportsIfNeeded(astRoot, ast, rewrite, template, framework);
-            loggerField = createLoggerField(ast, template, loggerName, className);
-            bodyRewrite = rewrite.getListRewrite(typeDecl, TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
-            insertIndex = findInsertPosition(typeDecl);
-            if (insertIndex == 0) {
-                bodyRewrite.insertFirst(loggerField, null);
-            } else {
-                bodyRewrite.insertAt(loggerField, insertIndex, null);
-            }
         }
 
         // Apply the changes
-        TextEdit edits = rewrite.rewriteAST(document, cu.getJavaProject().getOptions(true));
         edits.apply(document);
         Log4e2026Plugin.log("Logger declared successfully");
     }
@@ -181,69 +164,22 @@ public class DeclareLoggerHandler extends AbstractHandler {
     /**
      * Add import declarations if they don't already exist.
      */
-    private void addImportsIfNeeded(CompilationUnit astRoot, AST ast, ASTRewrite rewrite,
-            LoggerTemplate template, String framework) {
-
+    private void addImportsIfNeeded(UnitRewrite rewrite, LoggerTemplate template) {
         String[] imports = template.getImports();
-        if (imports == null || imports.length == 0) {
+        if (imports == null) {
             return;
         }
-
-        ListRewrite importRewrite = rewrite.getListRewrite(astRoot, CompilationUnit.IMPORTS_PROPERTY);
-
         for (String importName : imports) {
-            if (!hasImport(astRoot, importName)) {
-                ImportDeclaration importDecl = ast.newImportDeclaration();
-                importDecl.setName(ast.newName(importName.split("\\.")));
-                importRewrite.insertLast(importDecl, null);
-            }
+            rewrite.addImport(importName);
         }
     }
 
-    /**
-     * Check if an import already exists in the compilation unit.
-     */
-    private boolean hasImport(CompilationUnit astRoot, String importName) {
-        @SuppressWarnings("unchecked")
-        List<ImportDeclaration> imports = astRoot.imports();
-        for (ImportDeclaration imp : imports) {
-            String existingImport = imp.getName().getFullyQualifiedName();
-            if (existingImport.equals(importName)) {
-                return true;
-            }
-            // Check for wildcard imports
-            if (imp.isOnDemand()) {
-                String packageName = importName.substring(0, importName.lastIndexOf('.'));
-                if (existingImport.equals(packageName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     /**
      * Create a logger field declaration.
      */
-    @SuppressWarnings("unchecked")
     private FieldDeclaration createLoggerField(AST ast, LoggerTemplate template,
             String loggerName, String className) {
-
-        // Get declaration template and substitute variables
-        String declaration = template.getDeclaration()
-                .replace("${enclosing_type}", className)
-                .replace("${logger}", loggerName);
-
-        // Parse the field declaration using a temporary class
-        ASTParser fieldParser = ASTParser.newParser(AST.getJLSLatest());
-        fieldParser.setSource(("class Temp { " + declaration + " }").toCharArray());
-        fieldParser.setKind(ASTParser.K_COMPILATION_UNIT);
-        CompilationUnit tempCu = (CompilationUnit) fieldParser.createAST(null);
-        TypeDeclaration tempType = (TypeDeclaration) tempCu.types().get(0);
-        FieldDeclaration tempField = tempType.getFields()[0];
-
-        // Copy the field to the target AST
-        return (FieldDeclaration) org.eclipse.jdt.core.dom.ASTNode.copySubtree(ast, tempField);
+        return TemplatePrototypes.createLoggerField(ast, template, loggerName, className);
     }
 
     /**
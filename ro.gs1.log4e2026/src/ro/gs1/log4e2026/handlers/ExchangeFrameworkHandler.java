@@ -1,18 +1,10 @@
 package ro.gs1.log4e2026.handlers;
 
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.dom.FieldDeclaration;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
-import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
-import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.text.IDocument;
@@ -28,7 +20,11 @@ import org.eclipse.core.commands.ExecutionException;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
 import ro.gs1.log4e2026.dialogs.ExchangeFrameworkDialog;
-import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.FrameworkDetector;
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+import ro.gs1.log4e2026.operations.FrameworkMigration;
 import ro.gs1.log4e2026.preferences.PreferenceConstants;
 import ro.gs1.log4e2026.templates.LoggerTemplate;
 import ro.gs1.log4e2026.templates.LoggerTemplates;
@@ -37,15 +33,11 @@ import ro.gs1.log4e2026.templates.ProfileManager;
 
 /**
  * Handler for exchanging the logging framework in a class.
- * Converts between SLF4J, Log4j2, and JUL.
+ * Converts between SLF4J, Log4j2, and JUL: the logger declarations, the log
+ * calls, the is-enabled guards and the imports.
  */
 public class ExchangeFrameworkHandler extends AbstractHandler {
 
-    // Patterns for detecting frameworks
-    private static final Pattern SLF4J_IMPORT = Pattern.compile("org\\.slf4j\\.");
-    private static final Pattern LOG4J2_IMPORT = Pattern.compile("org\\.apache\\.logging\\.log4j\\.");
-    private static final Pattern JUL_IMPORT = Pattern.compile("java\\.util\\.logging\\.");
-
     @Override
     public Object execute(ExecutionEvent event) throws ExecutionException {
         IEditorPart editor = HandlerUtil.getActiveEditor(event);
@@ -63,12 +55,9 @@ public class ExchangeFrameworkHandler extends AbstractHandler {
         }
 
         try {
-            // Detect current framework first
-            ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-            parser.setSource(cu);
-            parser.setResolveBindings(true);
-            CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
-            String currentFramework = detectFramework(astRoot);
+            // Detect the current framework from the imports; the unit is parsed
+            // only once the target is known
+            String currentFramework = FrameworkDetector.getFramework(cu);
 
             if (currentFramework == null) {
                 Log4e2026Plugin.logWarning("Could not detect logging framework");
@@ -113,128 +102,42 @@ public class ExchangeFrameworkHandler extends AbstractHandler {
     private void exchangeFramework(ICompilationUnit cu, ITextEditor editor,
                                     String currentFramework, String targetFramework) throws Exception {
         // Parse the compilation unit
-        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-        parser.setSource(cu);
-        parser.setResolveBindings(true);
-        CompilationUnit astRoot = (CompilationUnit) parser.createAST(null);
+        CompilationUnit astRoot = ASTCache.getInstance().getAST(cu, ParseRequirements.SYNTAX);
 
-        // Get the target template
+        // Get the source and target templates
+        LoggerTemplate sourceTemplate = LoggerTemplates.getTemplate(currentFramework);
         LoggerTemplate targetTemplate = LoggerTemplates.getTemplate(targetFramework);
         if (targetTemplate == null) {
             Log4e2026Plugin.logWarning("Unknown target framework: " + targetFramework);
             return;
         }
 
-        AST ast = astRoot.getAST();
-        ASTRewrite rewrite = ASTRewrite.create(ast);
-
-        // Find and update logger imports
-        updateImports(astRoot, rewrite, ast, currentFramework, targetTemplate);
-
-        // Find and update logger declaration
-        updateLoggerDeclaration(astRoot, rewrite, ast, targetTemplate);
+        // Rewrite the declarations, calls, guards and imports
+        UnitRewrite rewrite = new UnitRewrite(astRoot);
+        FrameworkMigration.Result result = createMigration(sourceTemplate, targetTemplate)
+                .migrate(rewrite, Collections.emptySet());
+        if (!result.getUnsupported().isEmpty()) {
+            Log4e2026Plugin.logWarning("Migrate manually in " + cu.getElementName() + ":\n"
+                    + String.join("\n", result.getUnsupported()));
+        }
 
         // Apply the rewrite
         IDocument document = editor.getDocumentProvider().getDocument(editor.getEditorInput());
-        rewrite.rewriteAST(document, cu.getJavaProject().getOptions(true)).apply(document);
+        rewrite.createEdit(document).apply(document);
 
-        Log4e2026Plugin.log("Framework exchanged from " + currentFramework + " to " + targetFramework);
+        Log4e2026Plugin.log("Framework exchanged from " + currentFramework + " to " + targetFramework + ": " + result);
     }
 
-    private String detectFramework(CompilationUnit cu) {
-        for (Object obj : cu.imports()) {
-            ImportDeclaration imp = (ImportDeclaration) obj;
-            String name = ASTUtil.getName(imp);
-
-            if (SLF4J_IMPORT.matcher(name).find()) {
-                return LoggerTemplates.SLF4J;
-            }
-            if (LOG4J2_IMPORT.matcher(name).find()) {
-                return LoggerTemplates.LOG4J2;
-            }
-            if (JUL_IMPORT.matcher(name).find()) {
-                return LoggerTemplates.JUL;
-            }
-        }
-        return null;
-    }
-
-    private void updateImports(CompilationUnit cu, ASTRewrite rewrite, AST ast,
-                               String oldFramework, LoggerTemplate targetTemplate) {
-        // Remove old imports
-        for (Object obj : cu.imports()) {
-            ImportDeclaration imp = (ImportDeclaration) obj;
-            String name = ASTUtil.getName(imp);
-
-            boolean shouldRemove = false;
-            switch (oldFramework) {
-                case LoggerTemplates.SLF4J:
-                    shouldRemove = SLF4J_IMPORT.matcher(name).find();
-                    break;
-                case LoggerTemplates.LOG4J2:
-                    shouldRemove = LOG4J2_IMPORT.matcher(name).find();
-                    break;
-                case LoggerTemplates.JUL:
-                    shouldRemove = JUL_IMPORT.matcher(name).find();
-                    break;
-            }
-
-            if (shouldRemove) {
-                rewrite.remove(imp, null);
-            }
-        }
-
-        // Add new imports
-        ListRewrite importRewrite = rewrite.getListRewrite(cu, CompilationUnit.IMPORTS_PROPERTY);
-        for (String importClass : targetTemplate.getImports()) {
-            ImportDeclaration newImport = ast.newImportDeclaration();
-            newImport.setName(ast.newName(importClass));
-            importRewrite.insertLast(newImport, null);
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private void updateLoggerDeclaration(CompilationUnit cu, ASTRewrite rewrite, AST ast,
-                                          LoggerTemplate targetTemplate) {
-        // Find the logger field and update it
-        if (cu.types().isEmpty()) {
-            return;
-        }
-
-        TypeDeclaration typeDecl = (TypeDeclaration) cu.types().get(0);
-        String className = ASTUtil.getName(typeDecl);
-
-        for (FieldDeclaration field : typeDecl.getFields()) {
-            for (Object fragment : field.fragments()) {
-                VariableDeclarationFragment vdf = (VariableDeclarationFragment) fragment;
-                String fieldName = ASTUtil.getName(vdf);
-
-                // Check if this looks like a logger field
-                if (isLoggerField(fieldName)) {
-                    // Create new logger declaration
-                    String loggerName = Log4e2026Plugin.getPreferences().getString("loggerName");
-                    if (loggerName == null || loggerName.isEmpty()) {
-                        loggerName = "logger";
-                    }
-
-                    String newDeclaration = targetTemplate.getDeclaration()
-                            .replace("${enclosing_type}", className)
-                            .replace("${logger}", loggerName);
-
-                    // Parse and replace
-                    ASTParser fieldParser = ASTParser.newParser(AST.getJLSLatest());
-                    fieldParser.setSource(("class Temp { " + newDeclaration + " }").toCharArray());
-                    fieldParser.setKind(ASTParser.K_COMPILATION_UNIT);
-                    CompilationUnit tempCu = (CompilationUnit) fieldParser.createAST(null);
-                    TypeDeclaration tempType = (TypeDeclaration) tempCu.types().get(0);
-                    FieldDeclaration newField = tempType.getFields()[0];
-
-                    FieldDeclaration copiedField = (FieldDeclaration) ASTNode.copySubtree(ast, newField);
-                    rewrite.replace(field, copiedField, null);
-                    return; // Only replace first logger field
-                }
-            }
-        }
+    /**
+     * Creates the migration between two frameworks with the profiles that use
+     * their logger classes, preferring the current profile.
+     */
+    static FrameworkMigration createMigration(LoggerTemplate source, LoggerTemplate target) {
+        ProfileManager manager = ProfileManager.getInstance();
+        List<Profile> profiles = manager.getProfiles().getProfileList();
+        Profile current = manager.getCurrentProfile();
+        return new FrameworkMigration(source, FrameworkMigration.findProfile(profiles, source, current),
+                target, FrameworkMigration.findProfile(profiles, target, current));
     }
 
     /**
@@ -242,7 +145,7 @@ public class ExchangeFrameworkHandler extends AbstractHandler {
      * The preference stores a profile name (UUID), which needs to be mapped
      * to a LoggerTemplates constant (SLF4J, LOG4J2, JUL).
      */
-    private String resolveTargetFramework() {
+    static String resolveTargetFramework() {
         Profile profile = ProfileManager.getInstance().getCurrentProfile();
         if (profile == null) {
             return null;
@@ -262,13 +165,4 @@ public class ExchangeFrameworkHandler extends AbstractHandler {
         }
         return null;
     }
-
-    private boolean isLoggerField(String fieldName) {
-        if (fieldName == null) {
-            return false;
-        }
-        String lower = fieldName.toLowerCase();
-        return lower.equals("logger") || lower.equals("log") || lower.equals("_logger")
-                || lower.equals("_log");
-    }
 }
@@ -0,0 +1,287 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jface.dialogs.IDialogConstants;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.dialogs.ExchangeFrameworkDialog;
+import ro.gs1.log4e2026.jdt.BatchASTProcessor;
+import ro.gs1.log4e2026.jdt.BatchChange;
+import ro.gs1.log4e2026.jdt.CompilationUnitCollector;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+import ro.gs1.log4e2026.operations.FrameworkMigration;
+import ro.gs1.log4e2026.preferences.PreferenceConstants;
+import ro.gs1.log4e2026.templates.LoggerTemplate;
+import ro.gs1.log4e2026.templates.LoggerTemplates;
+
+/**
+ * Handler for "Exchange logging framework" on packages, source folders and
+ * projects selected in Package Explorer. The Java search picks the units that
+ * reference the Logger type of another framework, or a logger field declared
+ * in such a unit; only those are parsed, in parallel batches. The migrated
+ * units are collected into one change set that is previewed and then applied
+ * as one undoable step. Units with logger calls that have no
+ * equivalent in the target framework are reported and left unchanged.
+ */
+public class ExchangeFrameworkResourceHandler extends AbstractHandler {
+
+    /**
+     * How a unit uses a source framework.
+     */
+    private static final class Reference {
+        final String loggerClass;
+        final Set<String> inheritedLoggers = new HashSet<>();
+
+        Reference(String loggerClass) {
+            this.loggerClass = loggerClass;
+        }
+    }
+
+    /**
+     * The migration of one unit, added to the change set with the others.
+     */
+    private static final class Migration {
+        final TextEdit edit;
+        final String description;
+
+        Migration(TextEdit edit, String description) {
+            this.edit = edit;
+            this.description = description;
+        }
+    }
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        ISelection selection = HandlerUtil.getCurrentSelection(event);
+
+        if (!(selection instanceof IStructuredSelection) || selection.isEmpty()) {
+            return null;
+        }
+
+        List<?> elements = ((IStructuredSelection) selection).toList();
+        Shell shell = HandlerUtil.getActiveShell(event);
+        boolean showDialog = Log4e2026Plugin.getPreferences()
+                .getBoolean(PreferenceConstants.P_SHOW_EXCHANGE_DIALOG);
+
+        String targetFramework;
+        if (showDialog) {
+            ExchangeFrameworkDialog dialog = new ExchangeFrameworkDialog(shell, null);
+            if (dialog.open() != IDialogConstants.OK_ID) {
+                return null;
+            }
+            targetFramework = dialog.getTargetFramework();
+        } else {
+            targetFramework = ExchangeFrameworkHandler.resolveTargetFramework();
+            if (targetFramework == null) {
+                targetFramework = LoggerTemplates.SLF4J;
+            }
+        }
+        LoggerTemplate target = LoggerTemplates.getTemplate(targetFramework);
+
+        Job job = new Job("Exchange logging framework") {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                try {
+                    return exchange(elements, target, showDialog ? shell : null, monitor);
+                } catch (OperationCanceledException e) {
+                    return Status.CANCEL_STATUS;
+                } catch (CoreException e) {
+                    Log4e2026Plugin.logError("Failed to exchange the logging framework", e);
+                    return e.getStatus();
+                }
+            }
+        };
+        job.setUser(true);
+        job.schedule();
+
+        return null;
+    }
+
+    /**
+     * @param shell the shell of the preview, or null to apply without preview
+     */
+    private static IStatus exchange(List<?> elements, LoggerTemplate target, Shell shell, IProgressMonitor monitor)
+            throws CoreException {
+        Map<String, FrameworkMigration> migrations = new HashMap<>();
+        for (String id : LoggerTemplates.getFrameworkIds()) {
+            LoggerTemplate source = LoggerTemplates.getTemplate(id);
+            if (!source.getLoggerClass().equals(target.getLoggerClass())) {
+                migrations.put(source.getLoggerClass(), ExchangeFrameworkHandler.createMigration(source, target));
+            }
+        }
+
+        Map<ICompilationUnit, Reference> references = findReferences(elements, migrations.keySet(), monitor);
+        if (references.isEmpty()) {
+            Log4e2026Plugin.log("No logger of another framework found, nothing to exchange to " + target.getName());
+            return Status.OK_STATUS;
+        }
+
+        BatchChange change = new BatchChange("Exchange logging framework to " + target.getName());
+        MigrationProcessor processor = new MigrationProcessor(references, migrations, change);
+        processor.run(elements, monitor);
+        if (!processor.skipped.isEmpty()) {
+            Log4e2026Plugin.logWarning("Skipped " + processor.skipped.size() + " files with logger usages to migrate manually:\n"
+                    + String.join("\n", processor.skipped));
+        }
+        if (change.isEmpty()) {
+            Log4e2026Plugin.log("No logging to exchange to " + target.getName() + "\n" + processor.getStatistics());
+            return Status.OK_STATUS;
+        }
+        if (!change.perform(shell, monitor)) {
+            return Status.CANCEL_STATUS;
+        }
+
+        Log4e2026Plugin.log("Exchanged the logging framework to " + target.getName() + " in " + change.size()
+                + " files (" + processor.declarations + " declarations, " + processor.calls + " calls, "
+                + processor.guards + " guards)\n" + processor.getStatistics());
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Searches the units of the selection that reference a source Logger type,
+     * and the units that use a non-private logger field declared in them,
+     * e.g. in subclasses.
+     */
+    private static Map<ICompilationUnit, Reference> findReferences(List<?> elements, Set<String> loggerClasses,
+            IProgressMonitor monitor) throws CoreException {
+        IJavaSearchScope scope = SearchEngine.createJavaSearchScope(CompilationUnitCollector.toJavaElements(elements),
+                IJavaSearchScope.SOURCES);
+        SearchEngine engine = new SearchEngine();
+        SearchParticipant[] participants = { SearchEngine.getDefaultSearchParticipant() };
+
+        Map<ICompilationUnit, Reference> references = new HashMap<>();
+        Map<String, String> fieldClasses = new HashMap<>();
+        SearchPattern fieldPattern = null;
+        for (String loggerClass : loggerClasses) {
+            List<IField> fields = new ArrayList<>();
+            SearchPattern typePattern = SearchPattern.createPattern(loggerClass, IJavaSearchConstants.TYPE,
+                    IJavaSearchConstants.REFERENCES, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+            engine.search(typePattern, participants, scope, new SearchRequestor() {
+                @Override
+                public void acceptSearchMatch(SearchMatch match) throws CoreException {
+                    IJavaElement element = (IJavaElement) match.getElement();
+                    ICompilationUnit cu = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+                    if (cu == null) {
+                        return;
+                    }
+                    references.putIfAbsent(cu, new Reference(loggerClass));
+                    if (element instanceof IField && !Flags.isPrivate(((IField) element).getFlags())) {
+                        fields.add((IField) element);
+                    }
+                }
+            }, monitor);
+            for (IField field : fields) {
+                fieldClasses.put(field.getElementName(), loggerClass);
+                SearchPattern pattern = SearchPattern.createPattern(field, IJavaSearchConstants.REFERENCES);
+                fieldPattern = fieldPattern == null ? pattern : SearchPattern.createOrPattern(fieldPattern, pattern);
+            }
+        }
+
+        if (fieldPattern != null) {
+            engine.search(fieldPattern, participants, scope, new SearchRequestor() {
+                @Override
+                public void acceptSearchMatch(SearchMatch match) throws CoreException {
+                    IJavaElement element = (IJavaElement) match.getElement();
+                    ICompilationUnit cu = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+                    if (cu == null) {
+                        return;
+                    }
+                    // The match covers the field name, possibly qualified
+                    String text = cu.getSource().substring(match.getOffset(), match.getOffset() + match.getLength());
+                    String name = text.substring(text.lastIndexOf('.') + 1).trim();
+                    String loggerClass = fieldClasses.get(name);
+                    if (loggerClass != null) {
+                        references.computeIfAbsent(cu, c -> new Reference(loggerClass)).inheritedLoggers.add(name);
+                    }
+                }
+            }, monitor);
+        }
+        return references;
+    }
+
+    private static final class MigrationProcessor extends BatchASTProcessor<Migration> {
+
+        private final Map<ICompilationUnit, Reference> references;
+        private final Map<String, FrameworkMigration> migrations;
+        private final Queue<String> skipped = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger declarations = new AtomicInteger();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger guards = new AtomicInteger();
+        private final BatchChange change;
+
+        MigrationProcessor(Map<ICompilationUnit, Reference> references, Map<String, FrameworkMigration> migrations,
+                BatchChange change) {
+            super("Exchange logging framework");
+            this.references = references;
+            this.migrations = migrations;
+            this.change = change;
+        }
+
+        @Override
+        protected boolean accept(ICompilationUnit cu, IProgressMonitor monitor) {
+            return references.containsKey(cu);
+        }
+
+        @Override
+        protected Migration process(ICompilationUnit cu, CompilationUnit astRoot, String source) throws Exception {
+            Reference reference = references.get(cu);
+            UnitRewrite rewrite = new UnitRewrite(astRoot);
+            FrameworkMigration.Result result = migrations.get(reference.loggerClass)
+                    .migrate(rewrite, reference.inheritedLoggers);
+            if (!result.getUnsupported().isEmpty()) {
+                skipped.add(cu.getPath() + ": " + String.join("; ", result.getUnsupported()));
+                return null;
+            }
+            if (!result.isChanged()) {
+                return null;
+            }
+            declarations.addAndGet(result.getDeclarations());
+            calls.addAndGet(result.getCalls());
+            guards.addAndGet(result.getGuards());
+            TextEdit edit = rewrite.createEdit(new Document(source));
+            return new Migration(edit, result.toString());
+        }
+
+        @Override
+        protected boolean apply(ICompilationUnit cu, String source, Migration result) throws Exception {
+            // Collected into one change set, performed when all units are processed
+            return change.add(cu, source, result.edit, result.description);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package ro.gs1.log4e2026.handlers;
 
 import org.eclipse.core.expressions.PropertyTester;
 import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.jface.viewers.ISelection;
@@ -11,7 +10,8 @@ import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.texteditor.ITextEditor;
 
-import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.handlers.CursorContextTracker.CursorContext;
+import ro.gs1.log4e2026.jdt.FrameworkDetector;
 
 /**
  * Property tester for Log4E menu enablement.
@@ -21,13 +21,17 @@ import ro.gs1.log4e2026.jdt.ASTUtil;
  * - isCursorOnVariable: true if cursor is on a variable
  * - isValidInsertPosition: true if cursor is at a valid position for insertion
  * - isInJavaEditor: true if active editor is a Java editor
+ * - hasLoggingFramework: true if the unit of the active Java editor imports a known logging framework
+ *
+ * The cursor properties are read from the state computed by {@link CursorContextTracker}.
  */
 public class Log4ePropertyTester extends PropertyTester {
 
-    private static final String PROP_IN_METHOD = "isCursorInMethod";
-    private static final String PROP_ON_VARIABLE = "isCursorOnVariable";
-    private static final String PROP_VALID_INSERT = "isValidInsertPosition";
+    static final String PROP_IN_METHOD = "isCursorInMethod";
+    static final String PROP_ON_VARIABLE = "isCursorOnVariable";
+    static final String PROP_VALID_INSERT = "isValidInsertPosition";
     private static final String PROP_IN_JAVA_EDITOR = "isInJavaEditor";
+    private static final String PROP_HAS_FRAMEWORK = "hasLoggingFramework";
 
     @Override
     public boolean test(Object receiver, String property, Object[] args, Object expectedValue) {
@@ -41,6 +45,8 @@ public class Log4ePropertyTester extends PropertyTester {
                     return isValidInsertPosition();
                 case PROP_IN_JAVA_EDITOR:
                     return isInJavaEditor();
+                case PROP_HAS_FRAMEWORK:
+                    return hasLoggingFramework();
                 default:
                     return false;
             }
@@ -59,51 +65,43 @@ public class Log4ePropertyTester extends PropertyTester {
         return input != null && JavaUI.getEditorInputJavaElement(input) instanceof ICompilationUnit;
     }
 
-    private boolean isCursorInMethod() {
+    private boolean hasLoggingFramework() {
         ICompilationUnit cu = getActiveCompilationUnit();
-        if (cu == null) {
-            return false;
-        }
-        int offset = getSelectionOffset();
-        if (offset < 0) {
-            return false;
-        }
-        CompilationUnit astRoot = ASTUtil.parseCompilationUnit(cu);
-        return ASTUtil.isCursorInMethod(astRoot, offset);
+        return cu != null && FrameworkDetector.getFramework(cu) != null;
+    }
+
+    private boolean isCursorInMethod() {
+        CursorContext context = getCursorContext();
+        return context != null && context.isInMethod();
     }
 
     private boolean isCursorOnVariable() {
-        ICompilationUnit cu = getActiveCompilationUnit();
-        if (cu == null) {
-            return false;
-        }
-        int offset = getSelectionOffset();
-        if (offset < 0) {
-            return false;
-        }
-        CompilationUnit astRoot = ASTUtil.parseCompilationUnit(cu);
-        // First check if we're in a method
-        if (!ASTUtil.isCursorInMethod(astRoot, offset)) {
-            return false;
-        }
-        return ASTUtil.isCursorOnVariable(astRoot, offset);
+        CursorContext context = getCursorContext();
+        return context != null && context.isOnVariable();
     }
 
     private boolean isValidInsertPosition() {
+        CursorContext context = getCursorContext();
+        return context != null && context.isValidInsertPosition();
+    }
+
+    /**
+     * Returns the precomputed cursor context of the active Java editor.
+     */
+    private CursorContext getCursorContext() {
+        IEditorPart editor = getActiveEditor();
+        if (!(editor instanceof ITextEditor)) {
+            return null;
+        }
         ICompilationUnit cu = getActiveCompilationUnit();
         if (cu == null) {
-            return false;
+            return null;
         }
         int[] selection = getSelection();
         if (selection == null) {
-            return false;
-        }
-        CompilationUnit astRoot = ASTUtil.parseCompilationUnit(cu);
-        // First check if we're in a method
-        if (!ASTUtil.isCursorInMethod(astRoot, selection[0])) {
-            return false;
+            return null;
         }
-        return ASTUtil.isValidInsertPosition(astRoot, selection[0], selection[1]);
+        return CursorContextTracker.getDefault().getContext((ITextEditor) editor, cu, selection[0], selection[1]);
     }
 
     private IEditorPart getActiveEditor() {
@@ -129,11 +127,6 @@ public class Log4ePropertyTester extends PropertyTester {
         return (ICompilationUnit) JavaUI.getEditorInputJavaElement(input);
     }
 
-    private int getSelectionOffset() {
-        int[] selection = getSelection();
-        return selection != null ? selection[0] : -1;
-    }
-
     private int[] getSelection() {
         IEditorPart editor = getActiveEditor();
         if (!(editor instanceof ITextEditor)) {
@@ -0,0 +1,302 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import ro.gs1.log4e2026.core.LogLevel;
+
+/**
+ * Per-package census of the logging of a selection: log statements per level,
+ * guarded statements, catch blocks without logging and methods with entry and
+ * exit logs. Counts may be added from several threads.
+ */
+public class LogCensus {
+
+    /** Levels in the order of the columns, by priority. */
+    public static final LogLevel[] LEVELS = LogLevel.getAllLevelsByPriority();
+
+    // The levels, then other, statements, guarded, unguarded, catch blocks, unlogged, methods, entry, exit
+    private static final int COLUMN_COUNT = LEVELS.length + 9;
+
+    private static final String DEFAULT_PACKAGE = "(default package)";
+
+    /**
+     * Counts of one package, or of one compilation unit while it is scanned.
+     */
+    public static final class Counts {
+        // Indexed by LogLevel ordinal, the last element counts statements of unknown level
+        private final int[] levels = new int[LogLevel.values().length + 1];
+        private int guarded;
+        private int catchBlocks;
+        private int unloggedCatchBlocks;
+        private int methods;
+        private int entryLogged;
+        private int exitLogged;
+
+        /**
+         * Counts a log statement.
+         *
+         * @param level the level, or null if unknown
+         */
+        public void addStatement(LogLevel level, boolean isGuarded) {
+            levels[level != null ? level.ordinal() : levels.length - 1]++;
+            if (isGuarded) {
+                guarded++;
+            }
+        }
+
+        public void addCatchBlock(boolean logged) {
+            catchBlocks++;
+            if (!logged) {
+                unloggedCatchBlocks++;
+            }
+        }
+
+        public void addMethod(boolean entry, boolean exit) {
+            methods++;
+            if (entry) {
+                entryLogged++;
+            }
+            if (exit) {
+                exitLogged++;
+            }
+        }
+
+        void add(Counts other) {
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] += other.levels[i];
+            }
+            guarded += other.guarded;
+            catchBlocks += other.catchBlocks;
+            unloggedCatchBlocks += other.unloggedCatchBlocks;
+            methods += other.methods;
+            entryLogged += other.entryLogged;
+            exitLogged += other.exitLogged;
+        }
+
+        /**
+         * Returns the number of statements of a level, of unknown level for null.
+         */
+        public int getCount(LogLevel level) {
+            return levels[level != null ? level.ordinal() : levels.length - 1];
+        }
+
+        public int getStatements() {
+            int sum = 0;
+            for (int count : levels) {
+                sum += count;
+            }
+            return sum;
+        }
+
+        public int getGuarded() {
+            return guarded;
+        }
+
+        public int getUnguarded() {
+            return getStatements() - guarded;
+        }
+
+        public int getCatchBlocks() {
+            return catchBlocks;
+        }
+
+        public int getUnloggedCatchBlocks() {
+            return unloggedCatchBlocks;
+        }
+
+        public int getMethods() {
+            return methods;
+        }
+
+        public int getEntryLogged() {
+            return entryLogged;
+        }
+
+        public int getExitLogged() {
+            return exitLogged;
+        }
+
+        boolean isEmpty() {
+            return getStatements() == 0 && catchBlocks == 0 && methods == 0;
+        }
+
+        /**
+         * Returns the values in the order of {@link LogCensus#getColumnNames()}.
+         */
+        int[] getValues() {
+            int[] values = new int[COLUMN_COUNT];
+            int i = 0;
+            for (LogLevel level : LEVELS) {
+                values[i++] = getCount(level);
+            }
+            values[i++] = getCount(null);
+            values[i++] = getStatements();
+            values[i++] = guarded;
+            values[i++] = getUnguarded();
+            values[i++] = catchBlocks;
+            values[i++] = unloggedCatchBlocks;
+            values[i++] = methods;
+            values[i++] = entryLogged;
+            values[i] = exitLogged;
+            return values;
+        }
+    }
+
+    private final String scope;
+    private final Map<String, Counts> packages = new TreeMap<>();
+
+    /**
+     * @param scope description of the scanned selection, e.g. the project names
+     */
+    public LogCensus(String scope) {
+        this.scope = scope;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * Adds the counts of a compilation unit to its package.
+     */
+    public synchronized void add(String packageName, Counts counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        String key = packageName == null || packageName.isEmpty() ? DEFAULT_PACKAGE : packageName;
+        packages.computeIfAbsent(key, k -> new Counts()).add(counts);
+    }
+
+    /**
+     * Returns a copy of the counts per package, sorted by package name.
+     */
+    public synchronized Map<String, Counts> getPackages() {
+        Map<String, Counts> copy = new TreeMap<>();
+        for (Map.Entry<String, Counts> entry : packages.entrySet()) {
+            Counts counts = new Counts();
+            counts.add(entry.getValue());
+            copy.put(entry.getKey(), counts);
+        }
+        return copy;
+    }
+
+    public synchronized Counts getTotal() {
+        Counts total = new Counts();
+        for (Counts counts : packages.values()) {
+            total.add(counts);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the names of the value columns, without the package column.
+     */
+    public static String[] getColumnNames() {
+        String[] names = new String[COLUMN_COUNT];
+        int i = 0;
+        for (LogLevel level : LEVELS) {
+            names[i++] = level.getMethodName();
+        }
+        names[i++] = "other";
+        names[i++] = "statements";
+        names[i++] = "guarded";
+        names[i++] = "unguarded";
+        names[i++] = "catchBlocks";
+        names[i++] = "unloggedCatchBlocks";
+        names[i++] = "methods";
+        names[i++] = "entryLogged";
+        names[i] = "exitLogged";
+        return names;
+    }
+
+    /**
+     * Returns the values of counts in the order of {@link #getColumnNames()}.
+     */
+    public static int[] getValues(Counts counts) {
+        return counts.getValues();
+    }
+
+    /**
+     * Formats the census as CSV: a header line, one line per package and a total line.
+     */
+    public synchronized String toCsv() {
+        StringBuilder sb = new StringBuilder("package");
+        for (String name : getColumnNames()) {
+            sb.append(',').append(name);
+        }
+        sb.append('\n');
+        for (Map.Entry<String, Counts> entry : packages.entrySet()) {
+            appendCsvLine(sb, entry.getKey(), entry.getValue());
+        }
+        appendCsvLine(sb, "(total)", getTotal());
+        return sb.toString();
+    }
+
+    private static void appendCsvLine(StringBuilder sb, String packageName, Counts counts) {
+        sb.append(csvValue(packageName));
+        for (int value : counts.getValues()) {
+            sb.append(',').append(value);
+        }
+        sb.append('\n');
+    }
+
+    private static String csvValue(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Formats the census as JSON: the scope, the counts per package and the total.
+     */
+    public synchronized String toJson() {
+        StringBuilder sb = new StringBuilder("{\n  \"scope\": ").append(jsonString(scope)).append(",\n");
+        sb.append("  \"packages\": [");
+        String separator = "\n";
+        for (Map.Entry<String, Counts> entry : packages.entrySet()) {
+            sb.append(separator).append("    {\"package\": ").append(jsonString(entry.getKey()));
+            appendJsonValues(sb, entry.getValue());
+            sb.append('}');
+            separator = ",\n";
+        }
+        sb.append(packages.isEmpty() ? "],\n" : "\n  ],\n");
+        sb.append("  \"total\": {\"package\": null");
+        appendJsonValues(sb, getTotal());
+        sb.append("}\n}\n");
+        return sb.toString();
+    }
+
+    private static void appendJsonValues(StringBuilder sb, Counts counts) {
+        String[] names = getColumnNames();
+        int[] values = counts.getValues();
+        for (int i = 0; i < names.length; i++) {
+            sb.append(", \"").append(names[i]).append("\": ").append(values[i]);
+        }
+    }
+
+    private static String jsonString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder("\"");
+        for (char ch : value.toCharArray()) {
+            switch (ch) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (ch < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        sb.append(ch);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,199 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CatchClause;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.ReturnStatement;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.ThrowStatement;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.BatchASTProcessor;
+import ro.gs1.log4e2026.jdt.LogStatementRecognizer;
+import ro.gs1.log4e2026.jdt.LogStatementVisitor;
+import ro.gs1.log4e2026.views.LogCensusView;
+
+/**
+ * Handler for "Log census" on packages, source folders and projects selected
+ * in Package Explorer. Counts the log statements per package and level, the
+ * guarded statements, the catch blocks without logging and the methods with
+ * entry and exit logs, and shows the result in the {@link LogCensusView}.
+ * The units are parsed in batches and scanned in parallel; nothing is changed.
+ */
+public class LogCensusHandler extends AbstractHandler {
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        ISelection selection = HandlerUtil.getCurrentSelection(event);
+
+        if (!(selection instanceof IStructuredSelection) || selection.isEmpty()) {
+            return null;
+        }
+
+        List<?> elements = ((IStructuredSelection) selection).toList();
+        LogCensus census = new LogCensus(describe(elements));
+
+        Job job = new Job("Log census") {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                CensusProcessor processor = new CensusProcessor(census);
+                try {
+                    processor.run(elements, monitor);
+                } catch (OperationCanceledException e) {
+                    return Status.CANCEL_STATUS;
+                }
+                Log4e2026Plugin.log("Log census of " + census.getScope() + ": "
+                        + census.getTotal().getStatements() + " log statements\n" + processor.getStatistics());
+                Display.getDefault().asyncExec(() -> LogCensusView.show(census));
+                return Status.OK_STATUS;
+            }
+        };
+        job.setUser(true);
+        job.schedule();
+
+        return null;
+    }
+
+    private static String describe(List<?> elements) {
+        List<String> names = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof IJavaElement) {
+                names.add(((IJavaElement) element).getElementName());
+            } else if (element instanceof IResource) {
+                names.add(((IResource) element).getName());
+            }
+            if (names.size() == 3 && elements.size() > 3) {
+                names.add("...");
+                break;
+            }
+        }
+        return String.join(", ", names);
+    }
+
+    private static final class CensusProcessor extends BatchASTProcessor<Void> {
+
+        private final LogCensus census;
+        private final Map<IJavaProject, LogStatementRecognizer> recognizers = new ConcurrentHashMap<>();
+
+        CensusProcessor(LogCensus census) {
+            super("Log census");
+            this.census = census;
+        }
+
+        @Override
+        protected Void process(ICompilationUnit cu, CompilationUnit astRoot, String source) {
+            LogStatementRecognizer recognizer = recognizers.computeIfAbsent(cu.getJavaProject(),
+                    project -> new LogStatementRecognizer(getSettings(project)));
+            census.add(astRoot.getPackage() != null
+                    ? astRoot.getPackage().getName().getFullyQualifiedName() : "", count(recognizer, astRoot));
+            return null;
+        }
+
+        @Override
+        protected boolean apply(ICompilationUnit cu, String source, Void result) {
+            return false;
+        }
+    }
+
+    /**
+     * Counts the log statements, catch blocks and methods of a unit. A guarded
+     * statement is counted once, as guarded.
+     */
+    public static LogCensus.Counts count(LogStatementRecognizer recognizer, CompilationUnit astRoot) {
+        LogCensus.Counts counts = new LogCensus.Counts();
+        astRoot.accept(new LogStatementVisitor(recognizer) {
+            @Override
+            protected void visitLogStatement(Statement statement) {
+                counts.addStatement(recognizer.getLevel(statement), recognizer.isGuarded(statement));
+            }
+
+            @Override
+            public boolean visit(MethodDeclaration node) {
+                if (node.getBody() != null) {
+                    countMethod(recognizer, node, counts);
+                }
+                return true;
+            }
+        });
+        return counts;
+    }
+
+    private static void countMethod(LogStatementRecognizer recognizer, MethodDeclaration method,
+            LogCensus.Counts counts) {
+        List<?> statements = method.getBody().statements();
+        Statement entry = !statements.isEmpty() ? (Statement) statements.get(0) : null;
+        Statement exit = getExitStatement(statements);
+        counts.addMethod(entry != null && recognizer.isLogStatement(entry),
+                exit != null && exit != entry && recognizer.isLogStatement(exit));
+
+        // The catch blocks of local and anonymous types are counted with their own methods
+        for (CatchClause catchClause : ASTUtil.findCatchClauses(method)) {
+            if (getEnclosingMethod(catchClause) == method) {
+                counts.addCatchBlock(containsLogStatement(recognizer, catchClause.getBody()));
+            }
+        }
+    }
+
+    /**
+     * Returns the last statement of a method body, or the one before a final
+     * return or throw statement.
+     */
+    private static Statement getExitStatement(List<?> statements) {
+        if (statements.isEmpty()) {
+            return null;
+        }
+        Statement last = (Statement) statements.get(statements.size() - 1);
+        if (last instanceof ReturnStatement || last instanceof ThrowStatement) {
+            return statements.size() > 1 ? (Statement) statements.get(statements.size() - 2) : null;
+        }
+        return last;
+    }
+
+    private static MethodDeclaration getEnclosingMethod(ASTNode node) {
+        ASTNode parent = node.getParent();
+        while (parent != null && !(parent instanceof MethodDeclaration)) {
+            parent = parent.getParent();
+        }
+        return (MethodDeclaration) parent;
+    }
+
+    private static boolean containsLogStatement(LogStatementRecognizer recognizer, Block block) {
+        boolean[] found = new boolean[1];
+        block.accept(new LogStatementVisitor(recognizer) {
+            @Override
+            protected void visitLogStatement(Statement statement) {
+                found[0] = true;
+            }
+
+            @Override
+            public boolean preVisit2(ASTNode node) {
+                return !found[0];
+            }
+        });
+        return found[0];
+    }
+}
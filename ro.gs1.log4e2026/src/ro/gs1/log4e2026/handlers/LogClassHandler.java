@@ -58,8 +58,30 @@ public class LogClassHandler extends BaseLogHandler {
         AST ast = context.getAstRoot().getAST();
         ASTRewrite rewrite = ASTRewrite.create(ast);
 
-        int methodCount = 0;
-        int skippedCount = 0;
+        BatchSummary.Counts counts = logType(operation, rewrite, ast, typeDecl);
+        int methodCount = counts.getDone();
+        int skippedCount = counts.getSkipped();
+
+        if (methodCount > 0) {
+            applyRewrite(context, rewrite);
+            String msg = "Logged " + methodCount + " methods in class '" + ASTUtil.getName(typeDecl) + "'";
+            if (skippedCount > 0) {
+                msg += " (" + skippedCount + " skipped based on preferences)";
+            }
+            logSuccess(msg);
+        } else {
+            logWarning("No methods to log in class (all skipped based on preferences)");
+        }
+    }
+
+    /**
+     * Adds entry/exit/catch logging to all methods of a type, using the position settings.
+     * Also used by {@link LogClassResourceHandler}.
+     * @return the number of logged and skipped methods
+     */
+    static BatchSummary.Counts logType(LoggingOperation operation, ASTRewrite rewrite,
+                                       AST ast, TypeDeclaration typeDecl) {
+        BatchSummary.Counts counts = new BatchSummary.Counts();
 
         for (MethodDeclaration method : typeDecl.getMethods()) {
             if (method.getBody() == null) {
@@ -72,28 +94,18 @@ public class LogClassHandler extends BaseLogHandler {
 
             // If both start and end are skipped, skip the whole method
             if (skipStart && skipEnd) {
-                skippedCount++;
+                counts.skipped++;
                 continue;
             }
 
             logMethod(operation, rewrite, ast, method, skipStart, skipEnd);
-            methodCount++;
-        }
-
-        if (methodCount > 0) {
-            applyRewrite(context, rewrite);
-            String msg = "Logged " + methodCount + " methods in class '" + ASTUtil.getName(typeDecl) + "'";
-            if (skippedCount > 0) {
-                msg += " (" + skippedCount + " skipped based on preferences)";
-            }
-            logSuccess(msg);
-        } else {
-            logWarning("No methods to log in class (all skipped based on preferences)");
+            counts.done++;
         }
+        return counts;
     }
 
     @SuppressWarnings("unchecked")
-    private void logMethod(LoggingOperation operation, ASTRewrite rewrite,
+    private static void logMethod(LoggingOperation operation, ASTRewrite rewrite,
                            AST ast, MethodDeclaration method,
                            boolean skipStart, boolean skipEnd) {
         Block body = method.getBody();
@@ -155,7 +167,7 @@ public class LogClassHandler extends BaseLogHandler {
     /**
      * Extracts variable name from return expression if it's a simple name.
      */
-    private String extractReturnVariableName(Expression returnExpr) {
+    private static String extractReturnVariableName(Expression returnExpr) {
         if (returnExpr instanceof SimpleName) {
             return ((SimpleName) returnExpr).getIdentifier();
         }
@@ -0,0 +1,36 @@
+package ro.gs1.log4e2026.handlers;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+import ro.gs1.log4e2026.operations.LoggingOperation;
+
+/**
+ * Handler for adding entry/exit/catch logging to all classes of the packages,
+ * source folders or projects selected in Package Explorer.
+ * Applies the same position settings as {@link LogClassHandler}.
+ */
+public class LogClassResourceHandler extends BaseClassResourceHandler {
+
+    @Override
+    protected String getTitle() {
+        return "Log classes";
+    }
+
+    @Override
+    protected String getDoneLabel() {
+        return "methods logged";
+    }
+
+    @Override
+    protected String getSkippedLabel() {
+        return "methods skipped";
+    }
+
+    @Override
+    protected BatchSummary.Counts processType(LoggingOperation operation, ASTRewrite rewrite,
+            AST ast, TypeDeclaration typeDecl) {
+        return LogClassHandler.logType(operation, rewrite, ast, typeDecl);
+    }
+}
@@ -38,7 +38,25 @@ public class LogErrorsClassHandler extends BaseLogHandler {
         AST ast = context.getAstRoot().getAST();
         ASTRewrite rewrite = ASTRewrite.create(ast);
 
-        int count = 0;
+        int count = logCatchClauses(operation, rewrite, ast, typeDecl).getDone();
+
+        if (count > 0) {
+            applyRewrite(context, rewrite);
+            logSuccess("Added error logging to " + count + " catch blocks in class '"
+                    + ASTUtil.getName(typeDecl) + "'");
+        } else {
+            logWarning("No catch blocks without logging found in class");
+        }
+    }
+
+    /**
+     * Adds error logging to all catch blocks of a type that do not log yet.
+     * Also used by {@link LogErrorsClassResourceHandler}.
+     * @return the number of catch blocks logged, and skipped because they already log
+     */
+    static BatchSummary.Counts logCatchClauses(LoggingOperation operation, ASTRewrite rewrite,
+                                               AST ast, TypeDeclaration typeDecl) {
+        BatchSummary.Counts counts = new BatchSummary.Counts();
 
         for (MethodDeclaration method : typeDecl.getMethods()) {
             if (method.getBody() != null) {
@@ -58,19 +76,14 @@ public class LogErrorsClassHandler extends BaseLogHandler {
                             Statement catchLog = operation.createCatchLogStatement(ast, catchClause, method);
                             ListRewrite listRewrite = rewrite.getListRewrite(catchBody, Block.STATEMENTS_PROPERTY);
                             listRewrite.insertFirst(catchLog, null);
-                            count++;
+                            counts.done++;
+                        } else {
+                            counts.skipped++;
                         }
                     }
                 }
             }
         }
-
-        if (count > 0) {
-            applyRewrite(context, rewrite);
-            logSuccess("Added error logging to " + count + " catch blocks in class '"
-                    + ASTUtil.getName(typeDecl) + "'");
-        } else {
-            logWarning("No catch blocks without logging found in class");
-        }
+        return counts;
     }
 }
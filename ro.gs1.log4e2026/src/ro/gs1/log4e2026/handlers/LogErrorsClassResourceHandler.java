@@ -0,0 +1,45 @@
+package ro.gs1.log4e2026.handlers;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+import ro.gs1.log4e2026.jdt.SourceScanner;
+import ro.gs1.log4e2026.operations.LoggingOperation;
+
+/**
+ * Handler for adding error logging to the catch blocks of all classes of the
+ * packages, source folders or projects selected in Package Explorer.
+ * Units without a catch keyword are skipped with a token scan, so only the
+ * units with catch blocks are parsed.
+ */
+public class LogErrorsClassResourceHandler extends BaseClassResourceHandler {
+
+    @Override
+    protected String getTitle() {
+        return "Log errors of classes";
+    }
+
+    @Override
+    protected String getDoneLabel() {
+        return "catch blocks logged";
+    }
+
+    @Override
+    protected String getSkippedLabel() {
+        return "already logged";
+    }
+
+    @Override
+    protected boolean isCandidate(ICompilationUnit cu) {
+        return SourceScanner.containsToken(cu, ITerminalSymbols.TokenNamecatch);
+    }
+
+    @Override
+    protected BatchSummary.Counts processType(LoggingOperation operation, ASTRewrite rewrite,
+            AST ast, TypeDeclaration typeDecl) {
+        return LogErrorsClassHandler.logCatchClauses(operation, rewrite, ast, typeDecl);
+    }
+}
@@ -21,6 +21,11 @@ import ro.gs1.log4e2026.operations.OperationContext;
  */
 public class LogErrorsMethodResourceHandler extends BaseMethodResourceHandler {
 
+    @Override
+    protected String getTitle() {
+        return "Log errors of methods";
+    }
+
     @Override
     protected void processMethod(OperationContext context) throws Exception {
         MethodDeclaration method = context.getSelectedMethod();
@@ -24,6 +24,11 @@ import ro.gs1.log4e2026.operations.OperationContext;
  */
 public class LogMethodResourceHandler extends BaseMethodResourceHandler {
 
+    @Override
+    protected String getTitle() {
+        return "Log methods";
+    }
+
     @Override
     protected void processMethod(OperationContext context) throws Exception {
         MethodDeclaration method = context.getSelectedMethod();
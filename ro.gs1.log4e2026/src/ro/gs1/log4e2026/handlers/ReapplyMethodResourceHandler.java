@@ -22,6 +22,11 @@ import ro.gs1.log4e2026.operations.OperationContext;
  */
 public class ReapplyMethodResourceHandler extends BaseMethodResourceHandler {
 
+    @Override
+    protected String getTitle() {
+        return "Reapply in methods";
+    }
+
     @Override
     protected void processMethod(OperationContext context) throws Exception {
         MethodDeclaration method = context.getSelectedMethod();
@@ -25,6 +25,10 @@ public class RemoveLoggerMethodHandler extends BaseLogHandler {
         }
 
         LoggingOperation operation = createOperation(context);
+        if (!operation.isLoggerUsedInCompilationUnit(context.getAstRoot())) {
+            logSuccess("No logger used in '" + context.getCompilationUnit().getElementName() + "'");
+            return;
+        }
         AST ast = context.getAstRoot().getAST();
         ASTRewrite rewrite = ASTRewrite.create(ast);
 
@@ -1,5 +1,6 @@
 package ro.gs1.log4e2026.handlers;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -8,14 +9,35 @@ import org.eclipse.text.edits.TextEdit;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
 import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.LoggerUsageIndex;
 import ro.gs1.log4e2026.operations.LoggingOperation;
 import ro.gs1.log4e2026.operations.OperationContext;
+import ro.gs1.log4e2026.settings.OperationSettings;
 
 /**
  * Handler for removing log statements from a method selected in Package Explorer.
  */
 public class RemoveLoggerMethodResourceHandler extends BaseMethodResourceHandler {
 
+    @Override
+    protected String getTitle() {
+        return "Remove logger in methods";
+    }
+
+    @Override
+    protected boolean isApplicable(ICompilationUnit cu) {
+        String loggerClass = OperationSettings.get(cu.getJavaProject().getProject()).getTemplate().getLoggerClass();
+        if (loggerClass == null) {
+            return true;
+        }
+        LoggerUsageIndex.Usage usage = LoggerUsageIndex.getInstance().getUsage(cu, loggerClass, null);
+        if (usage != null && !usage.isUsed()) {
+            Log4e2026Plugin.log("No logger used in '" + cu.getElementName() + "' (Package Explorer)");
+            return false;
+        }
+        return true;
+    }
+
     @Override
     protected void processMethod(OperationContext context) throws Exception {
         MethodDeclaration method = context.getSelectedMethod();
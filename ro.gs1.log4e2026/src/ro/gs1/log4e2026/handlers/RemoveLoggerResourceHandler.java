@@ -0,0 +1,349 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
+import org.eclipse.jdt.core.dom.rewrite.TargetSourceRangeComputer;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.window.Window;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.dialogs.RemoveLoggerDialog;
+import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.BatchASTProcessor;
+import ro.gs1.log4e2026.jdt.BatchChange;
+import ro.gs1.log4e2026.jdt.LogStatementRecognizer;
+import ro.gs1.log4e2026.jdt.LoggerUsageIndex;
+import ro.gs1.log4e2026.preferences.PreferenceConstants;
+import ro.gs1.log4e2026.settings.OperationSettings;
+
+/**
+ * Handler for "Remove logger" on packages, source folders and projects
+ * selected in Package Explorer. Removes the log statements of the selected
+ * levels, then the private logger fields and the logger imports that are no
+ * longer referenced. Units that do not use the logger class are skipped
+ * with the {@link LoggerUsageIndex}; the others are parsed in batches and
+ * rewritten in parallel into one change, previewed if enabled and applied as
+ * one undoable step. Logs the removed and kept statements per package.
+ */
+public class RemoveLoggerResourceHandler extends AbstractHandler {
+
+    private static final String TITLE = "Remove logger";
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        ISelection selection = HandlerUtil.getCurrentSelection(event);
+
+        if (!(selection instanceof IStructuredSelection) || selection.isEmpty()) {
+            return null;
+        }
+
+        List<?> elements = ((IStructuredSelection) selection).toList();
+        RemoveLoggerDialog dialog = new RemoveLoggerDialog(HandlerUtil.getActiveShell(event), -1,
+                describe(elements), true);
+        if (dialog.open() != Window.OK) {
+            return null;
+        }
+        Set<LogLevel> levels = dialog.isRemoveStatements() ? dialog.getLevels() : EnumSet.noneOf(LogLevel.class);
+        Options options = new Options(levels, levels.size() == LogLevel.values().length,
+                dialog.isRemoveDeclaration(), dialog.isRemoveImports(), dialog.isRemoveComments());
+        Shell shell = Log4e2026Plugin.getPreferences().getBoolean(PreferenceConstants.P_WIZARD_BATCH)
+                ? HandlerUtil.getActiveShell(event) : null;
+
+        Job job = new Job(TITLE) {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                BatchSummary summary = new BatchSummary("statements removed", "statements kept");
+                BatchChange change = new BatchChange(TITLE);
+                RemovalProcessor processor = new RemovalProcessor(options, summary, change);
+                try {
+                    processor.run(elements, monitor);
+                    if (!change.perform(shell, monitor) && !change.isEmpty()) {
+                        Log4e2026Plugin.log(summary.format(TITLE + " (canceled)") + "\n" + processor.getStatistics());
+                        return Status.CANCEL_STATUS;
+                    }
+                } catch (OperationCanceledException e) {
+                    Log4e2026Plugin.log(summary.format(TITLE + " (canceled)") + "\n" + processor.getStatistics());
+                    return Status.CANCEL_STATUS;
+                } catch (CoreException e) {
+                    Log4e2026Plugin.logError(TITLE + " failed", e);
+                    return e.getStatus();
+                }
+                Log4e2026Plugin.log(summary.format(TITLE) + "\n" + processor.getStatistics());
+                return Status.OK_STATUS;
+            }
+        };
+        job.setUser(true);
+        job.schedule();
+
+        return null;
+    }
+
+    private static String describe(List<?> elements) {
+        List<String> names = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof IJavaElement) {
+                names.add(((IJavaElement) element).getElementName());
+            } else if (element instanceof IResource) {
+                names.add(((IResource) element).getName());
+            }
+            if (names.size() == 3 && elements.size() > 3) {
+                names.add("...");
+                break;
+            }
+        }
+        return String.join(", ", names);
+    }
+
+    /**
+     * The choices of the dialog.
+     */
+    private static final class Options {
+        final Set<LogLevel> levels;
+        final boolean allLevels;
+        final boolean removeDeclaration;
+        final boolean removeImports;
+        final boolean removeComments;
+
+        Options(Set<LogLevel> levels, boolean allLevels, boolean removeDeclaration, boolean removeImports,
+                boolean removeComments) {
+            this.levels = levels;
+            this.allLevels = allLevels;
+            this.removeDeclaration = removeDeclaration;
+            this.removeImports = removeImports;
+            this.removeComments = removeComments;
+        }
+
+        /**
+         * Statements of unknown level are only removed together with all levels.
+         */
+        boolean isRemoved(LogLevel level) {
+            return level != null ? levels.contains(level) : allLevels;
+        }
+    }
+
+    /**
+     * Changes of one compilation unit, counted once the edit is added to the change.
+     */
+    private static final class Removal {
+        final TextEdit edit;
+        final String packageName;
+        final int removed;
+
+        Removal(TextEdit edit, String packageName, int removed) {
+            this.edit = edit;
+            this.packageName = packageName;
+            this.removed = removed;
+        }
+    }
+
+    private static final class RemovalProcessor extends BatchASTProcessor<Removal> {
+
+        private final Options options;
+        private final BatchSummary summary;
+        private final BatchChange change;
+        private final Map<IJavaProject, LogStatementRecognizer> recognizers = new ConcurrentHashMap<>();
+
+        RemovalProcessor(Options options, BatchSummary summary, BatchChange change) {
+            super(TITLE);
+            this.options = options;
+            this.summary = summary;
+            this.change = change;
+        }
+
+        @Override
+        protected boolean accept(ICompilationUnit cu, IProgressMonitor monitor) {
+            String loggerClass = getSettings(cu.getJavaProject()).getTemplate().getLoggerClass();
+            if (loggerClass == null) {
+                return true;
+            }
+            LoggerUsageIndex.Usage usage = LoggerUsageIndex.getInstance().getUsage(cu, loggerClass, monitor);
+            return usage == null || usage.isUsed();
+        }
+
+        @Override
+        protected Removal process(ICompilationUnit cu, CompilationUnit astRoot, String source) throws Exception {
+            OperationSettings settings = getSettings(cu.getJavaProject());
+            LogStatementRecognizer recognizer = recognizers.computeIfAbsent(cu.getJavaProject(),
+                    project -> new LogStatementRecognizer(settings));
+            ASTRewrite rewrite = ASTRewrite.create(astRoot.getAST());
+            if (!options.removeComments) {
+                rewrite.setTargetSourceRangeComputer(new FieldRangeComputer(astRoot));
+            }
+            Set<ASTNode> removed = new HashSet<>();
+            int[] kept = new int[1];
+
+            astRoot.accept(new ASTVisitor() {
+                @Override
+                public boolean preVisit2(ASTNode node) {
+                    // Guarded statements are removed with their condition
+                    return !removed.contains(node);
+                }
+
+                @Override
+                public boolean visit(Block node) {
+                    ListRewrite listRewrite = null;
+                    for (Object obj : node.statements()) {
+                        Statement statement = (Statement) obj;
+                        if (!recognizer.isLogStatement(statement)) {
+                            continue;
+                        }
+                        if (options.isRemoved(recognizer.getLevel(statement))) {
+                            if (listRewrite == null) {
+                                listRewrite = rewrite.getListRewrite(node, Block.STATEMENTS_PROPERTY);
+                            }
+                            listRewrite.remove(statement, null);
+                            removed.add(statement);
+                        } else {
+                            kept[0]++;
+                        }
+                    }
+                    return true;
+                }
+            });
+
+            int statements = removed.size();
+            if (options.removeDeclaration) {
+                removeLoggerFields(astRoot, rewrite, settings.getLoggerName(), removed);
+            }
+            if (options.removeImports) {
+                removeLoggerImports(astRoot, rewrite, settings.getTemplate().getImports(), removed);
+            }
+
+            String packageName = astRoot.getPackage() != null
+                    ? astRoot.getPackage().getName().getFullyQualifiedName() : "";
+            summary.add(packageName, 0, kept[0]);
+            if (removed.isEmpty()) {
+                return null;
+            }
+            TextEdit edit = rewrite.rewriteAST(new Document(source), cu.getJavaProject().getOptions(true));
+            return new Removal(edit, packageName, statements);
+        }
+
+        @Override
+        protected boolean apply(ICompilationUnit cu, String source, Removal removal) throws Exception {
+            if (!change.add(cu, source, removal.edit, null)) {
+                return false;
+            }
+            summary.add(removal.packageName, removal.removed, 0);
+            return true;
+        }
+    }
+
+    /**
+     * Keeps the comments above a removed field. The rewrite otherwise removes a
+     * node with its leading comments; the javadoc is part of the field and the
+     * comment at the end of its line is still removed with it.
+     */
+    private static final class FieldRangeComputer extends TargetSourceRangeComputer {
+        private final CompilationUnit astRoot;
+
+        FieldRangeComputer(CompilationUnit astRoot) {
+            this.astRoot = astRoot;
+        }
+
+        @Override
+        public SourceRange computeSourceRange(ASTNode node) {
+            if (!(node instanceof FieldDeclaration)) {
+                return super.computeSourceRange(node);
+            }
+            int start = node.getStartPosition();
+            int end = astRoot.getExtendedStartPosition(node) + astRoot.getExtendedLength(node);
+            return new SourceRange(start, end - start);
+        }
+    }
+
+    /**
+     * Removes the private logger fields once nothing else refers to the logger
+     * name. Fields visible to other types are kept, they may be used by
+     * subclasses.
+     */
+    private static void removeLoggerFields(CompilationUnit astRoot, ASTRewrite rewrite, String loggerName,
+            Set<ASTNode> removed) {
+        List<FieldDeclaration> fields = new ArrayList<>();
+        astRoot.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(FieldDeclaration node) {
+                if (Modifier.isPrivate(node.getModifiers()) && node.fragments().size() == 1
+                        && loggerName.equals(((VariableDeclarationFragment) node.fragments().get(0))
+                                .getName().getIdentifier())) {
+                    fields.add(node);
+                }
+                return false;
+            }
+        });
+        if (fields.isEmpty()) {
+            return;
+        }
+        Set<ASTNode> excluded = new HashSet<>(removed);
+        excluded.addAll(fields);
+        if (ASTUtil.getReferencedNames(astRoot, excluded).contains(loggerName)) {
+            return;
+        }
+        for (FieldDeclaration field : fields) {
+            rewrite.remove(field, null);
+            removed.add(field);
+        }
+    }
+
+    /**
+     * Removes the imports of the logger template whose simple names are no
+     * longer referenced.
+     */
+    private static void removeLoggerImports(CompilationUnit astRoot, ASTRewrite rewrite, String[] loggerImports,
+            Set<ASTNode> removed) {
+        if (loggerImports.length == 0 || removed.isEmpty()) {
+            return;
+        }
+        Set<String> referenced = ASTUtil.getReferencedNames(astRoot, removed);
+        Set<String> imports = new HashSet<>();
+        for (String loggerImport : loggerImports) {
+            imports.add(loggerImport.trim());
+        }
+        ListRewrite listRewrite = rewrite.getListRewrite(astRoot, CompilationUnit.IMPORTS_PROPERTY);
+        for (Object obj : astRoot.imports()) {
+            ImportDeclaration importDecl = (ImportDeclaration) obj;
+            String name = importDecl.getName().getFullyQualifiedName();
+            if (!importDecl.isOnDemand() && !importDecl.isStatic() && imports.contains(name)
+                    && !referenced.contains(name.substring(name.lastIndexOf('.') + 1))) {
+                listRewrite.remove(importDecl, null);
+                removed.add(importDecl);
+            }
+        }
+    }
+}
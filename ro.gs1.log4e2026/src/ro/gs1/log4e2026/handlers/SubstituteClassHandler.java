@@ -47,32 +47,46 @@ public class SubstituteClassHandler extends BaseLogHandler {
         AST ast = context.getAstRoot().getAST();
         ASTRewrite rewrite = ASTRewrite.create(ast);
 
-        final int[] count = {0};
+        int count = replaceSystemPrintln(operation, rewrite, ast, typeDecl).getDone();
+
+        if (count > 0) {
+            applyRewrite(context, rewrite);
+            logSuccess("Replaced " + count + " System.out/err calls in class '"
+                    + ASTUtil.getName(typeDecl) + "'");
+        } else {
+            logWarning("No System.out/err calls found in class");
+        }
+    }
+
+    /**
+     * Replaces the System.out/err calls of a type, including its member and
+     * anonymous types, with log statements at the levels of the replace
+     * preferences. Also used by {@link SubstituteClassResourceHandler}.
+     * @return the number of calls replaced, and skipped because their stream
+     *         is not replaced or they are not a statement of their own
+     */
+    static BatchSummary.Counts replaceSystemPrintln(LoggingOperation operation, ASTRewrite rewrite,
+                                                    AST ast, TypeDeclaration typeDecl) {
+        BatchSummary.Counts counts = new BatchSummary.Counts();
 
         typeDecl.accept(new ASTVisitor() {
             @Override
             public boolean visit(MethodInvocation invocation) {
                 if (operation.isSystemPrintln(invocation)) {
-                    String expr = invocation.getExpression().toString();
-                    LogLevel level = "System.err".equals(expr) ? LogLevel.ERROR : LogLevel.INFO;
+                    // Level from the replace preferences, null if the stream is not replaced
+                    LogLevel level = operation.getSystemPrintlnLevel(invocation);
 
-                    Statement parent = (Statement) invocation.getParent();
-                    if (parent instanceof ExpressionStatement) {
+                    if (level != null && invocation.getParent() instanceof ExpressionStatement) {
                         Statement replacement = operation.replaceSystemPrintln(ast, invocation, level);
-                        rewrite.replace(parent, replacement, null);
-                        count[0]++;
+                        rewrite.replace(invocation.getParent(), replacement, null);
+                        counts.done++;
+                    } else {
+                        counts.skipped++;
                     }
                 }
                 return true;
             }
         });
-
-        if (count[0] > 0) {
-            applyRewrite(context, rewrite);
-            logSuccess("Replaced " + count[0] + " System.out/err calls in class '"
-                    + ASTUtil.getName(typeDecl) + "'");
-        } else {
-            logWarning("No System.out/err calls found in class");
-        }
+        return counts;
     }
 }
@@ -0,0 +1,87 @@
+package ro.gs1.log4e2026.handlers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import ro.gs1.log4e2026.jdt.CompilationUnitCollector;
+import ro.gs1.log4e2026.operations.LoggingOperation;
+
+/**
+ * Handler for replacing System.out/err calls with logging in all classes of
+ * the packages, source folders or projects selected in Package Explorer.
+ * The Java search finds the units that reference System.out or System.err;
+ * only those are parsed and rewritten.
+ */
+public class SubstituteClassResourceHandler extends BaseClassResourceHandler {
+
+    private static final String[] STREAMS = { "java.lang.System.out", "java.lang.System.err" };
+
+    @Override
+    protected String getTitle() {
+        return "Replace System.out/err in classes";
+    }
+
+    @Override
+    protected String getDoneLabel() {
+        return "calls replaced";
+    }
+
+    @Override
+    protected String getSkippedLabel() {
+        return "calls kept";
+    }
+
+    @Override
+    protected List<?> getElements(List<?> selected, IProgressMonitor monitor) throws CoreException {
+        IJavaSearchScope scope = SearchEngine.createJavaSearchScope(CompilationUnitCollector.toJavaElements(selected),
+                IJavaSearchScope.SOURCES);
+        SearchPattern pattern = null;
+        for (String stream : STREAMS) {
+            SearchPattern streamPattern = SearchPattern.createPattern(stream, IJavaSearchConstants.FIELD,
+                    IJavaSearchConstants.REFERENCES, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+            pattern = pattern == null ? streamPattern : SearchPattern.createOrPattern(pattern, streamPattern);
+        }
+
+        Set<ICompilationUnit> units = new LinkedHashSet<>();
+        new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+                scope, new SearchRequestor() {
+                    @Override
+                    public void acceptSearchMatch(SearchMatch match) {
+                        IJavaElement element = (IJavaElement) match.getElement();
+                        ICompilationUnit cu = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+                        if (cu != null) {
+                            units.add(cu);
+                        }
+                    }
+                }, monitor);
+        return new ArrayList<>(units);
+    }
+
+    @Override
+    protected BatchSummary.Counts processType(LoggingOperation operation, ASTRewrite rewrite,
+            AST ast, TypeDeclaration typeDecl) {
+        // The calls of member types are replaced with those of their top-level type
+        if (!(typeDecl.getParent() instanceof CompilationUnit)) {
+            return new BatchSummary.Counts();
+        }
+        return SubstituteClassHandler.replaceSystemPrintln(operation, rewrite, ast, typeDecl);
+    }
+}
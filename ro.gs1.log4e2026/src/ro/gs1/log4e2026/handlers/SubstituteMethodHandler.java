@@ -52,12 +52,11 @@ public class SubstituteMethodHandler extends BaseLogHandler {
             @Override
             public boolean visit(MethodInvocation node) {
                 if (operation.isSystemPrintln(node)) {
-                    // Determine log level based on System.out vs System.err
-                    String expr = node.getExpression().toString();
-                    LogLevel level = "System.err".equals(expr) ? LogLevel.ERROR : LogLevel.INFO;
+                    // Level from the replace preferences, null if the stream is not replaced
+                    LogLevel level = operation.getSystemPrintlnLevel(node);
 
                     Statement parent = (Statement) node.getParent();
-                    if (parent instanceof ExpressionStatement) {
+                    if (level != null && parent instanceof ExpressionStatement) {
                         Statement replacement = operation.replaceSystemPrintln(ast, node, level);
                         rewrite.replace(parent, replacement, null);
                         count[0]++;
@@ -21,6 +21,11 @@ import ro.gs1.log4e2026.operations.OperationContext;
  */
 public class SubstituteMethodResourceHandler extends BaseMethodResourceHandler {
 
+    @Override
+    protected String getTitle() {
+        return "Replace System.out/err in methods";
+    }
+
     @Override
     protected void processMethod(OperationContext context) throws Exception {
         MethodDeclaration method = context.getSelectedMethod();
@@ -36,11 +41,11 @@ public class SubstituteMethodResourceHandler extends BaseMethodResourceHandler {
             @Override
             public boolean visit(MethodInvocation node) {
                 if (operation.isSystemPrintln(node)) {
-                    String expr = node.getExpression().toString();
-                    LogLevel level = "System.err".equals(expr) ? LogLevel.ERROR : LogLevel.INFO;
+                    // Level from the replace preferences, null if the stream is not replaced
+                    LogLevel level = operation.getSystemPrintlnLevel(node);
 
                     Statement parent = (Statement) node.getParent();
-                    if (parent instanceof ExpressionStatement) {
+                    if (level != null && parent instanceof ExpressionStatement) {
                         Statement replacement = operation.replaceSystemPrintln(ast, node, level);
                         rewrite.replace(parent, replacement, null);
                         count[0]++;
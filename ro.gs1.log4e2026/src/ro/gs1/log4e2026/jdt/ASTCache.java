@@ -0,0 +1,208 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+/**
+ * Plugin-wide cache of ASTs, keyed by compilation unit and modification stamp.
+ * Each entry remembers the {@link ParseRequirements} it was parsed for and serves
+ * requests for any subset of them.
+ * Entries are evicted in LRU order once the estimated size exceeds the memory bound.
+ */
+public final class ASTCache {
+
+    /** Default upper bound of the estimated size of all cached ASTs, in bytes. */
+    public static final long DEFAULT_MEMORY_BOUND = 64L * 1024 * 1024;
+
+    /** Marks stamps of editor documents, so they never equal a resource stamp. */
+    private static final long CONTENT_STAMP_FLAG = Long.MIN_VALUE;
+
+    private static final Object LOCK = new Object();
+    private static ASTCache instance;
+
+    private final Map<ICompilationUnit, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long memoryBound;
+    private long currentSize;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private static final class Entry {
+        final long stamp;
+        final ParseRequirements requirements;
+        final CompilationUnit astRoot;
+        final long size;
+
+        Entry(long stamp, ParseRequirements requirements, CompilationUnit astRoot, long size) {
+            this.stamp = stamp;
+            this.requirements = requirements;
+            this.astRoot = astRoot;
+            this.size = size;
+        }
+    }
+
+    ASTCache(long memoryBound) {
+        this.memoryBound = memoryBound;
+    }
+
+    public static ASTCache getInstance() {
+        synchronized (LOCK) {
+            if (instance == null) {
+                instance = new ASTCache(DEFAULT_MEMORY_BOUND);
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Returns the full syntax tree of the compilation unit, without bindings.
+     * @see #getAST(ICompilationUnit, ParseRequirements)
+     */
+    public CompilationUnit getAST(ICompilationUnit unit) {
+        return getAST(unit, ParseRequirements.SYNTAX);
+    }
+
+    /**
+     * Returns an AST of the compilation unit satisfying the requirements, parsing
+     * it only if the cached AST is missing, was built from an older buffer state,
+     * or was parsed for fewer requirements.
+     */
+    public CompilationUnit getAST(ICompilationUnit unit, ParseRequirements requirements) {
+        long stamp = getModificationStamp(unit);
+        if (stamp == IResource.NULL_STAMP) {
+            misses.incrementAndGet();
+            return parse(unit, requirements);
+        }
+        synchronized (this) {
+            Entry entry = entries.get(unit);
+            if (entry != null && entry.stamp == stamp) {
+                if (entry.requirements.satisfies(requirements)) {
+                    hits.incrementAndGet();
+                    return entry.astRoot;
+                }
+                // Replace the entry with one serving both the old and the new requests
+                requirements = requirements.union(entry.requirements);
+            }
+        }
+        misses.incrementAndGet();
+
+        CompilationUnit astRoot = parse(unit, requirements);
+        put(unit, stamp, requirements, astRoot);
+        return astRoot;
+    }
+
+    /**
+     * Removes the cached AST of a compilation unit.
+     */
+    public synchronized void invalidate(ICompilationUnit unit) {
+        Entry entry = entries.remove(unit);
+        if (entry != null) {
+            currentSize -= entry.size;
+        }
+    }
+
+    /**
+     * Removes all cached ASTs. Hit and miss counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        currentSize = 0;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getEstimatedSize() {
+        return currentSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ASTCache[entries=" + size() + ", bytes=" + getEstimatedSize()
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+
+    /**
+     * Computes the modification stamp used as cache key. Units with unsaved
+     * changes in an editor are stamped with the modification stamp of the
+     * editor document, all others use the resource modification stamp.
+     * Returns {@link IResource#NULL_STAMP} if no stamp can be computed, e.g.
+     * for the working copies of other owners, in which case the AST is not
+     * cached.
+     */
+    static long getModificationStamp(ICompilationUnit unit) {
+        IResource resource;
+        try {
+            resource = unit.getResource();
+            if (resource != null && !unit.hasUnsavedChanges()) {
+                return resource.getModificationStamp();
+            }
+        } catch (JavaModelException e) {
+            return IResource.NULL_STAMP;
+        }
+        // Only the buffer of a primary working copy is the document of the file buffer
+        if (resource == null || unit.getOwner() != null) {
+            return IResource.NULL_STAMP;
+        }
+        ITextFileBuffer fileBuffer = FileBuffers.getTextFileBufferManager()
+                .getTextFileBuffer(resource.getFullPath(), LocationKind.IFILE);
+        if (fileBuffer == null || !(fileBuffer.getDocument() instanceof IDocumentExtension4)) {
+            return IResource.NULL_STAMP;
+        }
+        long stamp = ((IDocumentExtension4) fileBuffer.getDocument()).getModificationStamp();
+        if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+            return IResource.NULL_STAMP;
+        }
+        return CONTENT_STAMP_FLAG | stamp;
+    }
+
+    private static CompilationUnit parse(ICompilationUnit unit, ParseRequirements requirements) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setSource(unit);
+        requirements.configure(parser, unit.getJavaProject());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    private synchronized void put(ICompilationUnit unit, long stamp, ParseRequirements requirements,
+            CompilationUnit astRoot) {
+        long size = astRoot.subtreeBytes();
+        Entry previous = entries.put(unit, new Entry(stamp, requirements, astRoot, size));
+        if (previous != null) {
+            currentSize -= previous.size;
+        }
+        currentSize += size;
+
+        // Evict least recently used entries, but always keep the one just added
+        Iterator<Entry> it = entries.values().iterator();
+        while (currentSize > memoryBound && entries.size() > 1 && it.hasNext()) {
+            Entry eldest = it.next();
+            if (eldest.astRoot == astRoot) {
+                continue;
+            }
+            it.remove();
+            currentSize -= eldest.size;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import ro.gs1.log4e2026.templates.TemplateValues;
+
+/**
+ * A template parsed once into an AST node whose ${...} placeholders are kept as
+ * slots. {@link #instantiate(AST, TemplateValues)} copies the node into a target
+ * AST and fills the slots, so no parser is needed per generated node.
+ *
+ * Placeholders may stand for an identifier or name, or appear inside a string
+ * literal. An identifier slot with an empty value is removed if it is an
+ * element of a list, e.g. a method argument.
+ */
+public final class ASTPrototype {
+
+    /** Kind of node a template is parsed into. */
+    public enum Kind {
+        STATEMENT, EXPRESSION, FIELD
+    }
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([a-zA-Z_]+)\\}");
+    private static final Pattern SLOT = Pattern.compile("\\$([a-zA-Z_]+)\\$");
+
+    private final String source;
+    private final Kind kind;
+    private final ASTNode node;
+
+    private ASTPrototype(String source, Kind kind, ASTNode node) {
+        this.source = source;
+        this.kind = kind;
+        this.node = node;
+    }
+
+    /**
+     * Compiles a template. Returns null if the template is empty or is not a
+     * single valid node of the given kind.
+     */
+    public static ASTPrototype compile(String template, Kind kind) {
+        if (template == null || template.trim().isEmpty()) {
+            return null;
+        }
+        String code = PLACEHOLDER.matcher(template.trim()).replaceAll("\\$$1\\$");
+        ASTNode parsed = parse(code, kind);
+        if (parsed == null || hasProblems(parsed)) {
+            return null;
+        }
+        return new ASTPrototype(template, kind, parsed);
+    }
+
+    private static ASTNode parse(String code, Kind kind) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        switch (kind) {
+            case EXPRESSION:
+                if (code.endsWith(";")) {
+                    code = code.substring(0, code.length() - 1);
+                }
+                parser.setKind(ASTParser.K_EXPRESSION);
+                parser.setSource(code.toCharArray());
+                ASTNode expression = parser.createAST(null);
+                return expression instanceof Expression ? expression : null;
+            case STATEMENT:
+                if (!code.endsWith(";") && !code.endsWith("}")) {
+                    code = code + ";";
+                }
+                parser.setKind(ASTParser.K_STATEMENTS);
+                parser.setSource(code.toCharArray());
+                ASTNode statements = parser.createAST(null);
+                if (statements instanceof Block && ((Block) statements).statements().size() == 1) {
+                    return (ASTNode) ((Block) statements).statements().get(0);
+                }
+                return null;
+            case FIELD:
+                parser.setKind(ASTParser.K_CLASS_BODY_DECLARATIONS);
+                parser.setSource(code.toCharArray());
+                ASTNode body = parser.createAST(null);
+                if (body instanceof TypeDeclaration && ((TypeDeclaration) body).getFields().length == 1
+                        && ((TypeDeclaration) body).bodyDeclarations().size() == 1) {
+                    return ((TypeDeclaration) body).getFields()[0];
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean hasProblems(ASTNode root) {
+        boolean[] problems = new boolean[1];
+        root.accept(new ASTVisitor() {
+            @Override
+            public void preVisit(ASTNode node) {
+                if ((node.getFlags() & (ASTNode.MALFORMED | ASTNode.RECOVERED)) != 0) {
+                    problems[0] = true;
+                }
+            }
+        });
+        return problems[0];
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Copies the prototype into the target AST and fills the slots with the
+     * values of the template variables. Slots without a value are filled with
+     * an empty string.
+     */
+    public ASTNode instantiate(AST target, TemplateValues values) {
+        ASTNode copy;
+        synchronized (this) {
+            copy = ASTNode.copySubtree(target, node);
+        }
+
+        List<SimpleName> names = new ArrayList<>();
+        List<StringLiteral> literals = new ArrayList<>();
+        copy.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(SimpleName name) {
+                if (SLOT.matcher(name.getIdentifier()).matches()) {
+                    names.add(name);
+                }
+                return false;
+            }
+
+            @Override
+            public boolean visit(StringLiteral literal) {
+                if (literal.getEscapedValue().indexOf('$') >= 0) {
+                    literals.add(literal);
+                }
+                return false;
+            }
+        });
+
+        for (StringLiteral literal : literals) {
+            literal.setLiteralValue(fill(literal.getLiteralValue(), values));
+        }
+        for (SimpleName name : names) {
+            String value = fill(name.getIdentifier(), values);
+            if (copy == name) {
+                // Only possible for a bare expression template, e.g. "${logger}"
+                copy = value.isEmpty() ? copy : target.newName(value);
+            } else {
+                replaceName(target, name, value);
+            }
+        }
+        return copy;
+    }
+
+    private static String fill(String text, TemplateValues values) {
+        Matcher matcher = SLOT.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 32);
+        int last = 0;
+        do {
+            sb.append(text, last, matcher.start());
+            String value = values.get("${" + matcher.group(1) + "}");
+            if (value != null) {
+                sb.append(value);
+            }
+            last = matcher.end();
+        } while (matcher.find());
+        sb.append(text, last, text.length());
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void replaceName(AST target, SimpleName name, String value) {
+        ASTNode parent = name.getParent();
+        StructuralPropertyDescriptor location = name.getLocationInParent();
+        if (value.isEmpty()) {
+            if (location.isChildListProperty()) {
+                ((List<ASTNode>) parent.getStructuralProperty(location)).remove(name);
+            }
+            return;
+        }
+        if (value.indexOf('.') < 0) {
+            name.setIdentifier(value);
+        } else if (location.isChildListProperty()) {
+            List<ASTNode> list = (List<ASTNode>) parent.getStructuralProperty(location);
+            list.set(list.indexOf(name), target.newName(value));
+        } else if (location.isChildProperty()) {
+            parent.setStructuralProperty(location, target.newName(value));
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package ro.gs1.log4e2026.jdt;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CatchClause;
 import org.eclipse.jdt.core.dom.ClassInstanceCreation;
@@ -40,16 +42,6 @@ public final class ASTUtil {
     private ASTUtil() {
     }
 
-    /**
-     * Parses a compilation unit.
-     */
-    public static CompilationUnit parseCompilationUnit(ICompilationUnit unit) {
-        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-        parser.setSource(unit);
-        parser.setResolveBindings(true);
-        return (CompilationUnit) parser.createAST(null);
-    }
-
     /**
      * Parses a compilation unit from source characters.
      */
@@ -249,6 +241,32 @@ public final class ASTUtil {
         return typeDeclaration.getName().getIdentifier();
     }
 
+    /**
+     * Gets the qualified name of a type, with '.' between the names of nested
+     * types, e.g. "p.Outer.Inner". A local or anonymous type is named by its
+     * enclosing member type, since it has no name of its own outside the method.
+     */
+    public static String getQualifiedName(AbstractTypeDeclaration typeDeclaration) {
+        ASTNode node = typeDeclaration;
+        while (node != null && !(node instanceof AbstractTypeDeclaration
+                && !((AbstractTypeDeclaration) node).isLocalTypeDeclaration())) {
+            node = node.getParent();
+        }
+        if (node == null) {
+            return null;
+        }
+        StringBuilder name = new StringBuilder(((AbstractTypeDeclaration) node).getName().getIdentifier());
+        ASTNode parent = node.getParent();
+        while (parent instanceof AbstractTypeDeclaration) {
+            name.insert(0, ((AbstractTypeDeclaration) parent).getName().getIdentifier() + ".");
+            parent = parent.getParent();
+        }
+        if (parent instanceof CompilationUnit && ((CompilationUnit) parent).getPackage() != null) {
+            name.insert(0, ((CompilationUnit) parent).getPackage().getName().getFullyQualifiedName() + ".");
+        }
+        return name.toString();
+    }
+
     /**
      * Gets the name of a MethodDeclaration.
      */
@@ -538,6 +556,29 @@ public final class ASTUtil {
         return catches;
     }
 
+    /**
+     * Returns the identifiers of all simple names in a compilation unit, outside
+     * its package and import declarations and outside the excluded nodes, e.g.
+     * nodes an ASTRewrite removes. Used to find imports that are no longer needed.
+     */
+    public static Set<String> getReferencedNames(CompilationUnit cu, Set<ASTNode> excluded) {
+        Set<String> names = new HashSet<>();
+        cu.accept(new ASTVisitor() {
+            @Override
+            public boolean preVisit2(ASTNode node) {
+                return !excluded.contains(node) && !(node instanceof ImportDeclaration)
+                        && !(node instanceof PackageDeclaration);
+            }
+
+            @Override
+            public boolean visit(SimpleName node) {
+                names.add(node.getIdentifier());
+                return false;
+            }
+        });
+        return names;
+    }
+
     /**
      * Gets the exception variable name from a catch clause.
      */
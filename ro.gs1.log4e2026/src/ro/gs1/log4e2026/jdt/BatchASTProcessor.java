@@ -0,0 +1,342 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.settings.OperationSettings;
+
+/**
+ * Staged engine for operations on many compilation units:
+ * <ol>
+ * <li>the selection is enumerated on the calling thread, streaming units into per-project batches,</li>
+ * <li>each batch is parsed with one {@link ASTParser#createASTs} call,</li>
+ * <li>{@link #process} runs in parallel on the parsed ASTs, with a bounded number of ASTs in flight,</li>
+ * <li>{@link #apply} runs serialized on a single thread, in completion order.</li>
+ * </ol>
+ * Subclasses must treat the ASTs as read-only; changes are computed into the result,
+ * e.g. the TextEdit of an ASTRewrite.
+ *
+ * @param <R> result of processing one compilation unit, null if there is nothing to apply
+ */
+public abstract class BatchASTProcessor<R> {
+
+    /** Default number of compilation units parsed by one createASTs call. */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /** Default number of parsed ASTs waiting for or being processed at the same time. */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final String name;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int workerCount = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() - 1));
+    private ParseRequirements parseRequirements = ParseRequirements.SYNTAX;
+
+    private final Statistics statistics = new Statistics();
+
+    // Settings per project, resolved once so the whole run uses the same profile
+    private final Map<IJavaProject, OperationSettings> settings = new ConcurrentHashMap<>();
+
+    /**
+     * Counters of one run. Updated concurrently while the run is in progress.
+     */
+    public static final class Statistics {
+        private final AtomicInteger found = new AtomicInteger();
+        private final AtomicInteger filtered = new AtomicInteger();
+        private final AtomicInteger parsed = new AtomicInteger();
+        private final AtomicInteger changed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private long startTime;
+        private volatile long endTime;
+
+        public int getFound() {
+            return found.get();
+        }
+
+        /**
+         * Returns the number of units skipped by {@link BatchASTProcessor#accept} without parsing.
+         */
+        public int getFiltered() {
+            return filtered.get();
+        }
+
+        public int getParsed() {
+            return parsed.get();
+        }
+
+        public int getChanged() {
+            return changed.get();
+        }
+
+        public int getFailed() {
+            return failed.get();
+        }
+
+        public long getElapsedMillis() {
+            long end = endTime != 0 ? endTime : System.currentTimeMillis();
+            return Math.max(1, end - startTime);
+        }
+
+        public double getFilesPerSecond() {
+            return parsed.get() * 1000.0 / getElapsedMillis();
+        }
+
+        @Override
+        public String toString() {
+            String text = String.format("%d files, %d changed, %d failed in %d ms (%.1f files/sec)",
+                    getParsed(), getChanged(), getFailed(), getElapsedMillis(), getFilesPerSecond());
+            return getFiltered() > 0 ? text + ", " + getFiltered() + " skipped without parsing" : text;
+        }
+    }
+
+    protected BatchASTProcessor(String name) {
+        this.name = name;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    public void setWorkerCount(int workerCount) {
+        this.workerCount = Math.max(1, workerCount);
+    }
+
+    /**
+     * Sets what {@link #process} needs from the ASTs. Bound ASTs keep the whole
+     * batch's environment alive, so only require bindings if really used.
+     */
+    public void setParseRequirements(ParseRequirements parseRequirements) {
+        this.parseRequirements = parseRequirements;
+    }
+
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the operation settings of a project. The first call of a run
+     * resolves them; later calls return the same settings, even if the
+     * preferences or profiles are edited while the run is in progress.
+     */
+    protected OperationSettings getSettings(IJavaProject project) {
+        return settings.computeIfAbsent(project, p -> OperationSettings.get(p.getProject()));
+    }
+
+    /**
+     * Checks if a unit needs to be parsed and processed, e.g. by an index query.
+     * Called on the enumerating thread before the unit is parsed.
+     */
+    protected boolean accept(ICompilationUnit cu, IProgressMonitor monitor) {
+        return true;
+    }
+
+    /**
+     * Computes the result for one compilation unit. Called in parallel from worker threads.
+     *
+     * @param source the source the AST was parsed from
+     * @return the result to apply, or null if the unit needs no change
+     */
+    protected abstract R process(ICompilationUnit cu, CompilationUnit astRoot, String source) throws Exception;
+
+    /**
+     * Applies the result of one compilation unit. Called from a single thread.
+     *
+     * @param source the source the result was computed from
+     * @return true if the unit was changed
+     */
+    protected abstract boolean apply(ICompilationUnit cu, String source, R result) throws Exception;
+
+    /**
+     * Runs all stages for the compilation units of the selected elements
+     * and waits until every result was applied.
+     *
+     * @throws OperationCanceledException if the monitor was canceled
+     */
+    public Statistics run(List<?> elements, IProgressMonitor monitor) {
+        statistics.startTime = System.currentTimeMillis();
+        monitor.beginTask(name, IProgressMonitor.UNKNOWN);
+
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount, threadFactory("worker"));
+        ExecutorService applier = Executors.newSingleThreadExecutor(threadFactory("apply"));
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Map<IJavaProject, List<ICompilationUnit>> pending = new LinkedHashMap<>();
+        try {
+            CompilationUnitCollector collector = new CompilationUnitCollector(cu -> {
+                statistics.found.incrementAndGet();
+                if (!accept(cu, monitor)) {
+                    statistics.filtered.incrementAndGet();
+                    return;
+                }
+                List<ICompilationUnit> batch = pending.computeIfAbsent(cu.getJavaProject(), p -> new ArrayList<>());
+                batch.add(cu);
+                if (batch.size() >= batchSize) {
+                    pending.remove(cu.getJavaProject());
+                    parse(cu.getJavaProject(), batch, workers, applier, inFlight, monitor);
+                }
+            }, monitor);
+            for (Object element : elements) {
+                try {
+                    collector.collect(element);
+                } catch (JavaModelException e) {
+                    Log4e2026Plugin.logError("Error collecting compilation units", e);
+                }
+            }
+            for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : pending.entrySet()) {
+                parse(entry.getKey(), entry.getValue(), workers, applier, inFlight, monitor);
+            }
+            pending.clear();
+
+            // All ASTs are handed out; wait for processing, then for the queued applies
+            workers.shutdown();
+            awaitTermination(workers, monitor);
+            applier.shutdown();
+            awaitTermination(applier, monitor);
+        } finally {
+            workers.shutdownNow();
+            applier.shutdownNow();
+            statistics.endTime = System.currentTimeMillis();
+            monitor.done();
+        }
+        return statistics;
+    }
+
+    private void parse(IJavaProject project, List<ICompilationUnit> batch, ExecutorService workers,
+            ExecutorService applier, Semaphore inFlight, IProgressMonitor monitor) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setProject(project);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parseRequirements.configure(parser, project);
+
+        ASTRequestor requestor = new ASTRequestor() {
+            @Override
+            public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+                acquire(inFlight, monitor);
+                statistics.parsed.incrementAndGet();
+                reportProgress(monitor);
+                try {
+                    String contents = getSource(source);
+                    workers.execute(() -> processUnit(source, ast, contents, applier, inFlight));
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+        };
+        parser.createASTs(batch.toArray(new ICompilationUnit[0]), new String[0], requestor,
+                new NullProgressMonitor() {
+                    // Only forward cancellation, the outer monitor tracks the whole run
+                    @Override
+                    public boolean isCanceled() {
+                        return monitor.isCanceled();
+                    }
+                });
+        if (monitor.isCanceled()) {
+            throw new OperationCanceledException();
+        }
+    }
+
+    private static String getSource(ICompilationUnit cu) {
+        try {
+            return cu.getSource();
+        } catch (JavaModelException e) {
+            Log4e2026Plugin.logError("Failed to read " + cu.getElementName(), e);
+            return null;
+        }
+    }
+
+    private void processUnit(ICompilationUnit cu, CompilationUnit astRoot, String source,
+            ExecutorService applier, Semaphore inFlight) {
+        R result;
+        try {
+            result = source != null ? process(cu, astRoot, source) : null;
+        } catch (Exception e) {
+            statistics.failed.incrementAndGet();
+            Log4e2026Plugin.logError(name + " failed for " + cu.getElementName(), e);
+            return;
+        } finally {
+            // The AST is no longer referenced once the result is computed
+            inFlight.release();
+        }
+        if (result != null) {
+            applier.execute(() -> applyUnit(cu, source, result));
+        }
+    }
+
+    private void applyUnit(ICompilationUnit cu, String source, R result) {
+        try {
+            if (apply(cu, source, result)) {
+                statistics.changed.incrementAndGet();
+            }
+        } catch (Exception e) {
+            statistics.failed.incrementAndGet();
+            Log4e2026Plugin.logError(name + " failed to apply changes to " + cu.getElementName(), e);
+        }
+    }
+
+    private void reportProgress(IProgressMonitor monitor) {
+        monitor.subTask(String.format("%d of %d files (%.1f files/sec)",
+                statistics.getParsed(), statistics.getFound(), statistics.getFilesPerSecond()));
+        monitor.worked(1);
+    }
+
+    private static void acquire(Semaphore semaphore, IProgressMonitor monitor) {
+        try {
+            while (!semaphore.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor, IProgressMonitor monitor) {
+        try {
+            while (!executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String role) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Log4E batch " + role + " " + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
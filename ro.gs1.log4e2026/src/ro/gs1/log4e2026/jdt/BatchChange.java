@@ -0,0 +1,200 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+import org.eclipse.jface.dialogs.IDialogConstants;
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.ui.refactoring.RefactoringWizard;
+import org.eclipse.ltk.ui.refactoring.RefactoringWizardOpenOperation;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.text.edits.TextEdit;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+
+/**
+ * The edits of a batch operation as one LTK {@link CompositeChange} with a
+ * {@link CompilationUnitChange} per file. A file change holds only its edit;
+ * the refactoring preview lists the files at once and computes the diff of
+ * a file when it is selected. The change is performed in one workspace
+ * operation, locked on the changed projects, and undone in one step from
+ * Edit &gt; Undo.
+ */
+public final class BatchChange {
+
+    /**
+     * Keeps the validation state taken when the edit was added, which refers
+     * to the source the edit was computed from. The refactoring wizard
+     * initializes the validation data again before the preview.
+     */
+    private static final class FileChange extends CompilationUnitChange {
+        private boolean initialized;
+
+        FileChange(String name, ICompilationUnit cu) {
+            super(name, cu);
+        }
+
+        @Override
+        public void initializeValidationData(IProgressMonitor pm) {
+            if (!initialized) {
+                initialized = true;
+                super.initializeValidationData(pm);
+            }
+        }
+    }
+
+    /**
+     * Hands the collected change to the refactoring wizard.
+     */
+    private static final class BatchRefactoring extends Refactoring {
+        private final CompositeChange change;
+
+        BatchRefactoring(CompositeChange change) {
+            this.change = change;
+        }
+
+        @Override
+        public String getName() {
+            return change.getName();
+        }
+
+        @Override
+        public RefactoringStatus checkInitialConditions(IProgressMonitor pm) {
+            return new RefactoringStatus();
+        }
+
+        @Override
+        public RefactoringStatus checkFinalConditions(IProgressMonitor pm) {
+            return new RefactoringStatus();
+        }
+
+        @Override
+        public Change createChange(IProgressMonitor pm) {
+            return change;
+        }
+    }
+
+    private static final class PreviewWizard extends RefactoringWizard {
+        PreviewWizard(Refactoring refactoring) {
+            super(refactoring, DIALOG_BASED_USER_INTERFACE);
+            setDefaultPageTitle(refactoring.getName());
+        }
+
+        @Override
+        protected void addUserInputPages() {
+            // Nothing to ask, the wizard opens with the preview
+        }
+    }
+
+    private final String name;
+    private final List<FileChange> changes = new ArrayList<>();
+
+    /**
+     * @param name the name of the change, shown in the preview and in Edit &gt; Undo
+     */
+    public BatchChange(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds the edit of a unit, computed from the given source. The unit is
+     * skipped if its source changed since it was parsed.
+     *
+     * @param description what changes in the unit, or null
+     * @return true if the edit was added
+     */
+    public synchronized boolean add(ICompilationUnit cu, String source, TextEdit edit, String description)
+            throws JavaModelException {
+        if (!source.equals(cu.getSource())) {
+            Log4e2026Plugin.logWarning(cu.getElementName() + " changed while processing, skipped");
+            return false;
+        }
+        FileChange fileChange = new FileChange(
+                description != null ? cu.getElementName() + " - " + description : cu.getElementName(), cu);
+        fileChange.setEdit(edit);
+        fileChange.setSaveMode(TextFileChange.KEEP_SAVE_STATE);
+        fileChange.initializeValidationData(null);
+        changes.add(fileChange);
+        return true;
+    }
+
+    /**
+     * Returns the number of files changed.
+     */
+    public synchronized int size() {
+        return changes.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    private synchronized List<ICompilationUnit> getUnits() {
+        List<ICompilationUnit> units = new ArrayList<>();
+        for (FileChange fileChange : changes) {
+            units.add(fileChange.getCompilationUnit());
+        }
+        return units;
+    }
+
+    /**
+     * Performs the change, after the preview if a shell is given. Without a
+     * preview, the change is performed on the calling thread.
+     *
+     * @param shell the shell of the preview, or null to perform without preview
+     * @return true if the change was performed, false if the preview was canceled
+     * @throws OperationCanceledException if the monitor was canceled
+     */
+    public boolean perform(Shell shell, IProgressMonitor monitor) throws CoreException {
+        if (isEmpty()) {
+            return false;
+        }
+        // The files are added in the order they were processed; list them by path
+        CompositeChange change = new CompositeChange(name);
+        synchronized (this) {
+            changes.sort(Comparator.comparing(fileChange -> fileChange.getFile().getFullPath().toString()));
+            for (FileChange fileChange : changes) {
+                change.add(fileChange);
+            }
+        }
+        if (shell != null) {
+            boolean[] performed = new boolean[1];
+            Display.getDefault().syncExec(() -> {
+                try {
+                    performed[0] = new RefactoringWizardOpenOperation(new PreviewWizard(new BatchRefactoring(change)))
+                            .run(shell, name) == IDialogConstants.OK_ID;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return performed[0];
+        }
+
+        ISchedulingRule rule = WorkspaceTransaction.getRule(getUnits());
+        PerformChangeOperation operation = new PerformChangeOperation(change);
+        operation.setUndoManager(RefactoringCore.getUndoManager(), name);
+        operation.setSchedulingRule(rule);
+        WorkspaceTransaction.run(name, rule, operation, monitor);
+        RefactoringStatus status = operation.getValidationStatus();
+        if (status != null && status.hasFatalError()) {
+            Log4e2026Plugin.logWarning(name + " not applied: "
+                    + status.getMessageMatchingSeverity(RefactoringStatus.FATAL));
+        }
+        return operation.changeExecuted();
+    }
+}
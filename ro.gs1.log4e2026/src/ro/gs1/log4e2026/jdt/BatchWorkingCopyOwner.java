@@ -0,0 +1,23 @@
+package ro.gs1.log4e2026.jdt;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+
+/**
+ * The working copy owner shared by batch operations. A working copy of this
+ * owner has its own buffer, separate from open editors: all edits of a unit
+ * are applied to it, and the unit is written once with
+ * {@link ICompilationUnit#commitWorkingCopy}, so it gets one Java model update
+ * and one disk write however many edits it had.
+ */
+public final class BatchWorkingCopyOwner extends WorkingCopyOwner {
+
+    private static final BatchWorkingCopyOwner INSTANCE = new BatchWorkingCopyOwner();
+
+    private BatchWorkingCopyOwner() {
+    }
+
+    public static BatchWorkingCopyOwner getInstance() {
+        return INSTANCE;
+    }
+}
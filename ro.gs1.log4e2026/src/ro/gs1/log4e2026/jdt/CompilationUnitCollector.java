@@ -0,0 +1,136 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Enumerates the compilation units of selected Java elements and resources,
+ * passing each unit to a consumer as soon as it is found. Each unit is passed
+ * only once, even if it is reachable from several selected elements.
+ */
+public class CompilationUnitCollector {
+
+    private final Consumer<ICompilationUnit> consumer;
+    private final IProgressMonitor monitor;
+    private final Set<ICompilationUnit> seen = new HashSet<>();
+
+    public CompilationUnitCollector(Consumer<ICompilationUnit> consumer, IProgressMonitor monitor) {
+        this.consumer = consumer;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the number of distinct compilation units found so far.
+     */
+    public int getCount() {
+        return seen.size();
+    }
+
+    /**
+     * Collects the compilation units of a selected element: a compilation unit,
+     * type, package, source folder, Java project, or a resource adapting to one.
+     */
+    public void collect(Object element) throws JavaModelException {
+        if (monitor != null && monitor.isCanceled()) {
+            throw new OperationCanceledException();
+        }
+        if (element instanceof ICompilationUnit) {
+            accept((ICompilationUnit) element);
+        } else if (element instanceof IType) {
+            ICompilationUnit cu = ((IType) element).getCompilationUnit();
+            if (cu != null) {
+                accept(cu);
+            }
+        } else if (element instanceof IPackageFragment) {
+            IPackageFragment pkg = (IPackageFragment) element;
+            for (ICompilationUnit cu : pkg.getCompilationUnits()) {
+                accept(cu);
+            }
+        } else if (element instanceof IPackageFragmentRoot) {
+            IPackageFragmentRoot root = (IPackageFragmentRoot) element;
+            for (IJavaElement child : root.getChildren()) {
+                if (child instanceof IPackageFragment) {
+                    collect(child);
+                }
+            }
+        } else if (element instanceof IJavaProject) {
+            IJavaProject project = (IJavaProject) element;
+            for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+                if (!root.isArchive() && root.getKind() == IPackageFragmentRoot.K_SOURCE
+                        && project.equals(root.getJavaProject())) {
+                    collect(root);
+                }
+            }
+        } else if (element instanceof IFile) {
+            IFile file = (IFile) element;
+            if ("java".equals(file.getFileExtension())) {
+                IJavaElement javaElement = JavaCore.create(file);
+                if (javaElement instanceof ICompilationUnit) {
+                    accept((ICompilationUnit) javaElement);
+                }
+            }
+        } else if (element instanceof IFolder) {
+            IJavaElement javaElement = JavaCore.create((IFolder) element);
+            if (javaElement != null) {
+                collect(javaElement);
+            }
+        } else if (element instanceof IProject) {
+            IJavaElement javaElement = JavaCore.create((IProject) element);
+            if (javaElement instanceof IJavaProject && ((IJavaProject) javaElement).exists()) {
+                collect(javaElement);
+            }
+        } else if (element instanceof IAdaptable) {
+            IResource resource = ((IAdaptable) element).getAdapter(IResource.class);
+            if (resource != null) {
+                collect(resource);
+            }
+        }
+    }
+
+    /**
+     * Returns the Java elements of selected elements and resources, e.g. to
+     * create a search scope over the selection.
+     */
+    public static IJavaElement[] toJavaElements(List<?> elements) {
+        List<IJavaElement> javaElements = new ArrayList<>();
+        for (Object element : elements) {
+            IJavaElement javaElement = null;
+            if (element instanceof IJavaElement) {
+                javaElement = (IJavaElement) element;
+            } else if (element instanceof IResource) {
+                javaElement = JavaCore.create((IResource) element);
+            } else if (element instanceof IAdaptable) {
+                javaElement = ((IAdaptable) element).getAdapter(IJavaElement.class);
+            }
+            if (javaElement != null) {
+                javaElements.add(javaElement);
+            }
+        }
+        return javaElements.toArray(new IJavaElement[0]);
+    }
+
+    private void accept(ICompilationUnit cu) {
+        if (seen.add(cu)) {
+            consumer.accept(cu);
+        }
+    }
+}
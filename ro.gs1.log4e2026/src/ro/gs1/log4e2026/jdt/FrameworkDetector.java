@@ -0,0 +1,157 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+import ro.gs1.log4e2026.templates.LoggerTemplates;
+
+/**
+ * Detects the logging framework of a compilation unit from its imports. The
+ * imports are read with the {@link IScanner}, which stops at the first type
+ * declaration, so no AST is built and the Java element is not opened.
+ * Results are cached per compilation unit and modification stamp.
+ */
+public final class FrameworkDetector {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    // Import prefixes of the framework ids of LoggerTemplates, checked in this order
+    private static final String[][] PREFIXES = {
+        { "org.slf4j.", LoggerTemplates.SLF4J },
+        { "org.apache.logging.log4j.", LoggerTemplates.LOG4J2 },
+        { "java.util.logging.", LoggerTemplates.JUL },
+    };
+
+    /** Cached result of a unit without a known framework. */
+    private static final String UNKNOWN = "";
+
+    private static final class Entry {
+        final long stamp;
+        final String framework;
+
+        Entry(long stamp, String framework) {
+            this.stamp = stamp;
+            this.framework = framework;
+        }
+    }
+
+    private static final Map<ICompilationUnit, Entry> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private FrameworkDetector() {
+    }
+
+    /**
+     * Returns the framework of a compilation unit.
+     *
+     * @return {@link LoggerTemplates#SLF4J}, {@link LoggerTemplates#LOG4J2},
+     *         {@link LoggerTemplates#JUL}, or null if unknown
+     */
+    public static String getFramework(ICompilationUnit cu) {
+        long stamp = ASTCache.getModificationStamp(cu);
+        if (stamp != IResource.NULL_STAMP) {
+            synchronized (CACHE) {
+                Entry entry = CACHE.get(cu);
+                if (entry != null && entry.stamp == stamp) {
+                    return entry.framework.isEmpty() ? null : entry.framework;
+                }
+            }
+        }
+        char[] source = SourceScanner.getSource(cu);
+        String framework = source != null ? detect(source) : null;
+        if (stamp != IResource.NULL_STAMP) {
+            synchronized (CACHE) {
+                CACHE.put(cu, new Entry(stamp, framework != null ? framework : UNKNOWN));
+            }
+        }
+        return framework;
+    }
+
+    /**
+     * Returns the framework of the first import of a logging framework in the
+     * source, or null if there is none. Scanning stops at the first token
+     * that is neither part of the package declaration nor of an import.
+     */
+    public static String detect(char[] source) {
+        IScanner scanner = ToolFactory.createScanner(false, false, false, JavaCore.latestSupportedJavaVersion());
+        scanner.setSource(source);
+        try {
+            int token;
+            while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF) {
+                switch (token) {
+                    case ITerminalSymbols.TokenNamepackage:
+                        skipDeclaration(scanner);
+                        break;
+                    case ITerminalSymbols.TokenNameimport:
+                        String framework = getFramework(readImport(scanner));
+                        if (framework != null) {
+                            return framework;
+                        }
+                        break;
+                    case ITerminalSymbols.TokenNameSEMICOLON:
+                        break;
+                    default:
+                        // Modifiers, annotations or the type declaration
+                        return null;
+                }
+            }
+        } catch (InvalidInputException e) {
+            // Malformed source before the first type, nothing to detect
+        }
+        return null;
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    private static String getFramework(String importName) {
+        for (String[] prefix : PREFIXES) {
+            if (importName.startsWith(prefix[0])) {
+                return prefix[1];
+            }
+        }
+        return null;
+    }
+
+    private static void skipDeclaration(IScanner scanner) throws InvalidInputException {
+        int token;
+        do {
+            token = scanner.getNextToken();
+        } while (token != ITerminalSymbols.TokenNameSEMICOLON && token != ITerminalSymbols.TokenNameEOF);
+    }
+
+    /**
+     * Reads the name of an import up to its semicolon, without the static modifier.
+     */
+    private static String readImport(IScanner scanner) throws InvalidInputException {
+        StringBuilder name = new StringBuilder();
+        int token;
+        while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameSEMICOLON
+                && token != ITerminalSymbols.TokenNameEOF) {
+            if (token != ITerminalSymbols.TokenNamestatic) {
+                name.append(scanner.getCurrentTokenSource());
+            }
+        }
+        return name.toString();
+    }
+}
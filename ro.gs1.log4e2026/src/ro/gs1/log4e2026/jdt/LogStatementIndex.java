@@ -0,0 +1,444 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.jdt.LogStatementTable.FileStatements;
+import ro.gs1.log4e2026.jdt.LogStatementTable.LogStatement;
+import ro.gs1.log4e2026.jdt.LogStatementTable.Query;
+import ro.gs1.log4e2026.settings.OperationSettings;
+import ro.gs1.log4e2026.templates.Profile;
+import ro.gs1.log4e2026.util.FileUtil;
+
+/**
+ * Workspace index of all log statements, kept in a {@link LogStatementTable}
+ * and stored in the plugin state location between sessions.
+ * <p>
+ * At startup the stored table is loaded and every source unit whose
+ * modification stamp differs from the stored one is scanned again. Afterwards
+ * resource deltas queue the changed Java files, which a background job scans
+ * with a {@link LogStatementRecognizer}.
+ * The table is stored for the logger name and profile it was scanned with and
+ * rebuilt when they changed.
+ */
+public final class LogStatementIndex implements IResourceChangeListener {
+
+    private static final String INDEX_FILE = "log-statements.idx";
+    private static final int MAGIC = 0x4C344549;
+    private static final long UPDATE_DELAY = 300;
+    private static final long SAVE_DELAY = 5000;
+
+    private static LogStatementIndex instance;
+
+    private final Object lock = new Object();
+    private LogStatementTable table = new LogStatementTable();
+    private String key;
+    private boolean loaded;
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    // Files changed since the last update; all files after startup or a project change
+    private final Set<IFile> changedFiles = ConcurrentHashMap.newKeySet();
+    private volatile boolean reconcileAll = true;
+
+    private final Job updateJob = new Job("Indexing log statements") {
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            return update(monitor);
+        }
+    };
+
+    private final Job saveJob = new Job("Saving log statement index") {
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            save();
+            return Status.OK_STATUS;
+        }
+    };
+
+    private LogStatementIndex() {
+        updateJob.setSystem(true);
+        updateJob.setPriority(Job.DECORATE);
+        saveJob.setSystem(true);
+    }
+
+    /**
+     * Returns the index, starting it if needed. The first queries after
+     * startup may miss statements until {@link #isReady()}.
+     */
+    public static synchronized LogStatementIndex getInstance() {
+        if (instance == null) {
+            instance = new LogStatementIndex();
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+            instance.updateJob.schedule();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts building the index in the background. Called when the plugin starts.
+     */
+    public static void start() {
+        getInstance();
+    }
+
+    /**
+     * Stops the updates and stores pending changes. Called when the plugin stops.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) {
+            return;
+        }
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(instance);
+        instance.updateJob.cancel();
+        instance.saveJob.cancel();
+        try {
+            instance.updateJob.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        instance.save();
+        instance = null;
+    }
+
+    /**
+     * Checks if the index covers the whole workspace, i.e. the initial scan completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the statements matching a query, ordered by file.
+     */
+    public List<LogStatement> find(Query query) {
+        synchronized (lock) {
+            int[] rows = table.find(query);
+            List<LogStatement> statements = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                statements.add(table.get(row));
+            }
+            return statements;
+        }
+    }
+
+    /**
+     * Counts the statements matching a query per level, see {@link LogStatementTable#countByLevel}.
+     */
+    public int[] countByLevel(Query query) {
+        synchronized (lock) {
+            return table.countByLevel(query);
+        }
+    }
+
+    /**
+     * Returns the number of indexed statements.
+     */
+    public int size() {
+        synchronized (lock) {
+            return table.size();
+        }
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
+        try {
+            delta.accept(child -> {
+                IResource resource = child.getResource();
+                if (resource.getType() == IResource.PROJECT) {
+                    if (child.getKind() == IResourceDelta.REMOVED || (child.getFlags() & IResourceDelta.OPEN) != 0) {
+                        reconcileAll = true;
+                        return false;
+                    }
+                    return true;
+                }
+                if (resource.getType() != IResource.FILE) {
+                    return true;
+                }
+                if (".classpath".equals(resource.getName())) {
+                    reconcileAll = true;
+                } else if ("java".equals(resource.getFileExtension()) && (child.getKind() != IResourceDelta.CHANGED
+                        || (child.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0)) {
+                    changedFiles.add((IFile) resource);
+                }
+                return false;
+            });
+        } catch (CoreException e) {
+            Log4e2026Plugin.logError("Failed to process resource changes", e);
+        }
+        if (reconcileAll || !changedFiles.isEmpty()) {
+            updateJob.schedule(UPDATE_DELAY);
+        }
+    }
+
+    private IStatus update(IProgressMonitor monitor) {
+        long start = System.currentTimeMillis();
+        try {
+            if (!loaded) {
+                load();
+                loaded = true;
+            }
+            boolean all = reconcileAll;
+            reconcileAll = false;
+            String currentKey = getRecognitionKey();
+            synchronized (lock) {
+                if (!currentKey.equals(key)) {
+                    // Scanned with another logger name or profile
+                    key = currentKey;
+                    table.clear();
+                    dirty = true;
+                    all = true;
+                }
+            }
+            List<Object> elements = new ArrayList<>();
+            List<IFile> files = new ArrayList<>(changedFiles);
+            changedFiles.removeAll(files);
+            if (all) {
+                for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+                    if (project.getProject().isOpen()) {
+                        elements.add(project);
+                    }
+                }
+            } else {
+                for (IFile file : files) {
+                    ICompilationUnit cu = toSourceUnit(file);
+                    if (cu != null) {
+                        elements.add(cu);
+                    } else {
+                        removeFile(file.getFullPath().toString());
+                    }
+                }
+            }
+            Scanner scanner = new Scanner();
+            BatchASTProcessor.Statistics statistics = scanner.run(elements, monitor);
+            if (all) {
+                removeUnseen(scanner.seen);
+                ready = true;
+            }
+            if (dirty) {
+                saveJob.schedule(SAVE_DELAY);
+            }
+            Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_INDEX, "Indexed " + statistics + " in "
+                    + (System.currentTimeMillis() - start) + " ms, " + size() + " statements");
+            return Status.OK_STATUS;
+        } catch (OperationCanceledException e) {
+            reconcileAll = true;
+            return Status.CANCEL_STATUS;
+        } catch (JavaModelException | RuntimeException e) {
+            Log4e2026Plugin.logError("Failed to index log statements", e);
+            return Status.OK_STATUS;
+        }
+    }
+
+    private static ICompilationUnit toSourceUnit(IFile file) {
+        if (!file.exists()) {
+            return null;
+        }
+        IJavaElement element = JavaCore.create(file);
+        if (element instanceof ICompilationUnit && element.getJavaProject().isOnClasspath(element)) {
+            return (ICompilationUnit) element;
+        }
+        return null;
+    }
+
+    private void removeFile(String path) {
+        synchronized (lock) {
+            if (table.getStamp(path) != LogStatementTable.NO_STAMP) {
+                table.removeFile(path);
+                dirty = true;
+            }
+        }
+    }
+
+    private void removeUnseen(Set<String> seen) {
+        synchronized (lock) {
+            for (String path : table.getFiles()) {
+                if (!seen.contains(path)) {
+                    table.removeFile(path);
+                    dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the recognition settings the table is scanned with.
+     */
+    private static String getRecognitionKey() {
+        OperationSettings settings = OperationSettings.get(null);
+        Profile profile = settings.getProfile();
+        return settings.getLoggerName() + "@" + (profile != null ? profile.getName() + ":" + profile.getVersion() : "");
+    }
+
+    private void load() {
+        String currentKey = getRecognitionKey();
+        File file = getIndexFile();
+        LogStatementTable stored = null;
+        if (file != null && file.isFile()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                if (in.readInt() == MAGIC && currentKey.equals(in.readUTF())) {
+                    stored = LogStatementTable.read(in);
+                }
+            } catch (IOException e) {
+                Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_INDEX, "Ignoring damaged log statement index: " + e);
+            }
+        }
+        synchronized (lock) {
+            key = currentKey;
+            if (stored != null) {
+                table = stored;
+            } else {
+                dirty = true;
+            }
+        }
+    }
+
+    private void save() {
+        File file = getIndexFile();
+        if (!dirty || file == null) {
+            return;
+        }
+        // Serialized under the lock, written without blocking queries
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            synchronized (lock) {
+                dirty = false;
+                DataOutputStream data = new DataOutputStream(bytes);
+                data.writeInt(MAGIC);
+                data.writeUTF(key);
+                table.write(data);
+                data.flush();
+            }
+            FileUtil.writeAtomically(file, bytes::writeTo);
+        } catch (IOException e) {
+            dirty = true;
+            Log4e2026Plugin.logError("Failed to save the log statement index", e);
+        }
+    }
+
+    private static File getIndexFile() {
+        Log4e2026Plugin plugin = Log4e2026Plugin.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+        IPath stateLocation = plugin.getStateLocation();
+        return stateLocation != null ? stateLocation.append(INDEX_FILE).toFile() : null;
+    }
+
+    /**
+     * Returns the log statements of a unit as they are indexed; a guarded
+     * statement is indexed once, at the guard.
+     */
+    public static FileStatements scan(LogStatementRecognizer recognizer, CompilationUnit astRoot) {
+        FileStatements statements = new FileStatements();
+        astRoot.accept(new LogStatementVisitor(recognizer) {
+            @Override
+            protected void visitLogStatement(Statement statement) {
+                add(recognizer, statement, astRoot, statements);
+            }
+        });
+        return statements;
+    }
+
+    private static void add(LogStatementRecognizer recognizer, Statement statement, CompilationUnit astRoot,
+            FileStatements statements) {
+        String type = null;
+        String method = null;
+        ASTNode node = statement.getParent();
+        while (node != null && !(node instanceof AbstractTypeDeclaration)) {
+            if (method == null && node instanceof MethodDeclaration) {
+                method = ((MethodDeclaration) node).getName().getIdentifier();
+            }
+            node = node.getParent();
+        }
+        if (node != null) {
+            type = ASTUtil.getQualifiedName((AbstractTypeDeclaration) node);
+        }
+        int offset = statement.getStartPosition();
+        statements.add(type, method, recognizer.getLevel(statement), recognizer.isGuarded(statement),
+                recognizer.getMessage(statement), offset, astRoot.getLineNumber(offset));
+    }
+
+    /**
+     * Scans the units whose stamp differs from the indexed one.
+     */
+    private final class Scanner extends BatchASTProcessor<FileStatements> {
+
+        // Paths of all enumerated units, to find the files removed while the index was not listening
+        final Set<String> seen = new HashSet<>();
+        private final Map<IJavaProject, LogStatementRecognizer> recognizers = new ConcurrentHashMap<>();
+
+        Scanner() {
+            super("Index log statements");
+            setWorkerCount(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+        }
+
+        @Override
+        protected boolean accept(ICompilationUnit cu, IProgressMonitor monitor) {
+            String path = cu.getPath().toString();
+            seen.add(path);
+            IResource resource = cu.getResource();
+            synchronized (lock) {
+                return resource == null || table.getStamp(path) != resource.getModificationStamp();
+            }
+        }
+
+        @Override
+        protected FileStatements process(ICompilationUnit cu, CompilationUnit astRoot, String source) {
+            LogStatementRecognizer recognizer = recognizers.computeIfAbsent(cu.getJavaProject(),
+                    project -> new LogStatementRecognizer(getSettings(project)));
+            return scan(recognizer, astRoot);
+        }
+
+        @Override
+        protected boolean apply(ICompilationUnit cu, String source, FileStatements result) {
+            IResource resource = cu.getResource();
+            synchronized (lock) {
+                table.replaceFile(cu.getPath().toString(),
+                        resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP, result);
+                dirty = true;
+            }
+            return false;
+        }
+    }
+}
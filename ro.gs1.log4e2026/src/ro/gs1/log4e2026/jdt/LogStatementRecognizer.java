@@ -0,0 +1,106 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ExpressionStatement;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.TextBlock;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.operations.LoggingOperation;
+import ro.gs1.log4e2026.operations.OperationContext;
+import ro.gs1.log4e2026.settings.OperationSettings;
+
+/**
+ * Recognizes the log statements of a project and their level, guard and
+ * message, with the recognition of {@link LoggingOperation#isLogStatementOrWrapped}
+ * and the log methods of the active profile. Read-only, may be shared by
+ * worker threads.
+ */
+public final class LogStatementRecognizer {
+
+    private final LoggingOperation operation;
+    private final Map<String, LogLevel> levels = new HashMap<>();
+
+    public LogStatementRecognizer(OperationSettings settings) {
+        OperationContext context = new OperationContext();
+        context.setSettings(settings);
+        this.operation = new LoggingOperation(context);
+        for (LogLevel level : LogLevel.values()) {
+            levels.putIfAbsent(settings.getLogMethod(level), level);
+        }
+    }
+
+    /**
+     * Checks if a statement is a log statement, also if wrapped in an is-enabled condition.
+     */
+    public boolean isLogStatement(Statement statement) {
+        return operation.isLogStatementOrWrapped(statement);
+    }
+
+    /**
+     * Checks if a log statement is wrapped in an is-enabled condition.
+     */
+    public boolean isGuarded(Statement statement) {
+        return operation.isConditionallyWrapped(statement);
+    }
+
+    /**
+     * Returns the log method invocation of a log statement.
+     */
+    public MethodInvocation getInvocation(Statement statement) {
+        return (MethodInvocation) ((ExpressionStatement) operation.unwrapConditional(statement)).getExpression();
+    }
+
+    /**
+     * Returns the level of a log statement: the level of the log method in the
+     * profile, of the method name itself, or of a level constant argument as in
+     * log(Level.INFO, ...). Null if unknown.
+     */
+    public LogLevel getLevel(Statement statement) {
+        MethodInvocation invocation = getInvocation(statement);
+        String methodName = invocation.getName().getIdentifier();
+        LogLevel level = levels.get(methodName);
+        if (level == null) {
+            level = LogLevel.fromMethodName(methodName);
+        }
+        if (level == null && !invocation.arguments().isEmpty()
+                && invocation.arguments().get(0) instanceof QualifiedName) {
+            level = LogLevel.fromName(((QualifiedName) invocation.arguments().get(0)).getName().getIdentifier());
+        }
+        return level;
+    }
+
+    /**
+     * Returns the string literal the message argument of a log statement starts with, or null.
+     */
+    public String getMessage(Statement statement) {
+        for (Object argument : getInvocation(statement).arguments()) {
+            String literal = getLeadingLiteral((Expression) argument);
+            if (literal != null) {
+                return literal;
+            }
+        }
+        return null;
+    }
+
+    private static String getLeadingLiteral(Expression expression) {
+        if (expression instanceof StringLiteral) {
+            return ((StringLiteral) expression).getLiteralValue();
+        }
+        if (expression instanceof TextBlock) {
+            return ((TextBlock) expression).getLiteralValue();
+        }
+        if (expression instanceof InfixExpression
+                && ((InfixExpression) expression).getOperator() == InfixExpression.Operator.PLUS) {
+            return getLeadingLiteral(((InfixExpression) expression).getLeftOperand());
+        }
+        return null;
+    }
+}
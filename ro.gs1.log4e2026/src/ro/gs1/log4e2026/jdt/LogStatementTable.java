@@ -0,0 +1,622 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import ro.gs1.log4e2026.core.LogLevel;
+
+/**
+ * Column store of log statements, grouped by file. Each statement is a row in
+ * a set of primitive arrays; file paths, type and method names and message
+ * literals are interned once in a string pool and referenced by id, so a
+ * query compares ints and tests each distinct string only once.
+ * <p>
+ * The rows of a file are replaced as a whole when the file was scanned again.
+ * Replaced rows are left as garbage until {@link #compact()}, which is done
+ * when the garbage outweighs the live rows and before writing.
+ * <p>
+ * Not thread-safe, the owner synchronizes access.
+ */
+public final class LogStatementTable {
+
+    /** Stamp of a file the table does not contain. */
+    public static final long NO_STAMP = -1;
+
+    private static final int FORMAT = 1;
+    private static final int NONE = -1;
+    private static final int FLAG_GUARDED = 1;
+    private static final int MIN_GARBAGE = 1024;
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    /**
+     * One log statement, as returned by a query.
+     */
+    public static final class LogStatement {
+        private final String file;
+        private final String type;
+        private final String method;
+        private final LogLevel level;
+        private final boolean guarded;
+        private final String message;
+        private final int offset;
+        private final int line;
+
+        LogStatement(String file, String type, String method, LogLevel level, boolean guarded,
+                String message, int offset, int line) {
+            this.file = file;
+            this.type = type;
+            this.method = method;
+            this.level = level;
+            this.guarded = guarded;
+            this.message = message;
+            this.offset = offset;
+            this.line = line;
+        }
+
+        /**
+         * Returns the workspace path of the file, e.g. "/project/src/p/A.java".
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the qualified name of the enclosing type, see {@link ASTUtil#getQualifiedName}.
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Returns the name of the enclosing method, or "" outside of methods.
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * Returns the level, or null if the log method is not a level method.
+         */
+        public LogLevel getLevel() {
+            return level;
+        }
+
+        /**
+         * Checks if the statement is wrapped in an is-enabled condition.
+         */
+        public boolean isGuarded() {
+            return guarded;
+        }
+
+        /**
+         * Returns the string literal the message starts with, or null.
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        @Override
+        public String toString() {
+            return file + ":" + line + " " + type + "." + method + " " + level
+                    + (guarded ? " guarded" : "") + (message != null ? " \"" + message + "\"" : "");
+        }
+    }
+
+    /**
+     * The statements of one file, collected while scanning it.
+     */
+    public static final class FileStatements {
+        private final List<String> types = new ArrayList<>();
+        private final List<String> methods = new ArrayList<>();
+        private final List<String> messages = new ArrayList<>();
+        private int[] values = new int[32];
+        private int size;
+
+        /**
+         * Adds a statement.
+         *
+         * @param level the level, or null if unknown
+         * @param message the message literal, or null
+         */
+        public FileStatements add(String type, String method, LogLevel level, boolean guarded,
+                String message, int offset, int line) {
+            types.add(type != null ? type : "");
+            methods.add(method != null ? method : "");
+            messages.add(message);
+            if ((size + 1) * 3 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size * 3] = (level != null ? level.ordinal() : NONE) << 1 | (guarded ? FLAG_GUARDED : 0);
+            values[size * 3 + 1] = offset;
+            values[size * 3 + 2] = line;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Criteria of a query; all set criteria must match.
+     */
+    public static final class Query {
+        private String file;
+        private String typePrefix;
+        private String method;
+        private String messageText;
+        private long levels = ~0L;
+        private Boolean guarded;
+
+        /**
+         * Matches the statements of one file.
+         */
+        public Query file(String path) {
+            this.file = path;
+            return this;
+        }
+
+        /**
+         * Matches types with the qualified name or in the package, e.g. "p.A" or "p.".
+         */
+        public Query type(String prefix) {
+            this.typePrefix = prefix;
+            return this;
+        }
+
+        public Query method(String name) {
+            this.method = name;
+            return this;
+        }
+
+        /**
+         * Matches messages containing the text, ignoring case.
+         */
+        public Query message(String text) {
+            this.messageText = text;
+            return this;
+        }
+
+        /**
+         * Matches the given levels; null matches statements of unknown level.
+         */
+        public Query levels(LogLevel... matching) {
+            levels = 0;
+            for (LogLevel level : matching) {
+                levels |= 1L << levelCode(level) + 1;
+            }
+            return this;
+        }
+
+        public Query guarded(boolean value) {
+            this.guarded = value;
+            return this;
+        }
+    }
+
+    // String pool
+    private String[] strings = new String[256];
+    private int stringCount;
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    // Files by path; a removed file keeps no slot after compaction
+    private final Map<String, Integer> fileIds = new HashMap<>();
+    private int[] filePath = new int[64];
+    private long[] fileStamp = new long[64];
+    private int[] fileFirstRow = new int[64];
+    private int[] fileRowCount = new int[64];
+    private int fileCount;
+
+    // Rows, one array per column; rows of a file are consecutive
+    private int[] rowFile = new int[1024];
+    private int[] rowType = new int[1024];
+    private int[] rowMethod = new int[1024];
+    private int[] rowMessage = new int[1024];
+    private int[] rowOffset = new int[1024];
+    private int[] rowLine = new int[1024];
+    private byte[] rowLevel = new byte[1024];
+    private byte[] rowFlags = new byte[1024];
+    private int rowCount;
+    private int garbageRows;
+    private boolean removedFiles;
+
+    /**
+     * Returns the number of statements.
+     */
+    public int size() {
+        return rowCount - garbageRows;
+    }
+
+    /**
+     * Returns the number of files, also of files without statements.
+     */
+    public int getFileCount() {
+        return fileIds.size();
+    }
+
+    /**
+     * Returns the paths of all files.
+     */
+    public List<String> getFiles() {
+        return new ArrayList<>(fileIds.keySet());
+    }
+
+    /**
+     * Returns the modification stamp a file was scanned at, or {@link #NO_STAMP}.
+     */
+    public long getStamp(String path) {
+        Integer file = fileIds.get(path);
+        return file != null ? fileStamp[file] : NO_STAMP;
+    }
+
+    /**
+     * Replaces the statements of a file.
+     *
+     * @param stamp the modification stamp the file was scanned at
+     */
+    public void replaceFile(String path, long stamp, FileStatements statements) {
+        Integer existing = fileIds.get(path);
+        int file;
+        if (existing != null) {
+            file = existing;
+            garbageRows += fileRowCount[file];
+        } else {
+            file = addFile(intern(path));
+            fileIds.put(path, file);
+        }
+        fileStamp[file] = stamp;
+        fileFirstRow[file] = rowCount;
+        fileRowCount[file] = statements.size;
+        ensureRows(rowCount + statements.size);
+        for (int i = 0; i < statements.size; i++) {
+            int value = statements.values[i * 3];
+            appendRow(file, intern(statements.types.get(i)), intern(statements.methods.get(i)),
+                    intern(statements.messages.get(i)), statements.values[i * 3 + 1],
+                    statements.values[i * 3 + 2], (byte) (value >> 1), (byte) (value & FLAG_GUARDED));
+        }
+        compactIfWasteful();
+    }
+
+    /**
+     * Removes the statements of a file.
+     */
+    public void removeFile(String path) {
+        Integer file = fileIds.remove(path);
+        if (file != null) {
+            garbageRows += fileRowCount[file];
+            fileRowCount[file] = 0;
+            filePath[file] = NONE;
+            removedFiles = true;
+            compactIfWasteful();
+        }
+    }
+
+    /**
+     * Removes all statements.
+     */
+    public void clear() {
+        fileIds.clear();
+        stringIds.clear();
+        Arrays.fill(strings, 0, stringCount, null);
+        stringCount = 0;
+        fileCount = 0;
+        rowCount = 0;
+        garbageRows = 0;
+        removedFiles = false;
+    }
+
+    /**
+     * Returns the rows of the statements matching a query, ordered by file.
+     */
+    public int[] find(Query query) {
+        int[] result = new int[64];
+        int count = 0;
+        boolean[] types = query.typePrefix != null ? matchStrings(query.typePrefix, false) : null;
+        boolean[] messages = query.messageText != null ? matchStrings(query.messageText, true) : null;
+        int method = NONE;
+        if (query.method != null) {
+            Integer id = stringIds.get(query.method);
+            if (id == null) {
+                return new int[0];
+            }
+            method = id;
+        }
+        int from = 0;
+        int to = rowCount;
+        if (query.file != null) {
+            Integer file = fileIds.get(query.file);
+            if (file == null) {
+                return new int[0];
+            }
+            from = fileFirstRow[file];
+            to = from + fileRowCount[file];
+        }
+        for (int row = from; row < to; row++) {
+            if (!isLive(row)
+                    || (query.levels & 1L << rowLevel[row] + 1) == 0
+                    || query.guarded != null && query.guarded != ((rowFlags[row] & FLAG_GUARDED) != 0)
+                    || method != NONE && rowMethod[row] != method
+                    || types != null && !types[rowType[row]]
+                    || messages != null && (rowMessage[row] == NONE || !messages[rowMessage[row]])) {
+                continue;
+            }
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = row;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Counts the statements matching a query per level, indexed by
+     * {@link LogLevel#ordinal()}; the last element counts unknown levels.
+     */
+    public int[] countByLevel(Query query) {
+        int[] counts = new int[LEVELS.length + 1];
+        for (int row : find(query)) {
+            counts[rowLevel[row] == NONE ? LEVELS.length : rowLevel[row]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the statement of a row returned by {@link #find(Query)}.
+     */
+    public LogStatement get(int row) {
+        int level = rowLevel[row];
+        return new LogStatement(strings[filePath[rowFile[row]]], strings[rowType[row]],
+                strings[rowMethod[row]], level != NONE ? LEVELS[level] : null,
+                (rowFlags[row] & FLAG_GUARDED) != 0,
+                rowMessage[row] != NONE ? strings[rowMessage[row]] : null, rowOffset[row], rowLine[row]);
+    }
+
+    /**
+     * Drops replaced rows and unused strings.
+     */
+    public void compact() {
+        if (garbageRows == 0 && !removedFiles) {
+            return;
+        }
+        LogStatementTable copy = new LogStatementTable();
+        for (Map.Entry<String, Integer> entry : fileIds.entrySet()) {
+            int file = entry.getValue();
+            int newFile = copy.addFile(copy.intern(entry.getKey()));
+            copy.fileIds.put(entry.getKey(), newFile);
+            copy.fileStamp[newFile] = fileStamp[file];
+            copy.fileFirstRow[newFile] = copy.rowCount;
+            copy.fileRowCount[newFile] = fileRowCount[file];
+            copy.ensureRows(copy.rowCount + fileRowCount[file]);
+            for (int row = fileFirstRow[file], end = row + fileRowCount[file]; row < end; row++) {
+                copy.appendRow(newFile, copy.intern(strings[rowType[row]]), copy.intern(strings[rowMethod[row]]),
+                        rowMessage[row] != NONE ? copy.intern(strings[rowMessage[row]]) : NONE,
+                        rowOffset[row], rowLine[row], rowLevel[row], rowFlags[row]);
+            }
+        }
+        take(copy);
+    }
+
+    /**
+     * Writes the table, compacting it first.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        compact();
+        out.writeInt(FORMAT);
+        out.writeInt(stringCount);
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = strings[i].getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(fileIds.size());
+        for (int file : fileIds.values()) {
+            out.writeInt(filePath[file]);
+            out.writeLong(fileStamp[file]);
+            out.writeInt(fileRowCount[file]);
+            for (int row = fileFirstRow[file], end = row + fileRowCount[file]; row < end; row++) {
+                out.writeInt(rowType[row]);
+                out.writeInt(rowMethod[row]);
+                out.writeInt(rowMessage[row]);
+                out.writeInt(rowOffset[row]);
+                out.writeInt(rowLine[row]);
+                out.writeByte(rowLevel[row]);
+                out.writeByte(rowFlags[row]);
+            }
+        }
+    }
+
+    /**
+     * Reads a table written by {@link #write(DataOutputStream)}.
+     *
+     * @throws IOException if the data is damaged or of another format
+     */
+    public static LogStatementTable read(DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT) {
+            throw new IOException("Unsupported log statement table format");
+        }
+        LogStatementTable table = new LogStatementTable();
+        int strings = checkCount(in.readInt());
+        for (int i = 0; i < strings; i++) {
+            byte[] bytes = new byte[checkCount(in.readInt())];
+            in.readFully(bytes);
+            table.intern(new String(bytes, StandardCharsets.UTF_8));
+        }
+        int files = checkCount(in.readInt());
+        for (int i = 0; i < files; i++) {
+            int path = table.checkString(in.readInt(), false);
+            long stamp = in.readLong();
+            int rows = checkCount(in.readInt());
+            int file = table.addFile(path);
+            table.fileIds.put(table.strings[path], file);
+            table.fileStamp[file] = stamp;
+            table.fileFirstRow[file] = table.rowCount;
+            table.fileRowCount[file] = rows;
+            table.ensureRows(table.rowCount + rows);
+            for (int j = 0; j < rows; j++) {
+                int type = table.checkString(in.readInt(), false);
+                int method = table.checkString(in.readInt(), false);
+                int message = table.checkString(in.readInt(), true);
+                int offset = in.readInt();
+                int line = in.readInt();
+                byte level = in.readByte();
+                if (level < NONE || level >= LEVELS.length) {
+                    throw new IOException("Invalid level " + level);
+                }
+                table.appendRow(file, type, method, message, offset, line, level, in.readByte());
+            }
+        }
+        return table;
+    }
+
+    private static int checkCount(int count) throws IOException {
+        if (count < 0) {
+            throw new IOException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private int checkString(int id, boolean optional) throws IOException {
+        if (id == NONE && optional) {
+            return id;
+        }
+        if (id < 0 || id >= stringCount) {
+            throw new IOException("Invalid string " + id);
+        }
+        return id;
+    }
+
+    private static int levelCode(LogLevel level) {
+        return level != null ? level.ordinal() : NONE;
+    }
+
+    private boolean isLive(int row) {
+        int file = rowFile[row];
+        return filePath[file] != NONE && row >= fileFirstRow[file] && row < fileFirstRow[file] + fileRowCount[file];
+    }
+
+    /**
+     * Tests each pooled string once, by prefix or by text contained ignoring case.
+     */
+    private boolean[] matchStrings(String text, boolean contains) {
+        boolean[] matches = new boolean[stringCount];
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < stringCount; i++) {
+            matches[i] = contains ? containsIgnoreCase(strings[i], lowerText) : strings[i].startsWith(text);
+        }
+        return matches;
+    }
+
+    private static boolean containsIgnoreCase(String string, String lowerText) {
+        int last = string.length() - lowerText.length();
+        for (int i = 0; i <= last; i++) {
+            if (string.regionMatches(true, i, lowerText, 0, lowerText.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int intern(String string) {
+        if (string == null) {
+            return NONE;
+        }
+        Integer id = stringIds.get(string);
+        if (id != null) {
+            return id;
+        }
+        if (stringCount == strings.length) {
+            strings = Arrays.copyOf(strings, stringCount * 2);
+        }
+        strings[stringCount] = string;
+        stringIds.put(string, stringCount);
+        return stringCount++;
+    }
+
+    private int addFile(int path) {
+        if (fileCount == filePath.length) {
+            int capacity = fileCount * 2;
+            filePath = Arrays.copyOf(filePath, capacity);
+            fileStamp = Arrays.copyOf(fileStamp, capacity);
+            fileFirstRow = Arrays.copyOf(fileFirstRow, capacity);
+            fileRowCount = Arrays.copyOf(fileRowCount, capacity);
+        }
+        filePath[fileCount] = path;
+        return fileCount++;
+    }
+
+    private void ensureRows(int capacity) {
+        if (capacity <= rowFile.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, rowFile.length * 2);
+        rowFile = Arrays.copyOf(rowFile, newCapacity);
+        rowType = Arrays.copyOf(rowType, newCapacity);
+        rowMethod = Arrays.copyOf(rowMethod, newCapacity);
+        rowMessage = Arrays.copyOf(rowMessage, newCapacity);
+        rowOffset = Arrays.copyOf(rowOffset, newCapacity);
+        rowLine = Arrays.copyOf(rowLine, newCapacity);
+        rowLevel = Arrays.copyOf(rowLevel, newCapacity);
+        rowFlags = Arrays.copyOf(rowFlags, newCapacity);
+    }
+
+    private void appendRow(int file, int type, int method, int message, int offset, int line,
+            byte level, byte flags) {
+        int row = rowCount++;
+        rowFile[row] = file;
+        rowType[row] = type;
+        rowMethod[row] = method;
+        rowMessage[row] = message;
+        rowOffset[row] = offset;
+        rowLine[row] = line;
+        rowLevel[row] = level;
+        rowFlags[row] = flags;
+    }
+
+    private void compactIfWasteful() {
+        if (garbageRows > MIN_GARBAGE && garbageRows > rowCount / 2) {
+            compact();
+        }
+    }
+
+    private void take(LogStatementTable other) {
+        strings = other.strings;
+        stringCount = other.stringCount;
+        stringIds.clear();
+        stringIds.putAll(other.stringIds);
+        fileIds.clear();
+        fileIds.putAll(other.fileIds);
+        filePath = other.filePath;
+        fileStamp = other.fileStamp;
+        fileFirstRow = other.fileFirstRow;
+        fileRowCount = other.fileRowCount;
+        fileCount = other.fileCount;
+        rowFile = other.rowFile;
+        rowType = other.rowType;
+        rowMethod = other.rowMethod;
+        rowMessage = other.rowMessage;
+        rowOffset = other.rowOffset;
+        rowLine = other.rowLine;
+        rowLevel = other.rowLevel;
+        rowFlags = other.rowFlags;
+        rowCount = other.rowCount;
+        garbageRows = 0;
+        removedFiles = false;
+    }
+}
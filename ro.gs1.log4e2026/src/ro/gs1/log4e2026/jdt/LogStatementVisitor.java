@@ -0,0 +1,67 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.IfStatement;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.SwitchExpression;
+import org.eclipse.jdt.core.dom.SwitchStatement;
+
+/**
+ * Visits the log statements recognized by a {@link LogStatementRecognizer} in
+ * the statement lists of blocks and switches. A recognized is-enabled guard is
+ * not entered, so its log call is visited once, as a guarded statement.
+ */
+public abstract class LogStatementVisitor extends ASTVisitor {
+
+    private final LogStatementRecognizer recognizer;
+    private final Set<Statement> guards = new HashSet<>();
+
+    protected LogStatementVisitor(LogStatementRecognizer recognizer) {
+        this.recognizer = recognizer;
+    }
+
+    /**
+     * Called for each log statement, guarded or not.
+     */
+    protected abstract void visitLogStatement(Statement statement);
+
+    @Override
+    public boolean visit(Block node) {
+        visitStatements(node.statements());
+        return true;
+    }
+
+    @Override
+    public boolean visit(SwitchStatement node) {
+        visitStatements(node.statements());
+        return true;
+    }
+
+    @Override
+    public boolean visit(SwitchExpression node) {
+        visitStatements(node.statements());
+        return true;
+    }
+
+    @Override
+    public boolean visit(IfStatement node) {
+        return !guards.contains(node);
+    }
+
+    private void visitStatements(List<?> statements) {
+        for (Object element : statements) {
+            Statement statement = (Statement) element;
+            if (recognizer.isLogStatement(statement)) {
+                if (statement instanceof IfStatement) {
+                    guards.add(statement);
+                }
+                visitLogStatement(statement);
+            }
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+
+/**
+ * Workspace index of the compilation units that declare or use a logger,
+ * answered by the JDT search engine instead of parsing each unit.
+ * The index of a project and logger type is built by a type and field
+ * reference search on first use. Units changed since then, saved or
+ * reconciled in an editor, are searched again on the next query; structural
+ * changes of a project, e.g. of its classpath, drop its index.
+ */
+public final class LoggerUsageIndex implements IElementChangedListener {
+
+    /**
+     * Logger usage of one compilation unit.
+     */
+    public static final class Usage {
+        private final List<IField> loggerFields;
+        private final Set<String> referencingTypes;
+        private final int fieldReferences;
+
+        Usage(List<IField> loggerFields, Set<String> referencingTypes, int fieldReferences) {
+            this.loggerFields = Collections.unmodifiableList(loggerFields);
+            this.referencingTypes = Collections.unmodifiableSet(referencingTypes);
+            this.fieldReferences = fieldReferences;
+        }
+
+        /**
+         * Returns the fields of the logger type declared in the unit.
+         */
+        public List<IField> getLoggerFields() {
+            return loggerFields;
+        }
+
+        /**
+         * Checks if the unit declares a logger field.
+         */
+        public boolean declaresLogger() {
+            return !loggerFields.isEmpty();
+        }
+
+        /**
+         * Checks if a type of the unit declares a logger field of the given name.
+         *
+         * @param typeName the qualified name of the type, see {@link ASTUtil#getQualifiedName}
+         */
+        public boolean declaresLogger(String typeName, String fieldName) {
+            for (IField field : loggerFields) {
+                if (field.getElementName().equals(fieldName)
+                        && field.getDeclaringType().getFullyQualifiedName('.').equals(typeName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks if the unit refers to the logger type or to a logger field.
+         */
+        public boolean isUsed() {
+            return !referencingTypes.isEmpty() || fieldReferences > 0;
+        }
+
+        /**
+         * Returns the number of references to logger fields, e.g. log statements.
+         */
+        public int getFieldReferences() {
+            return fieldReferences;
+        }
+
+        /**
+         * Checks if the logger type or a logger field is referenced outside a
+         * type and its nested types, so the imports of the logger are still needed
+         * when the logger is removed from that type.
+         *
+         * @param typeName the qualified name of the type, see {@link ASTUtil#getQualifiedName}
+         */
+        public boolean isReferencedOutside(String typeName) {
+            for (String type : referencingTypes) {
+                if (!type.equals(typeName) && !type.startsWith(typeName + ".")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Usage of a unit that does not refer to the logger. */
+    public static final Usage NONE = new Usage(Collections.emptyList(), Collections.emptySet(), 0);
+
+    private static LoggerUsageIndex instance;
+
+    private final Map<Key, ProjectIndex> indexes = new ConcurrentHashMap<>();
+
+    private static final class Key {
+        final IJavaProject project;
+        final String loggerClass;
+
+        Key(IJavaProject project, String loggerClass) {
+            this.project = project;
+            this.loggerClass = loggerClass;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return project.equals(other.project) && loggerClass.equals(other.loggerClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(project, loggerClass);
+        }
+    }
+
+    /**
+     * The usages of one logger type in one project. The element listener only
+     * records changed units, they are searched again by the next query. The
+     * snapshot is a copy of the usages while the index is up to date, it is
+     * read without waiting for a running search.
+     */
+    private static final class ProjectIndex {
+        final Map<ICompilationUnit, Usage> usages = new HashMap<>();
+        final Set<ICompilationUnit> stale = ConcurrentHashMap.newKeySet();
+        volatile boolean built;
+        volatile Map<ICompilationUnit, Usage> snapshot;
+    }
+
+    public static synchronized LoggerUsageIndex getInstance() {
+        if (instance == null) {
+            instance = new LoggerUsageIndex();
+            JavaCore.addElementChangedListener(instance,
+                    ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+        }
+        return instance;
+    }
+
+    /**
+     * Removes the listener and drops the index. Called when the plugin stops.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            JavaCore.removeElementChangedListener(instance);
+            instance.indexes.clear();
+            instance = null;
+        }
+    }
+
+    private LoggerUsageIndex() {
+    }
+
+    /**
+     * Returns the logger usage of a compilation unit, or null if it is unknown
+     * because the search failed.
+     *
+     * @param loggerClass the qualified name of the logger type, e.g. "org.slf4j.Logger"
+     * @param monitor the progress monitor, may be null
+     */
+    public Usage getUsage(ICompilationUnit cu, String loggerClass, IProgressMonitor monitor) {
+        ICompilationUnit primary = cu.getPrimary();
+        ProjectIndex index = getIndex(primary.getJavaProject(), loggerClass, monitor);
+        synchronized (index) {
+            if (!index.built) {
+                return null;
+            }
+            Usage usage = index.usages.get(primary);
+            return usage != null ? usage : NONE;
+        }
+    }
+
+    /**
+     * Returns the logger usage of a compilation unit if the index of its project
+     * is built and up to date, or null otherwise. Never searches and never waits
+     * for a running search, so it can be called from the UI thread; callers fall
+     * back to the AST of the unit.
+     *
+     * @param loggerClass the qualified name of the logger type, e.g. "org.slf4j.Logger"
+     */
+    public Usage getIndexedUsage(ICompilationUnit cu, String loggerClass) {
+        ICompilationUnit primary = cu.getPrimary();
+        ProjectIndex index = indexes.get(new Key(primary.getJavaProject(), loggerClass));
+        if (index == null) {
+            return null;
+        }
+        Map<ICompilationUnit, Usage> usages = index.snapshot;
+        if (usages == null || !index.stale.isEmpty()) {
+            return null;
+        }
+        Usage usage = usages.get(primary);
+        return usage != null ? usage : NONE;
+    }
+
+    /**
+     * Returns the compilation units of a project that refer to the logger type or to a logger field.
+     */
+    public Set<ICompilationUnit> getUsingUnits(IJavaProject project, String loggerClass, IProgressMonitor monitor) {
+        ProjectIndex index = getIndex(project, loggerClass, monitor);
+        Set<ICompilationUnit> units = new LinkedHashSet<>();
+        synchronized (index) {
+            for (Map.Entry<ICompilationUnit, Usage> entry : index.usages.entrySet()) {
+                if (entry.getValue().isUsed()) {
+                    units.add(entry.getKey());
+                }
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Returns the types of a project that declare a logger field.
+     */
+    public Set<IType> getDeclaringTypes(IJavaProject project, String loggerClass, IProgressMonitor monitor) {
+        ProjectIndex index = getIndex(project, loggerClass, monitor);
+        Set<IType> types = new LinkedHashSet<>();
+        synchronized (index) {
+            for (Usage usage : index.usages.values()) {
+                for (IField field : usage.loggerFields) {
+                    types.add(field.getDeclaringType());
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Drops all indexes, e.g. after the logger type of the profile changed.
+     */
+    public void clear() {
+        indexes.clear();
+    }
+
+    private ProjectIndex getIndex(IJavaProject project, String loggerClass, IProgressMonitor monitor) {
+        ProjectIndex index = indexes.computeIfAbsent(new Key(project, loggerClass), key -> new ProjectIndex());
+        synchronized (index) {
+            try {
+                if (!index.built) {
+                    // Changes made before the full search are covered by it
+                    index.snapshot = null;
+                    index.stale.clear();
+                    index.usages.clear();
+                    search(project, loggerClass, null, index, monitor);
+                    index.built = true;
+                } else if (!index.stale.isEmpty()) {
+                    index.snapshot = null;
+                    refresh(project, loggerClass, index, monitor);
+                }
+                if (index.snapshot == null && index.stale.isEmpty()) {
+                    index.snapshot = Map.copyOf(index.usages);
+                }
+            } catch (CoreException e) {
+                Log4e2026Plugin.logError("Logger usage search failed in " + project.getElementName(), e);
+                index.built = false;
+                index.snapshot = null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Searches the changed units again. If the logger fields of a changed unit
+     * are different, references to them from other units may be different too,
+     * so the whole project is searched again.
+     */
+    private void refresh(IJavaProject project, String loggerClass, ProjectIndex index, IProgressMonitor monitor)
+            throws CoreException {
+        List<ICompilationUnit> units = new ArrayList<>();
+        Set<String> oldFields = new HashSet<>();
+        for (ICompilationUnit cu : new ArrayList<>(index.stale)) {
+            index.stale.remove(cu);
+            Usage old = index.usages.remove(cu);
+            if (old != null) {
+                for (IField field : old.loggerFields) {
+                    oldFields.add(field.getHandleIdentifier());
+                }
+            }
+            if (cu.exists()) {
+                units.add(cu);
+            }
+        }
+        if (!units.isEmpty()) {
+            search(project, loggerClass, units, index, monitor);
+        }
+
+        Set<String> newFields = new HashSet<>();
+        for (ICompilationUnit cu : units) {
+            Usage usage = index.usages.get(cu);
+            if (usage != null) {
+                for (IField field : usage.loggerFields) {
+                    newFields.add(field.getHandleIdentifier());
+                }
+            }
+        }
+        if (!oldFields.equals(newFields)) {
+            index.usages.clear();
+            search(project, loggerClass, null, index, monitor);
+        }
+    }
+
+    /**
+     * Searches the references to the logger type, then the references to the
+     * logger fields found, and stores the usage of each unit found.
+     *
+     * @param units the units to search, null for all source units of the project
+     */
+    private void search(IJavaProject project, String loggerClass, List<ICompilationUnit> units,
+            ProjectIndex index, IProgressMonitor monitor) throws CoreException {
+        IType loggerType = project.findType(loggerClass);
+        if (loggerType == null) {
+            // The logger is not on the classpath, so no unit can use it
+            return;
+        }
+        IJavaSearchScope scope = units == null
+                ? SearchEngine.createJavaSearchScope(new IJavaElement[] { project }, IJavaSearchScope.SOURCES)
+                : SearchEngine.createJavaSearchScope(units.toArray(new IJavaElement[0]));
+        SearchEngine engine = new SearchEngine();
+        SearchParticipant[] participants = { SearchEngine.getDefaultSearchParticipant() };
+
+        Map<ICompilationUnit, UsageBuilder> builders = new HashMap<>();
+        SearchPattern typePattern = SearchPattern.createPattern(loggerType, IJavaSearchConstants.REFERENCES);
+        engine.search(typePattern, participants, scope, new SearchRequestor() {
+            @Override
+            public void acceptSearchMatch(SearchMatch match) {
+                IJavaElement element = (IJavaElement) match.getElement();
+                ICompilationUnit cu = getCompilationUnit(element);
+                if (cu == null) {
+                    return;
+                }
+                UsageBuilder builder = builders.computeIfAbsent(cu, c -> new UsageBuilder());
+                if (element instanceof IField && isOfType((IField) element, loggerType)) {
+                    builder.loggerFields.add((IField) element);
+                }
+                builder.addReference(element);
+            }
+        }, monitor);
+
+        // Fields of the unchanged units stay valid, log statements may refer to inherited fields
+        List<IField> fields = new ArrayList<>();
+        for (UsageBuilder builder : builders.values()) {
+            fields.addAll(builder.loggerFields);
+        }
+        if (units != null) {
+            for (Usage usage : index.usages.values()) {
+                fields.addAll(usage.loggerFields);
+            }
+        }
+        if (!fields.isEmpty()) {
+            SearchPattern fieldPattern = null;
+            for (IField field : fields) {
+                SearchPattern pattern = SearchPattern.createPattern(field, IJavaSearchConstants.REFERENCES);
+                fieldPattern = fieldPattern == null ? pattern : SearchPattern.createOrPattern(fieldPattern, pattern);
+            }
+            engine.search(fieldPattern, participants, scope, new SearchRequestor() {
+                @Override
+                public void acceptSearchMatch(SearchMatch match) {
+                    IJavaElement element = (IJavaElement) match.getElement();
+                    ICompilationUnit cu = getCompilationUnit(element);
+                    if (cu != null) {
+                        UsageBuilder builder = builders.computeIfAbsent(cu, c -> new UsageBuilder());
+                        builder.fieldReferences++;
+                        builder.addReference(element);
+                    }
+                }
+            }, monitor);
+        }
+
+        for (Map.Entry<ICompilationUnit, UsageBuilder> entry : builders.entrySet()) {
+            UsageBuilder builder = entry.getValue();
+            index.usages.put(entry.getKey(), new Usage(builder.loggerFields, builder.referencingTypes,
+                    builder.fieldReferences));
+        }
+    }
+
+    private static final class UsageBuilder {
+        final List<IField> loggerFields = new ArrayList<>();
+        final Set<String> referencingTypes = new HashSet<>();
+        int fieldReferences;
+
+        void addReference(IJavaElement element) {
+            IType type = getMemberType(element);
+            if (type != null) {
+                referencingTypes.add(type.getFullyQualifiedName('.'));
+            }
+        }
+    }
+
+    private static ICompilationUnit getCompilationUnit(IJavaElement element) {
+        if (element == null) {
+            return null;
+        }
+        ICompilationUnit cu = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+        return cu != null ? cu.getPrimary() : null;
+    }
+
+    /**
+     * Returns the innermost member type of an element, null for imports.
+     */
+    private static IType getMemberType(IJavaElement element) {
+        IType type = (IType) element.getAncestor(IJavaElement.TYPE);
+        try {
+            while (type != null && (type.isLocal() || type.isAnonymous())) {
+                type = (IType) type.getParent().getAncestor(IJavaElement.TYPE);
+            }
+        } catch (JavaModelException e) {
+            // Not a local type then, the unit no longer exists
+        }
+        return type;
+    }
+
+    private static boolean isOfType(IField field, IType type) {
+        try {
+            String fieldType = Signature.toString(Signature.getTypeErasure(field.getTypeSignature()));
+            return fieldType.equals(type.getElementName()) || fieldType.equals(type.getFullyQualifiedName('.'));
+        } catch (JavaModelException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        processDelta(event.getDelta());
+    }
+
+    private void processDelta(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+        int flags = delta.getFlags();
+        switch (element.getElementType()) {
+            case IJavaElement.JAVA_MODEL:
+                processChildren(delta);
+                break;
+            case IJavaElement.JAVA_PROJECT:
+                if (delta.getKind() != IJavaElementDelta.CHANGED
+                        || (flags & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED
+                                | IJavaElementDelta.F_CLASSPATH_CHANGED
+                                | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+                    dropProject(element.getJavaProject());
+                } else {
+                    processChildren(delta);
+                }
+                break;
+            case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+            case IJavaElement.PACKAGE_FRAGMENT:
+                if (delta.getKind() != IJavaElementDelta.CHANGED
+                        || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH
+                                | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+                                | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+                    dropProject(element.getJavaProject());
+                } else {
+                    processChildren(delta);
+                }
+                break;
+            case IJavaElement.COMPILATION_UNIT:
+                // Opening or closing an editor does not change the unit
+                if (delta.getKind() != IJavaElementDelta.CHANGED
+                        || flags != IJavaElementDelta.F_PRIMARY_WORKING_COPY) {
+                    markStale(((ICompilationUnit) element).getPrimary());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void processChildren(IJavaElementDelta delta) {
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            processDelta(child);
+        }
+    }
+
+    private void markStale(ICompilationUnit cu) {
+        IJavaProject project = cu.getJavaProject();
+        for (Map.Entry<Key, ProjectIndex> entry : indexes.entrySet()) {
+            if (entry.getKey().project.equals(project)) {
+                ProjectIndex index = entry.getValue();
+                index.stale.add(cu);
+                index.snapshot = null;
+            }
+        }
+    }
+
+    private void dropProject(IJavaProject project) {
+        indexes.keySet().removeIf(key -> key.project.equals(project));
+    }
+}
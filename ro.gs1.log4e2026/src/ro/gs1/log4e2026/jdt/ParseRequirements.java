@@ -0,0 +1,135 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.Map;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.ASTParser;
+
+/**
+ * What an operation needs from an AST, so the cheapest sufficient AST is parsed.
+ * An AST parsed for some requirements also serves any subset of them.
+ */
+public final class ParseRequirements {
+
+    private static final int BINDINGS = 1;
+    private static final int STATEMENTS_RECOVERY = 1 << 1;
+    private static final int DOC_COMMENTS = 1 << 2;
+    private static final int METHOD_BODIES = 1 << 3;
+
+    /** Type and member declarations only: method bodies are skipped. */
+    public static final ParseRequirements DECLARATIONS = new ParseRequirements(0);
+
+    /** Full syntax tree with statement recovery, no bindings. Used by most operations. */
+    public static final ParseRequirements SYNTAX = new ParseRequirements(METHOD_BODIES | STATEMENTS_RECOVERY);
+
+    /** Full syntax tree with resolved bindings. */
+    public static final ParseRequirements BINDINGS_AND_SYNTAX = new ParseRequirements(
+            METHOD_BODIES | STATEMENTS_RECOVERY | BINDINGS);
+
+    private final int flags;
+
+    private ParseRequirements(int flags) {
+        this.flags = flags;
+    }
+
+    public boolean needsBindings() {
+        return (flags & BINDINGS) != 0;
+    }
+
+    public boolean needsStatementsRecovery() {
+        return (flags & STATEMENTS_RECOVERY) != 0;
+    }
+
+    public boolean needsDocComments() {
+        return (flags & DOC_COMMENTS) != 0;
+    }
+
+    public boolean needsMethodBodies() {
+        return (flags & METHOD_BODIES) != 0;
+    }
+
+    public ParseRequirements withBindings() {
+        return with(BINDINGS | METHOD_BODIES);
+    }
+
+    public ParseRequirements withStatementsRecovery() {
+        return with(STATEMENTS_RECOVERY | METHOD_BODIES);
+    }
+
+    /**
+     * Adds parsed Javadoc tags. Comments themselves are always recorded.
+     */
+    public ParseRequirements withDocComments() {
+        return with(DOC_COMMENTS);
+    }
+
+    public ParseRequirements withoutStatementsRecovery() {
+        return (flags & STATEMENTS_RECOVERY) == 0 ? this : new ParseRequirements(flags & ~STATEMENTS_RECOVERY);
+    }
+
+    /**
+     * Checks if an AST parsed for these requirements also satisfies the given ones.
+     */
+    public boolean satisfies(ParseRequirements required) {
+        return (flags & required.flags) == required.flags;
+    }
+
+    /**
+     * Returns the requirements satisfying both these and the given ones.
+     */
+    public ParseRequirements union(ParseRequirements other) {
+        return with(other.flags);
+    }
+
+    private ParseRequirements with(int added) {
+        int combined = flags | added;
+        return combined == flags ? this : new ParseRequirements(combined);
+    }
+
+    /**
+     * Configures a parser for these requirements. Must be called after the
+     * source or project is set, since those reset the compiler options.
+     *
+     * @param project the project whose options are used, or null for the workspace options
+     */
+    public void configure(ASTParser parser, IJavaProject project) {
+        parser.setResolveBindings(needsBindings());
+        parser.setBindingsRecovery(false);
+        parser.setStatementsRecovery(needsStatementsRecovery());
+        parser.setIgnoreMethodBodies(!needsMethodBodies());
+        if (!needsDocComments()) {
+            Map<String, String> options = project != null ? project.getOptions(true) : JavaCore.getOptions();
+            options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.DISABLED);
+            // Task tags are not needed either, they only add comment scanning work
+            options.remove(JavaCore.COMPILER_TASK_TAGS);
+            parser.setCompilerOptions(options);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ParseRequirements && ((ParseRequirements) obj).flags == flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return flags;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ParseRequirements[");
+        sb.append(needsMethodBodies() ? "bodies" : "declarations");
+        if (needsBindings()) {
+            sb.append(", bindings");
+        }
+        if (needsStatementsRecovery()) {
+            sb.append(", recovery");
+        }
+        if (needsDocComments()) {
+            sb.append(", doc comments");
+        }
+        return sb.append(']').toString();
+    }
+}
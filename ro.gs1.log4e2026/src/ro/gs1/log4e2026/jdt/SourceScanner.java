@@ -0,0 +1,75 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+/**
+ * Token-level checks of compilation units with the {@link IScanner}, used to
+ * skip units before they are parsed. Tokens in comments and literals are not
+ * matched, and the Java element is not opened.
+ */
+public final class SourceScanner {
+
+    private SourceScanner() {
+    }
+
+    /**
+     * Checks if a compilation unit contains a token, e.g.
+     * {@link ITerminalSymbols#TokenNamecatch}. Returns true if the source
+     * cannot be read, so that the unit is not skipped.
+     */
+    public static boolean containsToken(ICompilationUnit cu, int token) {
+        char[] source = getSource(cu);
+        return source == null || containsToken(source, token);
+    }
+
+    /**
+     * Checks if a source contains a token. Returns true on malformed input,
+     * e.g. an unterminated comment, which the scanner cannot get past.
+     */
+    public static boolean containsToken(char[] source, int token) {
+        IScanner scanner = ToolFactory.createScanner(false, false, false, JavaCore.latestSupportedJavaVersion());
+        scanner.setSource(source);
+        try {
+            int next;
+            while ((next = scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF) {
+                if (next == token) {
+                    return true;
+                }
+            }
+        } catch (InvalidInputException e) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the source of a unit: the buffer if the unit is open, e.g. in an
+     * editor, otherwise the file contents, so that the unit is not opened.
+     */
+    static char[] getSource(ICompilationUnit cu) {
+        try {
+            IResource resource = cu.getResource();
+            if (cu.isOpen() || !(resource instanceof IFile)) {
+                String source = cu.getSource();
+                return source != null ? source.toCharArray() : null;
+            }
+            IFile file = (IFile) resource;
+            try (InputStream in = file.getContents()) {
+                return new String(in.readAllBytes(), file.getCharset()).toCharArray();
+            }
+        } catch (CoreException | IOException e) {
+            return null;
+        }
+    }
+}
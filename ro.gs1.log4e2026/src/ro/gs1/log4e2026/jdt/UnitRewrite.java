@@ -0,0 +1,100 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
+import org.eclipse.jdt.core.manipulation.CodeStyleConfiguration;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * The changes of one compilation unit: declarations and statements in an
+ * {@link ASTRewrite}, imports in an {@link ImportRewrite} that places them in
+ * the import order of the project. Both are merged into one
+ * {@link MultiTextEdit}, computed from the same source and applied in one pass.
+ * <p>
+ * Imports must be added and removed here, not in the ASTRewrite, so that the
+ * two edits do not overlap. An AST that was not created from a compilation
+ * unit, e.g. in tests, has no project settings; its new imports are appended
+ * to the existing ones.
+ */
+public final class UnitRewrite {
+
+    private final CompilationUnit astRoot;
+    private final ASTRewrite rewrite;
+    private final ImportRewrite importRewrite;
+
+    public UnitRewrite(CompilationUnit astRoot) {
+        this.astRoot = astRoot;
+        this.rewrite = ASTRewrite.create(astRoot.getAST());
+        this.importRewrite = astRoot.getTypeRoot() instanceof ICompilationUnit
+                ? CodeStyleConfiguration.createImportRewrite(astRoot, true) : null;
+    }
+
+    public CompilationUnit getRoot() {
+        return astRoot;
+    }
+
+    public AST getAST() {
+        return astRoot.getAST();
+    }
+
+    public ASTRewrite getASTRewrite() {
+        return rewrite;
+    }
+
+    /**
+     * Adds a single-type import, unless the unit already imports the type.
+     */
+    public void addImport(String qualifiedName) {
+        if (importRewrite != null) {
+            importRewrite.addImport(qualifiedName);
+        } else if (!ASTUtil.isImportDeclarationInCompilationUnit(astRoot, qualifiedName)) {
+            ImportDeclaration importDecl = getAST().newImportDeclaration();
+            importDecl.setName(getAST().newName(qualifiedName));
+            rewrite.getListRewrite(astRoot, CompilationUnit.IMPORTS_PROPERTY).insertLast(importDecl, null);
+        }
+    }
+
+    /**
+     * Removes an import declaration of the unit.
+     */
+    public void removeImport(ImportDeclaration importDecl) {
+        if (importRewrite == null) {
+            rewrite.remove(importDecl, null);
+            return;
+        }
+        String name = importDecl.getName().getFullyQualifiedName() + (importDecl.isOnDemand() ? ".*" : "");
+        if (importDecl.isStatic()) {
+            importRewrite.removeStaticImport(name);
+        } else {
+            importRewrite.removeImport(name);
+        }
+    }
+
+    /**
+     * Computes the edit of all recorded changes. The document must hold the
+     * source the AST was created from.
+     */
+    public TextEdit createEdit(IDocument document) throws CoreException {
+        ITypeRoot typeRoot = astRoot.getTypeRoot();
+        Map<String, String> options = typeRoot != null ? typeRoot.getJavaProject().getOptions(true) : null;
+        MultiTextEdit edit = new MultiTextEdit();
+        if (importRewrite != null && importRewrite.hasRecordedChanges()) {
+            edit.addChild(importRewrite.rewriteImports(null));
+        }
+        TextEdit astEdit = rewrite.rewriteAST(document, options);
+        if (astEdit.hasChildren()) {
+            edit.addChild(astEdit);
+        }
+        return edit;
+    }
+}
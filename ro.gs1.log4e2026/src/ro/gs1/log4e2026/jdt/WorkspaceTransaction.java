@@ -0,0 +1,85 @@
+package ro.gs1.log4e2026.jdt;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+
+/**
+ * Runs the file changes of a batch operation as one workspace operation,
+ * locked on the projects it changes. The resource deltas of all saved files
+ * are delivered once at the end, so auto-build and the Java model refresh
+ * run once instead of after every file. The wall time of the operation and
+ * the builds it caused, up to the end of the auto-build that follows it, are
+ * traced with {@link Log4e2026Plugin#TRACE_BATCH}.
+ */
+public final class WorkspaceTransaction {
+
+    private WorkspaceTransaction() {
+    }
+
+    /**
+     * Returns the scheduling rule of changing the given units: the rule of
+     * their projects.
+     */
+    public static ISchedulingRule getRule(Collection<ICompilationUnit> units) {
+        Set<IProject> projects = new LinkedHashSet<>();
+        for (ICompilationUnit cu : units) {
+            projects.add(cu.getJavaProject().getProject());
+        }
+        return MultiRule.combine(projects.toArray(new ISchedulingRule[0]));
+    }
+
+    /**
+     * Runs a batch of changes in one workspace operation. When tracing, waits
+     * for the auto-build the operation triggered before the builds are counted.
+     *
+     * @param name the name of the operation, for tracing
+     * @param rule the scheduling rule, e.g. from {@link #getRule(Collection)}
+     */
+    public static void run(String name, ISchedulingRule rule, IWorkspaceRunnable runnable, IProgressMonitor monitor)
+            throws CoreException {
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        boolean tracing = Log4e2026Plugin.isTracing(Log4e2026Plugin.TRACE_BATCH);
+        AtomicInteger builds = new AtomicInteger();
+        IResourceChangeListener buildCounter = event -> builds.incrementAndGet();
+        if (tracing) {
+            workspace.addResourceChangeListener(buildCounter, IResourceChangeEvent.PRE_BUILD);
+        }
+        long start = System.currentTimeMillis();
+        long end = 0;
+        try {
+            workspace.run(runnable, rule, IWorkspace.AVOID_UPDATE, monitor);
+            end = System.currentTimeMillis();
+            if (tracing) {
+                // The deltas are broadcast when the operation ends, the auto-build starts after that
+                Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (tracing) {
+                workspace.removeResourceChangeListener(buildCounter);
+                long now = System.currentTimeMillis();
+                long duration = (end > 0 ? end : now) - start;
+                Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_BATCH, name + ": " + duration + " ms, "
+                        + builds.get() + " builds until the auto-build finished after " + (now - start) + " ms");
+            }
+        }
+    }
+}
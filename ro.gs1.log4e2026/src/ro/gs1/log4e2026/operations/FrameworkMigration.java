@@ -0,0 +1,591 @@
+package ro.gs1.log4e2026.operations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.SuperFieldAccess;
+import org.eclipse.jdt.core.dom.TextBlock;
+import org.eclipse.jdt.core.dom.ThisExpression;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
+
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.ASTPrototype;
+import ro.gs1.log4e2026.jdt.ASTPrototype.Kind;
+import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.UnitRewrite;
+import ro.gs1.log4e2026.preferences.PreferenceKeys;
+import ro.gs1.log4e2026.templates.LoggerTemplate;
+import ro.gs1.log4e2026.templates.Profile;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
+import ro.gs1.log4e2026.templates.TemplateValues;
+
+/**
+ * Rewrites the logging of a compilation unit from one framework to another:
+ * the logger field declarations, the imports, the level method names and the
+ * is-enabled guards. Level methods and guards are taken from the
+ * <code>LOG_METHOD_*</code> and <code>LOGGER_IS_*_ENABLED_STATEMENT</code>
+ * settings of the source and target profiles, so user profiles migrate the
+ * same way as the built-in ones.
+ * <p>
+ * An instance keeps no state of a unit and may be shared by parallel workers.
+ */
+public class FrameworkMigration {
+
+    private static final String JUL_LOGGER = "java.util.logging.Logger";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern FORMAT_CHARACTERS = Pattern.compile("[{}']");
+
+    /** Logger methods with the same signature in all frameworks. */
+    private static final Set<String> PORTABLE_METHODS = Set.of("getName");
+
+    /**
+     * What was rewritten in one compilation unit.
+     */
+    public static final class Result {
+        private int declarations;
+        private int calls;
+        private int guards;
+        private final List<String> unsupported = new ArrayList<>();
+
+        public int getDeclarations() {
+            return declarations;
+        }
+
+        public int getCalls() {
+            return calls;
+        }
+
+        public int getGuards() {
+            return guards;
+        }
+
+        /**
+         * Returns the logger usages that could not be migrated, with their line.
+         * If not empty, the rewritten unit will most likely not compile.
+         */
+        public List<String> getUnsupported() {
+            return Collections.unmodifiableList(unsupported);
+        }
+
+        public boolean isChanged() {
+            return declarations + calls + guards > 0;
+        }
+
+        @Override
+        public String toString() {
+            return declarations + " declarations, " + calls + " calls, " + guards + " guards";
+        }
+    }
+
+    private final String sourceLoggerClass;
+    private final Profile targetProfile;
+    private final boolean julSource;
+    private final boolean julTarget;
+    private final String targetDeclaration;
+    private final Map<String, LogLevel> sourceMethods = new HashMap<>();
+    private final Map<String, LogLevel> sourceGuards = new HashMap<>();
+    private final Map<LogLevel, LogLevel> targetLevels = new EnumMap<>(LogLevel.class);
+    private final Set<String> sourceImports = new LinkedHashSet<>();
+    private final Set<String> targetImports = new LinkedHashSet<>();
+
+    /**
+     * @param sourceProfile the profile the code was written with, may be null
+     * @param targetProfile the profile to migrate to, may be null
+     */
+    public FrameworkMigration(LoggerTemplate source, Profile sourceProfile, LoggerTemplate target,
+            Profile targetProfile) {
+        this.sourceLoggerClass = source.getLoggerClass();
+        this.targetProfile = targetProfile;
+        this.julSource = JUL_LOGGER.equals(sourceLoggerClass);
+        this.julTarget = JUL_LOGGER.equals(target.getLoggerClass());
+
+        // By priority, so that a method shared by several levels maps to the finest one
+        for (LogLevel level : LogLevel.getAllLevelsByPriority()) {
+            String method = getLogMethod(sourceProfile, level);
+            if (method != null) {
+                sourceMethods.putIfAbsent(method, level);
+            }
+            String guard = getIsEnabled(sourceProfile, level);
+            if (guard != null) {
+                sourceGuards.putIfAbsent(strip(guard), level);
+            }
+        }
+        for (LogLevel level : LogLevel.values()) {
+            targetLevels.put(level, getNearestLevel(targetProfile, level));
+        }
+
+        addImports(sourceImports, source, sourceProfile);
+        addImports(targetImports, target, targetProfile);
+        String declaration = targetProfile != null ? targetProfile.getString("LOGGER_DECLARATION") : null;
+        this.targetDeclaration = declaration != null && !declaration.isEmpty() ? declaration : target.getDeclaration();
+    }
+
+    /**
+     * Returns the profile for a logger template: the preferred profile if it
+     * uses the template's logger class, otherwise the first such profile.
+     *
+     * @return the profile, or null if none uses the logger class
+     */
+    public static Profile findProfile(Iterable<Profile> profiles, LoggerTemplate template, Profile preferred) {
+        String loggerClass = template.getLoggerClass();
+        if (preferred != null && loggerClass.equals(preferred.getString("LOGGER_TYPE"))) {
+            return preferred;
+        }
+        for (Profile profile : profiles) {
+            if (loggerClass.equals(profile.getString("LOGGER_TYPE"))) {
+                return profile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the target level a source level is migrated to: the level itself
+     * if the target profile has a log method for it, otherwise the nearest
+     * level by priority, the more severe one on a tie.
+     */
+    public LogLevel getTargetLevel(LogLevel level) {
+        return targetLevels.get(level);
+    }
+
+    /**
+     * Returns the target log method of a source level.
+     */
+    public String getTargetMethod(LogLevel level) {
+        return getLogMethod(targetProfile, targetLevels.get(level));
+    }
+
+    /**
+     * Records the migration of a compilation unit in a rewrite; the imports
+     * go through its import rewrite.
+     *
+     * @param inheritedLoggers names of source logger fields declared in other
+     *            units but used in this one
+     * @return what was rewritten; nothing was recorded if it is unchanged
+     */
+    public Result migrate(UnitRewrite unitRewrite, Set<String> inheritedLoggers) {
+        CompilationUnit astRoot = unitRewrite.getRoot();
+        ASTRewrite rewrite = unitRewrite.getASTRewrite();
+        Result result = new Result();
+        AST ast = astRoot.getAST();
+        Set<String> loggers = new HashSet<>(inheritedLoggers);
+        Set<ASTNode> replaced = new HashSet<>();
+        // The inserted templates, to find the target imports they need
+        StringBuilder inserted = new StringBuilder();
+
+        boolean importsLogger = importsType(astRoot, sourceLoggerClass);
+        astRoot.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(FieldDeclaration node) {
+                if (!isSourceLogger(node.getType(), importsLogger)) {
+                    return true;
+                }
+                if (node.fragments().size() != 1 || !(node.getParent() instanceof AbstractTypeDeclaration)) {
+                    result.unsupported.add(describe(astRoot, node));
+                    return false;
+                }
+                String name = ((VariableDeclarationFragment) node.fragments().get(0)).getName().getIdentifier();
+                String className = ((AbstractTypeDeclaration) node.getParent()).getName().getIdentifier();
+                rewrite.replace(node, createDeclaration(ast, node, name, className), null);
+                replaced.add(node);
+                loggers.add(name);
+                inserted.append(targetDeclaration).append('\n');
+                result.declarations++;
+                return false;
+            }
+        });
+
+        astRoot.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(FieldDeclaration node) {
+                return !replaced.contains(node);
+            }
+
+            @Override
+            public boolean visit(MethodInvocation node) {
+                String logger = getLoggerName(node.getExpression(), loggers);
+                if (logger == null) {
+                    return true;
+                }
+                LogLevel guardLevel = sourceGuards.get(getGuardKey(node));
+                if (guardLevel != null) {
+                    migrateGuard(astRoot, rewrite, node, logger, guardLevel, replaced, inserted, result);
+                    return false;
+                }
+                migrateCall(astRoot, rewrite, node, replaced, inserted, result);
+                return true;
+            }
+        });
+
+        if (result.isChanged()) {
+            migrateImports(unitRewrite, replaced, inserted, result);
+        }
+        return result;
+    }
+
+    private void migrateGuard(CompilationUnit astRoot, ASTRewrite rewrite, MethodInvocation node, String logger,
+            LogLevel level, Set<ASTNode> replaced, StringBuilder inserted, Result result) {
+        LogLevel targetLevel = targetLevels.get(level);
+        ASTPrototype prototype = TemplatePrototypes.getIsEnabled(targetProfile, targetLevel);
+        if (prototype == null) {
+            result.unsupported.add(describe(astRoot, node));
+            return;
+        }
+        ASTNode guard = prototype.instantiate(astRoot.getAST(),
+                new TemplateValues().set(PreferenceKeys.PROF_LOGGER, logger));
+        rewrite.replace(node, guard, null);
+        replaced.add(node);
+        inserted.append(getIsEnabled(targetProfile, targetLevel)).append('\n');
+        result.guards++;
+    }
+
+    private void migrateCall(CompilationUnit astRoot, ASTRewrite rewrite, MethodInvocation node,
+            Set<ASTNode> replaced, StringBuilder inserted, Result result) {
+        String method = node.getName().getIdentifier();
+        List<?> arguments = node.arguments();
+        LogLevel level = sourceMethods.get(method);
+        Expression levelArgument = null;
+        // log(Level.X, ...) of JUL and Log4j: the level constants are named like the level methods
+        if (level == null && "log".equals(method) && arguments.size() >= 2 && arguments.get(0) instanceof Name) {
+            levelArgument = (Expression) arguments.get(0);
+            level = sourceMethods.get(getIdentifier((Name) levelArgument).toLowerCase(Locale.ROOT));
+        }
+        if (level == null) {
+            if (!PORTABLE_METHODS.contains(method)) {
+                result.unsupported.add(describe(astRoot, node));
+            }
+            return;
+        }
+
+        AST ast = astRoot.getAST();
+        String targetMethod = getTargetMethod(level);
+        int messageArguments = arguments.size() - (levelArgument != null ? 1 : 0);
+        // The JUL level methods take only the message; log(Level, String, Object) takes one more
+        if (julTarget && messageArguments > 2) {
+            result.unsupported.add(describe(astRoot, node));
+            return;
+        }
+        // JUL formats parameters as {0}, the other frameworks as {}
+        StringLiteral targetMessage = null;
+        if (julSource != julTarget && messageArguments > 1) {
+            Expression message = (Expression) arguments.get(levelArgument != null ? 1 : 0);
+            if (message instanceof StringLiteral) {
+                String value = ((StringLiteral) message).getLiteralValue();
+                String converted = convertPlaceholders(value, messageArguments - 1, julTarget);
+                if (converted == null) {
+                    result.unsupported.add(describe(astRoot, node));
+                    return;
+                }
+                if (!converted.equals(value)) {
+                    targetMessage = ast.newStringLiteral();
+                    targetMessage.setLiteralValue(converted);
+                    rewrite.replace(message, targetMessage, null);
+                    replaced.add(message);
+                }
+            } else if (hasFormatCharacters(message)) {
+                // The placeholders of a computed message cannot be converted
+                result.unsupported.add(describe(astRoot, node));
+                return;
+            }
+            // Otherwise the message has no placeholders and the other argument is the exception
+        }
+
+        ListRewrite argumentRewrite = rewrite.getListRewrite(node, MethodInvocation.ARGUMENTS_PROPERTY);
+        if (julTarget && messageArguments > 1) {
+            Name targetLevel = ast.newName("Level." + targetMethod.toUpperCase(Locale.ROOT));
+            if (levelArgument != null) {
+                rewrite.replace(levelArgument, targetLevel, null);
+                replaced.add(levelArgument);
+            } else {
+                argumentRewrite.insertFirst(targetLevel, null);
+            }
+            targetMethod = "log";
+            inserted.append("Level.\n");
+        } else if (levelArgument != null) {
+            argumentRewrite.remove(levelArgument, null);
+            replaced.add(levelArgument);
+        }
+        if (!targetMethod.equals(method)) {
+            rewrite.set(node, MethodInvocation.NAME_PROPERTY, ast.newSimpleName(targetMethod), null);
+        } else if (levelArgument == null && targetMessage == null && !(julTarget && messageArguments > 1)) {
+            return;
+        }
+        result.calls++;
+    }
+
+    /**
+     * Checks if a literal part of a computed message, e.g. "Failed " + id,
+     * contains a brace or a quote, which the frameworks format differently.
+     */
+    private static boolean hasFormatCharacters(Expression message) {
+        boolean[] found = new boolean[1];
+        message.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(StringLiteral node) {
+                check(node.getLiteralValue());
+                return false;
+            }
+
+            @Override
+            public boolean visit(TextBlock node) {
+                check(node.getLiteralValue());
+                return false;
+            }
+
+            @Override
+            public boolean visit(CharacterLiteral node) {
+                check(String.valueOf(node.charValue()));
+                return false;
+            }
+
+            private void check(String literal) {
+                if (FORMAT_CHARACTERS.matcher(literal).find()) {
+                    found[0] = true;
+                }
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Converts the parameter placeholders of a message from {} to {0}, {1}...
+     * or back. JUL formats with MessageFormat, so its quotes are escaped, and a
+     * message it would format differently is not converted.
+     *
+     * @param parameters the number of arguments after the message
+     * @return the converted message, the message itself if it has no
+     *         placeholders, e.g. when the argument is the exception, or null if
+     *         it cannot be converted
+     */
+    private static String convertPlaceholders(String message, int parameters, boolean toJul) {
+        if (message.indexOf('{') < 0 && message.indexOf('}') < 0) {
+            return message;
+        }
+        if (toJul ? message.contains("\\{") : message.indexOf('\'') >= 0) {
+            return null;
+        }
+        StringBuilder converted = new StringBuilder();
+        int count = 0;
+        int pos = 0;
+        while (pos < message.length()) {
+            char c = message.charAt(pos);
+            if (c == '}') {
+                return null;
+            }
+            if (c != '{') {
+                converted.append(toJul && c == '\'' ? "''" : String.valueOf(c));
+                pos++;
+                continue;
+            }
+            int end = message.indexOf('}', pos);
+            String index = String.valueOf(count);
+            if (end < 0 || !message.substring(pos + 1, end).equals(toJul ? "" : index)) {
+                return null;
+            }
+            converted.append(toJul ? "{" + index + "}" : "{}");
+            count++;
+            pos = end + 1;
+        }
+        return count == parameters ? converted.toString() : null;
+    }
+
+    /**
+     * Removes the source imports that are no longer referenced and adds the
+     * target imports the inserted code needs.
+     */
+    private void migrateImports(UnitRewrite rewrite, Set<ASTNode> replaced, StringBuilder inserted,
+            Result result) {
+        CompilationUnit astRoot = rewrite.getRoot();
+        Set<String> referenced = ASTUtil.getReferencedNames(astRoot, replaced);
+        Set<String> existing = new HashSet<>();
+        Set<String> kept = new HashSet<>();
+        for (Object object : astRoot.imports()) {
+            ImportDeclaration imp = (ImportDeclaration) object;
+            if (imp.isStatic() || imp.isOnDemand()) {
+                continue;
+            }
+            String name = imp.getName().getFullyQualifiedName();
+            existing.add(name);
+            if (sourceImports.contains(name) && !targetImports.contains(name)) {
+                String simpleName = getSimpleName(name);
+                if (referenced.contains(simpleName)) {
+                    kept.add(simpleName);
+                } else {
+                    rewrite.removeImport(imp);
+                }
+            }
+        }
+
+        for (String name : targetImports) {
+            String simpleName = getSimpleName(name);
+            if (existing.contains(name)
+                    || !Pattern.compile("\\b" + Pattern.quote(simpleName) + "\\b").matcher(inserted).find()) {
+                continue;
+            }
+            if (kept.contains(simpleName)) {
+                result.unsupported.add("import " + name + " clashes with a source import still in use");
+                continue;
+            }
+            rewrite.addImport(name);
+        }
+    }
+
+    /**
+     * Creates the target declaration of a logger field, keeping the modifiers
+     * and the Javadoc of the source declaration.
+     */
+    @SuppressWarnings("unchecked")
+    private FieldDeclaration createDeclaration(AST ast, FieldDeclaration source, String name, String className) {
+        ASTPrototype prototype = TemplatePrototypes.get(targetDeclaration, Kind.FIELD);
+        if (prototype == null) {
+            throw new IllegalStateException("Invalid logger declaration: " + targetDeclaration);
+        }
+        FieldDeclaration field = (FieldDeclaration) prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, name)
+                .set(PreferenceKeys.PROF_SOURCECLASS, className));
+        field.modifiers().clear();
+        field.modifiers().addAll(ASTNode.copySubtrees(ast, source.modifiers()));
+        if (source.getJavadoc() != null) {
+            field.setJavadoc((Javadoc) ASTNode.copySubtree(ast, source.getJavadoc()));
+        }
+        return field;
+    }
+
+    private boolean isSourceLogger(Type type, boolean importsLogger) {
+        String name = type.toString();
+        return name.equals(sourceLoggerClass) || importsLogger && name.equals(getSimpleName(sourceLoggerClass));
+    }
+
+    private static boolean importsType(CompilationUnit astRoot, String qualifiedName) {
+        for (Object object : astRoot.imports()) {
+            ImportDeclaration imp = (ImportDeclaration) object;
+            if (imp.isStatic()) {
+                continue;
+            }
+            String name = imp.getName().getFullyQualifiedName();
+            if (imp.isOnDemand() ? qualifiedName.equals(name + '.' + getSimpleName(qualifiedName))
+                    : qualifiedName.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the logger field name a method is invoked on, or null if the
+     * receiver is no logger.
+     */
+    private static String getLoggerName(Expression receiver, Set<String> loggers) {
+        SimpleName name = null;
+        if (receiver instanceof SimpleName) {
+            name = (SimpleName) receiver;
+        } else if (receiver instanceof QualifiedName) {
+            name = ((QualifiedName) receiver).getName();
+        } else if (receiver instanceof FieldAccess && ((FieldAccess) receiver).getExpression() instanceof ThisExpression) {
+            name = ((FieldAccess) receiver).getName();
+        } else if (receiver instanceof SuperFieldAccess) {
+            name = ((SuperFieldAccess) receiver).getName();
+        }
+        return name != null && loggers.contains(name.getIdentifier()) ? name.getIdentifier() : null;
+    }
+
+    /**
+     * Returns a guard invocation as template text without whitespace, with the
+     * receiver replaced by the logger placeholder.
+     */
+    private static String getGuardKey(MethodInvocation node) {
+        String text = strip(node.toString());
+        String receiver = strip(node.getExpression().toString());
+        return text.startsWith(receiver + '.') ? PreferenceKeys.PROF_LOGGER + text.substring(receiver.length()) : null;
+    }
+
+    private static String getLogMethod(Profile profile, LogLevel level) {
+        if (profile == null) {
+            return level.getMethodName();
+        }
+        String method = profile.getString("LOG_METHOD_" + level.name());
+        return method != null && !method.isEmpty() ? method : null;
+    }
+
+    private static String getIsEnabled(Profile profile, LogLevel level) {
+        String statement = profile != null ? profile.getString("LOGGER_IS_" + level.name() + "_ENABLED_STATEMENT") : null;
+        return statement != null && !statement.isEmpty() ? statement : null;
+    }
+
+    private static LogLevel getNearestLevel(Profile profile, LogLevel level) {
+        if (getLogMethod(profile, level) != null) {
+            return level;
+        }
+        LogLevel nearest = null;
+        for (LogLevel candidate : LogLevel.getAllLevelsByPriority()) {
+            if (getLogMethod(profile, candidate) != null && (nearest == null
+                    || Math.abs(candidate.getPriority() - level.getPriority())
+                            <= Math.abs(nearest.getPriority() - level.getPriority()))) {
+                nearest = candidate;
+            }
+        }
+        return nearest != null ? nearest : level;
+    }
+
+    private static void addImports(Set<String> imports, LoggerTemplate template, Profile profile) {
+        String profileImports = profile != null ? profile.getString("LOGGER_IMPORTS") : null;
+        if (profileImports != null && !profileImports.isBlank()) {
+            for (String line : profileImports.split("\n")) {
+                if (!line.isBlank()) {
+                    imports.add(line.trim());
+                }
+            }
+        } else {
+            Collections.addAll(imports, template.getImports());
+        }
+    }
+
+    private static String getIdentifier(Name name) {
+        return name.isSimpleName() ? ((SimpleName) name).getIdentifier()
+                : ((QualifiedName) name).getName().getIdentifier();
+    }
+
+    private static String getSimpleName(String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+
+    private static String strip(String text) {
+        return WHITESPACE.matcher(text).replaceAll("");
+    }
+
+    private static String describe(CompilationUnit astRoot, ASTNode node) {
+        String text = WHITESPACE.matcher(node.toString()).replaceAll(" ").trim();
+        if (text.length() > 80) {
+            text = text.substring(0, 77) + "...";
+        }
+        return "line " + astRoot.getLineNumber(node.getStartPosition()) + ": " + text;
+    }
+}
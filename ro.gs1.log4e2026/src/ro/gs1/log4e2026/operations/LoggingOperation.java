@@ -3,36 +3,41 @@ package ro.gs1.log4e2026.operations;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CatchClause;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.ExpressionStatement;
+import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.IfStatement;
+import org.eclipse.jdt.core.dom.InfixExpression;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.Statement;
 import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.TextBlock;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jface.preference.IPreferenceStore;
 
-import ro.gs1.log4e2026.Log4e2026Plugin;
 import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.ASTPrototype;
 import ro.gs1.log4e2026.jdt.ASTUtil;
+import ro.gs1.log4e2026.jdt.LoggerUsageIndex;
 import ro.gs1.log4e2026.preferences.PreferenceKeys;
-import ro.gs1.log4e2026.preferences.ProjectPreferences;
+import ro.gs1.log4e2026.settings.OperationSettings;
 import ro.gs1.log4e2026.settings.PositionCatchSettings;
 import ro.gs1.log4e2026.settings.PositionEndSettings;
 import ro.gs1.log4e2026.settings.PositionStartSettings;
 import ro.gs1.log4e2026.templates.LoggerTemplate;
-import ro.gs1.log4e2026.templates.LoggerTemplates;
 import ro.gs1.log4e2026.templates.Profile;
-import ro.gs1.log4e2026.templates.ProfileManager;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
+import ro.gs1.log4e2026.templates.TemplateValues;
 
 /**
  * Base class for logging operations that manipulate the AST.
@@ -41,69 +46,32 @@ import ro.gs1.log4e2026.templates.ProfileManager;
 public class LoggingOperation {
 
     private final OperationContext context;
-    private LoggerTemplate template;
-    private String loggerName;
-    private IPreferenceStore prefs;
+    private final OperationSettings settings;
+    private final LoggerTemplate template;
+    private final String loggerName;
 
     // Active profile for statement templates
-    private Profile activeProfile;
+    private final Profile activeProfile;
 
-    // Position settings
-    private PositionStartSettings startSettings;
-    private PositionEndSettings endSettings;
-    private PositionCatchSettings catchSettings;
-
-    // Conditional wrapping preference
+    // Conditional wrapping preference, can be overridden per operation
     private boolean useConditionalWrapping;
 
     // Format settings
-    private String delimiter;
-    private String variablePlaceholder;
+    private final String delimiter;
+    private final String variablePlaceholder;
 
     public LoggingOperation(OperationContext context) {
         this.context = context;
-        initializeFromPreferences();
-    }
-
-    private void initializeFromPreferences() {
-        // Get project-aware preferences
-        ProjectPreferences projectPrefs = null;
-        if (context.getCompilationUnit() != null) {
-            projectPrefs = Log4e2026Plugin.getProjectPreferences(
-                    context.getCompilationUnit().getJavaProject().getProject());
-        } else {
-            projectPrefs = Log4e2026Plugin.getProjectPreferences(null);
-        }
-
-        String framework = projectPrefs.getLoggingFramework();
-        this.template = LoggerTemplates.getTemplate(framework);
-        if (this.template == null) {
-            this.template = LoggerTemplates.getSLF4J();
-        }
-        this.loggerName = projectPrefs.getLoggerName();
-        if (this.loggerName == null || this.loggerName.isEmpty()) {
-            this.loggerName = "logger";
-        }
-
-        // Load active profile for statement templates
-        this.activeProfile = ProfileManager.getInstance().getCurrentProfile();
-
-        // Initialize position settings
-        this.startSettings = new PositionStartSettings();
-        this.endSettings = new PositionEndSettings();
-        this.catchSettings = new PositionCatchSettings();
-
-        // Get preference store for additional settings
-        this.prefs = Log4e2026Plugin.getPreferences();
-        this.useConditionalWrapping = prefs.getBoolean(PreferenceKeys.ENABLED_BRACES);
-        this.delimiter = prefs.getString(PreferenceKeys.FORMAT_DELIMITER);
-        if (this.delimiter == null || this.delimiter.isEmpty()) {
-            this.delimiter = " - ";
-        }
-        this.variablePlaceholder = prefs.getString(PreferenceKeys.LOGGER_FORMAT_VARIABLE_PLACEHOLDER);
-        if (this.variablePlaceholder == null || this.variablePlaceholder.isEmpty()) {
-            this.variablePlaceholder = "{}";
-        }
+        // Resolved once per project and profile version, shared with other operations
+        this.settings = context.getSettings() != null ? context.getSettings()
+                : OperationSettings.get(context.getCompilationUnit() != null
+                        ? context.getCompilationUnit().getJavaProject().getProject() : null);
+        this.template = settings.getTemplate();
+        this.loggerName = settings.getLoggerName();
+        this.activeProfile = settings.getProfile();
+        this.useConditionalWrapping = settings.isConditionalWrapping();
+        this.delimiter = settings.getDelimiter();
+        this.variablePlaceholder = settings.getVariablePlaceholder();
     }
 
     // ========== Profile Template Resolution ==========
@@ -113,203 +81,107 @@ public class LoggingOperation {
      * Falls back to the LogLevel enum method name if profile has no mapping.
      */
     private String getLogMethodForLevel(LogLevel level) {
-        if (activeProfile != null) {
-            // Try profile-specific method mapping
-            String key = "LOG_METHOD_" + level.name();
-            String method = activeProfile.getString(key);
-            if (method != null && !method.isEmpty()) {
-                return method;
-            }
-        }
-        return level.getMethodName();
+        return settings.getLogMethod(level);
     }
 
     /**
-     * Gets the statement template key for a given log level.
+     * Builds an if-statement guarding the log statement with an is-enabled condition.
      */
-    private String getStatementTemplateKey(LogLevel level) {
-        return "LOGGER_" + level.name() + "_STATEMENT";
-    }
-
-    /**
-     * Gets the is-enabled statement template key for a given log level.
-     */
-    private String getIsEnabledTemplateKey(LogLevel level) {
-        return "LOGGER_IS_" + level.name() + "_ENABLED_STATEMENT";
-    }
-
-    /**
-     * Resolves a template string by substituting placeholders with actual values.
-     */
-    private String resolveTemplate(String templateStr, String methodName, String className,
-                                    String message, String exceptionName) {
-        if (templateStr == null) {
-            return null;
-        }
-        String result = templateStr;
-        result = result.replace("${logger}", loggerName);
-        result = result.replace("${enclosing_method}", methodName != null ? methodName : "");
-        result = result.replace("${enclosing_type}", className != null ? className : "");
-        result = result.replace("${delimiter}", delimiter);
-        result = result.replace("${delimiter_msg}", delimiter);
-        result = result.replace("${message}", message != null ? message : "");
-        result = result.replace("${message_user}", "");
-        result = result.replace("${variables}", "");
-        result = result.replace("${return_value}", "");
-        result = result.replace("${exception}", exceptionName != null ? exceptionName : "e");
-        result = result.replace("${variable}", "");
-        return result;
-    }
-
-    /**
-     * Parses a Java statement string into an AST Statement node.
-     */
-    private Statement parseStatement(AST ast, String statementStr) {
-        if (statementStr == null || statementStr.trim().isEmpty()) {
-            return null;
-        }
-        // Ensure statement ends with semicolon
-        String stmt = statementStr.trim();
-        if (!stmt.endsWith(";")) {
-            stmt = stmt + ";";
-        }
-
-        ASTParser stmtParser = ASTParser.newParser(AST.getJLSLatest());
-        stmtParser.setSource(("class Temp { void m() { " + stmt + " } }").toCharArray());
-        stmtParser.setKind(ASTParser.K_COMPILATION_UNIT);
-        CompilationUnit tempCu = (CompilationUnit) stmtParser.createAST(null);
-        TypeDeclaration tempType = (TypeDeclaration) tempCu.types().get(0);
-        MethodDeclaration tempMethod = tempType.getMethods()[0];
-
-        if (tempMethod.getBody().statements().isEmpty()) {
-            return null;
-        }
-
-        Statement tempStmt = (Statement) tempMethod.getBody().statements().get(0);
-        return (Statement) ASTNode.copySubtree(ast, tempStmt);
-    }
-
-    /**
-     * Parses a Java expression string (for if-conditions) and wraps a statement in it.
-     */
-    private Statement parseConditionalWrap(AST ast, String conditionStr, Statement logStatement) {
-        if (conditionStr == null || conditionStr.trim().isEmpty()) {
-            return logStatement;
-        }
-
-        String condition = conditionStr.trim();
-        // Remove trailing semicolon if present
-        if (condition.endsWith(";")) {
-            condition = condition.substring(0, condition.length() - 1);
-        }
-
-        // Build the full if-statement
-        String ifStmt = "if (" + condition + ") { }";
-
-        ASTParser stmtParser = ASTParser.newParser(AST.getJLSLatest());
-        stmtParser.setSource(("class Temp { void m() { " + ifStmt + " } }").toCharArray());
-        stmtParser.setKind(ASTParser.K_COMPILATION_UNIT);
-        CompilationUnit tempCu = (CompilationUnit) stmtParser.createAST(null);
-        TypeDeclaration tempType = (TypeDeclaration) tempCu.types().get(0);
-        MethodDeclaration tempMethod = tempType.getMethods()[0];
-
-        if (tempMethod.getBody().statements().isEmpty()) {
-            return logStatement;
-        }
-
-        IfStatement parsedIf = (IfStatement) ASTNode.copySubtree(ast,
-                (Statement) tempMethod.getBody().statements().get(0));
-
-        // Insert the log statement into the if-block
-        Block thenBlock = (Block) parsedIf.getThenStatement();
-        @SuppressWarnings("unchecked")
-        List<Statement> thenStatements = thenBlock.statements();
-        thenStatements.add(logStatement);
+    @SuppressWarnings("unchecked")
+    private Statement createConditionalWrap(AST ast, ASTPrototype condition, Statement logStatement) {
+        Expression expression = (Expression) condition.instantiate(ast,
+                new TemplateValues().set(PreferenceKeys.PROF_LOGGER, loggerName));
 
-        return parsedIf;
+        IfStatement ifStmt = ast.newIfStatement();
+        ifStmt.setExpression(expression);
+        Block thenBlock = ast.newBlock();
+        thenBlock.statements().add(logStatement);
+        ifStmt.setThenStatement(thenBlock);
+        return ifStmt;
     }
 
     // ========== Position Settings Accessors ==========
 
     public PositionStartSettings getStartSettings() {
-        return startSettings;
+        return settings.getStartSettings();
     }
 
     public PositionEndSettings getEndSettings() {
-        return endSettings;
+        return settings.getEndSettings();
     }
 
     public PositionCatchSettings getCatchSettings() {
-        return catchSettings;
+        return settings.getCatchSettings();
+    }
+
+    /**
+     * Returns the resolved settings of the operation.
+     */
+    public OperationSettings getSettings() {
+        return settings;
     }
 
     /**
      * Gets the log level for method start position from preferences.
      */
     public LogLevel getStartLogLevel() {
-        String level = prefs.getString(PreferenceKeys.POS_START + PreferenceKeys.POS_ATT_LEVEL);
-        LogLevel logLevel = LogLevel.fromName(level);
-        return logLevel != null ? logLevel : LogLevel.DEBUG;
+        return settings.getStart().getLevel();
     }
 
     /**
      * Gets the log level for method end position from preferences.
      */
     public LogLevel getEndLogLevel() {
-        String level = prefs.getString(PreferenceKeys.POS_END + PreferenceKeys.POS_ATT_LEVEL);
-        LogLevel logLevel = LogLevel.fromName(level);
-        return logLevel != null ? logLevel : LogLevel.DEBUG;
+        return settings.getEnd().getLevel();
     }
 
     /**
      * Gets the log level for catch blocks from preferences.
      */
     public LogLevel getCatchLogLevel() {
-        String level = prefs.getString(PreferenceKeys.POS_CATCH + PreferenceKeys.POS_ATT_LEVEL);
-        LogLevel logLevel = LogLevel.fromName(level);
-        return logLevel != null ? logLevel : LogLevel.ERROR;
+        return settings.getCatch().getLevel();
     }
 
     /**
      * Checks if logging at start position is enabled.
      */
     public boolean isStartLoggingEnabled() {
-        return !prefs.getBoolean(PreferenceKeys.POS_START + PreferenceKeys.POS_ATT_DISABLE_ADD_LOGGING);
+        return settings.getStart().isLoggingEnabled();
     }
 
     /**
      * Checks if logging at end position is enabled.
      */
     public boolean isEndLoggingEnabled() {
-        return !prefs.getBoolean(PreferenceKeys.POS_END + PreferenceKeys.POS_ATT_DISABLE_ADD_LOGGING);
+        return settings.getEnd().isLoggingEnabled();
     }
 
     /**
      * Checks if logging in catch blocks is enabled.
      */
     public boolean isCatchLoggingEnabled() {
-        return !prefs.getBoolean(PreferenceKeys.POS_CATCH + PreferenceKeys.POS_ATT_DISABLE_ADD_LOGGING);
+        return settings.getCatch().isLoggingEnabled();
     }
 
     /**
      * Returns whether parameter values should be included in entry logs.
      */
     public boolean includeParameterValues() {
-        return prefs.getBoolean(PreferenceKeys.POS_START + PreferenceKeys.POS_ATT_PARAMVALUES);
+        return settings.getStart().includeParameterValues();
     }
 
     /**
      * Returns whether parameter names should be included in entry logs.
      */
     public boolean includeParameterNames() {
-        return prefs.getBoolean(PreferenceKeys.POS_START + PreferenceKeys.POS_ATT_PARAMNAMES);
+        return settings.getStart().includeParameterNames();
     }
 
     /**
      * Returns whether return value should be included in exit logs.
      */
     public boolean includeReturnValue() {
-        return prefs.getBoolean(PreferenceKeys.POS_END + PreferenceKeys.POS_ATT_RETURN_VALUE);
+        return settings.getEnd().includeReturnValue();
     }
 
     // ========== Method Skip Checks ==========
@@ -322,22 +194,23 @@ public class LoggingOperation {
             return true;
         }
 
-        String prefix = position;
+        OperationSettings.Position pos = PreferenceKeys.POS_END.equals(position) ? settings.getEnd()
+                : PreferenceKeys.POS_CATCH.equals(position) ? settings.getCatch() : settings.getStart();
 
         // Check skip settings
-        if (prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_GETTER) && ASTUtil.isGetter(method)) {
+        if (pos.skipGetter() && ASTUtil.isGetter(method)) {
             return true;
         }
-        if (prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_SETTER) && ASTUtil.isSetter(method)) {
+        if (pos.skipSetter() && ASTUtil.isSetter(method)) {
             return true;
         }
-        if (prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_TO_STRING) && ASTUtil.isToStringMethod(method)) {
+        if (pos.skipToString() && ASTUtil.isToStringMethod(method)) {
             return true;
         }
-        if (prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_CONSTRUCTOR) && method.isConstructor()) {
+        if (pos.skipConstructor() && method.isConstructor()) {
             return true;
         }
-        if (prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_EMPTY_METHODS)) {
+        if (pos.skipEmptyMethods()) {
             Block body = method.getBody();
             if (body == null || body.statements().isEmpty()) {
                 return true;
@@ -383,10 +256,7 @@ public class LoggingOperation {
     public Statement createEntryLogStatement(AST ast, MethodDeclaration method) {
         String methodName = ASTUtil.getName(method);
         LogLevel level = getStartLogLevel();
-        String customMsg = prefs.getString(PreferenceKeys.POS_START + PreferenceKeys.POS_ATT_MSG);
-        if (customMsg == null || customMsg.isEmpty()) {
-            customMsg = "start";
-        }
+        String customMsg = settings.getStart().getMessage();
 
         // Build message with optional parameters
         StringBuilder message = new StringBuilder();
@@ -416,10 +286,7 @@ public class LoggingOperation {
     public Statement createExitLogStatement(AST ast, MethodDeclaration method) {
         String methodName = ASTUtil.getName(method);
         LogLevel level = getEndLogLevel();
-        String customMsg = prefs.getString(PreferenceKeys.POS_END + PreferenceKeys.POS_ATT_MSG);
-        if (customMsg == null || customMsg.isEmpty()) {
-            customMsg = "end";
-        }
+        String customMsg = settings.getEnd().getMessage();
 
         String message = methodName + "()" + delimiter + customMsg;
         Statement logStmt = createLogStatement(ast, level, message);
@@ -432,10 +299,7 @@ public class LoggingOperation {
     public Statement createExitLogStatementWithReturn(AST ast, MethodDeclaration method, String returnVarName) {
         String methodName = ASTUtil.getName(method);
         LogLevel level = getEndLogLevel();
-        String customMsg = prefs.getString(PreferenceKeys.POS_END + PreferenceKeys.POS_ATT_MSG);
-        if (customMsg == null || customMsg.isEmpty()) {
-            customMsg = "end";
-        }
+        String customMsg = settings.getEnd().getMessage();
 
         if (includeReturnValue() && returnVarName != null && !returnVarName.isEmpty()) {
             String message = methodName + "()" + delimiter + customMsg + delimiter + "returning=" + variablePlaceholder;
@@ -453,10 +317,7 @@ public class LoggingOperation {
         String methodName = ASTUtil.getName(method);
         String exceptionName = ASTUtil.getExceptionName(catchClause);
         LogLevel level = getCatchLogLevel();
-        String customMsg = prefs.getString(PreferenceKeys.POS_CATCH + PreferenceKeys.POS_ATT_MSG);
-        if (customMsg == null || customMsg.isEmpty()) {
-            customMsg = "exception";
-        }
+        String customMsg = settings.getCatch().getMessage();
 
         String message = methodName + "()" + delimiter + customMsg;
         return createErrorLogStatement(ast, message, exceptionName);
@@ -542,50 +403,21 @@ public class LoggingOperation {
             return logStatement;
         }
 
-        // Get the is-enabled expression from profile template
-        String isEnabledTemplate = getIsEnabledExpression(level);
-        if (isEnabledTemplate == null || isEnabledTemplate.isEmpty()) {
+        // Get the precompiled is-enabled expression from profile template
+        ASTPrototype condition = getIsEnabledPrototype(level);
+        if (condition == null) {
             return logStatement;
         }
 
-        return parseConditionalWrap(ast, isEnabledTemplate, logStatement);
+        return createConditionalWrap(ast, condition, logStatement);
     }
 
     /**
-     * Gets the is-enabled expression for a log level from the active profile.
-     * Falls back to programmatic construction if profile has no template.
+     * Gets the is-enabled expression prototype for a log level from the active profile.
+     * Falls back to an SLF4J-style expression if profile has no template.
      */
-    private String getIsEnabledExpression(LogLevel level) {
-        if (activeProfile != null) {
-            String key = getIsEnabledTemplateKey(level);
-            String template = activeProfile.getString(key);
-            if (template != null && !template.isEmpty()) {
-                // Resolve just the logger name placeholder
-                return template.replace("${logger}", loggerName);
-            }
-        }
-        // Fallback: build programmatically for SLF4J-style
-        String methodName = getIsEnabledMethodNameFallback(level);
-        if (methodName == null) {
-            return null;
-        }
-        return loggerName + "." + methodName + "()";
-    }
-
-    /**
-     * Fallback method to get is-enabled method name when profile has no template.
-     */
-    private String getIsEnabledMethodNameFallback(LogLevel level) {
-        return switch (level) {
-            case TRACE -> "isTraceEnabled";
-            case DEBUG -> "isDebugEnabled";
-            case INFO -> "isInfoEnabled";
-            case WARN -> "isWarnEnabled";
-            case ERROR -> "isErrorEnabled";
-            case FINEST -> "isLoggable";
-            case FINER -> "isLoggable";
-            case FATAL -> null;
-        };
+    private ASTPrototype getIsEnabledPrototype(LogLevel level) {
+        return settings.getIsEnabled(level);
     }
 
     /**
@@ -629,21 +461,31 @@ public class LoggingOperation {
     /**
      * Creates a basic log statement using profile-aware method name.
      */
-    @SuppressWarnings("unchecked")
     public Statement createLogStatement(AST ast, LogLevel level, String message) {
+        StringLiteral literal = ast.newStringLiteral();
+        literal.setLiteralValue(message);
+        return createLogStatement(ast, level, literal);
+    }
+
+    /**
+     * Creates a basic log statement with a message expression.
+     */
+    private Statement createLogStatement(AST ast, LogLevel level, Expression message) {
         String logMethod = getLogMethodForLevel(level);
 
         MethodInvocation invocation = ast.newMethodInvocation();
         invocation.setExpression(ast.newSimpleName(loggerName));
         invocation.setName(ast.newSimpleName(logMethod));
-
-        StringLiteral literal = ast.newStringLiteral();
-        literal.setLiteralValue(message);
-        invocation.arguments().add(literal);
+        addArgument(invocation, message);
 
         return ast.newExpressionStatement(invocation);
     }
 
+    @SuppressWarnings("unchecked")
+    private static void addArgument(MethodInvocation invocation, Expression argument) {
+        invocation.arguments().add(argument);
+    }
+
     /**
      * Creates a log statement with an argument using profile-aware method name.
      */
@@ -693,11 +535,12 @@ public class LoggingOperation {
         String logMethod = getLogMethodForLevel(defaultLevel);
 
         String fullMessage = methodName + "()" + delimiter + (message != null ? message : "");
-        String statementStr = loggerName + "." + logMethod + "(\"" + fullMessage + "\");";
 
-        Statement stmt = parseStatement(ast, statementStr);
-        if (stmt != null) {
-            return stmt;
+        ASTPrototype prototype = TemplatePrototypes.getLogCall(logMethod);
+        if (prototype != null) {
+            return (Statement) prototype.instantiate(ast, new TemplateValues()
+                    .set(PreferenceKeys.PROF_LOGGER, loggerName)
+                    .set(PreferenceKeys.PROF_MESSAGE, fullMessage));
         }
         // Fallback to AST construction
         return createLogStatement(ast, defaultLevel, fullMessage);
@@ -707,16 +550,7 @@ public class LoggingOperation {
      * Gets the default log level from the active profile.
      */
     public LogLevel getDefaultLogLevel() {
-        if (activeProfile != null) {
-            String levelStr = activeProfile.getString("LOG_LEVEL_DEFAULT");
-            if (levelStr != null && !levelStr.isEmpty()) {
-                LogLevel level = LogLevel.fromMethodName(levelStr);
-                if (level != null) {
-                    return level;
-                }
-            }
-        }
-        return LogLevel.DEBUG;
+        return settings.getDefaultLevel();
     }
 
     /**
@@ -802,21 +636,68 @@ public class LoggingOperation {
     }
 
     /**
-     * Replaces a System.out/err.println with a log statement.
+     * Returns the level a System.out/err call is replaced with, from the
+     * replace preferences, or null if the replacement of its stream is disabled.
+     */
+    public LogLevel getSystemPrintlnLevel(MethodInvocation println) {
+        return settings.getReplaceLevel("System.err".equals(String.valueOf(println.getExpression())));
+    }
+
+    /**
+     * Replaces a System.out/err.println with a log statement. A computed
+     * argument is logged as is, converted with String.valueOf unless it is
+     * known to be a string.
      */
-    @SuppressWarnings("unchecked")
     public Statement replaceSystemPrintln(AST ast, MethodInvocation println, LogLevel level) {
         List<?> args = println.arguments();
-        String message = args.isEmpty() ? "" : args.get(0).toString();
-
-        // Remove quotes if present
-        if (message.startsWith("\"") && message.endsWith("\"")) {
-            message = message.substring(1, message.length() - 1);
+        if (args.isEmpty()) {
+            return createLogStatement(ast, level, "");
+        }
+        Expression argument = (Expression) args.get(0);
+        if (argument instanceof StringLiteral) {
+            return createLogStatement(ast, level, ((StringLiteral) argument).getLiteralValue());
+        }
+        Expression message = (Expression) ASTNode.copySubtree(ast, argument);
+        if (!isString(argument)) {
+            MethodInvocation valueOf = ast.newMethodInvocation();
+            valueOf.setExpression(ast.newSimpleName("String"));
+            valueOf.setName(ast.newSimpleName("valueOf"));
+            addArgument(valueOf, message);
+            message = valueOf;
         }
-
         return createLogStatement(ast, level, message);
     }
 
+    /**
+     * Returns whether an expression is a string, from its type binding if the
+     * AST has bindings, otherwise if it is a literal or a concatenation with one.
+     */
+    private static boolean isString(Expression expression) {
+        ITypeBinding type = expression.resolveTypeBinding();
+        if (type != null) {
+            return "java.lang.String".equals(type.getQualifiedName());
+        }
+        if (expression instanceof StringLiteral || expression instanceof TextBlock) {
+            return true;
+        }
+        if (expression instanceof ParenthesizedExpression) {
+            return isString(((ParenthesizedExpression) expression).getExpression());
+        }
+        if (expression instanceof InfixExpression
+                && ((InfixExpression) expression).getOperator() == InfixExpression.Operator.PLUS) {
+            InfixExpression infix = (InfixExpression) expression;
+            if (isString(infix.getLeftOperand()) || isString(infix.getRightOperand())) {
+                return true;
+            }
+            for (Object operand : infix.extendedOperands()) {
+                if (isString((Expression) operand)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     // ========== Advanced Removal with Import Cleanup ==========
 
     /**
@@ -850,6 +731,19 @@ public class LoggingOperation {
         }
     }
 
+    /**
+     * Returns the logger usage of the compilation unit from the workspace index,
+     * or null if the operation has no compilation unit or the index is not built
+     * and up to date. Never starts a search, callers fall back to the AST.
+     */
+    public LoggerUsageIndex.Usage getLoggerUsage() {
+        ICompilationUnit unit = context.getCompilationUnit();
+        if (unit == null || template == null || template.getLoggerClass() == null) {
+            return null;
+        }
+        return LoggerUsageIndex.getInstance().getIndexedUsage(unit, template.getLoggerClass());
+    }
+
     /**
      * Checks if the logger is still used in the compilation unit.
      */
@@ -857,6 +751,10 @@ public class LoggingOperation {
         if (cu == null) {
             return false;
         }
+        LoggerUsageIndex.Usage usage = getLoggerUsage();
+        if (usage != null) {
+            return usage.getFieldReferences() > 0;
+        }
 
         final boolean[] found = {false};
         cu.accept(new org.eclipse.jdt.core.dom.ASTVisitor() {
@@ -934,7 +832,8 @@ public class LoggingOperation {
     }
 
     /**
-     * Performs complete logger removal from a type.
+     * Performs complete logger removal from a type. The logger imports are kept
+     * if the index reports other types of the unit that refer to the logger.
      */
     @SuppressWarnings("unchecked")
     public void removeLoggerComplete(ASTRewrite rewrite, TypeDeclaration type, CompilationUnit cu) {
@@ -947,7 +846,10 @@ public class LoggingOperation {
         }
 
         removeLoggerDeclaration(rewrite, type);
-        removeLoggerImports(rewrite, cu);
+        LoggerUsageIndex.Usage usage = getLoggerUsage();
+        if (usage == null || !usage.isReferencedOutside(ASTUtil.getQualifiedName(type))) {
+            removeLoggerImports(rewrite, cu);
+        }
     }
 
     // ========== Utility Methods ==========
@@ -1,5 +1,8 @@
 package ro.gs1.log4e2026.operations;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -7,7 +10,14 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.TextEdit;
+
+import ro.gs1.log4e2026.jdt.ASTCache;
+import ro.gs1.log4e2026.jdt.ParseRequirements;
+import ro.gs1.log4e2026.settings.OperationSettings;
 
 /**
  * Context object containing all information needed for a logging operation.
@@ -16,12 +26,15 @@ public class OperationContext {
 
     private ICompilationUnit compilationUnit;
     private CompilationUnit astRoot;
+    private ParseRequirements parseRequirements = ParseRequirements.SYNTAX;
+    private OperationSettings settings;
     private MethodDeclaration selectedMethod;
     private IDocument document;
     private IProgressMonitor progressMonitor;
     private Map<String, String> compilerOptions;
     private int selectionOffset;
     private int selectionLength;
+    private final List<TextEdit> appliedEdits = new ArrayList<>();
 
     public OperationContext() {
     }
@@ -34,7 +47,14 @@ public class OperationContext {
         this.compilationUnit = compilationUnit;
     }
 
+    /**
+     * Returns the AST of the operation. If none was set, the shared cached AST
+     * of the compilation unit is used, parsed for the parse requirements.
+     */
     public CompilationUnit getAstRoot() {
+        if (astRoot == null && compilationUnit != null) {
+            astRoot = ASTCache.getInstance().getAST(compilationUnit, parseRequirements);
+        }
         return astRoot;
     }
 
@@ -42,6 +62,26 @@ public class OperationContext {
         this.astRoot = astRoot;
     }
 
+    public ParseRequirements getParseRequirements() {
+        return parseRequirements;
+    }
+
+    public void setParseRequirements(ParseRequirements parseRequirements) {
+        this.parseRequirements = parseRequirements;
+    }
+
+    /**
+     * Returns the settings the operation must use, or null for the current
+     * settings of the project.
+     */
+    public OperationSettings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(OperationSettings settings) {
+        this.settings = settings;
+    }
+
     public MethodDeclaration getSelectedMethod() {
         return selectedMethod;
     }
@@ -58,6 +98,22 @@ public class OperationContext {
         this.document = document;
     }
 
+    /**
+     * Applies an edit to the document and records a copy of it, so the same
+     * change can be replayed on another document with the same content.
+     */
+    public void applyEdit(TextEdit edit) throws MalformedTreeException, BadLocationException {
+        appliedEdits.add(edit.copy());
+        edit.apply(document);
+    }
+
+    /**
+     * Returns the edits applied to the document, in order.
+     */
+    public List<TextEdit> getAppliedEdits() {
+        return Collections.unmodifiableList(appliedEdits);
+    }
+
     public IProgressMonitor getProgressMonitor() {
         return progressMonitor;
     }
@@ -111,6 +111,24 @@ public class Log4ePreferencePage extends FieldEditorPreferencePage implements IW
             "Show preview wizard for Replace in Class",
             getFieldEditorParent()
         ));
+
+        addField(new BooleanFieldEditor(
+            PreferenceConstants.P_WIZARD_BATCH,
+            "Show preview wizard for changes of packages and projects",
+            getFieldEditorParent()
+        ));
+
+        addField(new BooleanFieldEditor(
+            PreferenceConstants.P_WARMUP_ON_STARTUP,
+            "Prepare Log4E in the background at startup",
+            getFieldEditorParent()
+        ));
+
+        addField(new BooleanFieldEditor(
+            PreferenceConstants.P_INDEX_LOG_STATEMENTS,
+            "Index the log statements of the workspace in the background",
+            getFieldEditorParent()
+        ));
     }
 
     @Override
@@ -144,33 +144,33 @@ public class Log4eProjectPropertyPage extends FieldEditorPreferencePage
 
     @Override
     public void setElement(IAdaptable element) {
-        System.out.println("[Log4eProjectPropertyPage] setElement called with: " + element);
+        trace("setElement called with: " + element);
         if (element instanceof IProject) {
             this.project = (IProject) element;
         } else if (element != null) {
             this.project = element.getAdapter(IProject.class);
         }
-        System.out.println("[Log4eProjectPropertyPage] project set to: " + (project != null ? project.getName() : "null"));
+        trace("project set to: " + (project != null ? project.getName() : "null"));
         // Reset store so it gets recreated with correct project scope
         this.projectStore = null;
     }
 
     @Override
     protected IPreferenceStore doGetPreferenceStore() {
-        System.out.println("[Log4eProjectPropertyPage] doGetPreferenceStore called, project=" +
+        trace("doGetPreferenceStore called, project=" +
             (project != null ? project.getName() : "null") + ", projectStore=" + projectStore);
         if (project != null) {
             // Use lazy initialization to ensure project is set before creating store
             if (projectStore == null) {
                 IScopeContext projectScope = new ProjectScope(project);
                 projectStore = new ScopedPreferenceStore(projectScope, Log4e2026Plugin.PLUGIN_ID);
-                System.out.println("[Log4eProjectPropertyPage] Created project-scoped store for: " + project.getName());
+                trace("Created project-scoped store for: " + project.getName());
                 // Set defaults from workspace preferences
                 initializeDefaults(projectStore);
             }
             return projectStore;
         }
-        System.out.println("[Log4eProjectPropertyPage] WARNING: Returning workspace store (project is null)");
+        trace("WARNING: Returning workspace store (project is null)");
         return Log4e2026Plugin.getDefault().getPreferenceStore();
     }
 
@@ -195,55 +195,51 @@ public class Log4eProjectPropertyPage extends FieldEditorPreferencePage
 
     @Override
     public boolean performOk() {
-        System.out.println("[Log4eProjectPropertyPage] performOk called, project=" +
+        trace("performOk called, project=" +
             (project != null ? project.getName() : "null") + ", projectStore=" + projectStore);
         boolean result = super.performOk();
-        System.out.println("[Log4eProjectPropertyPage] super.performOk() returned: " + result);
+        trace("super.performOk() returned: " + result);
         if (result && project != null && projectStore != null) {
             try {
-                // Debug: print store values before save
-                System.out.println("[Log4eProjectPropertyPage] Store values before save:");
-                System.out.println("  PREFERENCES_SCOPE=" + projectStore.getBoolean(PREFERENCES_SCOPE));
-                System.out.println("  LOGGER_NAME=" + projectStore.getString(LOGGER_NAME));
-                System.out.println("  LOGGER_PROFILE=" + projectStore.getString(LOGGER_PROFILE));
+                trace("Store values before save: PREFERENCES_SCOPE=" + projectStore.getBoolean(PREFERENCES_SCOPE)
+                        + ", LOGGER_NAME=" + projectStore.getString(LOGGER_NAME)
+                        + ", LOGGER_PROFILE=" + projectStore.getString(LOGGER_PROFILE));
 
                 // Save the ScopedPreferenceStore
                 projectStore.save();
-                System.out.println("[Log4eProjectPropertyPage] projectStore.save() completed");
+                trace("projectStore.save() completed");
 
                 // Also flush underlying IEclipsePreferences node to ensure persistence
                 IScopeContext projectScope = new ProjectScope(project);
                 IEclipsePreferences node = projectScope.getNode(Log4e2026Plugin.PLUGIN_ID);
 
-                // Debug: print node values before flush
-                System.out.println("[Log4eProjectPropertyPage] Node values before flush:");
-                try {
-                    String[] keys = node.keys();
-                    System.out.println("  Keys: " + java.util.Arrays.toString(keys));
-                    for (String key : keys) {
-                        System.out.println("  " + key + "=" + node.get(key, "<not set>"));
+                if (Log4e2026Plugin.isTracing(Log4e2026Plugin.TRACE_PREFERENCES)) {
+                    StringBuilder values = new StringBuilder("Node values before flush:");
+                    for (String key : node.keys()) {
+                        values.append("\n  ").append(key).append('=').append(node.get(key, "<not set>"));
                     }
-                } catch (BackingStoreException e) {
-                    System.out.println("  Could not list keys: " + e.getMessage());
+                    trace(values.toString());
                 }
 
                 node.flush();
-                System.out.println("[Log4eProjectPropertyPage] node.flush() completed for project: " + project.getName());
+                trace("node.flush() completed for project: " + project.getName());
                 Log4e2026Plugin.log("Saved and flushed project settings for: " + project.getName());
             } catch (java.io.IOException e) {
-                System.out.println("[Log4eProjectPropertyPage] IOException: " + e.getMessage());
                 Log4e2026Plugin.logError("Failed to save project preferences", e);
             } catch (BackingStoreException e) {
-                System.out.println("[Log4eProjectPropertyPage] BackingStoreException: " + e.getMessage());
                 Log4e2026Plugin.logError("Failed to flush project preferences", e);
             }
         } else {
-            System.out.println("[Log4eProjectPropertyPage] Skipping save: result=" + result +
+            trace("Skipping save: result=" + result +
                 ", project=" + (project != null) + ", projectStore=" + (projectStore != null));
         }
         return result;
     }
 
+    private static void trace(String message) {
+        Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_PREFERENCES, message);
+    }
+
     @Override
     protected void performDefaults() {
         super.performDefaults();
@@ -47,10 +47,19 @@ public class PreferenceConstants {
     public static final String P_WIZARD_INSERT_CLASS = "wizardInsertClass";
     public static final String P_WIZARD_REPLACE_METHOD = "wizardReplaceMethod";
     public static final String P_WIZARD_REPLACE_CLASS = "wizardReplaceClass";
+    public static final String P_WIZARD_BATCH = "wizardBatch";
 
     // Default values for wizards (false = apply directly without preview)
     public static final boolean DEFAULT_WIZARD_ENABLED = false;
 
+    // Startup - prepare profiles, templates and the parser in the background
+    public static final String P_WARMUP_ON_STARTUP = "warmupOnStartup";
+    public static final boolean DEFAULT_WARMUP_ON_STARTUP = true;
+
+    // Index - keep an index of the log statements of the workspace
+    public static final String P_INDEX_LOG_STATEMENTS = "indexLogStatements";
+    public static final boolean DEFAULT_INDEX_LOG_STATEMENTS = true;
+
     // Default templates
     public static final String DEFAULT_TEMPLATE_ENTRY = "${logger}.debug(\"${enclosing_method}() - start\");";
     public static final String DEFAULT_TEMPLATE_EXIT = "${logger}.debug(\"${enclosing_method}() - end\");";
@@ -110,7 +110,7 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer impleme
         store.setDefault(FORMAT_STRING_GENERATOR_PARAMETER1, "");
 
         // === Replace Settings (System.out/err replacement) ===
-        store.setDefault(REPLACE_SOUT_LEVEL, LEVEL_DEBUG);
+        store.setDefault(REPLACE_SOUT_LEVEL, LEVEL_INFO);
         store.setDefault(REPLACE_SERR_LEVEL, LEVEL_ERROR);
         store.setDefault(REPLACE_SOUT_ENABLED, true);
         store.setDefault(REPLACE_SERR_ENABLED, true);
@@ -219,6 +219,9 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer impleme
         store.setDefault(PreferenceConstants.P_WIZARD_INSERT_CLASS, PreferenceConstants.DEFAULT_WIZARD_ENABLED);
         store.setDefault(PreferenceConstants.P_WIZARD_REPLACE_METHOD, PreferenceConstants.DEFAULT_WIZARD_ENABLED);
         store.setDefault(PreferenceConstants.P_WIZARD_REPLACE_CLASS, PreferenceConstants.DEFAULT_WIZARD_ENABLED);
+        store.setDefault(PreferenceConstants.P_WIZARD_BATCH, PreferenceConstants.DEFAULT_WIZARD_ENABLED);
+        store.setDefault(PreferenceConstants.P_WARMUP_ON_STARTUP, PreferenceConstants.DEFAULT_WARMUP_ON_STARTUP);
+        store.setDefault(PreferenceConstants.P_INDEX_LOG_STATEMENTS, PreferenceConstants.DEFAULT_INDEX_LOG_STATEMENTS);
 
         store.setDefault(PreferenceConstants.P_LOG_LEVEL_TRACE, true);
         store.setDefault(PreferenceConstants.P_LOG_LEVEL_DEBUG, true);
@@ -30,6 +30,10 @@ public interface PreferenceKeys {
     String PROF_VARIABLE_PLACEHOLDERS = "${variable_placeholders}";
     String PROF_VARIABLES_AS_PARAMETERS = "${variables_as_parameters}";
 
+    // Variables of the LOG_PATTERN_* settings
+    String PROF_LEVEL = "${level}";
+    String PROF_VARIABLE = "${variable}";
+
     // Arrays of template variables for different contexts
     String[] PROF_TEMPLATE_VARIABLES = {
         PROF_DELIMITER, PROF_DELIMITER_MSG, PROF_SOURCEMETHOD,
@@ -39,7 +43,8 @@ public interface PreferenceKeys {
         PROF_SOURCECLASS, PROF_EXCEPTION, PROF_LOGGER, PROF_MESSAGE,
         PROF_MESSAGE_USER, PROF_RETURNVALUE, PROF_RETURNVALUE_PLACEHOLDER,
         PROF_RETURNVALUE_AS_PARAMETER, PROF_RETURNTYPE, PROF_VARIABLES,
-        PROF_VARIABLE_PLACEHOLDERS, PROF_VARIABLES_AS_PARAMETERS
+        PROF_VARIABLE_PLACEHOLDERS, PROF_VARIABLES_AS_PARAMETERS, PROF_LOCALVARS,
+        PROF_LEVEL, PROF_VARIABLE
     };
 
     String[] PROF_TEMPLATE_INITIALIZER_VARIABLES = {
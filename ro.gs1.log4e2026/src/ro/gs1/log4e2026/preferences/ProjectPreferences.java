@@ -1,60 +1,163 @@
 package ro.gs1.log4e2026.preferences;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IScopeContext;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.osgi.service.prefs.BackingStoreException;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
 
 /**
- * Utility for managing project-scoped preferences.
- * Provides methods to get/set preferences at project level,
- * with fallback to workspace-level preferences.
+ * Project-scoped preferences, with fallback to workspace-level preferences.
+ * An instance is a snapshot of the preferences taken when it was created; the
+ * values it returns never change, so it can be shared across threads. Use
+ * {@link Log4e2026Plugin#getProjectPreferences(IProject)} to get the current,
+ * cached snapshot. The setters write through to the project node; the cache
+ * then creates a new snapshot on the next request.
  */
-public class ProjectPreferences implements PreferenceKeys {
+public final class ProjectPreferences implements PreferenceKeys {
 
     private final IProject project;
-    private final IEclipsePreferences projectPrefs;
-    private final IPreferenceStore workspacePrefs;
+    private final boolean useProjectSettings;
+    /** Project values, empty if project-specific settings are disabled. */
+    private final Map<String, String> projectValues;
+    /** Workspace values of all instance and default keys. */
+    private final Map<String, String> workspaceValues;
+
+    // Resolved values of the convenience getters
+    private final String loggerName;
+    private final String loggingFramework;
+    private final boolean loggerStatic;
+    private final boolean loggerFinal;
+    private final String delimiter;
 
     public ProjectPreferences(IProject project) {
         this.project = project;
-        if (project != null) {
-            IScopeContext projectScope = new ProjectScope(project);
-            this.projectPrefs = projectScope.getNode(Log4e2026Plugin.PLUGIN_ID);
-        } else {
-            this.projectPrefs = null;
+        this.workspaceValues = readWorkspaceValues(Log4e2026Plugin.getPreferences());
+
+        IEclipsePreferences projectPrefs = getNode(project);
+        boolean enabled = projectPrefs != null && projectPrefs.getBoolean(PREFERENCES_SCOPE, false);
+        Map<String, String> values = new HashMap<>();
+        if (enabled) {
+            try {
+                for (String key : projectPrefs.keys()) {
+                    String value = projectPrefs.get(key, null);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+            } catch (BackingStoreException e) {
+                Log4e2026Plugin.logError("Failed to read project preferences", e);
+            }
+        }
+        this.useProjectSettings = enabled;
+        this.projectValues = Collections.unmodifiableMap(values);
+
+        this.loggerName = resolve(LOGGER_NAME, PreferenceConstants.P_LOGGER_NAME,
+                PreferenceConstants.DEFAULT_LOGGER_NAME);
+        this.loggingFramework = resolve(LOGGER_PROFILE, PreferenceConstants.P_LOGGING_FRAMEWORK,
+                PreferenceConstants.DEFAULT_FRAMEWORK);
+        this.delimiter = resolve(FORMAT_DELIMITER, PreferenceConstants.P_DELIMITER,
+                PreferenceConstants.DEFAULT_DELIMITER);
+        this.loggerStatic = toBoolean(projectValues.get(STATIC_FLAG), true,
+                PreferenceConstants.P_LOGGER_STATIC);
+        this.loggerFinal = toBoolean(projectValues.get(FINAL_FLAG), true,
+                PreferenceConstants.P_LOGGER_FINAL);
+
+        if (Log4e2026Plugin.isTracing(Log4e2026Plugin.TRACE_PREFERENCES)) {
+            Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_PREFERENCES, "Preferences of "
+                    + (project != null ? project.getName() : "workspace")
+                    + ": useProjectSettings=" + enabled + ", project keys=" + projectValues.keySet()
+                    + ", loggerName=" + loggerName + ", framework=" + loggingFramework);
+        }
+    }
+
+    private static IEclipsePreferences getNode(IProject project) {
+        if (project == null) {
+            return null;
         }
-        this.workspacePrefs = Log4e2026Plugin.getPreferences();
+        IScopeContext projectScope = new ProjectScope(project);
+        return projectScope.getNode(Log4e2026Plugin.PLUGIN_ID);
     }
 
     /**
-     * Check if project-specific settings are enabled for this project.
+     * Reads the workspace value of every key set in the instance or default
+     * scope, so that a snapshot never mixes values from before and after a
+     * workspace preference change.
      */
-    public boolean useProjectSettings() {
-        if (projectPrefs == null) {
-            System.out.println("[ProjectPreferences] useProjectSettings: projectPrefs is null");
-            return false;
-        }
-        boolean enabled = projectPrefs.getBoolean(PREFERENCES_SCOPE, false);
-        System.out.println("[ProjectPreferences] useProjectSettings: PREFERENCES_SCOPE=" + enabled);
-        // Also dump all keys for debugging
+    private static Map<String, String> readWorkspaceValues(IPreferenceStore store) {
+        Set<String> keys = new HashSet<>();
         try {
-            String[] keys = projectPrefs.keys();
-            System.out.println("[ProjectPreferences] Available keys in project prefs: " + java.util.Arrays.toString(keys));
-        } catch (Exception e) {
-            System.out.println("[ProjectPreferences] Could not list keys: " + e.getMessage());
+            Collections.addAll(keys, InstanceScope.INSTANCE.getNode(Log4e2026Plugin.PLUGIN_ID).keys());
+            Collections.addAll(keys, DefaultScope.INSTANCE.getNode(Log4e2026Plugin.PLUGIN_ID).keys());
+        } catch (BackingStoreException e) {
+            Log4e2026Plugin.logError("Failed to read workspace preferences", e);
+        }
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            values.put(key, store.getString(key));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Resolves a string from the project key, then the workspace key, then the default.
+     */
+    private String resolve(String projectKey, String workspaceKey, String defaultValue) {
+        String value = getString(projectKey);
+        if (value != null && !value.isEmpty()) {
+            return value;
+        }
+        value = getWorkspaceString(workspaceKey);
+        if (value != null && !value.isEmpty()) {
+            return value;
+        }
+        return defaultValue;
+    }
+
+    private String getWorkspaceString(String key) {
+        return workspaceValues.getOrDefault(key, IPreferenceStore.STRING_DEFAULT_DEFAULT);
+    }
+
+    /**
+     * Converts a project value like IEclipsePreferences.getBoolean, falling back
+     * to the workspace key if the value is not set.
+     */
+    private boolean toBoolean(String value, boolean defaultValue, String workspaceKey) {
+        if (value != null) {
+            if ("true".equalsIgnoreCase(value)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(value)) {
+                return false;
+            }
+            return defaultValue;
         }
-        return enabled;
+        return "true".equalsIgnoreCase(getWorkspaceString(workspaceKey));
+    }
+
+    /**
+     * Check if project-specific settings are enabled for this project.
+     */
+    public boolean useProjectSettings() {
+        return useProjectSettings;
     }
 
     /**
      * Enable or disable project-specific settings.
      */
     public void setUseProjectSettings(boolean enabled) {
+        IEclipsePreferences projectPrefs = getProjectNode();
         if (projectPrefs != null) {
             projectPrefs.putBoolean(PREFERENCES_SCOPE, enabled);
             flush();
@@ -65,27 +168,23 @@ public class ProjectPreferences implements PreferenceKeys {
      * Get a string preference, checking project scope first if enabled.
      */
     public String getString(String key) {
-        if (useProjectSettings() && projectPrefs != null) {
-            String value = projectPrefs.get(key, null);
-            if (value != null) {
-                return value;
-            }
+        String value = projectValues.get(key);
+        if (value != null) {
+            return value;
         }
         // Fall back to workspace preference
-        return workspacePrefs.getString(key);
+        return getWorkspaceString(key);
     }
 
     /**
      * Get a string preference with a default value.
      */
     public String getString(String key, String defaultValue) {
-        if (useProjectSettings() && projectPrefs != null) {
-            String value = projectPrefs.get(key, null);
-            if (value != null) {
-                return value;
-            }
+        String value = projectValues.get(key);
+        if (value != null) {
+            return value;
         }
-        String workspaceValue = workspacePrefs.getString(key);
+        String workspaceValue = getWorkspaceString(key);
         return workspaceValue != null && !workspaceValue.isEmpty() ? workspaceValue : defaultValue;
     }
 
@@ -93,47 +192,36 @@ public class ProjectPreferences implements PreferenceKeys {
      * Get a boolean preference, checking project scope first if enabled.
      */
     public boolean getBoolean(String key) {
-        if (useProjectSettings() && projectPrefs != null) {
-            // Check if key exists in project prefs
-            String value = projectPrefs.get(key, null);
-            if (value != null) {
-                return projectPrefs.getBoolean(key, false);
-            }
-        }
-        // Fall back to workspace preference
-        return workspacePrefs.getBoolean(key);
+        return toBoolean(projectValues.get(key), false, key);
     }
 
     /**
      * Get a boolean preference with a default value.
      */
     public boolean getBoolean(String key, boolean defaultValue) {
-        if (useProjectSettings() && projectPrefs != null) {
-            String value = projectPrefs.get(key, null);
-            if (value != null) {
-                return projectPrefs.getBoolean(key, defaultValue);
-            }
-        }
-        return workspacePrefs.getBoolean(key);
+        return toBoolean(projectValues.get(key), defaultValue, key);
     }
 
     /**
      * Get an int preference, checking project scope first if enabled.
      */
     public int getInt(String key) {
-        if (useProjectSettings() && projectPrefs != null) {
-            String value = projectPrefs.get(key, null);
-            if (value != null) {
-                return projectPrefs.getInt(key, 0);
-            }
+        String value = projectValues.get(key);
+        if (value == null) {
+            value = getWorkspaceString(key);
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
         }
-        return workspacePrefs.getInt(key);
     }
 
     /**
      * Set a string preference at project level.
      */
     public void setString(String key, String value) {
+        IEclipsePreferences projectPrefs = getProjectNode();
         if (projectPrefs != null) {
             projectPrefs.put(key, value);
             flush();
@@ -144,6 +232,7 @@ public class ProjectPreferences implements PreferenceKeys {
      * Set a boolean preference at project level.
      */
     public void setBoolean(String key, boolean value) {
+        IEclipsePreferences projectPrefs = getProjectNode();
         if (projectPrefs != null) {
             projectPrefs.putBoolean(key, value);
             flush();
@@ -154,6 +243,7 @@ public class ProjectPreferences implements PreferenceKeys {
      * Set an int preference at project level.
      */
     public void setInt(String key, int value) {
+        IEclipsePreferences projectPrefs = getProjectNode();
         if (projectPrefs != null) {
             projectPrefs.putInt(key, value);
             flush();
@@ -164,6 +254,7 @@ public class ProjectPreferences implements PreferenceKeys {
      * Remove a preference from project scope (will fall back to workspace).
      */
     public void remove(String key) {
+        IEclipsePreferences projectPrefs = getProjectNode();
         if (projectPrefs != null) {
             projectPrefs.remove(key);
             flush();
@@ -174,6 +265,7 @@ public class ProjectPreferences implements PreferenceKeys {
      * Flush preferences to disk.
      */
     public void flush() {
+        IEclipsePreferences projectPrefs = getProjectNode();
         if (projectPrefs != null) {
             try {
                 projectPrefs.flush();
@@ -187,7 +279,7 @@ public class ProjectPreferences implements PreferenceKeys {
      * Get the underlying project preferences node.
      */
     public IEclipsePreferences getProjectNode() {
-        return projectPrefs;
+        return getNode(project);
     }
 
     /**
@@ -203,84 +295,35 @@ public class ProjectPreferences implements PreferenceKeys {
      * Get the logger variable name for this project.
      */
     public String getLoggerName() {
-        System.out.println("[ProjectPreferences] getLoggerName() called for project: " +
-            (project != null ? project.getName() : "null"));
-        System.out.println("[ProjectPreferences] useProjectSettings(): " + useProjectSettings());
-
-        // Try project-level key first
-        String name = getString(LOGGER_NAME);
-        System.out.println("[ProjectPreferences] getString(LOGGER_NAME) returned: '" + name + "'");
-
-        if (name != null && !name.isEmpty()) {
-            System.out.println("[ProjectPreferences] Returning project-level name: " + name);
-            return name;
-        }
-        // Try workspace-level key (PreferenceConstants uses different key)
-        name = workspacePrefs.getString(PreferenceConstants.P_LOGGER_NAME);
-        System.out.println("[ProjectPreferences] Workspace preference name: '" + name + "'");
-        if (name != null && !name.isEmpty()) {
-            return name;
-        }
-        System.out.println("[ProjectPreferences] Returning default: " + PreferenceConstants.DEFAULT_LOGGER_NAME);
-        return PreferenceConstants.DEFAULT_LOGGER_NAME;
+        return loggerName;
     }
 
     /**
      * Get the logging framework/profile for this project.
      */
     public String getLoggingFramework() {
-        // Try project-level key first
-        String framework = getString(LOGGER_PROFILE);
-        if (framework != null && !framework.isEmpty()) {
-            return framework;
-        }
-        // Try workspace-level key
-        framework = workspacePrefs.getString(PreferenceConstants.P_LOGGING_FRAMEWORK);
-        if (framework != null && !framework.isEmpty()) {
-            return framework;
-        }
-        return PreferenceConstants.DEFAULT_FRAMEWORK;
+        return loggingFramework;
     }
 
     /**
      * Check if logger should be declared as static.
      */
     public boolean isLoggerStatic() {
-        if (useProjectSettings() && projectPrefs != null) {
-            String value = projectPrefs.get(STATIC_FLAG, null);
-            if (value != null) {
-                return projectPrefs.getBoolean(STATIC_FLAG, true);
-            }
-        }
-        return workspacePrefs.getBoolean(PreferenceConstants.P_LOGGER_STATIC);
+        return loggerStatic;
     }
 
     /**
      * Check if logger should be declared as final.
      */
     public boolean isLoggerFinal() {
-        if (useProjectSettings() && projectPrefs != null) {
-            String value = projectPrefs.get(FINAL_FLAG, null);
-            if (value != null) {
-                return projectPrefs.getBoolean(FINAL_FLAG, true);
-            }
-        }
-        return workspacePrefs.getBoolean(PreferenceConstants.P_LOGGER_FINAL);
+        return loggerFinal;
     }
 
     /**
      * Get the message delimiter.
      */
     public String getDelimiter() {
-        String delimiter = getString(FORMAT_DELIMITER);
-        if (delimiter != null && !delimiter.isEmpty()) {
-            return delimiter;
-        }
-        delimiter = workspacePrefs.getString(PreferenceConstants.P_DELIMITER);
-        if (delimiter != null && !delimiter.isEmpty()) {
-            return delimiter;
-        }
-        return PreferenceConstants.DEFAULT_DELIMITER;
+        return delimiter;
     }
 
     /**
@@ -0,0 +1,179 @@
+package ro.gs1.log4e2026.preferences;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.INodeChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+
+/**
+ * Cache of the {@link ProjectPreferences} snapshot of each project.
+ * A snapshot is dropped when a preference of its project node changes, when
+ * the node is added or removed, and all snapshots are dropped when a
+ * workspace preference changes. The next request then takes a new snapshot.
+ */
+public final class ProjectPreferencesCache {
+
+    private static final Object WORKSPACE_KEY = new Object();
+
+    private static ProjectPreferencesCache instance;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    /** Incremented on every invalidation, so a snapshot taken during one is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+    private final IPreferenceStore workspacePrefs;
+    private final IPropertyChangeListener workspaceListener = this::workspaceChanged;
+
+    public static synchronized ProjectPreferencesCache getInstance() {
+        if (instance == null) {
+            instance = new ProjectPreferencesCache(Log4e2026Plugin.getPreferences());
+        }
+        return instance;
+    }
+
+    /**
+     * Disposes the cache and removes its listeners. Called when the plugin stops.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.dispose();
+            instance = null;
+        }
+    }
+
+    private ProjectPreferencesCache(IPreferenceStore workspacePrefs) {
+        this.workspacePrefs = workspacePrefs;
+        workspacePrefs.addPropertyChangeListener(workspaceListener);
+    }
+
+    /**
+     * Returns the current snapshot of the preferences of a project.
+     *
+     * @param project the project, or null for the workspace preferences
+     */
+    public ProjectPreferences get(IProject project) {
+        Object key = project != null ? project : WORKSPACE_KEY;
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry.preferences;
+        }
+
+        // Created outside of the map, preference listeners must not wait for a map lock
+        long expected = generation.get();
+        Entry created = new Entry(key, project);
+        Entry existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            created.dispose();
+            return existing.preferences;
+        }
+        if (generation.get() != expected && entries.remove(key, created)) {
+            created.dispose();
+        }
+        return created.preferences;
+    }
+
+    /**
+     * Drops the snapshot of a project.
+     */
+    public void invalidate(IProject project) {
+        invalidateKey(project != null ? project : WORKSPACE_KEY);
+    }
+
+    /**
+     * Drops all snapshots.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        for (Object key : entries.keySet()) {
+            invalidateKey(key);
+        }
+    }
+
+    private void invalidateKey(Object key) {
+        generation.incrementAndGet();
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            removed.dispose();
+        }
+        if (Log4e2026Plugin.isTracing(Log4e2026Plugin.TRACE_PREFERENCES)) {
+            Log4e2026Plugin.trace(Log4e2026Plugin.TRACE_PREFERENCES, "Invalidated preferences of "
+                    + (key instanceof IProject ? ((IProject) key).getName() : "workspace"));
+        }
+    }
+
+    private void workspaceChanged(PropertyChangeEvent event) {
+        clear();
+    }
+
+    private void dispose() {
+        workspacePrefs.removePropertyChangeListener(workspaceListener);
+        for (Entry entry : entries.values()) {
+            entry.dispose();
+        }
+        entries.clear();
+    }
+
+    /**
+     * A snapshot with the listeners that invalidate it.
+     */
+    private final class Entry implements IPreferenceChangeListener, INodeChangeListener {
+        private final Object key;
+        private final IEclipsePreferences node;
+        private final IEclipsePreferences projectNode;
+        final ProjectPreferences preferences;
+
+        Entry(Object key, IProject project) {
+            this.key = key;
+            if (project != null) {
+                // Listen before reading, so no change is missed
+                projectNode = new ProjectScope(project).getNode("");
+                projectNode.addNodeChangeListener(this);
+                node = new ProjectScope(project).getNode(Log4e2026Plugin.PLUGIN_ID);
+                node.addPreferenceChangeListener(this);
+            } else {
+                projectNode = null;
+                node = null;
+            }
+            preferences = new ProjectPreferences(project);
+        }
+
+        @Override
+        public void preferenceChange(PreferenceChangeEvent event) {
+            invalidateKey(key);
+        }
+
+        @Override
+        public void added(NodeChangeEvent event) {
+            invalidateKey(key);
+        }
+
+        @Override
+        public void removed(NodeChangeEvent event) {
+            invalidateKey(key);
+        }
+
+        void dispose() {
+            try {
+                if (node != null) {
+                    node.removePreferenceChangeListener(this);
+                }
+                if (projectNode != null) {
+                    projectNode.removeNodeChangeListener(this);
+                }
+            } catch (IllegalStateException e) {
+                // The node was removed, with its listeners
+            }
+        }
+    }
+}
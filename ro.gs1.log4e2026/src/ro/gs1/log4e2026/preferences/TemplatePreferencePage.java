@@ -1,7 +1,11 @@
 package ro.gs1.log4e2026.preferences;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.Statement;
 import org.eclipse.jface.dialogs.IInputValidator;
 import org.eclipse.jface.dialogs.InputDialog;
 import org.eclipse.jface.dialogs.MessageDialog;
@@ -24,9 +28,17 @@ import org.eclipse.ui.IWorkbenchPreferencePage;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
 import ro.gs1.log4e2026.dialogs.TemplateDialog;
+import ro.gs1.log4e2026.jdt.ASTPrototype;
+import ro.gs1.log4e2026.operations.LoggingOperation;
+import ro.gs1.log4e2026.operations.OperationContext;
+import ro.gs1.log4e2026.settings.OperationSettings;
+import ro.gs1.log4e2026.templates.CompiledTemplate;
 import ro.gs1.log4e2026.templates.Profile;
 import ro.gs1.log4e2026.templates.ProfileManager;
 import ro.gs1.log4e2026.templates.Profiles;
+import ro.gs1.log4e2026.templates.TemplateEngine;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
+import ro.gs1.log4e2026.templates.TemplateValues;
 
 /**
  * Preference page for managing logger profiles/templates.
@@ -240,21 +252,46 @@ public class TemplatePreferencePage extends PreferencePage
         preview.append("Profile: ").append(currentProfile.getTitle()).append("\n");
         preview.append("Type: ").append(currentProfile.isBuiltIn() ? "Built-in" : "User-defined").append("\n\n");
 
-        String declaration = currentProfile.getString("LOGGER_DECLARATION");
+        // Generated through the same prototypes as the commands
+        OperationSettings settings = OperationSettings.forProfile(currentProfile);
+        AST ast = AST.newAST(AST.getJLSLatest(), false);
+        ASTPrototype declaration = TemplatePrototypes.get(currentProfile.getString("LOGGER_DECLARATION"),
+                ASTPrototype.Kind.FIELD);
         if (declaration != null) {
             preview.append("Declaration:\n");
-            String previewDecl = declaration
-                    .replace("${logger}", "logger")
-                    .replace("${enclosing_type}", "MyClass");
-            preview.append(previewDecl).append("\n\n");
+            TemplateValues values = new TemplateValues()
+                    .set(PreferenceKeys.PROF_LOGGER, settings.getLoggerName())
+                    .set(PreferenceKeys.PROF_SOURCECLASS, "MyClass");
+            preview.append(declaration.instantiate(ast, values)).append("\n");
         }
 
+        OperationContext context = new OperationContext();
+        context.setSettings(settings);
+        LoggingOperation operation = new LoggingOperation(context);
+        Statement statement = operation.createDefaultLevelLogStatement(ast, "myMethod", "message");
+        preview.append("Log statement:\n");
+        preview.append(operation.wrapWithConditionalIfNeeded(ast, operation.getDefaultLogLevel(), statement))
+                .append("\n");
+
         String imports = currentProfile.getString("LOGGER_IMPORTS");
         if (imports != null) {
             preview.append("Imports:\n");
             preview.append(imports);
         }
 
+        // Report placeholders that are not template variables
+        List<String> keys = new ArrayList<>(currentProfile.getSettings().keySet());
+        Collections.sort(keys);
+        for (String key : keys) {
+            if (currentProfile.get(key) instanceof String) {
+                CompiledTemplate template = TemplateEngine.getTemplate(currentProfile, key);
+                if (template.hasUnknownPlaceholders()) {
+                    preview.append("\n\nUnknown placeholders in ").append(key).append(": ")
+                            .append(String.join(", ", template.getUnknownPlaceholders()));
+                }
+            }
+        }
+
         previewText.setText(preview.toString());
     }
 
@@ -263,10 +300,14 @@ public class TemplatePreferencePage extends PreferencePage
             return;
         }
 
-        TemplateDialog dialog = new TemplateDialog(getShell(), currentProfile);
+        // Edit a copy, the published profile may be in use by running operations
+        Profile edited = currentProfile.copy();
+        TemplateDialog dialog = new TemplateDialog(getShell(), edited);
         if (dialog.open() == TemplateDialog.OK) {
             // Profile was modified
-            ProfileManager.getInstance().storeProfiles();
+            if (ProfileManager.getInstance().updateProfile(edited)) {
+                currentProfile = edited;
+            }
             updatePreview();
         }
     }
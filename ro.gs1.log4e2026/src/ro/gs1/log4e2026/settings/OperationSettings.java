@@ -0,0 +1,355 @@
+package ro.gs1.log4e2026.settings;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.ASTPrototype;
+import ro.gs1.log4e2026.preferences.PreferenceKeys;
+import ro.gs1.log4e2026.preferences.ProjectPreferences;
+import ro.gs1.log4e2026.templates.LoggerTemplate;
+import ro.gs1.log4e2026.templates.LoggerTemplates;
+import ro.gs1.log4e2026.templates.Profile;
+import ro.gs1.log4e2026.templates.ProfileManager;
+import ro.gs1.log4e2026.templates.TemplatePrototypes;
+
+/**
+ * Immutable snapshot of everything a logging operation reads from the
+ * preferences and the active profile, resolved once per project and profile
+ * version. Shared by all operations on the project, also from batch workers.
+ */
+public final class OperationSettings {
+
+    /**
+     * Settings of one logging position: method start, method end or catch block.
+     */
+    public static final class Position {
+        private final LogLevel level;
+        private final String message;
+        private final boolean loggingEnabled;
+        private final boolean parameterNames;
+        private final boolean parameterValues;
+        private final boolean returnValue;
+        private final boolean skipGetter;
+        private final boolean skipSetter;
+        private final boolean skipToString;
+        private final boolean skipConstructor;
+        private final boolean skipEmptyMethods;
+
+        Position(IPreferenceStore prefs, String prefix, LogLevel defaultLevel, String defaultMessage) {
+            LogLevel configured = LogLevel.fromName(prefs.getString(prefix + PreferenceKeys.POS_ATT_LEVEL));
+            this.level = configured != null ? configured : defaultLevel;
+            String msg = prefs.getString(prefix + PreferenceKeys.POS_ATT_MSG);
+            this.message = msg != null && !msg.isEmpty() ? msg : defaultMessage;
+            this.loggingEnabled = !prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_DISABLE_ADD_LOGGING);
+            this.parameterNames = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_PARAMNAMES);
+            this.parameterValues = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_PARAMVALUES);
+            this.returnValue = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_RETURN_VALUE);
+            this.skipGetter = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_GETTER);
+            this.skipSetter = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_SETTER);
+            this.skipToString = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_TO_STRING);
+            this.skipConstructor = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_CONSTRUCTOR);
+            this.skipEmptyMethods = prefs.getBoolean(prefix + PreferenceKeys.POS_ATT_SKIP_EMPTY_METHODS);
+        }
+
+        public LogLevel getLevel() {
+            return level;
+        }
+
+        /**
+         * Returns the message of the position, e.g. "start".
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        public boolean isLoggingEnabled() {
+            return loggingEnabled;
+        }
+
+        public boolean includeParameterNames() {
+            return parameterNames;
+        }
+
+        public boolean includeParameterValues() {
+            return parameterValues;
+        }
+
+        public boolean includeReturnValue() {
+            return returnValue;
+        }
+
+        public boolean skipGetter() {
+            return skipGetter;
+        }
+
+        public boolean skipSetter() {
+            return skipSetter;
+        }
+
+        public boolean skipToString() {
+            return skipToString;
+        }
+
+        public boolean skipConstructor() {
+            return skipConstructor;
+        }
+
+        public boolean skipEmptyMethods() {
+            return skipEmptyMethods;
+        }
+    }
+
+    private static final Object WORKSPACE_KEY = new Object();
+
+    // Settings per project; an entry is replaced when it is no longer current
+    private static final Map<Object, OperationSettings> CACHE = new ConcurrentHashMap<>();
+
+    // Incremented when profiles are stored or reloaded, since they can be edited in place
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final ProjectPreferences projectPreferences;
+    private final Profile profile;
+    private final int profileVersion;
+    private final int generation;
+
+    private final LoggerTemplate template;
+    private final String loggerName;
+    private final boolean conditionalWrapping;
+    private final String delimiter;
+    private final String variablePlaceholder;
+    private final LogLevel defaultLevel;
+    private final Position start;
+    private final Position end;
+    private final Position catchBlock;
+    private final LogLevel replaceOutLevel;
+    private final LogLevel replaceErrLevel;
+    private final Map<LogLevel, String> logMethods;
+    private final Map<LogLevel, ASTPrototype> isEnabledGuards;
+
+    // Position settings objects of the operation API
+    private final PositionStartSettings startSettings = new PositionStartSettings();
+    private final PositionEndSettings endSettings = new PositionEndSettings();
+    private final PositionCatchSettings catchSettings = new PositionCatchSettings();
+
+    private OperationSettings(ProjectPreferences projectPreferences, Profile profile, int generation) {
+        this.projectPreferences = projectPreferences;
+        this.profile = profile;
+        this.profileVersion = profile != null ? profile.getVersion() : 0;
+        this.generation = generation;
+
+        LoggerTemplate loggerTemplate = LoggerTemplates.getTemplate(projectPreferences.getLoggingFramework());
+        this.template = loggerTemplate != null ? loggerTemplate : LoggerTemplates.getSLF4J();
+        String name = projectPreferences.getLoggerName();
+        this.loggerName = name != null && !name.isEmpty() ? name : "logger";
+
+        IPreferenceStore prefs = Log4e2026Plugin.getPreferences();
+        this.conditionalWrapping = prefs.getBoolean(PreferenceKeys.ENABLED_BRACES);
+        String delim = prefs.getString(PreferenceKeys.FORMAT_DELIMITER);
+        this.delimiter = delim != null && !delim.isEmpty() ? delim : " - ";
+        String placeholder = prefs.getString(PreferenceKeys.LOGGER_FORMAT_VARIABLE_PLACEHOLDER);
+        this.variablePlaceholder = placeholder != null && !placeholder.isEmpty() ? placeholder : "{}";
+
+        this.start = new Position(prefs, PreferenceKeys.POS_START, LogLevel.DEBUG, "start");
+        this.end = new Position(prefs, PreferenceKeys.POS_END, LogLevel.DEBUG, "end");
+        this.catchBlock = new Position(prefs, PreferenceKeys.POS_CATCH, LogLevel.ERROR, "exception");
+        this.replaceOutLevel = resolveReplaceLevel(prefs, PreferenceKeys.REPLACE_SOUT_ENABLED,
+                PreferenceKeys.REPLACE_SOUT_LEVEL, LogLevel.INFO);
+        this.replaceErrLevel = resolveReplaceLevel(prefs, PreferenceKeys.REPLACE_SERR_ENABLED,
+                PreferenceKeys.REPLACE_SERR_LEVEL, LogLevel.ERROR);
+
+        this.defaultLevel = resolveDefaultLevel(profile);
+        Map<LogLevel, String> methods = new EnumMap<>(LogLevel.class);
+        Map<LogLevel, ASTPrototype> guards = new EnumMap<>(LogLevel.class);
+        for (LogLevel level : LogLevel.values()) {
+            methods.put(level, resolveLogMethod(profile, level));
+            guards.put(level, resolveIsEnabled(profile, level));
+        }
+        this.logMethods = Collections.unmodifiableMap(methods);
+        this.isEnabledGuards = Collections.unmodifiableMap(guards);
+    }
+
+    /**
+     * Returns the current settings of a project.
+     *
+     * @param project the project, or null for the workspace settings
+     */
+    public static OperationSettings get(IProject project) {
+        ProjectPreferences projectPreferences = Log4e2026Plugin.getProjectPreferences(project);
+        Object key = project != null ? project : WORKSPACE_KEY;
+        OperationSettings settings = CACHE.get(key);
+        if (settings != null && settings.isCurrent(projectPreferences)) {
+            return settings;
+        }
+        settings = new OperationSettings(projectPreferences,
+                ProfileManager.getInstance().getCurrentProfile(), GENERATION.get());
+        CACHE.put(key, settings);
+        return settings;
+    }
+
+    /**
+     * Returns new workspace settings with the given profile instead of the
+     * current one, e.g. for the preview of a profile. They are not cached.
+     */
+    public static OperationSettings forProfile(Profile profile) {
+        return new OperationSettings(Log4e2026Plugin.getProjectPreferences(null), profile, GENERATION.get());
+    }
+
+    /**
+     * Drops all settings, e.g. after profiles were stored or reloaded.
+     */
+    public static void clear() {
+        GENERATION.incrementAndGet();
+        CACHE.clear();
+    }
+
+    /**
+     * Workspace preference changes give a new ProjectPreferences snapshot, so the
+     * snapshot identity also covers the preferences read from the workspace store.
+     */
+    private boolean isCurrent(ProjectPreferences current) {
+        return projectPreferences == current && generation == GENERATION.get()
+                && (profile == null || profile.getVersion() == profileVersion);
+    }
+
+    private static String resolveLogMethod(Profile profile, LogLevel level) {
+        if (profile != null) {
+            String method = profile.getString("LOG_METHOD_" + level.name());
+            if (method != null && !method.isEmpty()) {
+                return method;
+            }
+        }
+        return level.getMethodName();
+    }
+
+    private static ASTPrototype resolveIsEnabled(Profile profile, LogLevel level) {
+        ASTPrototype prototype = TemplatePrototypes.getIsEnabled(profile, level);
+        if (prototype != null) {
+            return prototype;
+        }
+        // Fallback: build programmatically for SLF4J-style
+        String methodName = switch (level) {
+            case TRACE -> "isTraceEnabled";
+            case DEBUG -> "isDebugEnabled";
+            case INFO -> "isInfoEnabled";
+            case WARN -> "isWarnEnabled";
+            case ERROR -> "isErrorEnabled";
+            case FINEST, FINER -> "isLoggable";
+            case FATAL -> null;
+        };
+        if (methodName == null) {
+            return null;
+        }
+        return TemplatePrototypes.get("${logger}." + methodName + "()", ASTPrototype.Kind.EXPRESSION);
+    }
+
+    private static LogLevel resolveReplaceLevel(IPreferenceStore prefs, String enabledKey, String levelKey,
+            LogLevel defaultLevel) {
+        if (!prefs.getBoolean(enabledKey)) {
+            return null;
+        }
+        LogLevel configured = LogLevel.fromName(prefs.getString(levelKey));
+        return configured != null ? configured : defaultLevel;
+    }
+
+    private static LogLevel resolveDefaultLevel(Profile profile) {
+        if (profile != null) {
+            String levelStr = profile.getString("LOG_LEVEL_DEFAULT");
+            if (levelStr != null && !levelStr.isEmpty()) {
+                LogLevel level = LogLevel.fromMethodName(levelStr);
+                if (level != null) {
+                    return level;
+                }
+            }
+        }
+        return LogLevel.DEBUG;
+    }
+
+    public ProjectPreferences getProjectPreferences() {
+        return projectPreferences;
+    }
+
+    public Profile getProfile() {
+        return profile;
+    }
+
+    public LoggerTemplate getTemplate() {
+        return template;
+    }
+
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    public boolean isConditionalWrapping() {
+        return conditionalWrapping;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public String getVariablePlaceholder() {
+        return variablePlaceholder;
+    }
+
+    /**
+     * Returns the default level of the profile, DEBUG if it has none.
+     */
+    public LogLevel getDefaultLevel() {
+        return defaultLevel;
+    }
+
+    public Position getStart() {
+        return start;
+    }
+
+    public Position getEnd() {
+        return end;
+    }
+
+    public Position getCatch() {
+        return catchBlock;
+    }
+
+    /**
+     * Returns the level System.out or System.err calls are replaced with, or
+     * null if the replacement of the stream is disabled.
+     */
+    public LogLevel getReplaceLevel(boolean stderr) {
+        return stderr ? replaceErrLevel : replaceOutLevel;
+    }
+
+    /**
+     * Returns the log method of a level, from the profile or the level itself.
+     */
+    public String getLogMethod(LogLevel level) {
+        return logMethods.get(level);
+    }
+
+    /**
+     * Returns the is-enabled guard expression of a level, or null if it has none.
+     */
+    public ASTPrototype getIsEnabled(LogLevel level) {
+        return isEnabledGuards.get(level);
+    }
+
+    public PositionStartSettings getStartSettings() {
+        return startSettings;
+    }
+
+    public PositionEndSettings getEndSettings() {
+        return endSettings;
+    }
+
+    public PositionCatchSettings getCatchSettings() {
+        return catchSettings;
+    }
+}
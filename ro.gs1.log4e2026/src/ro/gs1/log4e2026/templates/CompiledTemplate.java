@@ -0,0 +1,94 @@
+package ro.gs1.log4e2026.templates;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A profile template split once into literal and placeholder segments.
+ * Rendering appends all segments in a single pass.
+ * Created by {@link TemplateEngine#compile(String)}.
+ */
+public final class CompiledTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String source;
+    // Segment i is literals[i] if variables[i] < 0, else the value of variable variables[i]
+    private final String[] literals;
+    private final int[] variables;
+    private final List<String> unknownPlaceholders;
+
+    CompiledTemplate(String source, List<String> literals, List<Integer> variables, List<String> unknownPlaceholders) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        this.variables = new int[variables.size()];
+        for (int i = 0; i < this.variables.length; i++) {
+            this.variables[i] = variables.get(i);
+        }
+        this.unknownPlaceholders = unknownPlaceholders.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(unknownPlaceholders));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the placeholders of the template that are not template variables,
+     * e.g. "${varible}". They render as empty text.
+     */
+    public List<String> getUnknownPlaceholders() {
+        return unknownPlaceholders;
+    }
+
+    public boolean hasUnknownPlaceholders() {
+        return !unknownPlaceholders.isEmpty();
+    }
+
+    /**
+     * Checks if the template uses the given variable, e.g. PreferenceKeys.PROF_EXCEPTION.
+     */
+    public boolean usesVariable(String placeholder) {
+        int index = TemplateEngine.indexOf(placeholder);
+        for (int variable : variables) {
+            if (variable == index && index >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the template into the given builder.
+     */
+    public void render(TemplateValues values, StringBuilder out) {
+        for (int i = 0; i < variables.length; i++) {
+            int variable = variables[i];
+            if (variable < 0) {
+                out.append(literals[i]);
+            } else {
+                String value = values.get(variable);
+                if (value != null) {
+                    out.append(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders the template using a reused per-thread builder.
+     */
+    public String render(TemplateValues values) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        render(values, out);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -24,7 +24,7 @@ public class Profile implements Comparable<Profile>, Serializable {
     private String name;         // Unique internal name (UUID for user profiles)
     private String title;        // Display title
     private int version = 1;
-    private final Map<String, Object> settings = new HashMap<>();
+    private final HashMap<String, Object> settings = new HashMap<>();
 
     /**
      * Create a new empty profile.
@@ -163,6 +163,21 @@ public class Profile implements Comparable<Profile>, Serializable {
 
     // --- Clone ---
 
+    /**
+     * Create a copy of this profile with the same name, to be edited and
+     * published with ProfileManager.updateProfile.
+     */
+    public Profile copy() {
+        Profile copy = new Profile(this.id, this.title);
+        copy.name = this.name;
+        copy.version = this.version;
+        for (Map.Entry<String, Object> entry : this.settings.entrySet()) {
+            Object value = entry.getValue();
+            copy.settings.put(entry.getKey(), value instanceof List ? new ArrayList<>((List<?>) value) : value);
+        }
+        return copy;
+    }
+
     /**
      * Create a clone of this profile with a new ID and title.
      */
@@ -3,32 +3,61 @@ package ro.gs1.log4e2026.templates;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Objects;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.osgi.framework.Bundle;
 
 import ro.gs1.log4e2026.Log4e2026Plugin;
 import ro.gs1.log4e2026.exceptions.Log4eSystemException;
 import ro.gs1.log4e2026.preferences.PreferenceConstants;
+import ro.gs1.log4e2026.settings.OperationSettings;
 
 /**
  * Singleton manager for logger profiles.
  * Handles loading built-in and user profiles, and saving user profiles.
+ * The profiles are published as snapshots through a volatile reference, so
+ * reads are lock-free; edits copy the snapshot and publish the copy, so a
+ * reader keeps a consistent view while the profiles are edited.
+ * User profiles are saved in the background after they changed; several edits
+ * in a short time are saved once.
  */
 public class ProfileManager {
 
     private static final String PROFILES_FILE = "log4e-profiles.xml";
     private static final String BUILTIN_PROFILES_FILE = "log4e-profiles.xml";
+    private static final String BUILTIN_SNAPSHOT_FILE = "builtin-profiles.bin";
 
-    private static ProfileManager instance;
+    private static volatile ProfileManager instance;
     private static final Object LOCK = new Object();
 
-    private Profiles profiles;
+    // Delay of the save job, edits within it are saved together
+    private static final long SAVE_DELAY = 500;
+
+    // Never modified once published, edits publish a modified copy
+    private volatile Profiles profiles;
     private final ProfilePersistence persistence = new ProfilePersistence();
 
+    // Set when the user profiles changed since they were saved
+    private volatile boolean dirty;
+    private final Object saveLock = new Object();
+    private final Job saveJob;
+
     private ProfileManager() {
+        saveJob = new Job("Saving Log4E profiles") {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                saveIfDirty();
+                return Status.OK_STATUS;
+            }
+        };
+        saveJob.setSystem(true);
         initProfiles();
     }
 
@@ -36,12 +65,17 @@ public class ProfileManager {
      * Get the singleton instance.
      */
     public static ProfileManager getInstance() {
-        synchronized (LOCK) {
-            if (instance == null) {
-                instance = new ProfileManager();
+        ProfileManager manager = instance;
+        if (manager == null) {
+            synchronized (LOCK) {
+                manager = instance;
+                if (manager == null) {
+                    manager = new ProfileManager();
+                    instance = manager;
+                }
             }
         }
-        return instance;
+        return manager;
     }
 
     /**
@@ -53,28 +87,60 @@ public class ProfileManager {
         }
     }
 
+    /**
+     * Saves pending changes of the user profiles. Called when the plugin stops.
+     */
+    public static void shutdown() {
+        ProfileManager manager;
+        synchronized (LOCK) {
+            manager = instance;
+            instance = null;
+        }
+        if (manager != null) {
+            manager.saveJob.cancel();
+            manager.saveIfDirty();
+        }
+    }
+
     /**
      * Initialize profiles by loading built-in and user profiles.
      */
     private void initProfiles() {
-        profiles = new Profiles();
+        Profiles loaded = loadProfiles();
+
+        // If names were changed during merging, save
+        boolean nameChanged = loaded.isNameChanged();
+        loaded.reset();
+        synchronized (LOCK) {
+            publish(loaded);
+        }
+        if (nameChanged) {
+            markDirty();
+        }
+    }
+
+    /**
+     * Loads the built-in and user profiles into a new collection.
+     */
+    private Profiles loadProfiles() {
+        Profiles loaded = new Profiles();
 
         // Load built-in profiles from bundle
         try {
             Profiles builtInProfiles = loadBuiltInProfiles();
             if (builtInProfiles != null) {
-                profiles.addProfiles(builtInProfiles);
+                loaded.addProfiles(builtInProfiles);
             } else {
-                createDefaultProfiles();
+                createDefaultProfiles(loaded);
             }
         } catch (Exception e) {
             Log4e2026Plugin.logError("Failed to load built-in profiles", e);
             // Create default profiles programmatically
-            createDefaultProfiles();
+            createDefaultProfiles(loaded);
         }
 
         // Sort built-in profiles
-        profiles.sort();
+        loaded.sort();
 
         // Load user profiles from state location
         try {
@@ -82,21 +148,27 @@ public class ProfileManager {
             if (userProfilesFile != null && userProfilesFile.exists()) {
                 Profiles userProfiles = persistence.readProfiles(userProfilesFile);
                 userProfiles.sort();
-                profiles.addProfiles(userProfiles);
+                loaded.addProfiles(userProfiles);
             }
         } catch (Log4eSystemException e) {
             Log4e2026Plugin.logError("Failed to load user profiles", e);
         }
+        return loaded;
+    }
 
-        // If names were changed during merging, save
-        if (profiles.isNameChanged()) {
-            storeProfiles();
-            profiles.reset();
-        }
+    /**
+     * Publishes a new snapshot of the profiles. Must be called holding LOCK.
+     */
+    private void publish(Profiles next) {
+        profiles = next;
+        // Settings resolved from the former snapshot are no longer current
+        OperationSettings.clear();
     }
 
     /**
-     * Load built-in profiles from the plugin bundle.
+     * Load built-in profiles from the plugin bundle. They are read from the
+     * binary snapshot in the state location if it was written by the same
+     * bundle, otherwise parsed from the XML and stored as a new snapshot.
      */
     private Profiles loadBuiltInProfiles() throws Exception {
         Log4e2026Plugin plugin = Log4e2026Plugin.getDefault();
@@ -109,21 +181,40 @@ public class ProfileManager {
             return null;
         }
 
+        // A rebuilt bundle keeps its version during development, but not its modification time
+        String snapshotKey = bundle.getVersion() + "@" + bundle.getLastModified();
+        File snapshotFile = getStateFile(BUILTIN_SNAPSHOT_FILE);
+        if (snapshotFile != null) {
+            Profiles snapshot = persistence.readSnapshot(snapshotFile, snapshotKey);
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+
         URL fileUrl = FileLocator.find(bundle, new Path(BUILTIN_PROFILES_FILE), null);
         if (fileUrl == null) {
             Log4e2026Plugin.log("Built-in profiles file not found in bundle: " + BUILTIN_PROFILES_FILE);
             return null;
         }
 
+        Profiles builtIn;
         try (InputStream inputStream = fileUrl.openStream()) {
-            return persistence.readProfiles(inputStream);
+            builtIn = persistence.readProfiles(inputStream);
+        }
+        if (snapshotFile != null) {
+            try {
+                persistence.writeSnapshot(builtIn, snapshotFile, snapshotKey);
+            } catch (Log4eSystemException e) {
+                Log4e2026Plugin.logError("Failed to store built-in profiles snapshot", e);
+            }
         }
+        return builtIn;
     }
 
     /**
      * Create default profiles programmatically (fallback if XML not found).
      */
-    private void createDefaultProfiles() {
+    private void createDefaultProfiles(Profiles profiles) {
         // SLF4J
         Profile slf4j = new Profile(Profile.ID_BUILTIN, "SLF4J");
         slf4j.put("LOGGER_TYPE", "org.slf4j.Logger");
@@ -229,23 +320,50 @@ public class ProfileManager {
     }
 
     /**
-     * Store user profiles to file.
+     * Schedules saving the user profiles if they changed since they were saved.
+     * Returns true if a save is pending.
      */
     public boolean storeProfiles() {
-        try {
-            File userProfilesFile = getUserProfilesFile();
-            if (userProfilesFile != null) {
-                persistence.writeProfiles(profiles, userProfilesFile);
-                return true;
+        if (!dirty) {
+            return false;
+        }
+        saveJob.schedule(SAVE_DELAY);
+        return true;
+    }
+
+    /**
+     * Marks the user profiles as changed and schedules saving them.
+     */
+    private void markDirty() {
+        dirty = true;
+        // Rescheduling a waiting job delays it, so edits in a row are saved once
+        saveJob.schedule(SAVE_DELAY);
+    }
+
+    /**
+     * Writes the published user profiles if they changed since they were saved.
+     */
+    private void saveIfDirty() {
+        synchronized (saveLock) {
+            if (!dirty) {
+                return;
+            }
+            // Cleared before reading the snapshot, an edit published meanwhile sets it again
+            dirty = false;
+            try {
+                File userProfilesFile = getUserProfilesFile();
+                if (userProfilesFile != null) {
+                    persistence.writeProfiles(profiles, userProfilesFile);
+                }
+            } catch (Log4eSystemException e) {
+                dirty = true;
+                Log4e2026Plugin.logError("Failed to store profiles", e);
             }
-        } catch (Log4eSystemException e) {
-            Log4e2026Plugin.logError("Failed to store profiles", e);
         }
-        return false;
     }
 
     /**
-     * Get all profiles.
+     * Get all profiles. The returned snapshot must not be modified.
      */
     public Profiles getProfiles() {
         return profiles;
@@ -255,7 +373,12 @@ public class ProfileManager {
      * Reload profiles from disk.
      */
     public void reloadProfiles() {
+        // Pending changes would be lost otherwise
+        saveJob.cancel();
+        saveIfDirty();
         initProfiles();
+        TemplatePrototypes.clear();
+        TemplateEngine.clear();
     }
 
     /**
@@ -271,6 +394,7 @@ public class ProfileManager {
      * Get a profile by name.
      */
     public Profile getProfile(String name) {
+        Profiles profiles = this.profiles;
         Profile profile = profiles.getProfile(name);
         if (profile != null) {
             return profile;
@@ -319,8 +443,12 @@ public class ProfileManager {
         if (profile.getId() == null) {
             profile.setId(Profile.ID_USER);
         }
-        profiles.addProfile(profile);
-        storeProfiles();
+        synchronized (LOCK) {
+            Profiles next = profiles.copy();
+            next.addProfile(profile);
+            publish(next);
+        }
+        markDirty();
     }
 
     /**
@@ -330,8 +458,12 @@ public class ProfileManager {
         if (profile == null || profile.isBuiltIn()) {
             return false;
         }
-        profiles.remove(profile);
-        storeProfiles();
+        synchronized (LOCK) {
+            Profiles next = profiles.copy();
+            next.remove(profile);
+            publish(next);
+        }
+        markDirty();
         return true;
     }
 
@@ -340,8 +472,12 @@ public class ProfileManager {
      */
     public Profile duplicateProfile(Profile source, String newTitle) {
         Profile duplicate = source.getClone(Profile.ID_USER, newTitle);
-        profiles.addProfile(duplicate);
-        storeProfiles();
+        synchronized (LOCK) {
+            Profiles next = profiles.copy();
+            next.addProfile(duplicate);
+            publish(next);
+        }
+        markDirty();
         return duplicate;
     }
 
@@ -352,11 +488,43 @@ public class ProfileManager {
         if (profile == null || profile.isBuiltIn()) {
             return false;
         }
-        if (profiles.existsProfileWithTitle(newTitle)) {
+        synchronized (LOCK) {
+            if (profiles.existsProfileWithTitle(newTitle)) {
+                return false;
+            }
+            Profile renamed = profile.copy();
+            renamed.setTitle(newTitle);
+            Profiles next = profiles.copy();
+            next.replaceProfile(renamed);
+            publish(next);
+        }
+        markDirty();
+        return true;
+    }
+
+    /**
+     * Replace a user profile by an edited copy of it, see {@link Profile#copy()}.
+     * Returns false if the profile is unknown or was not changed.
+     */
+    public boolean updateProfile(Profile edited) {
+        if (edited == null || edited.isBuiltIn()) {
             return false;
         }
-        profile.setTitle(newTitle);
-        storeProfiles();
+        synchronized (LOCK) {
+            Profile published = profiles.getProfile(edited.getName());
+            if (published != null && Objects.equals(published.getTitle(), edited.getTitle())
+                    && published.getSettings().equals(edited.getSettings())) {
+                // Nothing changed, keep the published profile and skip the save
+                return false;
+            }
+            edited.setVersion(edited.getVersion() + 1);
+            Profiles next = profiles.copy();
+            if (!next.replaceProfile(edited)) {
+                return false;
+            }
+            publish(next);
+        }
+        markDirty();
         return true;
     }
 
@@ -364,6 +532,13 @@ public class ProfileManager {
      * Get the user profiles file in the plugin state location.
      */
     private File getUserProfilesFile() {
+        return getStateFile(PROFILES_FILE);
+    }
+
+    /**
+     * Get a file in the plugin state location.
+     */
+    private File getStateFile(String fileName) {
         Log4e2026Plugin plugin = Log4e2026Plugin.getDefault();
         if (plugin == null) {
             return null;
@@ -372,6 +547,6 @@ public class ProfileManager {
         if (stateLocation == null) {
             return null;
         }
-        return stateLocation.append(PROFILES_FILE).toFile();
+        return stateLocation.append(fileName).toFile();
     }
 }
@@ -1,38 +1,52 @@
 package ro.gs1.log4e2026.templates;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Writer;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.Text;
-
-import ro.gs1.log4e2026.Log4e2026Plugin;
 import ro.gs1.log4e2026.exceptions.Log4eSystemException;
+import ro.gs1.log4e2026.util.FileUtil;
 
 /**
  * Handles reading and writing profiles to XML files.
  * XML format compatible with original Log4E plugin.
+ * Profiles are read and written as a stream, without building a document in
+ * memory. A file is written to a temporary file first and then moved over the
+ * former file, so an interrupted save never leaves a truncated file.
+ * Parsed profiles can also be stored as a compact binary snapshot, which loads
+ * faster than the XML it was parsed from.
  */
 public class ProfilePersistence {
 
     private static final int CURRENT_DOCUMENT_VERSION = 1;
+    private static final String ENCODING = "UTF-8";
+    private static final String INDENT = "  ";
+
+    // Binary snapshot header and value tags
+    private static final int SNAPSHOT_MAGIC = 0x4C344550;
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INTEGER = 2;
+    private static final byte TAG_BOOLEAN = 3;
+    private static final byte TAG_LIST = 4;
 
     // XML element and attribute names
     private static final String XML_NODE_ROOT = "profiles";
@@ -67,7 +81,7 @@ public class ProfilePersistence {
         if (!file.exists()) {
             return new Profiles();
         }
-        try (InputStream inputStream = file.toURI().toURL().openStream()) {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
             return parseProfiles(inputStream);
         } catch (Exception e) {
             throw new Log4eSystemException("Failed to read profiles from: " + file, e);
@@ -88,42 +102,53 @@ public class ProfilePersistence {
     /**
      * Parse profiles from an input stream.
      */
-    private Profiles parseProfiles(InputStream inputStream) throws Exception {
+    private Profiles parseProfiles(InputStream inputStream) throws XMLStreamException {
         Profiles profiles = new Profiles();
 
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document document = builder.parse(inputStream);
-
-        Element root = document.getDocumentElement();
-        if (root.hasAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION)) {
-            profiles.setVersion(root.getAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION));
-        }
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
 
-        NodeList profileNodes = root.getElementsByTagName(XML_NODE_PROFILE);
-        for (int i = 0; i < profileNodes.getLength(); i++) {
-            Element profileElement = (Element) profileNodes.item(i);
-            Profile profile = parseProfile(profileElement);
-            profiles.addProfile(profile);
+        XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+        try {
+            boolean root = true;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if (root) {
+                    root = false;
+                    String version = reader.getAttributeValue(null, XML_ATTRIBUTE_DOCUMENT_VERSION);
+                    if (version != null) {
+                        profiles.setVersion(version);
+                    }
+                } else if (XML_NODE_PROFILE.equals(reader.getLocalName())) {
+                    profiles.addProfile(parseProfile(reader));
+                }
+            }
+        } finally {
+            reader.close();
         }
 
         return profiles;
     }
 
     /**
-     * Parse a single profile from an XML element.
+     * Parse a single profile, the reader is positioned on its start element
+     * and is left on its end element.
      */
-    private Profile parseProfile(Element element) {
-        String id = element.getAttribute(XML_ATTRIBUTE_ID);
-        String title = element.getAttribute(XML_ATTRIBUTE_TITLE);
-        String name = element.getAttribute(XML_ATTRIBUTE_NAME);
-        String versionStr = element.getAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION);
+    private Profile parseProfile(XMLStreamReader reader) throws XMLStreamException {
+        String id = getAttribute(reader, XML_ATTRIBUTE_ID);
+        String title = getAttribute(reader, XML_ATTRIBUTE_TITLE);
+        String name = getAttribute(reader, XML_ATTRIBUTE_NAME);
+        String versionStr = getAttribute(reader, XML_ATTRIBUTE_DOCUMENT_VERSION);
 
         Profile profile = new Profile(id, title);
-        if (name != null && !name.isEmpty()) {
+        if (!name.isEmpty()) {
             profile.setName(name);
         }
-        if (versionStr != null && !versionStr.isEmpty()) {
+        if (!versionStr.isEmpty()) {
             try {
                 profile.setVersion(Integer.parseInt(versionStr));
             } catch (NumberFormatException e) {
@@ -132,20 +157,14 @@ public class ProfilePersistence {
         }
 
         // Parse settings
-        NodeList children = element.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++) {
-            Node child = children.item(i);
-            if (child.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            Element childElement = (Element) child;
-            String nodeName = childElement.getNodeName();
-
+        while (nextChildElement(reader)) {
+            String nodeName = reader.getLocalName();
             if (XML_NODE_SETTING.equals(nodeName)) {
-                parseSetting(profile, childElement);
+                parseSetting(profile, reader);
             } else if (XML_NODE_LIST.equals(nodeName)) {
-                parseListSetting(profile, childElement);
+                parseListSetting(profile, reader);
+            } else {
+                skipElement(reader);
             }
         }
 
@@ -155,10 +174,10 @@ public class ProfilePersistence {
     /**
      * Parse a single setting from XML.
      */
-    private void parseSetting(Profile profile, Element element) {
-        String id = element.getAttribute(XML_ATTRIBUTE_ID);
-        String type = element.getAttribute(XML_ATTRIBUTE_TYPE);
-        String textContent = element.getTextContent();
+    private void parseSetting(Profile profile, XMLStreamReader reader) throws XMLStreamException {
+        String id = getAttribute(reader, XML_ATTRIBUTE_ID);
+        String type = getAttribute(reader, XML_ATTRIBUTE_TYPE);
+        String textContent = reader.getElementText();
 
         Object value = convertValue(textContent, type);
         profile.put(id, value);
@@ -167,19 +186,61 @@ public class ProfilePersistence {
     /**
      * Parse a list setting from XML.
      */
-    private void parseListSetting(Profile profile, Element element) {
-        String id = element.getAttribute(XML_ATTRIBUTE_ID);
+    private void parseListSetting(Profile profile, XMLStreamReader reader) throws XMLStreamException {
+        String id = getAttribute(reader, XML_ATTRIBUTE_ID);
         List<String> list = new ArrayList<>();
 
-        NodeList children = element.getElementsByTagName(XML_NODE_LISTSETTING);
-        for (int i = 0; i < children.getLength(); i++) {
-            Element listItem = (Element) children.item(i);
-            list.add(listItem.getTextContent());
+        while (nextChildElement(reader)) {
+            if (XML_NODE_LISTSETTING.equals(reader.getLocalName())) {
+                list.add(reader.getElementText());
+            } else {
+                skipElement(reader);
+            }
         }
 
         profile.put(id, list);
     }
 
+    /**
+     * Moves the reader to the next child element of the current element.
+     * Returns false when the end element of the current element is reached.
+     */
+    private boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips an unknown element with its content, leaving the reader on its end element.
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns an attribute of the current element, an empty string if it is missing.
+     */
+    private String getAttribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(null, name);
+        return value != null ? value : "";
+    }
+
     /**
      * Convert a string value to the appropriate type.
      */
@@ -203,31 +264,27 @@ public class ProfilePersistence {
     /**
      * Write profiles to a file.
      * Only user profiles are written (built-in profiles are skipped).
+     * The profiles are written to a temporary file in the same directory,
+     * which then atomically replaces the file.
      */
     public void writeProfiles(Profiles profiles, File file) throws Log4eSystemException {
-        if (!file.getParentFile().exists()) {
-            file.getParentFile().mkdirs();
-        }
-
-        try (FileWriter writer = new FileWriter(file)) {
-            writeProfiles(profiles.getProfiles(), writer);
-        } catch (IOException e) {
+        try {
+            FileUtil.writeAtomically(file, out -> writeProfiles(profiles.getProfiles(), out));
+        } catch (IOException | XMLStreamException e) {
             throw new Log4eSystemException("Failed to write profiles to: " + file, e);
         }
     }
 
     /**
-     * Write profiles to a writer.
+     * Write profiles to an output stream.
      */
-    private void writeProfiles(Iterator<Profile> profiles, Writer writer) throws Log4eSystemException {
+    private void writeProfiles(Iterator<Profile> profiles, OutputStream out) throws XMLStreamException {
+        XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(out, ENCODING);
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.newDocument();
-
-            Element rootElement = document.createElement(XML_NODE_ROOT);
-            rootElement.setAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION, Integer.toString(CURRENT_DOCUMENT_VERSION));
-            document.appendChild(rootElement);
+            writer.writeStartDocument(ENCODING, "1.0");
+            newLine(writer, 0);
+            writer.writeStartElement(XML_NODE_ROOT);
+            writer.writeAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION, Integer.toString(CURRENT_DOCUMENT_VERSION));
 
             while (profiles.hasNext()) {
                 Profile profile = profiles.next();
@@ -235,66 +292,222 @@ public class ProfilePersistence {
                 if (!Profile.ID_USER.equals(profile.getId())) {
                     continue;
                 }
-                Element profileElement = createProfileElement(profile, document);
-                rootElement.appendChild(profileElement);
+                writeProfile(profile, writer);
             }
 
-            Transformer transformer = TransformerFactory.newInstance().newTransformer();
-            transformer.setOutputProperty(OutputKeys.METHOD, "xml");
-            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-            transformer.transform(new DOMSource(document), new StreamResult(writer));
-
-        } catch (Exception e) {
-            throw new Log4eSystemException("Failed to write profiles", e);
+            newLine(writer, 0);
+            writer.writeEndElement();
+            newLine(writer, 0);
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            writer.close();
         }
     }
 
     /**
-     * Create an XML element for a profile.
+     * Write the element of a profile.
      */
-    private Element createProfileElement(Profile profile, Document document) {
-        Element element = document.createElement(XML_NODE_PROFILE);
-        element.setAttribute(XML_ATTRIBUTE_ID, profile.getId());
-        element.setAttribute(XML_ATTRIBUTE_TITLE, profile.getTitle());
-        element.setAttribute(XML_ATTRIBUTE_NAME, profile.getName());
-        element.setAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION, Integer.toString(profile.getVersion()));
-
-        for (String key : profile.getSettings().keySet()) {
-            Object value = profile.getSettings().get(key);
+    private void writeProfile(Profile profile, XMLStreamWriter writer) throws XMLStreamException {
+        newLine(writer, 1);
+        writer.writeStartElement(XML_NODE_PROFILE);
+        writer.writeAttribute(XML_ATTRIBUTE_ID, profile.getId());
+        writer.writeAttribute(XML_ATTRIBUTE_TITLE, nonNull(profile.getTitle()));
+        writer.writeAttribute(XML_ATTRIBUTE_NAME, nonNull(profile.getName()));
+        writer.writeAttribute(XML_ATTRIBUTE_DOCUMENT_VERSION, Integer.toString(profile.getVersion()));
+
+        for (Map.Entry<String, Object> entry : profile.getSettings().entrySet()) {
+            Object value = entry.getValue();
             String type = getType(value);
 
+            newLine(writer, 2);
             if ("List".equals(type)) {
-                Element listElement = document.createElement(XML_NODE_LIST);
-                listElement.setAttribute(XML_ATTRIBUTE_ID, key);
-                element.appendChild(listElement);
+                writer.writeStartElement(XML_NODE_LIST);
+                writer.writeAttribute(XML_ATTRIBUTE_ID, entry.getKey());
 
-                @SuppressWarnings("unchecked")
-                List<Object> list = (List<Object>) value;
+                List<?> list = (List<?>) value;
                 for (Object listValue : list) {
-                    String listType = getType(listValue);
-                    Element listSetting = document.createElement(XML_NODE_LISTSETTING);
-                    listSetting.setAttribute(XML_ATTRIBUTE_TYPE, listType);
-                    Text valueText = listValue != null ?
-                            document.createTextNode(listValue.toString()) :
-                            document.createTextNode("");
-                    listSetting.appendChild(valueText);
-                    listElement.appendChild(listSetting);
+                    newLine(writer, 3);
+                    writer.writeStartElement(XML_NODE_LISTSETTING);
+                    writer.writeAttribute(XML_ATTRIBUTE_TYPE, getType(listValue));
+                    writer.writeCharacters(listValue != null ? listValue.toString() : "");
+                    writer.writeEndElement();
                 }
+                if (!list.isEmpty()) {
+                    newLine(writer, 2);
+                }
+                writer.writeEndElement();
             } else {
-                Element setting = document.createElement(XML_NODE_SETTING);
-                setting.setAttribute(XML_ATTRIBUTE_ID, key);
-                setting.setAttribute(XML_ATTRIBUTE_TYPE, type);
-                Text valueText = value != null ?
-                        document.createTextNode(value.toString()) :
-                        document.createTextNode("");
-                setting.appendChild(valueText);
-                element.appendChild(setting);
+                writer.writeStartElement(XML_NODE_SETTING);
+                writer.writeAttribute(XML_ATTRIBUTE_ID, entry.getKey());
+                writer.writeAttribute(XML_ATTRIBUTE_TYPE, type);
+                writer.writeCharacters(value != null ? value.toString() : "");
+                writer.writeEndElement();
+            }
+        }
+
+        newLine(writer, 1);
+        writer.writeEndElement();
+    }
+
+    private void newLine(XMLStreamWriter writer, int level) throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < level; i++) {
+            writer.writeCharacters(INDENT);
+        }
+    }
+
+    private String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Writes all profiles as a binary snapshot. The key identifies the source
+     * of the profiles, e.g. the bundle version, and must match when reading.
+     */
+    public void writeSnapshot(Profiles profiles, File file, String key) throws Log4eSystemException {
+        try {
+            FileUtil.writeAtomically(file, out -> {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(SNAPSHOT_MAGIC);
+                data.writeInt(SNAPSHOT_FORMAT);
+                writeString(data, key);
+                data.writeInt(profiles.getSize());
+                Iterator<Profile> iterator = profiles.getProfiles();
+                while (iterator.hasNext()) {
+                    writeSnapshotProfile(iterator.next(), data);
+                }
+                data.flush();
+            });
+        } catch (IOException e) {
+            throw new Log4eSystemException("Failed to write profile snapshot to: " + file, e);
+        }
+    }
+
+    /**
+     * Reads a binary snapshot written by {@link #writeSnapshot}. Returns null if
+     * the file is missing, was written for another key or cannot be read.
+     */
+    public Profiles readSnapshot(File file, String key) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream data = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (data.readInt() != SNAPSHOT_MAGIC || data.readInt() != SNAPSHOT_FORMAT
+                    || !key.equals(readString(data))) {
+                return null;
+            }
+            Profiles profiles = new Profiles();
+            int count = data.readInt();
+            for (int i = 0; i < count; i++) {
+                profiles.addProfile(readSnapshotProfile(data));
+            }
+            return profiles;
+        } catch (IOException | RuntimeException e) {
+            // A damaged snapshot is rebuilt from the XML
+            return null;
+        }
+    }
+
+    private void writeSnapshotProfile(Profile profile, DataOutputStream data) throws IOException {
+        writeString(data, profile.getId());
+        writeString(data, profile.getTitle());
+        writeString(data, profile.getName());
+        data.writeInt(profile.getVersion());
+        Map<String, Object> settings = profile.getSettings();
+        data.writeInt(settings.size());
+        for (Map.Entry<String, Object> entry : settings.entrySet()) {
+            writeString(data, entry.getKey());
+            writeSnapshotValue(entry.getValue(), data);
+        }
+    }
+
+    private Profile readSnapshotProfile(DataInputStream data) throws IOException {
+        String id = readString(data);
+        String title = readString(data);
+        String name = readString(data);
+        Profile profile = new Profile(id, title);
+        if (name != null) {
+            profile.setName(name);
+        }
+        profile.setVersion(data.readInt());
+        int count = data.readInt();
+        for (int i = 0; i < count; i++) {
+            String key = readString(data);
+            profile.put(key, readSnapshotValue(data));
+        }
+        return profile;
+    }
+
+    private void writeSnapshotValue(Object value, DataOutputStream data) throws IOException {
+        if (value == null) {
+            data.writeByte(TAG_NULL);
+        } else if (value instanceof Integer) {
+            data.writeByte(TAG_INTEGER);
+            data.writeInt((Integer) value);
+        } else if (value instanceof Boolean) {
+            data.writeByte(TAG_BOOLEAN);
+            data.writeBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            data.writeByte(TAG_LIST);
+            data.writeInt(list.size());
+            for (Object listValue : list) {
+                // Lists hold strings, as in the XML
+                writeString(data, listValue != null ? listValue.toString() : "");
             }
+        } else {
+            data.writeByte(TAG_STRING);
+            writeString(data, value.toString());
         }
+    }
 
-        return element;
+    private Object readSnapshotValue(DataInputStream data) throws IOException {
+        byte tag = data.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_INTEGER:
+                return data.readInt();
+            case TAG_BOOLEAN:
+                return data.readBoolean();
+            case TAG_LIST:
+                int size = data.readInt();
+                List<String> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readString(data));
+                }
+                return list;
+            case TAG_STRING:
+                return readString(data);
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Writes a string as UTF-8 with its length; unlike writeUTF it has no size
+     * limit and allows null.
+     */
+    private void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private String readString(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     /**
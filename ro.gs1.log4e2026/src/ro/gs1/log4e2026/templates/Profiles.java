@@ -1,14 +1,21 @@
 package ro.gs1.log4e2026.templates;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Collection of logger profiles.
- * Manages built-in and user-defined profiles.
+ * Manages built-in and user-defined profiles, indexed by name and title
+ * (case-insensitive). A collection published by ProfileManager is never
+ * modified; edits are made on a {@link #copy()}.
  */
 public class Profiles implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -16,9 +23,59 @@ public class Profiles implements Serializable {
     public static final String DEFAULT_PROFILE = "SLF4J";
 
     private String version;
-    private final List<Profile> profileList = new ArrayList<>();
+    private final ArrayList<Profile> profileList = new ArrayList<>();
+    // Rebuilt from the profile list when deserialized
+    private transient Map<String, Profile> byName = new HashMap<>();
+    private transient Map<String, Profile> byTitle = new HashMap<>();
     private boolean nameChanged = false;
 
+    /**
+     * Returns a copy of this collection sharing the profiles, to be modified and published.
+     */
+    public Profiles copy() {
+        Profiles copy = new Profiles();
+        copy.version = this.version;
+        copy.nameChanged = this.nameChanged;
+        for (Profile profile : this.profileList) {
+            copy.add(profile);
+        }
+        return copy;
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private void add(Profile profile) {
+        this.profileList.add(profile);
+        index(profile);
+    }
+
+    private void index(Profile profile) {
+        // The first profile wins, like the former linear search
+        if (profile.getName() != null) {
+            this.byName.putIfAbsent(key(profile.getName()), profile);
+        }
+        if (profile.getTitle() != null) {
+            this.byTitle.putIfAbsent(key(profile.getTitle()), profile);
+        }
+    }
+
+    private void reindex() {
+        this.byName.clear();
+        this.byTitle.clear();
+        for (Profile profile : this.profileList) {
+            index(profile);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.byName = new HashMap<>();
+        this.byTitle = new HashMap<>();
+        reindex();
+    }
+
     /**
      * Add all profiles from another Profiles collection.
      * @return true if any names were changed to avoid duplicates
@@ -55,10 +112,25 @@ public class Profiles implements Serializable {
                 changed = true;
             }
         }
-        this.profileList.add(profile);
+        add(profile);
         return changed;
     }
 
+    /**
+     * Replaces the profile with the same name, e.g. by an edited copy of it.
+     * @return true if a profile was replaced
+     */
+    public boolean replaceProfile(Profile profile) {
+        for (int i = 0; i < this.profileList.size(); i++) {
+            if (this.profileList.get(i).equals(profile)) {
+                this.profileList.set(i, profile);
+                reindex();
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Compute a unique title by appending a number if needed.
      */
@@ -79,37 +151,27 @@ public class Profiles implements Serializable {
      * Get a profile by its internal name.
      */
     public Profile getProfile(String name) {
-        if (name == null || this.profileList == null) {
+        if (name == null) {
             return null;
         }
-        for (Profile profile : this.profileList) {
-            if (profile.getName() != null && profile.getName().equalsIgnoreCase(name)) {
-                return profile;
-            }
-        }
-        return null;
+        return this.byName.get(key(name));
     }
 
     /**
      * Get a profile by its display title.
      */
     public Profile getProfileByTitle(String title) {
-        if (title == null || this.profileList == null) {
+        if (title == null) {
             return null;
         }
-        for (Profile profile : this.profileList) {
-            if (profile.getTitle() != null && profile.getTitle().equalsIgnoreCase(title)) {
-                return profile;
-            }
-        }
-        return null;
+        return this.byTitle.get(key(title));
     }
 
     /**
      * Get the first profile in the collection.
      */
     public Profile getFirstProfile() {
-        if (this.profileList == null || this.profileList.isEmpty()) {
+        if (this.profileList.isEmpty()) {
             return null;
         }
         return this.profileList.get(0);
@@ -133,22 +195,16 @@ public class Profiles implements Serializable {
      * Check if a profile with the given title exists.
      */
     public boolean existsProfileWithTitle(String title) {
-        if (this.profileList == null) {
-            return false;
-        }
-        for (Profile profile : this.profileList) {
-            if (profile.getTitle() != null && profile.getTitle().equalsIgnoreCase(title)) {
-                return true;
-            }
-        }
-        return false;
+        return this.getProfileByTitle(title) != null;
     }
 
     /**
      * Remove a profile from the collection.
      */
     public void remove(Profile profile) {
-        this.profileList.remove(profile);
+        if (this.profileList.remove(profile)) {
+            reindex();
+        }
     }
 
     /**
@@ -169,9 +225,6 @@ public class Profiles implements Serializable {
      * Sort profiles by title.
      */
     public void sort() {
-        if (this.profileList == null) {
-            return;
-        }
         Collections.sort(this.profileList);
     }
 
@@ -179,7 +232,7 @@ public class Profiles implements Serializable {
      * Get an iterator over all profiles.
      */
     public Iterator<Profile> getProfiles() {
-        return this.profileList.iterator();
+        return Collections.unmodifiableList(this.profileList).iterator();
     }
 
     /**
@@ -0,0 +1,140 @@
+package ro.gs1.log4e2026.templates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.preferences.PreferenceKeys;
+
+/**
+ * Compiles profile templates into {@link CompiledTemplate}s and caches them per profile.
+ * Knows all PreferenceKeys.PROF_* variables, including the ${level} and
+ * ${variable} of the LOG_PATTERN_* settings; other ${...} placeholders are
+ * reported when the template is compiled. The prototypes the commands generate
+ * code with, see {@link TemplatePrototypes}, are checked against the same
+ * variables and filled with {@link TemplateValues}.
+ */
+public final class TemplateEngine {
+
+    private static final Map<String, Integer> VARIABLES = new HashMap<>();
+
+    static {
+        String[] variables = PreferenceKeys.PROF_TEMPLATE_VARIABLES;
+        for (int i = 0; i < variables.length; i++) {
+            VARIABLES.put(variables[i], i);
+        }
+    }
+
+    // Compiled templates per profile name, dropped when the profile version changes
+    private static final Map<String, ProfileTemplates> CACHE = new ConcurrentHashMap<>();
+
+    private static final class ProfileTemplates {
+        final int version;
+        final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+        ProfileTemplates(int version) {
+            this.version = version;
+        }
+    }
+
+    private TemplateEngine() {
+    }
+
+    static int getVariableCount() {
+        return PreferenceKeys.PROF_TEMPLATE_VARIABLES.length;
+    }
+
+    /**
+     * Returns the index of a template variable, or -1 if it is unknown.
+     */
+    static int indexOf(String placeholder) {
+        Integer index = VARIABLES.get(placeholder);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Checks if a placeholder such as "${logger}" is a known template variable.
+     */
+    public static boolean isVariable(String placeholder) {
+        return VARIABLES.containsKey(placeholder);
+    }
+
+    /**
+     * Splits a template into literal and placeholder segments.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> variables = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+
+        int length = template.length();
+        int literalStart = 0;
+        int pos = template.indexOf("${");
+        while (pos >= 0) {
+            int end = template.indexOf('}', pos + 2);
+            if (end < 0) {
+                break;
+            }
+            if (pos > literalStart) {
+                literals.add(template.substring(literalStart, pos));
+                variables.add(-1);
+            }
+            String placeholder = template.substring(pos, end + 1);
+            int index = indexOf(placeholder);
+            if (index < 0) {
+                // Unknown placeholders are reported and render as empty text
+                unknown.add(placeholder);
+            } else {
+                literals.add(null);
+                variables.add(index);
+            }
+            literalStart = end + 1;
+            pos = template.indexOf("${", literalStart);
+        }
+        if (literalStart < length) {
+            literals.add(template.substring(literalStart));
+            variables.add(-1);
+        }
+        return new CompiledTemplate(template, literals, variables, unknown);
+    }
+
+    /**
+     * Returns the compiled template stored under a key of the profile, e.g.
+     * "LOGGER_DEBUG_STATEMENT", or null if the profile has no such template.
+     * Unknown placeholders are logged once per compiled template.
+     */
+    public static CompiledTemplate getTemplate(Profile profile, String key) {
+        if (profile == null || key == null) {
+            return null;
+        }
+        String source = profile.getString(key);
+        if (source == null) {
+            return null;
+        }
+
+        ProfileTemplates templates = CACHE.compute(profile.getName(), (name, cached) ->
+                cached != null && cached.version == profile.getVersion() ? cached
+                        : new ProfileTemplates(profile.getVersion()));
+        CompiledTemplate compiled = templates.templates.get(key);
+        if (compiled == null || !compiled.getSource().equals(source)) {
+            // Not compiled yet, or the profile was edited without a version change
+            compiled = compile(source);
+            if (compiled.hasUnknownPlaceholders()) {
+                Log4e2026Plugin.logWarning("Unknown placeholders " + compiled.getUnknownPlaceholders()
+                        + " in template " + key + " of profile '" + profile.getTitle() + "'");
+            }
+            templates.templates.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Drops all compiled templates, e.g. after profiles were reloaded.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+}
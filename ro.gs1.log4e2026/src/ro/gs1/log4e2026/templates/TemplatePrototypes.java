@@ -0,0 +1,99 @@
+package ro.gs1.log4e2026.templates;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.jdt.ASTPrototype;
+import ro.gs1.log4e2026.jdt.ASTPrototype.Kind;
+import ro.gs1.log4e2026.preferences.PreferenceKeys;
+
+/**
+ * Cache of compiled {@link ASTPrototype}s for profile and logger templates.
+ * Prototypes are keyed by their template source, so each template of a
+ * profile version is parsed only once. The placeholders are checked against
+ * the variables of the {@link TemplateEngine} and filled with {@link TemplateValues}.
+ */
+public final class TemplatePrototypes {
+
+    private static final Map<String, Optional<ASTPrototype>> CACHE = new ConcurrentHashMap<>();
+
+    private TemplatePrototypes() {
+    }
+
+    /**
+     * Returns the compiled prototype of a template, or null if the template is
+     * empty, invalid or has placeholders that are not template variables.
+     * Such templates are reported once.
+     */
+    public static ASTPrototype get(String template, Kind kind) {
+        if (template == null || template.isEmpty()) {
+            return null;
+        }
+        return CACHE.computeIfAbsent(kind.name() + ':' + template, key -> {
+            List<String> unknown = TemplateEngine.compile(template).getUnknownPlaceholders();
+            if (!unknown.isEmpty()) {
+                Log4e2026Plugin.logWarning("Unknown placeholders " + unknown + " in "
+                        + kind.name().toLowerCase() + " template: " + template);
+                return Optional.empty();
+            }
+            ASTPrototype prototype = ASTPrototype.compile(template, kind);
+            if (prototype == null) {
+                Log4e2026Plugin.logWarning("Invalid " + kind.name().toLowerCase() + " template: " + template);
+            }
+            return Optional.ofNullable(prototype);
+        }).orElse(null);
+    }
+
+    /**
+     * Returns the is-enabled expression prototype of a level, e.g.
+     * <code>${logger}.isDebugEnabled()</code>, or null if the profile has none.
+     */
+    public static ASTPrototype getIsEnabled(Profile profile, LogLevel level) {
+        if (profile == null) {
+            return null;
+        }
+        return get(profile.getString("LOGGER_IS_" + level.name() + "_ENABLED_STATEMENT"), Kind.EXPRESSION);
+    }
+
+    /**
+     * Returns the prototype of a plain log call <code>${logger}.method("${message}")</code>.
+     */
+    public static ASTPrototype getLogCall(String logMethod) {
+        return get("${logger}." + logMethod + "(\"${message}\");", Kind.STATEMENT);
+    }
+
+    /**
+     * Returns the field declaration prototype of a logger template.
+     */
+    public static ASTPrototype getDeclaration(LoggerTemplate template) {
+        return get(template.getDeclaration(), Kind.FIELD);
+    }
+
+    /**
+     * Creates the logger field declaration of a logger template in the target AST.
+     */
+    public static FieldDeclaration createLoggerField(AST ast, LoggerTemplate template,
+            String loggerName, String className) {
+        ASTPrototype prototype = getDeclaration(template);
+        if (prototype == null) {
+            throw new IllegalStateException("Invalid logger declaration: " + template.getDeclaration());
+        }
+        return (FieldDeclaration) prototype.instantiate(ast, new TemplateValues()
+                .set(PreferenceKeys.PROF_LOGGER, loggerName)
+                .set(PreferenceKeys.PROF_SOURCECLASS, className));
+    }
+
+    /**
+     * Drops all compiled prototypes, e.g. after profiles were reloaded.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+}
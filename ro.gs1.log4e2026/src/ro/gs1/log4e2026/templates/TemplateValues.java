@@ -0,0 +1,33 @@
+package ro.gs1.log4e2026.templates;
+
+/**
+ * Values of the template variables for one rendering of a {@link CompiledTemplate}.
+ * Variables are the PreferenceKeys.PROF_* placeholders, e.g. "${logger}".
+ */
+public final class TemplateValues {
+
+    private final String[] values = new String[TemplateEngine.getVariableCount()];
+
+    /**
+     * Sets the value of a variable.
+     * @param placeholder one of PreferenceKeys.PROF_TEMPLATE_VARIABLES
+     * @throws IllegalArgumentException if the placeholder is not a template variable
+     */
+    public TemplateValues set(String placeholder, String value) {
+        int index = TemplateEngine.indexOf(placeholder);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown template variable: " + placeholder);
+        }
+        values[index] = value;
+        return this;
+    }
+
+    public String get(String placeholder) {
+        int index = TemplateEngine.indexOf(placeholder);
+        return index < 0 ? null : values[index];
+    }
+
+    String get(int index) {
+        return values[index];
+    }
+}
@@ -0,0 +1,66 @@
+package ro.gs1.log4e2026.util;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * File utility methods.
+ */
+public class FileUtil {
+
+    /**
+     * Writes the content of a file.
+     *
+     * @param <E> the exception of the writer besides IOException
+     */
+    @FunctionalInterface
+    public interface ContentWriter<E extends Exception> {
+        void write(OutputStream out) throws IOException, E;
+    }
+
+    /**
+     * Writes a file through a temporary file in the same directory, which then
+     * atomically replaces the file, so an interrupted write never leaves a
+     * truncated file.
+     */
+    public static <E extends Exception> void writeAtomically(File file, ContentWriter<E> content)
+            throws IOException, E {
+        Path target = file.toPath().toAbsolutePath();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tempFile = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+            try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile());
+                    OutputStream out = new BufferedOutputStream(fileOut)) {
+                content.write(out);
+                out.flush();
+                fileOut.getChannel().force(true);
+            }
+            moveReplacing(tempFile, target);
+            tempFile = null;
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // Left over, a later write uses another temporary file
+                }
+            }
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
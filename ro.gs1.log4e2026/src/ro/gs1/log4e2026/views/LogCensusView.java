@@ -0,0 +1,232 @@
+package ro.gs1.log4e2026.views;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.part.ViewPart;
+
+import ro.gs1.log4e2026.Log4e2026Plugin;
+import ro.gs1.log4e2026.core.LogLevel;
+import ro.gs1.log4e2026.handlers.LogCensus;
+
+/**
+ * Shows a {@link LogCensus} as a table with one row per package and a total
+ * row. Clicking a column header sorts by the column; the census can be
+ * exported as CSV or JSON.
+ */
+public class LogCensusView extends ViewPart {
+
+    public static final String ID = "ro.gs1.log4e2026.views.logCensus";
+
+    /**
+     * One table row: a package or the total.
+     */
+    private static final class Row {
+        final String packageName;
+        final int[] values;
+        final boolean total;
+
+        Row(String packageName, LogCensus.Counts counts, boolean total) {
+            this.packageName = packageName;
+            this.values = LogCensus.getValues(counts);
+            this.total = total;
+        }
+    }
+
+    /**
+     * Sorts by one column, the total row always last.
+     */
+    private final class RowComparator extends ViewerComparator {
+        int column;
+        int direction = SWT.UP;
+
+        @Override
+        public int compare(Viewer viewer, Object e1, Object e2) {
+            Row row1 = (Row) e1;
+            Row row2 = (Row) e2;
+            if (row1.total != row2.total) {
+                return row1.total ? 1 : -1;
+            }
+            int result = column == 0 ? row1.packageName.compareTo(row2.packageName)
+                    : Integer.compare(row1.values[column - 1], row2.values[column - 1]);
+            return direction == SWT.UP ? result : -result;
+        }
+    }
+
+    private TableViewer viewer;
+    private final RowComparator comparator = new RowComparator();
+    private LogCensus census;
+    private Action exportCsvAction;
+    private Action exportJsonAction;
+
+    /**
+     * Shows a census in the view of the active workbench page. Must be called
+     * from the UI thread.
+     */
+    public static void show(LogCensus census) {
+        IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+        IWorkbenchPage page = window != null ? window.getActivePage() : null;
+        if (page == null) {
+            return;
+        }
+        try {
+            LogCensusView view = (LogCensusView) page.showView(ID);
+            view.setCensus(census);
+        } catch (PartInitException e) {
+            Log4e2026Plugin.logError("Failed to open the log census view", e);
+        }
+    }
+
+    @Override
+    public void createPartControl(Composite parent) {
+        viewer = new TableViewer(parent, SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL);
+        Table table = viewer.getTable();
+        table.setHeaderVisible(true);
+        table.setLinesVisible(true);
+        viewer.setContentProvider(ArrayContentProvider.getInstance());
+        viewer.setComparator(comparator);
+
+        createColumn("Package", 220, 0);
+        String[] labels = getColumnLabels();
+        for (int i = 0; i < labels.length; i++) {
+            createColumn(labels[i], 80, i + 1);
+        }
+        table.setSortColumn(table.getColumn(0));
+        table.setSortDirection(SWT.UP);
+
+        exportCsvAction = new Action("Export CSV...") {
+            @Override
+            public void run() {
+                export("csv");
+            }
+        };
+        exportJsonAction = new Action("Export JSON...") {
+            @Override
+            public void run() {
+                export("json");
+            }
+        };
+        IToolBarManager toolBar = getViewSite().getActionBars().getToolBarManager();
+        toolBar.add(exportCsvAction);
+        toolBar.add(exportJsonAction);
+        updateActions();
+    }
+
+    private void createColumn(String label, int width, int index) {
+        TableViewerColumn column = new TableViewerColumn(viewer, SWT.NONE, index);
+        column.getColumn().setText(label);
+        column.getColumn().setWidth(width);
+        column.getColumn().setAlignment(index == 0 ? SWT.LEFT : SWT.RIGHT);
+        column.getColumn().setMoveable(true);
+        column.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element) {
+                Row row = (Row) element;
+                return index == 0 ? row.packageName : String.valueOf(row.values[index - 1]);
+            }
+        });
+        column.getColumn().addListener(SWT.Selection, event -> sortBy(column.getColumn(), index));
+    }
+
+    private void sortBy(TableColumn column, int index) {
+        Table table = viewer.getTable();
+        if (comparator.column == index) {
+            comparator.direction = comparator.direction == SWT.UP ? SWT.DOWN : SWT.UP;
+        } else {
+            comparator.column = index;
+            // Counts are most interesting from the largest
+            comparator.direction = index == 0 ? SWT.UP : SWT.DOWN;
+        }
+        table.setSortColumn(column);
+        table.setSortDirection(comparator.direction);
+        viewer.refresh();
+    }
+
+    /**
+     * Returns the column labels in the order of {@link LogCensus#getColumnNames()}.
+     */
+    private static String[] getColumnLabels() {
+        List<String> labels = new ArrayList<>();
+        for (LogLevel level : LogCensus.LEVELS) {
+            labels.add(level.getDisplayName());
+        }
+        labels.add("Other");
+        labels.add("Statements");
+        labels.add("Guarded");
+        labels.add("Unguarded");
+        labels.add("Catch blocks");
+        labels.add("Unlogged catch");
+        labels.add("Methods");
+        labels.add("Entry logged");
+        labels.add("Exit logged");
+        return labels.toArray(new String[0]);
+    }
+
+    /**
+     * Shows a census, replacing the former one.
+     */
+    public void setCensus(LogCensus census) {
+        this.census = census;
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, LogCensus.Counts> entry : census.getPackages().entrySet()) {
+            rows.add(new Row(entry.getKey(), entry.getValue(), false));
+        }
+        LogCensus.Counts total = census.getTotal();
+        rows.add(new Row("(total)", total, true));
+        viewer.setInput(rows);
+        setContentDescription(census.getScope() + ": " + total.getStatements() + " log statements, "
+                + total.getUnloggedCatchBlocks() + " of " + total.getCatchBlocks() + " catch blocks without logging");
+        updateActions();
+    }
+
+    private void updateActions() {
+        exportCsvAction.setEnabled(census != null);
+        exportJsonAction.setEnabled(census != null);
+    }
+
+    private void export(String extension) {
+        FileDialog dialog = new FileDialog(getSite().getShell(), SWT.SAVE);
+        dialog.setFilterExtensions(new String[] { "*." + extension });
+        dialog.setFileName("log-census." + extension);
+        dialog.setOverwrite(true);
+        String path = dialog.open();
+        if (path == null) {
+            return;
+        }
+        String content = "csv".equals(extension) ? census.toCsv() : census.toJson();
+        try {
+            Files.write(Paths.get(path), content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            Log4e2026Plugin.logError("Failed to export the log census to " + path, e);
+            MessageDialog.openError(getSite().getShell(), "Log Census", "Failed to export to " + path + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void setFocus() {
+        viewer.getControl().setFocus();
+    }
+}
@@ -1,5 +1,7 @@
 package ro.gs1.log4e2026.wizard;
 
+import java.util.List;
+
 import org.eclipse.jdt.core.ICompilationUnit;
 
 /**
@@ -8,10 +10,14 @@ import org.eclipse.jdt.core.ICompilationUnit;
  */
 public class ChangeElement {
 
+    /** Number of unchanged lines shown around each change. */
+    public static final int CONTEXT_LINES = 3;
+
     private ICompilationUnit compilationUnit;
     private String oldContents;
     private String newContents;
     private String fileName;
+    private List<TextDiff.Hunk> hunks;
 
     public ChangeElement(ICompilationUnit cu, String oldContents, String newContents) {
         this.compilationUnit = cu;
@@ -47,6 +53,16 @@ public class ChangeElement {
         return !oldContents.equals(newContents);
     }
 
+    /**
+     * Returns the changed regions, computed on first use.
+     */
+    public List<TextDiff.Hunk> getHunks() {
+        if (hunks == null) {
+            hunks = TextDiff.compute(oldContents, newContents, CONTEXT_LINES);
+        }
+        return hunks;
+    }
+
     @Override
     public String toString() {
         return fileName;
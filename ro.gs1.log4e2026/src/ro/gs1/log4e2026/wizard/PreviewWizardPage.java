@@ -1,5 +1,8 @@
 package ro.gs1.log4e2026.wizard;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.jface.wizard.WizardPage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.SashForm;
@@ -12,13 +15,19 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
 
 /**
- * Wizard page that shows a side-by-side preview of old vs new content.
+ * Wizard page that shows the changed regions of the content, and a side-by-side
+ * preview of old vs new content of the selected region.
+ * Only the selected region is rendered, so large files stay responsive.
  */
 public class PreviewWizardPage extends WizardPage {
 
     private ChangeElement changeElement;
+    private Label infoLabel;
+    private Table hunkTable;
     private StyledText oldText;
     private StyledText newText;
     private Font monoFont;
@@ -42,17 +51,26 @@ public class PreviewWizardPage extends WizardPage {
         monoFont = new Font(Display.getCurrent(), "Monospace", fontData[0].getHeight(), SWT.NORMAL);
 
         // Info label
-        Label infoLabel = new Label(container, SWT.NONE);
-        if (changeElement != null && changeElement.hasChanges()) {
-            infoLabel.setText("The following changes will be applied:");
-        } else {
-            infoLabel.setText("No changes detected.");
-        }
+        infoLabel = new Label(container, SWT.NONE);
         infoLabel.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 
+        SashForm verticalSash = new SashForm(container, SWT.VERTICAL);
+        verticalSash.setLayoutData(new GridData(GridData.FILL_BOTH));
+
+        // Changed regions, items are created when they become visible
+        hunkTable = new Table(verticalSash, SWT.BORDER | SWT.SINGLE | SWT.FULL_SELECTION | SWT.VIRTUAL);
+        hunkTable.addListener(SWT.SetData, event -> {
+            TableItem item = (TableItem) event.item;
+            int index = hunkTable.indexOf(item);
+            List<TextDiff.Hunk> hunks = getHunks();
+            if (index >= 0 && index < hunks.size()) {
+                item.setText(hunks.get(index).toString());
+            }
+        });
+        hunkTable.addListener(SWT.Selection, event -> showHunk(hunkTable.getSelectionIndex()));
+
         // Create sash form for side-by-side view
-        SashForm sashForm = new SashForm(container, SWT.HORIZONTAL);
-        sashForm.setLayoutData(new GridData(GridData.FILL_BOTH));
+        SashForm sashForm = new SashForm(verticalSash, SWT.HORIZONTAL);
 
         // Old content group
         Group oldGroup = new Group(sashForm, SWT.NONE);
@@ -76,26 +94,55 @@ public class PreviewWizardPage extends WizardPage {
 
         // Set equal weights
         sashForm.setWeights(new int[]{50, 50});
+        verticalSash.setWeights(new int[]{20, 80});
 
         // Populate content
-        if (changeElement != null) {
-            String oldContent = changeElement.getOldContents();
-            String newContent = changeElement.getNewContents();
+        refresh();
 
-            oldText.setText(oldContent != null ? oldContent : "");
-            newText.setText(newContent != null ? newContent : "");
+        setControl(container);
+    }
+
+    private List<TextDiff.Hunk> getHunks() {
+        return changeElement != null ? changeElement.getHunks() : Collections.emptyList();
+    }
+
+    /**
+     * Shows the changed regions of the change element and selects the first one.
+     */
+    private void refresh() {
+        List<TextDiff.Hunk> hunks = getHunks();
+        if (hunks.isEmpty()) {
+            infoLabel.setText("No changes detected.");
+        } else {
+            infoLabel.setText("The following changes will be applied (" + hunks.size()
+                    + (hunks.size() == 1 ? " region):" : " regions):"));
+        }
+        hunkTable.clearAll();
+        hunkTable.setItemCount(hunks.size());
+        if (hunks.isEmpty()) {
+            showHunk(-1);
+        } else {
+            hunkTable.setSelection(0);
+            showHunk(0);
         }
+    }
 
-        setControl(container);
+    private void showHunk(int index) {
+        List<TextDiff.Hunk> hunks = getHunks();
+        if (index < 0 || index >= hunks.size()) {
+            oldText.setText("");
+            newText.setText("");
+            return;
+        }
+        TextDiff.Hunk hunk = hunks.get(index);
+        oldText.setText(hunk.getOldText());
+        newText.setText(hunk.getNewText());
     }
 
     public void setChangeElement(ChangeElement changeElement) {
         this.changeElement = changeElement;
-        if (oldText != null && newText != null && changeElement != null) {
-            oldText.setText(changeElement.getOldContents() != null ?
-                    changeElement.getOldContents() : "");
-            newText.setText(changeElement.getNewContents() != null ?
-                    changeElement.getNewContents() : "");
+        if (hunkTable != null && !hunkTable.isDisposed()) {
+            refresh();
         }
     }
 
@@ -0,0 +1,283 @@
+package ro.gs1.log4e2026.wizard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Line based diff of two texts, grouped into hunks with context lines.
+ * Uses the Myers O(ND) algorithm on the lines between the common prefix and
+ * suffix, so the cost depends on the size of the change, not of the file.
+ */
+public final class TextDiff {
+
+    /** Above this number of changed lines the changed region is reported as one replacement. */
+    private static final int MAX_EDIT_DISTANCE = 2000;
+
+    /**
+     * A changed region with its surrounding context lines.
+     * Line numbers are 0-based, end lines exclusive.
+     */
+    public static final class Hunk {
+        private final String[] oldLines;
+        private final String[] newLines;
+        private final int oldStart;
+        private final int oldEnd;
+        private final int newStart;
+        private final int newEnd;
+        private final int added;
+        private final int removed;
+
+        Hunk(String[] oldLines, String[] newLines, int oldStart, int oldEnd, int newStart, int newEnd,
+                int added, int removed) {
+            this.oldLines = oldLines;
+            this.newLines = newLines;
+            this.oldStart = oldStart;
+            this.oldEnd = oldEnd;
+            this.newStart = newStart;
+            this.newEnd = newEnd;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        public int getOldStart() {
+            return oldStart;
+        }
+
+        public int getOldEnd() {
+            return oldEnd;
+        }
+
+        public int getNewStart() {
+            return newStart;
+        }
+
+        public int getNewEnd() {
+            return newEnd;
+        }
+
+        public int getAdded() {
+            return added;
+        }
+
+        public int getRemoved() {
+            return removed;
+        }
+
+        /**
+         * Returns the old lines of the hunk, including context, with their line delimiters.
+         */
+        public String getOldText() {
+            return join(oldLines, oldStart, oldEnd);
+        }
+
+        /**
+         * Returns the new lines of the hunk, including context, with their line delimiters.
+         */
+        public String getNewText() {
+            return join(newLines, newStart, newEnd);
+        }
+
+        @Override
+        public String toString() {
+            return "Lines " + (newStart + 1) + "-" + Math.max(newStart + 1, newEnd)
+                    + ": +" + added + " -" + removed;
+        }
+    }
+
+    private TextDiff() {
+    }
+
+    /**
+     * Computes the hunks between two texts.
+     * @param contextLines number of unchanged lines shown around each change
+     */
+    public static List<Hunk> compute(String oldText, String newText, int contextLines) {
+        String[] oldLines = splitLines(oldText);
+        String[] newLines = splitLines(newText);
+
+        // Common prefix and suffix are unchanged, only diff what is between
+        int prefix = 0;
+        int max = Math.min(oldLines.length, newLines.length);
+        while (prefix < max && oldLines[prefix].equals(newLines[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && oldLines[oldLines.length - 1 - suffix].equals(newLines[newLines.length - 1 - suffix])) {
+            suffix++;
+        }
+        int oldTo = oldLines.length - suffix;
+        int newTo = newLines.length - suffix;
+        if (prefix == oldTo && prefix == newTo) {
+            return Collections.emptyList();
+        }
+
+        boolean[] oldChanged = new boolean[oldLines.length];
+        boolean[] newChanged = new boolean[newLines.length];
+        if (!diff(oldLines, prefix, oldTo, newLines, prefix, newTo, oldChanged, newChanged)) {
+            for (int i = prefix; i < oldTo; i++) {
+                oldChanged[i] = true;
+            }
+            for (int j = prefix; j < newTo; j++) {
+                newChanged[j] = true;
+            }
+        }
+        return createHunks(oldLines, newLines, oldChanged, newChanged, contextLines);
+    }
+
+    /**
+     * Marks the changed lines of the given ranges.
+     * @return false if the edit distance exceeds {@link #MAX_EDIT_DISTANCE}
+     */
+    private static boolean diff(String[] a, int aFrom, int aTo, String[] b, int bFrom, int bTo,
+            boolean[] aChanged, boolean[] bChanged) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        int maxD = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = maxD + 1;
+        int[] v = new int[2 * maxD + 3];
+        // trace.get(d) holds v[-d..d] after step d, for backtracking
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= maxD; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && a[aFrom + x].equals(b[bFrom + y])) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    trace.add(slice(v, offset, d));
+                    backtrack(trace, n, m, aFrom, bFrom, aChanged, bChanged);
+                    return true;
+                }
+            }
+            trace.add(slice(v, offset, d));
+        }
+        return false;
+    }
+
+    private static int[] slice(int[] v, int offset, int d) {
+        int[] copy = new int[2 * d + 1];
+        System.arraycopy(v, offset - d, copy, 0, copy.length);
+        return copy;
+    }
+
+    private static void backtrack(List<int[]> trace, int n, int m, int aFrom, int bFrom,
+            boolean[] aChanged, boolean[] bChanged) {
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] prev = trace.get(d - 1);
+            int k = x - y;
+            int prevK;
+            if (k == -d || (k != d && prev[k - 1 + d - 1] < prev[k + 1 + d - 1])) {
+                prevK = k + 1;
+            } else {
+                prevK = k - 1;
+            }
+            int prevX = prev[prevK + d - 1];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                x--;
+                y--;
+            }
+            if (x == prevX) {
+                bChanged[bFrom + y - 1] = true;
+            } else {
+                aChanged[aFrom + x - 1] = true;
+            }
+            x = prevX;
+            y = prevY;
+        }
+    }
+
+    private static List<Hunk> createHunks(String[] oldLines, String[] newLines,
+            boolean[] oldChanged, boolean[] newChanged, int contextLines) {
+        // Changed regions as {oldFrom, oldTo, newFrom, newTo}
+        List<int[]> changes = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < oldLines.length || j < newLines.length) {
+            if (i < oldLines.length && j < newLines.length && !oldChanged[i] && !newChanged[j]) {
+                i++;
+                j++;
+                continue;
+            }
+            int oldFrom = i;
+            int newFrom = j;
+            while (i < oldLines.length && oldChanged[i]) {
+                i++;
+            }
+            while (j < newLines.length && newChanged[j]) {
+                j++;
+            }
+            changes.add(new int[] { oldFrom, i, newFrom, j });
+        }
+
+        List<Hunk> hunks = new ArrayList<>();
+        int first = 0;
+        while (first < changes.size()) {
+            // Merge changes whose context would overlap
+            int last = first;
+            while (last + 1 < changes.size()
+                    && changes.get(last + 1)[0] - changes.get(last)[1] <= 2 * contextLines) {
+                last++;
+            }
+            int[] start = changes.get(first);
+            int[] end = changes.get(last);
+            int before = Math.min(contextLines, Math.min(start[0], start[2]));
+            int after = Math.min(contextLines, Math.min(oldLines.length - end[1], newLines.length - end[3]));
+            int added = 0;
+            int removed = 0;
+            for (int c = first; c <= last; c++) {
+                int[] change = changes.get(c);
+                removed += change[1] - change[0];
+                added += change[3] - change[2];
+            }
+            hunks.add(new Hunk(oldLines, newLines, start[0] - before, end[1] + after,
+                    start[2] - before, end[3] + after, added, removed));
+            first = last + 1;
+        }
+        return hunks;
+    }
+
+    /**
+     * Splits a text into lines, keeping the line delimiters.
+     */
+    static String[] splitLines(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 == length || text.charAt(i + 1) != '\n'))) {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < length) {
+            lines.add(text.substring(start));
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    private static String join(String[] lines, int from, int to) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            sb.append(lines[i]);
+        }
+        return sb.toString();
+    }
+}